@@ -38,6 +38,10 @@ public class SchemaGenerator {
 
   private static final String JSON_SCHEMA_REFERENCE = "http://json-schema.org/draft-04/schema#";
 
+  // Gson instances are thread-safe and costly to create, so are shared
+  private static final Gson GSON = new Gson();
+  private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+
   // A map of classes to their $ref values
   private final Map<Class<?>, String> references = new HashMap<>();
 
@@ -66,7 +70,7 @@ public class SchemaGenerator {
    * @return a string version of the schema
    */
   public static String prettyPrint(Object schema) {
-    return new GsonBuilder().setPrettyPrinting().create().toJson(schema);
+    return PRETTY_GSON.toJson(schema);
   }
 
   static <T, S> Map<T, S> loadCachedSchema(URL cacheUrl) throws IOException {
@@ -84,7 +88,7 @@ public class SchemaGenerator {
 
   @SuppressWarnings("unchecked")
   private static <T, S> Map<T, S> fromJson(String json) {
-    return new Gson().fromJson(json, HashMap.class);
+    return GSON.fromJson(json, HashMap.class);
   }
 
   /**
@@ -27,6 +27,9 @@ rules:
 - apiGroups: ["apiextensions.k8s.io"]
   resources: ["customresourcedefinitions"]
   verbs: ["get", "list", "watch", "create", "update", "patch"]
+- apiGroups: ["rbac.authorization.k8s.io"]
+  resources: ["clusterrolebindings"]
+  verbs: ["list", "watch"]
 {{- end }}
 - apiGroups: ["weblogic.oracle"]
   resources: ["domains", "domains/status"]
@@ -18,6 +18,69 @@ data:
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
+  {{- if .introspectorConfigMapFormat }}
+  introspectorConfigMapFormat: {{ .introspectorConfigMapFormat | quote }}
+  {{- end }}
+  {{- if .introspectorConfigMapCompressionThreshold }}
+  introspectorConfigMapCompressionThreshold: {{ .introspectorConfigMapCompressionThreshold | quote }}
+  {{- end }}
+  {{- if .introspectorConfigMapShardSize }}
+  introspectorConfigMapShardSize: {{ .introspectorConfigMapShardSize | quote }}
+  {{- end }}
+  {{- if .introspectorConfigMapMaxShards }}
+  introspectorConfigMapMaxShards: {{ .introspectorConfigMapMaxShards | quote }}
+  {{- end }}
+  {{- if .maxConcurrentServerStarts }}
+  maxConcurrentServerStarts: {{ .maxConcurrentServerStarts | quote }}
+  {{- end }}
+  {{- if .maxConcurrentServerStartsPerNamespace }}
+  maxConcurrentServerStartsPerNamespace: {{ .maxConcurrentServerStartsPerNamespace | quote }}
+  {{- end }}
+  {{- if .watchEventDispatchShards }}
+  watchEventDispatchShards: {{ .watchEventDispatchShards | quote }}
+  {{- end }}
+  {{- if gt (int (default 1 .replicaCount)) 1 }}
+  namespaceSharding: "true"
+  {{- end }}
+  {{- if .replicaLeaseDurationSeconds }}
+  replicaLeaseDurationSeconds: {{ .replicaLeaseDurationSeconds | quote }}
+  {{- end }}
+  {{- if .namespaceRecheckMode }}
+  namespaceRecheckMode: {{ .namespaceRecheckMode | quote }}
+  {{- end }}
+  {{- if .rulesReviewTtlSeconds }}
+  rulesReviewTtlSeconds: {{ .rulesReviewTtlSeconds | quote }}
+  {{- end }}
+  {{- if .engineStallThresholdSeconds }}
+  engineStallThresholdSeconds: {{ .engineStallThresholdSeconds | quote }}
+  {{- end }}
+  {{- if .fiberStallThresholdSeconds }}
+  fiberStallThresholdSeconds: {{ .fiberStallThresholdSeconds | quote }}
+  {{- end }}
+  {{- if .watchStallThresholdSeconds }}
+  watchStallThresholdSeconds: {{ .watchStallThresholdSeconds | quote }}
+  {{- end }}
+  {{- if .maxConcurrentStatusReads }}
+  maxConcurrentStatusReads: {{ .maxConcurrentStatusReads | quote }}
+  {{- end }}
+  {{- if .makeRightDeadlineSeconds }}
+  makeRightDeadlineSeconds: {{ .makeRightDeadlineSeconds | quote }}
+  {{- end }}
+  {{- if .scaleRequestWindowSeconds }}
+  scaleRequestWindowSeconds: {{ .scaleRequestWindowSeconds | quote }}
+  {{- end }}
+  {{- if .engineThreadCount }}
+  engineThreadCount: {{ .engineThreadCount | quote }}
+  {{- end }}
+  {{- if .serverSideApply }}
+  serverSideApply: {{ .serverSideApply | quote }}
+  {{- end }}
+  {{- if .readHealthThroughAdminServer }}
+  readHealthThroughAdminServer: {{ .readHealthThroughAdminServer | quote }}
+  {{- end }}
+  {{- if .fiberBreadCrumbs }}
+  fiberBreadCrumbs: {{ .fiberBreadCrumbs | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -16,7 +16,7 @@ spec:
     matchLabels:
       weblogic.resourceVersion: "operator-v2"
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ .replicaCount | default 1 }}
   template:
     metadata:
      labels:
@@ -36,6 +36,10 @@ spec:
           valueFrom:
             fieldRef:
               fieldPath: "metadata.namespace"
+        - name: "OPERATOR_POD_NAME"
+          valueFrom:
+            fieldRef:
+              fieldPath: "metadata.name"
         - name: "OPERATOR_VERBOSE"
           value: "false"
         - name: "JAVA_LOGGING_LEVEL"
@@ -15,4 +15,7 @@ rules:
 - apiGroups: [""]
   resources: ["secrets", "configmaps", "events"]
   verbs: ["get", "list", "watch", "create", "update", "patch", "delete", "deletecollection"]
+- apiGroups: ["coordination.k8s.io"]
+  resources: ["leases"]
+  verbs: ["get", "list", "watch", "create", "update", "patch", "delete"]
 {{- end }}
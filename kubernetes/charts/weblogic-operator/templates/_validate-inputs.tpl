@@ -41,5 +41,6 @@
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "dedicated") -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "replicaCount") -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
@@ -208,6 +208,14 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                                                         .fieldRef(
                                                             newObjectFieldSelector()
                                                                 .fieldPath("metadata.namespace"))))
+                                        .addEnvItem(
+                                            newEnvVar()
+                                                .name("OPERATOR_POD_NAME")
+                                                .valueFrom(
+                                                    newEnvVarSource()
+                                                        .fieldRef(
+                                                            newObjectFieldSelector()
+                                                                .fieldPath("metadata.name"))))
                                         .addEnvItem(
                                             newEnvVar().name("OPERATOR_VERBOSE").value("false"))
                                         .addEnvItem(
@@ -417,6 +425,11 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                         "create",
                         "update",
                         "patch")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("rbac.authorization.k8s.io")
+                .resources(singletonList("clusterrolebindings"))
+                .verbs(asList("list", "watch")))
         .addRulesItem(
             newPolicyRule()
                 .addApiGroupsItem("weblogic.oracle")
@@ -625,7 +638,12 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                         "update",
                         "patch",
                         "delete",
-                        "deletecollection")));
+                        "deletecollection")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("rbac.authorization.k8s.io")
+                .resources(singletonList("rolebindings"))
+                .verbs(asList("list", "watch")));
   }
 
   @Test
@@ -706,7 +724,12 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                         "update",
                         "patch",
                         "delete",
-                        "deletecollection")));
+                        "deletecollection")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("coordination.k8s.io")
+                .resources(singletonList("leases"))
+                .verbs(asList("get", "list", "watch", "create", "update", "patch", "delete")));
   }
 
   @Test
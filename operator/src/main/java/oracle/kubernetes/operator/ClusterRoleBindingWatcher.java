@@ -0,0 +1,57 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ClusterRoleBinding;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles ClusterRoleBinding watching. It receives cluster role binding change events
+ * and sends them into the operator, which uses them to decide when its cached access rules are out
+ * of date.
+ */
+public class ClusterRoleBindingWatcher extends Watcher<V1ClusterRoleBinding> {
+
+  private ClusterRoleBindingWatcher(
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1ClusterRoleBinding> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+  }
+
+  /**
+   * Create a cluster role binding watcher.
+   * @param factory the ThreadFactory to run the watcher
+   * @param initialResourceVersion at which to start returning watch events
+   * @param tuning any WatchTuning parameters
+   * @param listener the WatchListener
+   * @param isStopping whether the watcher is stopping
+   * @return the watcher
+   */
+  public static ClusterRoleBindingWatcher create(
+      ThreadFactory factory,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1ClusterRoleBinding> listener,
+      AtomicBoolean isStopping) {
+
+    ClusterRoleBindingWatcher watcher =
+        new ClusterRoleBindingWatcher(initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public WatchI<V1ClusterRoleBinding> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.createClusterRoleBindingWatch();
+  }
+}
@@ -8,6 +8,7 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
@@ -29,5 +30,27 @@ public interface DomainProcessor {
 
   public void dispatchEventWatch(Watch.Response<V1Event> item);
 
+  /**
+   * Records that this operator manages a namespace whose domains it has read, so that queries for
+   * the namespace's domains are answered from the operator's cache, even when it holds none.
+   * @param ns the namespace
+   */
+  public void startNamespace(String ns);
+
   public void stopNamespace(String ns);
+
+  /**
+   * Releases a namespace which another operator replica now manages. Unlike {@link #stopNamespace},
+   * this leaves the namespace's domains running: it only stops the work this operator was doing
+   * for them, and forgets them.
+   * @param ns the namespace
+   */
+  public void releaseNamespace(String ns);
+
+  /**
+   * Applies new tuning parameters to work already scheduled, such as the periodic updates of
+   * domain status, which is rescheduled if the delay between updates has changed.
+   * @param tuning the new tuning parameters
+   */
+  public void onTuningChanged(MainTuning tuning);
 }
@@ -5,14 +5,18 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -39,6 +43,7 @@ import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.helpers.ServerSideApply;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -51,6 +56,8 @@ import oracle.kubernetes.operator.steps.DomainPresenceStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Deadline;
+import oracle.kubernetes.operator.work.DeadlineExceededException;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
@@ -70,13 +77,22 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  static final String STATUS_UPDATE_PLAN = "statusUpdate";
+  static final String MAKE_RIGHT_PLAN = "makeRight";
+
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
   // Map from namespace to map of domainUID to Domain
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS =
         new ConcurrentHashMap<>();
+  // The namespaces which this operator manages, and whose domains it has read
+  private static Set<String> OWNED_NAMESPACES = ConcurrentHashMap.newKeySet();
+  // Map from domainUID to map of namespace to Domain, so that a domain may be found without its namespace
+  private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS_BY_UID =
+        new ConcurrentHashMap<>();
   private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
         statusUpdaters = new ConcurrentHashMap<>();
+  private static volatile long statusUpdateDelay;
   private final DomainProcessorDelegate delegate;
 
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
@@ -84,13 +100,16 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
-    return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUid);
+    return Optional.ofNullable(DOMAINS.get(ns)).map(map -> map.get(domainUid)).orElse(null);
   }
 
   private static void registerDomainPresenceInfo(DomainPresenceInfo info) {
     DOMAINS
           .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
           .put(info.getDomainUid(), info);
+    DOMAINS_BY_UID
+          .computeIfAbsent(info.getDomainUid(), k -> new ConcurrentHashMap<>())
+          .put(info.getNamespace(), info);
   }
 
   private static void unregisterPresenceInfo(String ns, String domainUid) {
@@ -98,6 +117,79 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (map != null) {
       map.remove(domainUid);
     }
+    unindexPresenceInfo(ns, domainUid);
+  }
+
+  private static void unindexPresenceInfo(String ns, String domainUid) {
+    DOMAINS_BY_UID.computeIfPresent(domainUid, (uid, namespaces) -> {
+      namespaces.remove(ns);
+      return namespaces.isEmpty() ? null : namespaces;
+    });
+  }
+
+  /**
+   * Returns the domains currently known to the operator in the specified namespace.
+   * @param ns namespace
+   * @return a map of domain UIDs to domains
+   */
+  static Map<String, Domain> getCachedDomains(String ns) {
+    Map<String, Domain> domains = new HashMap<>();
+    Optional.ofNullable(DOMAINS.get(ns)).ifPresent(map -> map.values().stream()
+          .filter(info -> info.getDomain() != null)
+          .forEach(info -> domains.put(info.getDomainUid(), info.getDomain())));
+    return domains;
+  }
+
+  /**
+   * Returns the domains currently known to the operator in the specified namespaces.
+   * @param namespaces the namespaces to search
+   * @return a list of domains
+   */
+  public static List<Domain> getCachedDomains(Collection<String> namespaces) {
+    return namespaces.stream()
+          .map(DOMAINS::get)
+          .filter(Objects::nonNull)
+          .flatMap(map -> map.values().stream())
+          .map(DomainPresenceInfo::getDomain)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns true if the operator manages the specified namespace and has read its domains, so that
+   * its cache holds all of them. It does not when another operator replica manages the namespace.
+   * @param ns namespace
+   * @return true if the namespace's domains are cached
+   */
+  public static boolean isNamespaceOwned(String ns) {
+    return OWNED_NAMESPACES.contains(ns);
+  }
+
+  /**
+   * Returns the domain with the specified UID currently known to the operator, if it is in one of
+   * the specified namespaces.
+   * @param domainUid the UID of the domain
+   * @param namespaces the namespaces to search
+   * @return the domain, or null if there is none
+   */
+  public static Domain findCachedDomain(String domainUid, Collection<String> namespaces) {
+    return Optional.ofNullable(DOMAINS_BY_UID.get(domainUid)).map(Map::entrySet).stream()
+          .flatMap(Collection::stream)
+          .filter(entry -> namespaces.contains(entry.getKey()))
+          .map(entry -> entry.getValue().getDomain())
+          .filter(Objects::nonNull)
+          .findFirst()
+          .orElse(null);
+  }
+
+  /**
+   * Returns the fiber gates through which domains are made right and their statuses updated.
+   * @return the fiber gates for all namespaces
+   */
+  static Collection<FiberGate> getFiberGates() {
+    Collection<FiberGate> gates = new ArrayList<>(makeRightFiberGates.values());
+    gates.addAll(statusFiberGates.values());
+    return gates;
   }
 
   private static void registerStatusUpdater(
@@ -147,9 +239,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static Step readExistingPods(DomainPresenceInfo info) {
     return new CallBuilder()
-          .withLabelSelectors(
-                LabelConstants.forDomainUidSelector(info.getDomainUid()),
-                LabelConstants.CREATEDBYOPERATOR_LABEL)
+          .withLabelSelectors(info.getResourceSelector())
           .listPodAsync(info.getNamespace(), new PodListStep(info));
   }
 
@@ -198,11 +288,17 @@ public class DomainProcessorImpl implements DomainProcessor {
     return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
   }
 
+  @Override
+  public void startNamespace(String ns) {
+    OWNED_NAMESPACES.add(ns);
+  }
+
   /**
    * Stop namespace.
    * @param ns namespace
    */
   public void stopNamespace(String ns) {
+    OWNED_NAMESPACES.remove(ns);
     Map<String, DomainPresenceInfo> map = DOMAINS.get(ns);
     if (map != null) {
       for (DomainPresenceInfo dpi : map.values()) {
@@ -218,6 +314,17 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  @Override
+  public void releaseNamespace(String ns) {
+    OWNED_NAMESPACES.remove(ns);
+    Optional.ofNullable(statusUpdaters.remove(ns))
+        .ifPresent(updaters -> updaters.values().forEach(future -> future.cancel(true)));
+    Optional.ofNullable(makeRightFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(statusFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(DOMAINS.remove(ns))
+        .ifPresent(map -> map.keySet().forEach(domainUid -> unindexPresenceInfo(ns, domainUid)));
+  }
+
   /**
    * Dispatch pod watch event.
    * @param item watch event
@@ -341,6 +448,7 @@ public class DomainProcessorImpl implements DomainProcessor {
       switch (item.type) {
         case "MODIFIED":
         case "DELETED":
+          ServerSideApply.onConfigMapWatchEvent(c, "DELETED".equals(item.type));
           delegate.runSteps(
               ConfigMapHelper.createScriptConfigMapStep(
                   delegate.getOperatorNamespace(), c.getMetadata().getNamespace()));
@@ -407,13 +515,15 @@ public class DomainProcessorImpl implements DomainProcessor {
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
-    MainTuning main = TuningParameters.getInstance().getMainTuning();
+    long delay = TuningParameters.getInstance().getMainTuning().initialShortDelay;
+    statusUpdateDelay = delay;
     registerStatusUpdater(
         info.getNamespace(),
         info.getDomainUid(),
         delegate.scheduleWithFixedDelay(
             () -> {
               try {
+                MainTuning main = TuningParameters.getInstance().getMainTuning();
                 V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
                 Packet packet = new Packet();
                 packet
@@ -423,6 +533,8 @@ public class DomainProcessorImpl implements DomainProcessor {
                         Component.createFor(info, delegate.getVersion(),
                             V1SubjectRulesReviewStatus.class, srrs));
                 packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+                // bound the reads of the update, so that a slow one cannot keep later updates from starting
+                Deadline.set(packet, STATUS_UPDATE_PLAN, main.statusUpdateTimeoutSeconds);
                 Step strategy =
                     ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
                 FiberGate gate = getStatusFiberGate(info.getNamespace());
@@ -447,7 +559,12 @@ public class DomainProcessorImpl implements DomainProcessor {
 
                           @Override
                           public void onThrowable(Packet packet, Throwable throwable) {
-                            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                            if (throwable instanceof DeadlineExceededException) {
+                              LOGGER.info(loggingFilter, MessageKeys.DEADLINE_EXCEEDED,
+                                  info.getDomainUid(), throwable.getMessage());
+                            } else {
+                              LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                            }
                             loggingFilter.setFiltering(true);
                           }
                         });
@@ -455,11 +572,21 @@ public class DomainProcessorImpl implements DomainProcessor {
                 LOGGER.severe(MessageKeys.EXCEPTION, t);
               }
             },
-            main.initialShortDelay,
-            main.initialShortDelay,
+            delay,
+            delay,
             TimeUnit.SECONDS));
   }
 
+  @Override
+  public void onTuningChanged(MainTuning tuning) {
+    if (tuning.initialShortDelay != statusUpdateDelay) {
+      statusUpdaters.forEach((ns, updaters) -> updaters.keySet().stream()
+          .map(domainUid -> getExistingDomainPresenceInfo(ns, domainUid))
+          .filter(Objects::nonNull)
+          .forEach(this::scheduleDomainStatusUpdating));
+    }
+  }
+
   /**
    * Begin activity to align domain status with domain resource.
    * @param info domain presence info
@@ -534,6 +661,7 @@ public class DomainProcessorImpl implements DomainProcessor {
               Component.createFor(info, delegate.getVersion(),
                   PodAwaiterStepFactory.class, pw,
                   V1SubjectRulesReviewStatus.class, srrs));
+      Deadline.set(packet, MAKE_RIGHT_PLAN, getMakeRightDeadlineSeconds());
       runDomainPlan(
           dom,
           domainUid,
@@ -544,11 +672,17 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  // A make-right may wait a long time for servers to start, so has no deadline unless one is configured
+  private static long getMakeRightDeadlineSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.makeRightDeadlineSeconds)
+          .orElse(0L);
+  }
+
   private Step readExistingServices(DomainPresenceInfo info) {
     return new CallBuilder()
-        .withLabelSelectors(
-            LabelConstants.forDomainUidSelector(info.getDomainUid()),
-            LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .withLabelSelectors(info.getResourceSelector())
         .listServiceAsync(info.getNamespace(), new ServiceListStep(info));
   }
 
@@ -572,6 +706,8 @@ public class DomainProcessorImpl implements DomainProcessor {
           public void onThrowable(Packet packet, Throwable throwable) {
             LOGGER.severe(MessageKeys.EXCEPTION, throwable);
 
+            // the failure must be reported even if the plan ran out of time
+            Deadline.clear(plan.packet);
             gate.startFiberIfLastFiberMatches(
                 domainUid,
                 Fiber.getCurrentIfSet(),
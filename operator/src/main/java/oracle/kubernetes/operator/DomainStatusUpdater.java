@@ -29,6 +29,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.helpers.RolloutProgress;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -44,6 +45,7 @@ import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.RolloutStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
@@ -329,6 +331,8 @@ public class DomainStatusUpdater {
           status.setReplicas(getReplicaSetting());
         }
 
+        status.setRollout(getRolloutStatus());
+
         if (isHasFailedPod()) {
           status.addCondition(new DomainCondition(Failed).withStatus(TRUE).withReason("PodFailed"));
         } else if (allIntendedServersRunning()) {
@@ -339,6 +343,10 @@ public class DomainStatusUpdater {
         }
       }
 
+      private RolloutStatus getRolloutStatus() {
+        return Optional.ofNullable(getInfo().getRolloutProgress()).map(RolloutProgress::toStatus).orElse(null);
+      }
+
       private boolean allIntendedServersRunning() {
         return getServerStartupInfos()
             .filter(this::shouldBeRunning)
@@ -53,6 +53,11 @@ public class DomainWatcher extends Watcher<Domain> {
     return watcher;
   }
 
+  @Override
+  protected String getDomainUid(Domain domain) {
+    return domain.getDomainUid();
+  }
+
   @Override
   public WatchI<Domain> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder.createDomainWatch(ns);
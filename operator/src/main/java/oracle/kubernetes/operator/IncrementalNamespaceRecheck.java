@@ -0,0 +1,175 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+
+/**
+ * Verifies, at each periodic domain presence recheck, that the operator's view of each running
+ * namespace is still current, and re-reads the resources only of those namespaces where it is not.
+ * A namespace must be re-read if any of its watchers has stopped, or has failed in a way which may
+ * have lost events. Otherwise, the check costs a single list of the namespace's domains, whose
+ * UIDs and resource versions are compared with those in the operator's cache; the namespace is
+ * re-read only if a domain has been added or removed, or has a newer version than the one cached.
+ *
+ * <p>Selected by setting the tuning parameter "namespaceRecheckMode" to "incremental", the default;
+ * "full" restarts processing of every target namespace instead.
+ */
+class IncrementalNamespaceRecheck {
+  static final String MODE_PARAM = "namespaceRecheckMode";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Predicate<String> hasFailedWatchers;
+  private final Function<String, Map<String, Domain>> cachedDomains;
+  private final Function<String, Step> rereadNamespace;
+
+  /**
+   * Creates a recheck.
+   *
+   * @param hasFailedWatchers returns true if any watcher for the namespace has stopped or failed
+   * @param cachedDomains returns the cached domains in the namespace, by domain UID
+   * @param rereadNamespace returns a step which re-reads the resources in the namespace
+   */
+  IncrementalNamespaceRecheck(
+      Predicate<String> hasFailedWatchers,
+      Function<String, Map<String, Domain>> cachedDomains,
+      Function<String, Step> rereadNamespace) {
+    this.hasFailedWatchers = hasFailedWatchers;
+    this.cachedDomains = cachedDomains;
+    this.rereadNamespace = rereadNamespace;
+  }
+
+  /**
+   * Returns true unless the operator has been configured to fully restart namespace processing at
+   * each recheck.
+   *
+   * @return true if rechecks should be incremental
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> t.incrementalNamespaceRecheck)
+        .orElse(true);
+  }
+
+  /**
+   * Creates a step which checks each of the specified namespaces, re-reading those whose cached
+   * state may be out of date.
+   *
+   * @param namespaces the running namespaces to check
+   * @return a step to be scheduled
+   */
+  Step createStep(Collection<String> namespaces) {
+    return new RecheckNamespacesStep(namespaces);
+  }
+
+  /**
+   * Returns true if the cached domains do not match those actually present.
+   *
+   * @param cached the cached domains, by domain UID
+   * @param actual the domains read from Kubernetes
+   * @return true if a domain has been added or removed, or is newer than the cached one
+   */
+  static boolean isDrifted(Map<String, Domain> cached, Collection<Domain> actual) {
+    if (cached.size() != actual.size()) {
+      return true;
+    }
+
+    for (Domain domain : actual) {
+      Domain cachedDomain = cached.get(domain.getDomainUid());
+      if (cachedDomain == null || isNewer(domain, cachedDomain)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isNewer(Domain domain, Domain cachedDomain) {
+    return !Objects.equals(getResourceVersion(domain), getResourceVersion(cachedDomain))
+        && KubernetesUtils.isFirstNewer(domain.getMetadata(), cachedDomain.getMetadata());
+  }
+
+  private static String getResourceVersion(Domain domain) {
+    return domain.getMetadata() == null ? null : domain.getMetadata().getResourceVersion();
+  }
+
+  private Step checkNamespace(String ns) {
+    if (hasFailedWatchers.test(ns)) {
+      LOGGER.info(MessageKeys.NAMESPACE_WATCH_FAILED, ns);
+      return rereadNamespace.apply(ns);
+    }
+
+    return new CallBuilder().listDomainAsync(ns, new DomainDriftStep(ns));
+  }
+
+  private class RecheckNamespacesStep extends Step {
+    private final Collection<String> namespaces;
+
+    RecheckNamespacesStep(Collection<String> namespaces) {
+      this.namespaces = namespaces;
+    }
+
+    @Override
+    protected String getDetail() {
+      return String.join(",", namespaces);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> checks = new ArrayList<>();
+      for (String ns : namespaces) {
+        checks.add(new StepAndPacket(checkNamespace(ns), packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, checks);
+    }
+  }
+
+  private class DomainDriftStep extends DefaultResponseStep<DomainList> {
+    private final String ns;
+
+    DomainDriftStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
+      Collection<Domain> actual = Optional.ofNullable(callResponse.getResult())
+          .map(DomainList::getItems)
+          .orElse(new ArrayList<>());
+      if (!isDrifted(cachedDomains.apply(ns), actual)) {
+        return doNext(packet);
+      }
+
+      LOGGER.info(MessageKeys.NAMESPACE_DOMAINS_DRIFTED, ns);
+      return doNext(rereadNamespace.apply(ns), packet);
+    }
+
+    // leave the namespace to the next recheck rather than fail the checks of the others
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<DomainList> callResponse) {
+      LOGGER.warning(MessageKeys.EXCEPTION, callResponse.getE());
+      return doNext(packet);
+    }
+  }
+}
@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,13 +35,12 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 /** Watches for Jobs to become Ready or leave Ready state. */
 public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final Map<String, JobWatcher> JOB_WATCHERS = new HashMap<>();
+  private static final Map<String, JobWatcher> JOB_WATCHERS = new ConcurrentHashMap<>();
   private static JobWatcherFactory factory;
 
   private final String namespace;
 
-  // Map of Job name to Runnable
-  private final Map<String,Consumer<V1Job>> completeCallbackRegistrations = new ConcurrentHashMap<>();
+  private final WatchCallbackRegistry<V1Job> callbacks = new WatchCallbackRegistry<>();
 
   private JobWatcher(
       String namespace,
@@ -54,18 +52,6 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     this.namespace = namespace;
   }
 
-  private void addOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
-    completeCallbackRegistrations.put(jobName, callback);
-  }
-
-  private void dispatchCallback(String jobName, V1Job job) {
-    Optional.ofNullable(completeCallbackRegistrations.get(jobName)).ifPresent(callback -> callback.accept(job));
-  }
-
-  private void removeOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
-    completeCallbackRegistrations.remove(jobName, callback);
-  }
-
   /**
    * Returns a cached JobWatcher, if present; otherwise, creates a new one.
    *
@@ -112,6 +98,16 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     factory = new JobWatcherFactory(threadFactory, tuning, isNamespaceStopping);
   }
 
+  /**
+   * Applies new tuning parameters to the job watchers already created, and to those created later.
+   *
+   * @param tuning Tuning parameters for the watch, for example watch lifetime
+   */
+  static void setJobWatcherTuning(WatchTuning tuning) {
+    Optional.ofNullable(factory).ifPresent(f -> f.watchTuning = tuning);
+    JOB_WATCHERS.values().forEach(watcher -> watcher.setTuning(tuning));
+  }
+
   /**
    * Test if job is complete.
    * @param job job
@@ -187,9 +183,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
-        dispatchCallback(getJobName(item), item.object);
+        callbacks.dispatchModified(getJobName(item), item.object);
         break;
       case "DELETED":
+        callbacks.dispatchDeleted(getJobName(item), item.object);
+        break;
       case "ERROR":
       default:
     }
@@ -214,7 +212,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
 
   static class JobWatcherFactory {
     private final ThreadFactory threadFactory;
-    private final WatchTuning watchTuning;
+    private volatile WatchTuning watchTuning;
 
     private final Function<String, AtomicBoolean> isNamespaceStopping;
 
@@ -272,14 +270,19 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
       return job.getMetadata();
     }
 
+    @Override
+    V1Job getLastReportedResource(String name) {
+      return callbacks.getLastReported(name);
+    }
+
     @Override
     void addCallback(String name, Consumer<V1Job> callback) {
-      addOnModifiedCallback(name, callback);
+      callbacks.addOnModifiedCallback(name, callback);
     }
 
     @Override
     void removeCallback(String name, Consumer<V1Job> callback) {
-      removeOnModifiedCallback(name, callback);
+      callbacks.removeOnModifiedCallback(name, callback);
     }
 
     @Override
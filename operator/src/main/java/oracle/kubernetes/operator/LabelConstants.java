@@ -13,6 +13,7 @@ public interface LabelConstants {
   String CLUSTERNAME_LABEL = "weblogic.clusterName";
   String CREATEDBYOPERATOR_LABEL = "weblogic.createdByOperator";
   String OPERATORNAME_LABEL = "weblogic.operatorName";
+  String OPERATOR_REPLICA_LABEL = "weblogic.operatorReplica";
   String JOBNAME_LABEL = "job-name";
   String APP_LABEL = "app";
   String DOMAINRESTARTVERSION_LABEL = "weblogic.domainRestartVersion";
@@ -20,10 +21,10 @@ public interface LabelConstants {
   String SERVERRESTARTVERSION_LABEL = "weblogic.serverRestartVersion";
 
   static String forDomainUidSelector(String uid) {
-    return String.format("%s=%s", DOMAINUID_LABEL, uid);
+    return DOMAINUID_LABEL + "=" + uid;
   }
 
   static String getCreatedbyOperatorSelector() {
-    return String.format("%s=%s", CREATEDBYOPERATOR_LABEL, "true");
+    return CREATEDBYOPERATOR_LABEL + "=true";
   }
 }
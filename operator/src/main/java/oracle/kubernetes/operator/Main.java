@@ -9,6 +9,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -17,10 +18,15 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -29,16 +35,22 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.openapi.models.V1ClusterRoleBinding;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1RoleBinding;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -48,6 +60,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceRulesIndex;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -59,6 +72,7 @@ import oracle.kubernetes.operator.steps.ConfigMapAfterStep;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Deadline;
 import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -80,18 +94,24 @@ public class Main {
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
-  private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+  private static final int REST_THREAD_COUNT = 3;
+  private static final ScheduledThreadPoolExecutor threadPool = Engine.createThreadPool("operator");
+  private static final ScheduledExecutorService wrappedExecutorService = Engine.wrap(container, threadPool);
   private static final TuningParameters tuningAndConfig;
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private static Map<String, AtomicBoolean> isNamespaceStopping = new ConcurrentHashMap<>();
+  // All target namespaces, including those which other replicas manage, when namespaces are sharded
+  private static final Set<String> allTargetNamespaces = ConcurrentHashMap.newKeySet();
   private static final Map<String, ConfigMapWatcher> configMapWatchers = new ConcurrentHashMap<>();
   private static final Map<String, DomainWatcher> domainWatchers = new ConcurrentHashMap<>();
   private static final Map<String, EventWatcher> eventWatchers = new ConcurrentHashMap<>();
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
   private static NamespaceWatcher namespaceWatcher = null;
+  private static final Map<String, RoleBindingWatcher> roleBindingWatchers = new ConcurrentHashMap<>();
+  private static Map<String, Long> reportedDeadlineMisses = Collections.emptyMap();
+  private static ClusterRoleBindingWatcher clusterRoleBindingWatcher = null;
   private static Function<String,String> getHelmVariable = System::getenv;
   private static final String operatorNamespace = computeOperatorNamespace();
   private static final AtomicReference<DateTime> lastFullRecheck =
@@ -103,6 +123,7 @@ public class Main {
   private static final Semaphore shutdownSignal = new Semaphore(0);
   private static final Engine engine = new Engine(wrappedExecutorService);
   private static String principal;
+  private static NamespaceSharding namespaceSharding;
   private static KubernetesVersion version = null;
 
   static {
@@ -160,6 +181,9 @@ public class Main {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
 
+    applyTuning(tuningAndConfig);
+    tuningAndConfig.addChangeListener(Main::applyTuning);
+
     try {
       engine.getExecutor().execute(Main::begin);
 
@@ -179,9 +203,27 @@ public class Main {
     principal = "system:serviceaccount:" + operatorNamespace + ":" + serviceAccountName;
 
     LOGGER.info(MessageKeys.OP_CONFIG_NAMESPACE, operatorNamespace);
+    startWatchEventPipeline();
+    wrappedExecutorService.scheduleWithFixedDelay(Main::logDeadlineMisses, 1, 1, TimeUnit.MINUTES);
     JobWatcher.defineFactory(
         threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
+    if (NamespaceSharding.isEnabled()) {
+      namespaceSharding = new NamespaceSharding(
+          operatorNamespace, getReplicaIdentity(), NamespaceSharding.getConfiguredLeaseDurationSeconds());
+      runSteps(namespaceSharding.createRefreshStep(null), () -> startNamespaces(serviceAccountName));
+    } else {
+      startNamespaces(serviceAccountName);
+    }
+  }
+
+  private static String getReplicaIdentity() {
+    return Optional.ofNullable(getHelmVariable.apply("OPERATOR_POD_NAME"))
+        .orElseGet(() -> Optional.ofNullable(getHelmVariable.apply("HOSTNAME"))
+            .orElseGet(() -> UUID.randomUUID().toString()));
+  }
+
+  private static void startNamespaces(String serviceAccountName) {
     Collection<String> targetNamespaces = getTargetNamespaces();
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
@@ -205,10 +247,60 @@ public class Main {
     }
   }
 
+  // Applies the tuning parameters which components copy when they start, so that changes to the
+  // operator's ConfigMap take effect without a restart
+  private static void applyTuning(TuningParameters tuning) {
+    Fiber.setBreadCrumbsEnabled(tuning.getMainTuning().fiberBreadCrumbs);
+    threadPool.setCorePoolSize(Math.max(tuning.getMainTuning().engineThreadCount, 1));
+
+    WatchTuning watchTuning = tuning.getWatchTuning();
+    JobWatcher.setJobWatcherTuning(watchTuning);
+    getAllWatchers().forEach(watcher -> watcher.setTuning(watchTuning));
+    processor.onTuningChanged(tuning.getMainTuning());
+  }
+
+  // Watch events are delivered on a pool of threads, sharded by domain UID, unless the number
+  // of shards is set to zero, in which case each watcher delivers its own events.
+  private static void startWatchEventPipeline() {
+    int numShards = tuningAndConfig.getWatchTuning().watchEventDispatchShards;
+    if (numShards <= 0) {
+      return;
+    }
+
+    WatchEventPipeline pipeline =
+        new WatchEventPipeline(numShards, Executors.newFixedThreadPool(numShards, threadFactory));
+    Watcher.setEventPipeline(pipeline);
+    wrappedExecutorService.scheduleWithFixedDelay(
+        () -> logWatchEventPipelineMetrics(pipeline), 1, 1, TimeUnit.MINUTES);
+  }
+
+  private static void logWatchEventPipelineMetrics(WatchEventPipeline pipeline) {
+    if (LOGGER.isFineEnabled()) {
+      LOGGER.fine("Watch event shards: " + pipeline.getShardMetrics());
+    }
+  }
+
+  // Misses are reported only when there are new ones, so that a healthy operator does not log each minute
+  static void logDeadlineMisses() {
+    Map<String, Long> missCounts = Deadline.getMissCounts();
+    Map<String, Long> newMisses = new TreeMap<>();
+    missCounts.forEach((type, count) -> {
+      long added = count - reportedDeadlineMisses.getOrDefault(type, 0L);
+      if (added > 0) {
+        newMisses.put(type, added);
+      }
+    });
+    if (!newMisses.isEmpty()) {
+      LOGGER.info(MessageKeys.DEADLINE_MISSES, missCounts, newMisses);
+    }
+    reportedDeadlineMisses = missCounts;
+  }
+
   private static void completeBegin() {
     try {
       // start the REST server
-      startRestServer(principal, isNamespaceStopping.keySet());
+      // with sharding, each replica answers for all target namespaces, as any may receive a request
+      startRestServer(principal, namespaceSharding == null ? isNamespaceStopping.keySet() : allTargetNamespaces);
 
       // start periodic retry and recheck
       int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
@@ -230,6 +322,17 @@ public class Main {
 
   private static void stopNamespace(String ns, boolean remove) {
     processor.stopNamespace(ns);
+    stopWatchingNamespace(ns, remove);
+  }
+
+  // Another replica now manages the namespace, so stop watching it, but leave its domains running
+  private static void releaseNamespace(String ns) {
+    LOGGER.info(MessageKeys.NAMESPACE_RELEASED, ns);
+    processor.releaseNamespace(ns);
+    stopWatchingNamespace(ns, true);
+  }
+
+  private static void stopWatchingNamespace(String ns, boolean remove) {
     AtomicBoolean stopping =
         remove ? isNamespaceStopping.remove(ns) : isNamespaceStopping.get(ns);
 
@@ -242,16 +345,26 @@ public class Main {
     podWatchers.remove(ns);
     serviceWatchers.remove(ns);
     configMapWatchers.remove(ns);
+    roleBindingWatchers.remove(ns);
     JobWatcher.removeNamespace(ns);
   }
 
   private static void stopNamespaces(Collection<String> targetNamespaces,
                                      Collection<String> namespacesToStop) {
     for (String ns : namespacesToStop) {
-      stopNamespace(ns, (! targetNamespaces.contains(ns)));
+      if (isHandedOff(ns, targetNamespaces)) {
+        releaseNamespace(ns);
+      } else {
+        stopNamespace(ns, (! targetNamespaces.contains(ns)));
+      }
     }
   }
 
+  // A namespace which is still a target, but not one this replica owns, has passed to another replica
+  private static boolean isHandedOff(String ns, Collection<String> targetNamespaces) {
+    return namespaceSharding != null && !targetNamespaces.contains(ns) && allTargetNamespaces.contains(ns);
+  }
+
   private static AtomicBoolean isNamespaceStopping(String ns) {
     return isNamespaceStopping.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
   }
@@ -271,39 +384,101 @@ public class Main {
 
   static Runnable recheckDomains() {
     return () -> {
-      Collection<String> targetNamespaces = getTargetNamespaces();
+      if (namespaceSharding == null) {
+        recheckNamespaces();
+      } else {
+        runSteps(namespaceSharding.createRefreshStep(null), Main::recheckNamespaces);
+      }
+    };
+  }
+
+  private static void recheckNamespaces() {
+    Collection<String> targetNamespaces = getTargetNamespaces();
 
-      // Check for namespaces that are removed from the operator's
-      // targetNamespaces list, or that are deleted from the Kubernetes cluster.
-      Set<String> namespacesToStop = new TreeSet<>(isNamespaceStopping.keySet());
+    // Check for namespaces that are removed from the operator's
+    // targetNamespaces list, or that are deleted from the Kubernetes cluster.
+    Set<String> namespacesToStop = new TreeSet<>(isNamespaceStopping.keySet());
+    for (String ns : targetNamespaces) {
+      // the active namespaces are the ones that will not be stopped
+      if (delegate.isNamespaceRunning(ns)) {
+        namespacesToStop.remove(ns);
+      }
+    }
+    stopNamespaces(targetNamespaces, namespacesToStop);
+
+    Collection<String> namespacesToStart = targetNamespaces;
+    Collection<String> namespacesToCheck = Collections.emptyList();
+    int recheckInterval = tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds;
+    DateTime now = DateTime.now();
+    boolean fullRecheckDue = lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now);
+    if (fullRecheckDue) {
+      lastFullRecheck.set(now);
+    }
+    if (!fullRecheckDue || IncrementalNamespaceRecheck.isEnabled()) {
+      // check for namespaces that need to be started
+      namespacesToStart = new TreeSet<>(targetNamespaces);
+      namespacesToStart.removeAll(namespaceStatuses.keySet());
       for (String ns : targetNamespaces) {
-        // the active namespaces are the ones that will not be stopped
-        if (delegate.isNamespaceRunning(ns)) {
-          namespacesToStop.remove(ns);
+        if (namespacesToStop.contains(ns)) {
+          namespacesToStart.remove(ns);
         }
       }
-      stopNamespaces(targetNamespaces, namespacesToStop);
+    }
+    if (fullRecheckDue && IncrementalNamespaceRecheck.isEnabled()) {
+      namespacesToCheck = new TreeSet<>(targetNamespaces);
+      namespacesToCheck.removeAll(namespacesToStart);
+      namespacesToCheck.removeAll(namespacesToStop);
+    }
 
-      Collection<String> namespacesToStart = targetNamespaces;
-      int recheckInterval = tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds;
-      DateTime now = DateTime.now();
-      if (lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now)) {
-        lastFullRecheck.set(now);
-      } else {
-        // check for namespaces that need to be started
-        namespacesToStart = new TreeSet<>(targetNamespaces);
-        namespacesToStart.removeAll(namespaceStatuses.keySet());
-        for (String ns : targetNamespaces) {
-          if (namespacesToStop.contains(ns)) {
-            namespacesToStart.remove(ns);
-          }
-        }
-      }
+    if (!namespacesToStart.isEmpty()) {
+      runSteps(new StartNamespacesStep(namespacesToStart));
+    }
+    Collection<String> namespacesToReview = getNamespacesWithExpiredRulesReviews(targetNamespaces);
+    namespacesToReview.removeAll(namespacesToStart);
+    namespacesToReview.removeAll(namespacesToStop);
+    if (!namespacesToReview.isEmpty()) {
+      runSteps(new InitializeNamespacesSecurityStep(namespacesToReview));
+    }
+    if (!namespacesToCheck.isEmpty()) {
+      runSteps(createIncrementalRecheck().createStep(namespacesToCheck));
+    }
+  }
 
-      if (!namespacesToStart.isEmpty()) {
-        runSteps(new StartNamespacesStep(namespacesToStart));
-      }
-    };
+  private static Collection<String> getNamespacesWithExpiredRulesReviews(Collection<String> namespaces) {
+    Collection<String> result = new TreeSet<>();
+    for (String ns : namespaces) {
+      Optional.ofNullable(namespaceStatuses.get(ns))
+          .filter(nss -> nss.getRulesReviewStatus() != null && !nss.isRulesReviewCurrent())
+          .ifPresent(nss -> result.add(ns));
+    }
+    return result;
+  }
+
+  private static IncrementalNamespaceRecheck createIncrementalRecheck() {
+    return new IncrementalNamespaceRecheck(
+        Main::checkWatchers,
+        DomainProcessorImpl::getCachedDomains,
+        ns -> readExistingResources(operatorNamespace, ns));
+  }
+
+  // Discards any watchers for the namespace which have stopped, so that reading the namespace will
+  // replace them, and returns true if any watcher is missing, was stopped, or has failed.
+  private static boolean checkWatchers(String ns) {
+    boolean failed = false;
+    for (Map<String, ? extends Watcher<?>> watchers
+        : Arrays.asList(configMapWatchers, domainWatchers, eventWatchers, podWatchers, serviceWatchers)) {
+      failed |= checkWatcher(watchers, ns);
+    }
+    return failed;
+  }
+
+  private static boolean checkWatcher(Map<String, ? extends Watcher<?>> watchers, String ns) {
+    Watcher<?> watcher = watchers.get(ns);
+    if (watcher == null || !watcher.isRunning()) {
+      watchers.remove(ns);
+      return true;
+    }
+    return watcher.checkAndClearFailure();
   }
 
   static Step readExistingResources(String operatorNamespace, String ns) {
@@ -377,7 +552,19 @@ public class Main {
     return targetNamespaces;
   }
 
+  // When the namespaces are sharded among replicas, each replica manages only those it owns
   private static Collection<String> getTargetNamespaces() {
+    Collection<String> targetNamespaces = getAllTargetNamespaces();
+    if (namespaceSharding == null) {
+      return targetNamespaces;
+    }
+
+    allTargetNamespaces.retainAll(targetNamespaces);
+    allTargetNamespaces.addAll(targetNamespaces);
+    return namespaceSharding.selectOwned(targetNamespaces);
+  }
+
+  private static Collection<String> getAllTargetNamespaces() {
     return isDedicated()
         ? Collections.singleton(operatorNamespace)
         : getTargetNamespaces(Optional.ofNullable(getHelmVariable.apply("OPERATOR_TARGET_NAMESPACES"))
@@ -391,10 +578,15 @@ public class Main {
 
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
-    RestServer.create(new RestConfigImpl(principal, targetNamespaces));
+    RestServer.create(new RestConfigImpl(principal, targetNamespaces, engine, createRestExecutor()));
     RestServer.getInstance().start(container);
   }
 
+  // The REST requests are processed on their own threads, once the engine has reviewed their access
+  private static ExecutorService createRestExecutor() {
+    return Executors.newFixedThreadPool(REST_THREAD_COUNT, threadFactory);
+  }
+
   // -----------------------------------------------------------------------------
   //
   // Below this point are methods that are called primarily from watch handlers,
@@ -412,13 +604,48 @@ public class Main {
       OperatorReady.create();
 
       LOGGER.info(MessageKeys.STARTING_LIVENESS_THREAD);
-      // every five seconds we need to update the last modified time on the liveness file
-      wrappedExecutorService.scheduleWithFixedDelay(new OperatorLiveness(), 5, 5, TimeUnit.SECONDS);
+      // every five seconds we need to update the last modified time on the liveness file, if the
+      // operator is progressing. The check has its own thread, as it must run when the engine cannot.
+      OperatorWatchdog watchdog = createWatchdog();
+      OperatorLiveness liveness = new OperatorLiveness();
+      Executors.newSingleThreadScheduledExecutor(threadFactory)
+          .scheduleWithFixedDelay(() -> checkProgress(watchdog, liveness), 5, 5, TimeUnit.SECONDS);
     } catch (IOException io) {
       LOGGER.severe(MessageKeys.EXCEPTION, io);
     }
   }
 
+  private static OperatorWatchdog createWatchdog() {
+    return new OperatorWatchdog(engine.getExecutor(), DomainProcessorImpl::getFiberGates, Main::getAllWatchers);
+  }
+
+  private static Collection<Watcher<?>> getAllWatchers() {
+    Collection<Watcher<?>> watchers = new ArrayList<>();
+    for (Map<String, ? extends Watcher<?>> map : Arrays.asList(
+          configMapWatchers, domainWatchers, eventWatchers, podWatchers, serviceWatchers, roleBindingWatchers)) {
+      watchers.addAll(map.values());
+    }
+    Optional.ofNullable(namespaceWatcher).ifPresent(watchers::add);
+    Optional.ofNullable(clusterRoleBindingWatcher).ifPresent(watchers::add);
+    return watchers;
+  }
+
+  private static void checkProgress(OperatorWatchdog watchdog, OperatorLiveness liveness) {
+    try {
+      watchdog.run();
+      if (watchdog.isLive()) {
+        liveness.run();
+      }
+      if (watchdog.isReady()) {
+        OperatorReady.create();
+      } else {
+        OperatorReady.delete();
+      }
+    } catch (Exception e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
   private static void waitForDeath() {
     Runtime.getRuntime().addShutdownHook(new Thread(shutdownSignal::release));
 
@@ -472,6 +699,41 @@ public class Main {
         isNamespaceStopping(ns));
   }
 
+  private static RoleBindingWatcher createRoleBindingWatcher(String ns) {
+    return RoleBindingWatcher.create(
+        threadFactory,
+        ns,
+        null,
+        tuningAndConfig.getWatchTuning(),
+        item -> dispatchRoleBindingWatch(ns, item),
+        isNamespaceStopping(ns));
+  }
+
+  private static ClusterRoleBindingWatcher createClusterRoleBindingWatcher() {
+    return ClusterRoleBindingWatcher.create(
+        threadFactory,
+        null,
+        tuningAndConfig.getWatchTuning(),
+        Main::dispatchClusterRoleBindingWatch,
+        new AtomicBoolean(false));
+  }
+
+  // A watch started without a resource version first reports every existing binding as added;
+  // only those created after a namespace's rules were reviewed invalidate the review.
+  static void dispatchRoleBindingWatch(String ns, Watch.Response<V1RoleBinding> item) {
+    Optional.ofNullable(namespaceStatuses.get(ns))
+        .ifPresent(nss -> nss.invalidateRulesReview(getChangeTime(item.type, item.object.getMetadata())));
+  }
+
+  static void dispatchClusterRoleBindingWatch(Watch.Response<V1ClusterRoleBinding> item) {
+    DateTime changeTime = getChangeTime(item.type, item.object.getMetadata());
+    namespaceStatuses.values().forEach(nss -> nss.invalidateRulesReview(changeTime));
+  }
+
+  private static DateTime getChangeTime(String type, V1ObjectMeta metadata) {
+    return "ADDED".equals(type) && metadata != null ? metadata.getCreationTimestamp() : null;
+  }
+
   private static NamespaceWatcher createNamespaceWatcher(String initialResourceVersion) {
     return NamespaceWatcher.create(
         threadFactory,
@@ -527,11 +789,10 @@ public class Main {
   }
 
   private static class WrappedThreadFactory implements ThreadFactory {
-    private final ThreadFactory delegate = ThreadFactorySingleton.getInstance();
 
     @Override
     public Thread newThread(@Nonnull Runnable r) {
-      return delegate.newThread(
+      return ThreadFactorySingleton.getInstance().newThread(
           () -> {
             ContainerResolver.getDefault().enterContainer(container);
             r.run();
@@ -624,22 +885,15 @@ public class Main {
     @Override
     public NextAction apply(Packet packet) {
       // Looking up namespace status.  If ns is null, then this step will check the status of the
-      // operator's own namespace.  If the namespace status is missing, then generate it with
-      // the health check helper.
+      // operator's own namespace.  If the namespace status is missing, or its rules review has
+      // expired or been invalidated, then generate it with the health check helper.
       NamespaceStatus nss = namespaceStatuses.computeIfAbsent(
           ns != null ? ns : operatorNamespace, (key) -> new NamespaceStatus());
-      V1SubjectRulesReviewStatus srrs = nss.getRulesReviewStatus().updateAndGet(prev -> {
-        if (prev != null) {
-          return prev;
-        }
-
-        try {
-          return HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns);
-        } catch (Throwable e) {
-          LOGGER.warning(MessageKeys.EXCEPTION, e);
-        }
-        return null;
-      });
+      if (!nss.isRulesReviewCurrent()) {
+        reviewRules(nss);
+        startRoleBindingWatcher(nss.getRulesIndex());
+      }
+      V1SubjectRulesReviewStatus srrs = nss.getRulesReviewStatus();
 
       packet.getComponents().put(
           NamespaceRulesReviewStep.class.getName(),
@@ -647,6 +901,32 @@ public class Main {
 
       return doNext(packet);
     }
+
+    private void reviewRules(NamespaceStatus nss) {
+      try {
+        Optional.ofNullable(HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns))
+            .ifPresent(srrs -> nss.setRulesReview(srrs, tuningAndConfig.getMainTuning().rulesReviewTtlSeconds));
+      } catch (Throwable e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+    }
+
+    // Role bindings are watched only where the operator has been granted permission to do so;
+    // elsewhere, its reviews are refreshed only when they expire.
+    private void startRoleBindingWatcher(ResourceRulesIndex index) {
+      if (index == null) {
+        return;
+      }
+
+      if (ns != null) {
+        if (index.canI(Resource.ROLEBINDINGS, Operation.watch)) {
+          roleBindingWatchers.computeIfAbsent(ns, Main::createRoleBindingWatcher);
+        }
+      } else if (clusterRoleBindingWatcher == null && !isDedicated()
+          && index.canI(Resource.CLUSTERROLEBINDINGS, Operation.watch)) {
+        clusterRoleBindingWatcher = createClusterRoleBindingWatcher();
+      }
+    }
   }
 
   private static class ReadExistingResourcesBeforeStep extends Step {
@@ -679,6 +959,7 @@ public class Main {
 
       DomainProcessor x = packet.getSpi(DomainProcessor.class);
       DomainProcessor dp = x != null ? x : processor;
+      dp.startNamespace(ns);
 
       Set<String> domainUids = new HashSet<>();
       if (callResponse.getResult() != null) {
@@ -904,7 +1185,7 @@ public class Main {
     @Override
     public V1SubjectRulesReviewStatus getSubjectRulesReviewStatus(String namespace) {
       NamespaceStatus namespaceStatus = namespaceStatuses.get(namespace);
-      return namespaceStatus != null ? namespaceStatus.getRulesReviewStatus().get() : null;
+      return namespaceStatus != null ? namespaceStatus.getRulesReviewStatus() : null;
     }
 
     @Override
@@ -0,0 +1,282 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+/**
+ * Divides the target namespaces among the running replicas of the operator, so that each replica
+ * manages only its share. Every replica holds a lease in the operator namespace, named for the
+ * replica, which it renews each time it rechecks its namespaces; a replica whose lease has not been
+ * renewed within the lease duration is presumed to have gone. The live replicas are placed on a
+ * consistent-hash ring, and each namespace belongs to the first replica which follows it on the ring,
+ * so that when a replica joins or leaves, only the namespaces adjacent to it change hands.
+ *
+ * <p>Each replica learns of changes in membership at its own next recheck, so for up to one recheck
+ * interval a namespace which is changing hands may be managed by both its old and new owners.
+ */
+class NamespaceSharding {
+  static final String SHARDING_PARAM = "namespaceSharding";
+  static final String LEASE_DURATION_PARAM = "replicaLeaseDurationSeconds";
+  static final int DEFAULT_LEASE_DURATION_SECONDS = 30;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int VIRTUAL_NODES_PER_REPLICA = 64;
+
+  private final String namespace;
+  private final String identity;
+  private final int leaseDurationSeconds;
+  private volatile Set<String> replicas;
+  private volatile NavigableMap<Long, String> ring;
+
+  /**
+   * Creates the sharding for a replica. Until the leases are first read, the replica presumes
+   * itself to be alone.
+   *
+   * @param namespace the namespace in which the operator runs, and in which the leases are kept
+   * @param identity the name of this replica, unique among the replicas of the operator
+   * @param leaseDurationSeconds the time after which a lease which has not been renewed expires
+   */
+  NamespaceSharding(String namespace, String identity, int leaseDurationSeconds) {
+    this.namespace = namespace;
+    this.identity = identity;
+    this.leaseDurationSeconds = leaseDurationSeconds;
+    setReplicas(Collections.singleton(identity));
+  }
+
+  /**
+   * Returns true if the operator has been configured to share its namespaces among replicas.
+   *
+   * @return true if sharding is enabled
+   */
+  static boolean isEnabled() {
+    return getTuning().map(t -> t.namespaceSharding).orElse(false);
+  }
+
+  /**
+   * Returns the lease duration configured for the operator.
+   *
+   * @return a time in seconds
+   */
+  static int getConfiguredLeaseDurationSeconds() {
+    return getTuning()
+        .map(t -> t.replicaLeaseDurationSeconds)
+        .filter(seconds -> seconds > 0)
+        .orElse(DEFAULT_LEASE_DURATION_SECONDS);
+  }
+
+  private static Optional<MainTuning> getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning);
+  }
+
+  String getIdentity() {
+    return identity;
+  }
+
+  /**
+   * Returns the names of the replicas currently believed to be live, including this one.
+   *
+   * @return a sorted set of replica names
+   */
+  Set<String> getReplicas() {
+    return replicas;
+  }
+
+  /**
+   * Returns true if the specified namespace is managed by this replica.
+   *
+   * @param ns a namespace name
+   * @return true if this replica owns the namespace
+   */
+  boolean isOwned(String ns) {
+    return identity.equals(getOwner(ns));
+  }
+
+  /**
+   * Returns the namespaces, of those specified, which are managed by this replica.
+   *
+   * @param namespaces namespace names
+   * @return the owned namespaces, in their original order
+   */
+  Collection<String> selectOwned(Collection<String> namespaces) {
+    return namespaces.stream().filter(this::isOwned).collect(Collectors.toList());
+  }
+
+  private String getOwner(String ns) {
+    NavigableMap<Long, String> ring = this.ring;
+    return Optional.ofNullable(ring.ceilingEntry(hash(ns))).orElse(ring.firstEntry()).getValue();
+  }
+
+  private void setReplicas(Collection<String> live) {
+    NavigableMap<Long, String> newRing = new TreeMap<>();
+    for (String replica : live) {
+      for (int i = 0; i < VIRTUAL_NODES_PER_REPLICA; i++) {
+        newRing.put(hash(replica + "#" + i), replica);
+      }
+    }
+    ring = newRing;
+    replicas = Collections.unmodifiableSet(new TreeSet<>(live));
+  }
+
+  // 64-bit FNV-1a followed by the MurmurHash3 finalizer, so that names which differ only in their
+  // last characters are spread across the whole ring; gives the same result in every replica
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xff);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * Creates a step which renews this replica's lease, creating it if need be, then reads all
+   * replica leases and updates the set of live replicas. Failures are logged and leave the
+   * previous set of replicas in place.
+   *
+   * @param next the step to run after the refresh
+   * @return a step to be scheduled
+   */
+  Step createRefreshStep(Step next) {
+    return new CallBuilder()
+        .readLeaseAsync(identity, namespace, new ReadLeaseResponseStep(createListLeasesStep(next)));
+  }
+
+  private Step createListLeasesStep(Step next) {
+    return new CallBuilder()
+        .withLabelSelectors(LabelConstants.OPERATOR_REPLICA_LABEL)
+        .listLeaseAsync(namespace, new ListLeasesResponseStep(next));
+  }
+
+  private V1Lease createLease() {
+    DateTime now = SystemClock.now();
+    return new V1Lease()
+        .metadata(
+            new V1ObjectMeta()
+                .name(identity)
+                .namespace(namespace)
+                .putLabelsItem(LabelConstants.OPERATOR_REPLICA_LABEL, "true"))
+        .spec(
+            new V1LeaseSpec()
+                .holderIdentity(identity)
+                .leaseDurationSeconds(leaseDurationSeconds)
+                .acquireTime(now)
+                .renewTime(now));
+  }
+
+  private V1Lease renewLease(V1Lease existing) {
+    V1LeaseSpec spec = Optional.ofNullable(existing.getSpec()).orElse(new V1LeaseSpec());
+    existing.spec(
+        spec.holderIdentity(identity)
+            .leaseDurationSeconds(leaseDurationSeconds)
+            .renewTime(SystemClock.now()));
+    return existing;
+  }
+
+  private boolean isLive(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec())
+        .filter(spec -> spec.getRenewTime() != null)
+        .map(spec -> spec.getRenewTime().plusSeconds(getDurationSeconds(spec)).isAfter(SystemClock.now()))
+        .orElse(false);
+  }
+
+  private int getDurationSeconds(V1LeaseSpec spec) {
+    return Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(leaseDurationSeconds);
+  }
+
+  private void updateReplicas(V1LeaseList leases) {
+    Set<String> live = new TreeSet<>();
+    live.add(identity);
+    Optional.ofNullable(leases.getItems()).orElse(Collections.emptyList()).stream()
+        .filter(this::isLive)
+        .map(V1Lease::getSpec)
+        .map(V1LeaseSpec::getHolderIdentity)
+        .filter(Objects::nonNull)
+        .forEach(live::add);
+
+    if (!live.equals(replicas)) {
+      setReplicas(live);
+      LOGGER.info(MessageKeys.OPERATOR_REPLICAS_CHANGED, String.join(", ", live), identity);
+    }
+  }
+
+  private abstract static class TolerantResponseStep<T> extends DefaultResponseStep<T> {
+    TolerantResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<T> callResponse) {
+      LOGGER.warning(MessageKeys.EXCEPTION, callResponse.getE());
+      return doNext(packet);
+    }
+  }
+
+  private class ReadLeaseResponseStep extends TolerantResponseStep<V1Lease> {
+    ReadLeaseResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Lease> callResponse) {
+      V1Lease existing = callResponse.getResult();
+      ResponseStep<V1Lease> writeResponse = new WriteLeaseResponseStep(getNext());
+      return doNext(
+          existing == null
+              ? new CallBuilder().createLeaseAsync(namespace, createLease(), writeResponse)
+              : new CallBuilder().replaceLeaseAsync(identity, namespace, renewLease(existing), writeResponse),
+          packet);
+    }
+  }
+
+  private static class WriteLeaseResponseStep extends TolerantResponseStep<V1Lease> {
+    WriteLeaseResponseStep(Step next) {
+      super(next);
+    }
+  }
+
+  private class ListLeasesResponseStep extends TolerantResponseStep<V1LeaseList> {
+    ListLeasesResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1LeaseList> callResponse) {
+      Optional.ofNullable(callResponse.getResult()).ifPresent(NamespaceSharding.this::updateReplicas);
+      return doNext(packet);
+    }
+  }
+}
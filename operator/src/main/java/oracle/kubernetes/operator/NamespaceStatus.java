@@ -3,20 +3,97 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.operator.helpers.ResourceRulesIndex;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
 
 public class NamespaceStatus {
   private final AtomicBoolean isNamespaceStarting = new AtomicBoolean(false);
-  private final AtomicReference<V1SubjectRulesReviewStatus> rulesReviewStatus = new AtomicReference<>();
+  private final AtomicReference<RulesReview> rulesReview = new AtomicReference<>();
 
   public AtomicBoolean isNamespaceStarting() {
     return isNamespaceStarting;
   }
 
-  public AtomicReference<V1SubjectRulesReviewStatus> getRulesReviewStatus() {
-    return rulesReviewStatus;
+  /**
+   * Returns the most recent rules review for the namespace, even if it has expired.
+   * @return the review status, or null if the rules have not been reviewed
+   */
+  public V1SubjectRulesReviewStatus getRulesReviewStatus() {
+    return Optional.ofNullable(rulesReview.get()).map(r -> r.status).orElse(null);
+  }
+
+  /**
+   * Returns an index of the rules from the most recent rules review, even if it has expired.
+   * @return the rules index, or null if the rules have not been reviewed
+   */
+  public ResourceRulesIndex getRulesIndex() {
+    return Optional.ofNullable(rulesReview.get()).map(r -> r.index).orElse(null);
+  }
+
+  /**
+   * Returns true if the namespace has a rules review which has neither expired nor been invalidated.
+   * @return true if the cached review may be used without being refreshed
+   */
+  public boolean isRulesReviewCurrent() {
+    return Optional.ofNullable(rulesReview.get()).map(RulesReview::isCurrent).orElse(false);
+  }
+
+  /**
+   * Records a new rules review for the namespace.
+   * @param status the review status
+   * @param ttlSeconds the time for which the review may be reused
+   */
+  public void setRulesReview(V1SubjectRulesReviewStatus status, int ttlSeconds) {
+    DateTime now = SystemClock.now();
+    rulesReview.set(new RulesReview(status, now, now.plusSeconds(ttlSeconds)));
+  }
+
+  /**
+   * Expires the rules review for the namespace if it was made before a change to a role binding.
+   * @param changeTime the time of the change, or null if unknown, in which case the review expires
+   */
+  public void invalidateRulesReview(DateTime changeTime) {
+    rulesReview.updateAndGet(r -> r == null || !r.isOlderThan(changeTime) ? r : r.expire());
+  }
+
+  private static class RulesReview {
+    private final V1SubjectRulesReviewStatus status;
+    private final ResourceRulesIndex index;
+    private final DateTime reviewTime;
+    private final DateTime expirationTime;
+
+    RulesReview(V1SubjectRulesReviewStatus status, DateTime reviewTime, DateTime expirationTime) {
+      this(status, new ResourceRulesIndex(status.getResourceRules()), reviewTime, expirationTime);
+    }
+
+    private RulesReview(
+        V1SubjectRulesReviewStatus status,
+        ResourceRulesIndex index,
+        DateTime reviewTime,
+        DateTime expirationTime) {
+      this.status = status;
+      this.index = index;
+      this.reviewTime = reviewTime;
+      this.expirationTime = expirationTime;
+    }
+
+    boolean isCurrent() {
+      return SystemClock.now().isBefore(expirationTime);
+    }
+
+    // Kubernetes timestamps have a resolution of one second
+    boolean isOlderThan(DateTime changeTime) {
+      return changeTime == null || !reviewTime.isAfter(changeTime.plusSeconds(1));
+    }
+
+    RulesReview expire() {
+      return new RulesReview(status, index, reviewTime, reviewTime);
+    }
   }
 }
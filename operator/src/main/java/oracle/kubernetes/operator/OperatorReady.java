@@ -20,4 +20,11 @@ public class OperatorReady {
       readinessFile.createNewFile();
     }
   }
+
+  /**
+   * Remove the Operator readiness indicator, so that Kubernetes knows the Operator is not ready.
+   */
+  public static void delete() {
+    readinessFile.delete();
+  }
 }
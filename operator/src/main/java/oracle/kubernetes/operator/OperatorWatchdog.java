@@ -0,0 +1,196 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+/**
+ * Checks periodically that the operator is making progress, so that the liveness and readiness
+ * indicators reflect more than the fact that a thread can still touch a file. Three things are checked:
+ *
+ * <ul>
+ *   <li>the engine runs queued work: a probe task is queued to the engine executor, and the engine is
+ *       stalled if that probe is not run within the engine stall threshold;</li>
+ *   <li>watches are active: a running watcher which has neither started a watch nor received an event
+ *       for longer than the watch stall threshold is stalled;</li>
+ *   <li>fibers complete: a fiber started by a fiber gate which has been suspended for longer than the
+ *       fiber stall threshold is stalled.</li>
+ * </ul>
+ *
+ * <p>A stalled engine means that the operator is neither live nor ready, and a stalled watcher that it
+ * is not live, as restarting it is the only remedy. When such a stall is first found, the stalls and the
+ * stacks of all threads are logged. A stalled fiber affects only the domain which it is processing, and
+ * may legitimately be waiting a long time for servers to start, so it is reported only by a warning
+ * naming the domain, logged when the stall is first found.
+ */
+class OperatorWatchdog implements Runnable {
+  static final String ENGINE_STALL_PARAM = "engineStallThresholdSeconds";
+  static final String FIBER_STALL_PARAM = "fiberStallThresholdSeconds";
+  static final String WATCH_STALL_PARAM = "watchStallThresholdSeconds";
+  private static final int DEFAULT_ENGINE_STALL_SECONDS = 60;
+  private static final int DEFAULT_FIBER_STALL_SECONDS = 1800;
+  private static final int DEFAULT_WATCH_STALL_SECONDS = 900;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Executor engineExecutor;
+  private final Supplier<Collection<FiberGate>> fiberGates;
+  private final Supplier<Collection<? extends Watcher<?>>> watchers;
+  private final AtomicReference<DateTime> probeQueuedTime = new AtomicReference<>();
+  private volatile boolean live = true;
+  private volatile boolean ready = true;
+  private boolean stalled;
+  private Set<Fiber> reportedFiberStalls = new HashSet<>();
+
+  /**
+   * Creates a watchdog.
+   *
+   * @param engineExecutor the executor on which the engine runs fibers
+   * @param fiberGates a supplier of the fiber gates whose fibers are to be checked
+   * @param watchers a supplier of the watchers to be checked
+   */
+  OperatorWatchdog(
+      Executor engineExecutor,
+      Supplier<Collection<FiberGate>> fiberGates,
+      Supplier<Collection<? extends Watcher<?>>> watchers) {
+    this.engineExecutor = engineExecutor;
+    this.fiberGates = fiberGates;
+    this.watchers = watchers;
+  }
+
+  /**
+   * Returns true if, at the last check, neither the engine nor any watcher was stalled.
+   *
+   * @return true if the operator is live
+   */
+  boolean isLive() {
+    return live;
+  }
+
+  /**
+   * Returns true if, at the last check, the engine was not stalled.
+   *
+   * @return true if the operator is ready
+   */
+  boolean isReady() {
+    return ready;
+  }
+
+  @Override
+  public void run() {
+    DateTime now = SystemClock.now();
+    List<String> engineStalls = checkEngine(now);
+    List<String> watcherStalls = checkWatchers(now);
+    checkFiberGates(now);
+
+    live = engineStalls.isEmpty() && watcherStalls.isEmpty();
+    ready = engineStalls.isEmpty();
+    reportTransition(engineStalls, watcherStalls);
+  }
+
+  private void reportTransition(List<String> engineStalls, List<String> watcherStalls) {
+    boolean wasStalled = stalled;
+    stalled = !live;
+    if (stalled && !wasStalled) {
+      List<String> stalls = new ArrayList<>(engineStalls);
+      stalls.addAll(watcherStalls);
+      LOGGER.warning(MessageKeys.OPERATOR_STALLED, String.join("\n", stalls), getThreadStacks());
+    } else if (wasStalled && !stalled) {
+      LOGGER.info(MessageKeys.OPERATOR_STALL_ENDED);
+    }
+  }
+
+  private List<String> checkEngine(DateTime now) {
+    List<String> stalls = new ArrayList<>();
+    DateTime queuedTime = probeQueuedTime.get();
+    if (queuedTime == null) {
+      queueProbe(now);
+    } else if (isStalled(queuedTime, now, t -> t.engineStallThresholdSeconds, DEFAULT_ENGINE_STALL_SECONDS)) {
+      stalls.add("engine has not run a task queued " + getSecondsSince(queuedTime, now) + " seconds ago");
+    }
+    return stalls;
+  }
+
+  private void queueProbe(DateTime now) {
+    probeQueuedTime.set(now);
+    engineExecutor.execute(() -> probeQueuedTime.compareAndSet(now, null));
+  }
+
+  private List<String> checkWatchers(DateTime now) {
+    List<String> stalls = new ArrayList<>();
+    for (Watcher<?> watcher : watchers.get()) {
+      DateTime lastActivity = watcher.getLastActivity();
+      if (watcher.isRunning()
+          && isStalled(lastActivity, now, t -> t.watchStallThresholdSeconds, DEFAULT_WATCH_STALL_SECONDS)) {
+        stalls.add(watcher.getClass().getSimpleName() + " has had no activity for "
+              + getSecondsSince(lastActivity, now) + " seconds");
+      }
+    }
+    return stalls;
+  }
+
+  private void checkFiberGates(DateTime now) {
+    Set<Fiber> fiberStalls = new HashSet<>();
+    for (FiberGate gate : fiberGates.get()) {
+      gate.getSuspendedFibers().forEach((domainUid, fiber) -> {
+        DateTime since = fiber.getSuspendedSince();
+        if (since != null && isStalled(since, now, t -> t.fiberStallThresholdSeconds, DEFAULT_FIBER_STALL_SECONDS)) {
+          fiberStalls.add(fiber);
+          if (!reportedFiberStalls.contains(fiber)) {
+            LOGGER.warning(MessageKeys.DOMAIN_PROCESSING_STALLED,
+                  domainUid, getSecondsSince(since, now), fiber.describe());
+          }
+        }
+      });
+    }
+    reportedFiberStalls = fiberStalls;
+  }
+
+  private boolean isStalled(
+      DateTime since, DateTime now, Function<MainTuning, Integer> threshold, int defaultSeconds) {
+    return getSecondsSince(since, now) > getThresholdSeconds(threshold, defaultSeconds);
+  }
+
+  private long getSecondsSince(DateTime since, DateTime now) {
+    return (now.getMillis() - since.getMillis()) / 1000;
+  }
+
+  private int getThresholdSeconds(Function<MainTuning, Integer> threshold, int defaultSeconds) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(threshold)
+          .orElse(defaultSeconds);
+  }
+
+  private String getThreadStacks() {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+      Thread thread = entry.getKey();
+      sb.append('"').append(thread.getName()).append("\" ").append(thread.getState()).append('\n');
+      for (StackTraceElement element : entry.getValue()) {
+        sb.append("    at ").append(element).append('\n');
+      }
+    }
+    return sb.toString();
+  }
+}
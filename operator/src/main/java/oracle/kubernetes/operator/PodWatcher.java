@@ -3,16 +3,9 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -39,10 +32,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
   private final String namespace;
   private final WatchListener<V1Pod> listener;
 
-  // Map of Pod name to callback. Note that since each pod name can be mapped to multiple callback registrations,
-  // a concurrent map will not suffice; we therefore use an ordinary map and synchronous accesses.
-  private final Map<String, Collection<Consumer<V1Pod>>> modifiedCallbackRegistrations = new HashMap<>();
-  private final Map<String, Collection<Consumer<V1Pod>>> deletedCallbackRegistrations = new HashMap<>();
+  private final WatchCallbackRegistry<V1Pod> callbacks = new WatchCallbackRegistry<>();
 
   private PodWatcher(
       String namespace,
@@ -79,42 +69,6 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return watcher;
   }
 
-  private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-    synchronized (modifiedCallbackRegistrations) {
-      modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-    }
-  }
-
-  private @Nonnull Collection<Consumer<V1Pod>> getOnModifiedCallbacks(String podName) {
-    synchronized (modifiedCallbackRegistrations) {
-      return Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).orElse(Collections.emptyList());
-    }
-  }
-
-  private void removeOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-    synchronized (modifiedCallbackRegistrations) {
-      Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-    }
-  }
-
-  private void addOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-    synchronized (deletedCallbackRegistrations) {
-      deletedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-    }
-  }
-
-  private @Nonnull Collection<Consumer<V1Pod>> getOnDeleteCallbacks(String podName) {
-    synchronized (deletedCallbackRegistrations) {
-      return Optional.ofNullable(deletedCallbackRegistrations.remove(podName)).orElse(Collections.emptyList());
-    }
-  }
-
-  private void removeOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-    synchronized (deletedCallbackRegistrations) {
-      Optional.ofNullable(deletedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-    }
-  }
-
   @Override
   public WatchI<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
@@ -136,10 +90,10 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
-        copyOf(getOnModifiedCallbacks(podName)).forEach(c -> c.accept(pod));
+        callbacks.dispatchModified(podName, pod);
         break;
       case "DELETED":
-        getOnDeleteCallbacks(podName).forEach(c -> c.accept(pod));
+        callbacks.dispatchDeleted(podName, pod);
         break;
       case "ERROR":
       default:
@@ -148,11 +102,6 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     LOGGER.exiting();
   }
 
-  // make a copy to avoid concurrent modification
-  private <T> Collection<T> copyOf(Collection<T> collection) {
-    return new ArrayList<>(collection);
-  }
-
   /**
    * Waits until the Pod is Ready.
    *
@@ -185,7 +134,12 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     V1ObjectMeta getMetadata(V1Pod pod) {
       return pod.getMetadata();
     }
-    
+
+    @Override
+    V1Pod getLastReportedResource(String name) {
+      return callbacks.getLastReported(name);
+    }
+
     @Override
     Step createReadAsyncStep(String name, String namespace, ResponseStep<V1Pod> responseStep) {
       return new CallBuilder().readPodAsync(name, namespace, responseStep);
@@ -212,12 +166,12 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
 
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
-      addOnModifiedCallback(podName, callback);
+      callbacks.addOnModifiedCallback(podName, callback);
     }
 
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
-      removeOnModifiedCallback(podName, callback);
+      callbacks.removeOnModifiedCallback(podName, callback);
     }
 
     @Override
@@ -239,12 +193,12 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
 
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
-      addOnDeleteCallback(podName, callback);
+      callbacks.addOnDeletedCallback(podName, callback);
     }
 
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
-      removeOnDeleteCallback(podName, callback);
+      callbacks.removeOnDeletedCallback(podName, callback);
     }
   }
 }
@@ -22,12 +22,15 @@ public interface ProcessingConstants {
   public static final String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   public static final String SERVER_STATE_MAP = "serverStateMap";
   public static final String SERVER_HEALTH_MAP = "serverHealthMap";
+  public static final String SERVER_HEALTH_BULK_READ = "serverHealthBulkRead";
 
   public static final String DOMAIN_TOPOLOGY = "domainTopology";
   public static final String JOB_POD_NAME = "jobPodName";
   public static final String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
-  public static final String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
+  public static final String DOMAIN_INTROSPECTOR_DATA = "domainIntrospectorData";
   public static final String SIT_CONFIG_MAP = "sitConfigMap";
+  public static final String INTROSPECTION_INPUTS_FINGERPRINT = "introspectionInputsFingerprint";
+  public static final String INTROSPECTED_INPUTS_FINGERPRINT = "introspectedInputsFingerprint";
 
   public static final String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
 }
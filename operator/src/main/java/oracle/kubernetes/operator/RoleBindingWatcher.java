@@ -0,0 +1,60 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1RoleBinding;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles RoleBinding watching. It receives role binding change events and sends them
+ * into the operator, which uses them to decide when its cached access rules are out of date.
+ */
+public class RoleBindingWatcher extends Watcher<V1RoleBinding> {
+  private final String ns;
+
+  private RoleBindingWatcher(
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1RoleBinding> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.ns = ns;
+  }
+
+  /**
+   * Create watcher.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static RoleBindingWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1RoleBinding> listener,
+      AtomicBoolean isStopping) {
+    RoleBindingWatcher watcher =
+        new RoleBindingWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public WatchI<V1RoleBinding> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.createRoleBindingWatch(ns);
+  }
+}
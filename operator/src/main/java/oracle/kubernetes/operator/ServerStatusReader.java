@@ -7,7 +7,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -31,6 +32,8 @@ import oracle.kubernetes.operator.steps.ReadHealthStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.operator.work.Deadline;
+import oracle.kubernetes.operator.work.ForkJoinPolicy;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -47,27 +50,28 @@ public class ServerStatusReader {
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
 
+  private static final int DEFAULT_MAX_CONCURRENT_STATUS_READS = 4;
+  private static final long READ_TIMEOUT_MARGIN_MILLIS = 1000;
+
   private ServerStatusReader() {
   }
 
+  // If selected, the health of all running servers is first read with a single request to the admin server,
+  // which is bounded by the same timeout as each read from a single server.
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
-    return new DomainStatusReaderStep(info, timeoutSeconds, next);
+    Step readStatus = new DomainStatusReaderStep(info, timeoutSeconds, next);
+    return ReadHealthStep.isBulkReadEnabled()
+        ? ReadHealthStep.createBulkReadHealthStep(timeoutSeconds, readStatus)
+        : readStatus;
   }
 
-  /**
-   * Creates asynchronous step to read WebLogic server state from a particular pod.
-   *
-   * @param info the domain presence
-   * @param pod The pod
-   * @param serverName Server name
-   * @param timeoutSeconds Timeout in seconds
-   * @return Created step
-   */
-  private static Step createServerStatusReaderStep(
-      DomainPresenceInfo info, V1Pod pod, String serverName, long timeoutSeconds) {
-    return new ServerStatusReaderStep(
-        info, pod, serverName, timeoutSeconds, new ServerHealthStep(serverName, pod, null));
+  // A read waits no longer than its timeout or the time left before the packet's deadline, and is
+  // abandoned if it has not completed shortly after that
+  private static long getReadTimeoutMillis(Packet packet, long timeoutSeconds) {
+    Deadline deadline = Deadline.get(packet);
+    long waitSeconds = deadline == null ? timeoutSeconds : deadline.limitSeconds(timeoutSeconds);
+    return TimeUnit.SECONDS.toMillis(waitSeconds) + READ_TIMEOUT_MARGIN_MILLIS;
   }
 
   /**
@@ -100,26 +104,76 @@ public class ServerStatusReader {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
-      Collection<StepAndPacket> startDetails =
-          info.getServerPods()
-              .map(pod -> createStatusReaderStep(packet, pod))
-              .collect(Collectors.toList());
-
-      if (startDetails.isEmpty()) {
+      List<V1Pod> pods = info.getServerPods().collect(Collectors.toList());
+      if (pods.isEmpty()) {
         return doNext(packet);
-      } else {
-        remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
       }
+
+      remainingServerHealthToRead.set(pods.size());
+      return doForkJoin(
+          new ServersHealthReaderStep(pods, timeoutSeconds, getNext()),
+          packet,
+          pods.stream().map(pod -> createStateReaderStep(packet, pod)).collect(Collectors.toList()),
+          createStateReadPolicy(packet));
     }
 
-    private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
+    // Reading the state of a server which is not ready blocks an engine thread on a pod exec, so the
+    // number of concurrent reads is limited. A server whose state cannot be read, or whose read hangs,
+    // must not prevent the status of the other servers from being reported.
+    private ForkJoinPolicy createStateReadPolicy(Packet packet) {
+      return ForkJoinPolicy.create()
+          .withMaxParallelism(getMaxConcurrentStatusReads())
+          .withFailurePolicy(ForkJoinPolicy.FailurePolicy.CONTINUE)
+          .withChildTimeout(getReadTimeoutMillis(packet, timeoutSeconds), TimeUnit.MILLISECONDS);
+    }
+
+    private int getMaxConcurrentStatusReads() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.maxConcurrentStatusReads)
+          .orElse(DEFAULT_MAX_CONCURRENT_STATUS_READS);
+    }
+
+    private StepAndPacket createStateReaderStep(Packet packet, V1Pod pod) {
       return new StepAndPacket(
-          createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds),
+          new ServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds, null),
           packet.clone());
     }
   }
 
+  // Reads the health of each server whose state allows it, with all reads running at once
+  private static class ServersHealthReaderStep extends Step {
+    private final List<V1Pod> pods;
+    private final long timeoutSeconds;
+
+    ServersHealthReaderStep(List<V1Pod> pods, long timeoutSeconds, Step next) {
+      super(next);
+      this.pods = pods;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(
+          getNext(),
+          packet,
+          pods.stream().map(pod -> createHealthReaderStep(packet, pod)).collect(Collectors.toList()),
+          createHealthReadPolicy(packet, packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)));
+    }
+
+    // A server whose health read fails or times out has no read remaining
+    private ForkJoinPolicy createHealthReadPolicy(Packet packet, AtomicInteger remainingServerHealthToRead) {
+      return ForkJoinPolicy.create()
+          .withFailurePolicy(ForkJoinPolicy.FailurePolicy.CONTINUE)
+          .withChildTimeout(getReadTimeoutMillis(packet, timeoutSeconds), TimeUnit.MILLISECONDS)
+          .withChildFailureListener(throwable -> remainingServerHealthToRead.decrementAndGet());
+    }
+
+    private StepAndPacket createHealthReaderStep(Packet packet, V1Pod pod) {
+      return new StepAndPacket(new ServerHealthStep(PodHelper.getPodServerName(pod), pod, null), packet.clone());
+    }
+  }
+
   private static class ServerStatusReaderStep extends Step {
     private final DomainPresenceInfo info;
     private final V1Pod pod;
@@ -166,6 +220,15 @@ public class ServerStatusReader {
       final boolean stdin = true;
       final boolean tty = true;
 
+      // with no time left in the status update, treat the state as if the read had timed out
+      Deadline deadline = Deadline.get(packet);
+      if (deadline != null && deadline.isExpired()) {
+        deadline.miss("reading the state of " + serverName);
+        serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, null));
+        return doNext(packet);
+      }
+      final long waitSeconds = deadline == null ? timeoutSeconds : deadline.limitSeconds(timeoutSeconds);
+
       return doSuspend(
           fiber -> {
             Process proc = null;
@@ -179,7 +242,7 @@ public class ServerStatusReader {
               proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
 
               InputStream in = proc.getInputStream();
-              if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+              if (proc.waitFor(waitSeconds, TimeUnit.SECONDS)) {
                 int exitValue = proc.exitValue();
                 if (exitValue == 0) {
                   try (final Reader reader = new InputStreamReader(in, Charsets.UTF_8)) {
@@ -273,8 +336,22 @@ public class ServerStatusReader {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       return doNext(
           createDomainStatusReaderStep(
-              info, timeoutSeconds, DomainStatusUpdater.createStatusUpdateStep(getNext())),
+              info, timeoutSeconds, new WriteStatusStep(DomainStatusUpdater.createStatusUpdateStep(getNext()))),
           packet);
     }
   }
+
+  // The deadline of a status update bounds only its reads: once they are done, the status read
+  // is written, even if the reads used all of the time allowed, as it would otherwise be discarded.
+  private static class WriteStatusStep extends Step {
+    WriteStatusStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Deadline.clear(packet);
+      return doNext(packet);
+    }
+  }
 }
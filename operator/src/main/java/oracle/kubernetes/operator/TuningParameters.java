@@ -4,8 +4,10 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -30,6 +32,15 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  public IntrospectorTuning getIntrospectorTuning();
+
+  /**
+   * Adds a listener to be called, with these parameters, after the operator's ConfigMap changes.
+   * Components which copy a tuning value when they start use this to apply new values while running.
+   * @param listener the listener to add
+   */
+  public void addChangeListener(Consumer<TuningParameters> listener);
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -39,6 +50,22 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int rulesReviewTtlSeconds;
+    public final boolean readHealthThroughAdminServer;
+    public final int maxConcurrentServerStarts;
+    public final int maxConcurrentServerStartsPerNamespace;
+    public final boolean namespaceSharding;
+    public final int replicaLeaseDurationSeconds;
+    public final boolean incrementalNamespaceRecheck;
+    public final int engineStallThresholdSeconds;
+    public final int fiberStallThresholdSeconds;
+    public final int watchStallThresholdSeconds;
+    public final boolean fiberBreadCrumbs;
+    public final int maxConcurrentStatusReads;
+    public final long makeRightDeadlineSeconds;
+    public final int scaleRequestWindowSeconds;
+    public final int engineThreadCount;
+    public final List<String> serverSideApplyKinds;
 
     /**
      * create main tuning.
@@ -50,6 +77,22 @@ public interface TuningParameters extends Map<String, String> {
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param rulesReviewTtlSeconds time for which a namespace's access rules review is reused
+     * @param readHealthThroughAdminServer whether server health is read with one request to the admin server
+     * @param maxConcurrentServerStarts limit on servers started at once, or 0 for none
+     * @param maxConcurrentServerStartsPerNamespace limit on servers started at once in a namespace, or 0 for none
+     * @param namespaceSharding whether target namespaces are shared among the replicas of the operator
+     * @param replicaLeaseDurationSeconds time after which the lease of a replica which has not renewed it expires
+     * @param incrementalNamespaceRecheck whether a recheck re-reads only the namespaces whose domains have changed
+     * @param engineStallThresholdSeconds time a task may wait for an engine thread before the watchdog reports a stall
+     * @param fiberStallThresholdSeconds time a domain fiber may run before the watchdog reports a stall
+     * @param watchStallThresholdSeconds time a watch may be silent before the watchdog reports a stall
+     * @param fiberBreadCrumbs whether fibers record the steps they run, for diagnosis
+     * @param maxConcurrentStatusReads limit on the servers of a domain whose state is read at once
+     * @param makeRightDeadlineSeconds time allowed for a make-right of a domain, or 0 for no limit
+     * @param scaleRequestWindowSeconds time during which scale requests for the same cluster are combined
+     * @param engineThreadCount number of threads which run fibers
+     * @param serverSideApplyKinds kinds of resources which are created and updated by server-side apply
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -59,7 +102,23 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int rulesReviewTtlSeconds,
+        boolean readHealthThroughAdminServer,
+        int maxConcurrentServerStarts,
+        int maxConcurrentServerStartsPerNamespace,
+        boolean namespaceSharding,
+        int replicaLeaseDurationSeconds,
+        boolean incrementalNamespaceRecheck,
+        int engineStallThresholdSeconds,
+        int fiberStallThresholdSeconds,
+        int watchStallThresholdSeconds,
+        boolean fiberBreadCrumbs,
+        int maxConcurrentStatusReads,
+        long makeRightDeadlineSeconds,
+        int scaleRequestWindowSeconds,
+        int engineThreadCount,
+        List<String> serverSideApplyKinds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -68,6 +127,22 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.rulesReviewTtlSeconds = rulesReviewTtlSeconds;
+      this.readHealthThroughAdminServer = readHealthThroughAdminServer;
+      this.maxConcurrentServerStarts = maxConcurrentServerStarts;
+      this.maxConcurrentServerStartsPerNamespace = maxConcurrentServerStartsPerNamespace;
+      this.namespaceSharding = namespaceSharding;
+      this.replicaLeaseDurationSeconds = replicaLeaseDurationSeconds;
+      this.incrementalNamespaceRecheck = incrementalNamespaceRecheck;
+      this.engineStallThresholdSeconds = engineStallThresholdSeconds;
+      this.fiberStallThresholdSeconds = fiberStallThresholdSeconds;
+      this.watchStallThresholdSeconds = watchStallThresholdSeconds;
+      this.fiberBreadCrumbs = fiberBreadCrumbs;
+      this.maxConcurrentStatusReads = maxConcurrentStatusReads;
+      this.makeRightDeadlineSeconds = makeRightDeadlineSeconds;
+      this.scaleRequestWindowSeconds = scaleRequestWindowSeconds;
+      this.engineThreadCount = engineThreadCount;
+      this.serverSideApplyKinds = serverSideApplyKinds;
     }
 
     @Override
@@ -81,6 +156,22 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("rulesReviewTtlSeconds", rulesReviewTtlSeconds)
+          .append("readHealthThroughAdminServer", readHealthThroughAdminServer)
+          .append("maxConcurrentServerStarts", maxConcurrentServerStarts)
+          .append("maxConcurrentServerStartsPerNamespace", maxConcurrentServerStartsPerNamespace)
+          .append("namespaceSharding", namespaceSharding)
+          .append("replicaLeaseDurationSeconds", replicaLeaseDurationSeconds)
+          .append("incrementalNamespaceRecheck", incrementalNamespaceRecheck)
+          .append("engineStallThresholdSeconds", engineStallThresholdSeconds)
+          .append("fiberStallThresholdSeconds", fiberStallThresholdSeconds)
+          .append("watchStallThresholdSeconds", watchStallThresholdSeconds)
+          .append("fiberBreadCrumbs", fiberBreadCrumbs)
+          .append("maxConcurrentStatusReads", maxConcurrentStatusReads)
+          .append("makeRightDeadlineSeconds", makeRightDeadlineSeconds)
+          .append("scaleRequestWindowSeconds", scaleRequestWindowSeconds)
+          .append("engineThreadCount", engineThreadCount)
+          .append("serverSideApplyKinds", serverSideApplyKinds)
           .toString();
     }
 
@@ -95,6 +186,22 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(rulesReviewTtlSeconds)
+          .append(readHealthThroughAdminServer)
+          .append(maxConcurrentServerStarts)
+          .append(maxConcurrentServerStartsPerNamespace)
+          .append(namespaceSharding)
+          .append(replicaLeaseDurationSeconds)
+          .append(incrementalNamespaceRecheck)
+          .append(engineStallThresholdSeconds)
+          .append(fiberStallThresholdSeconds)
+          .append(watchStallThresholdSeconds)
+          .append(fiberBreadCrumbs)
+          .append(maxConcurrentStatusReads)
+          .append(makeRightDeadlineSeconds)
+          .append(scaleRequestWindowSeconds)
+          .append(engineThreadCount)
+          .append(serverSideApplyKinds)
           .toHashCode();
     }
 
@@ -116,6 +223,22 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(rulesReviewTtlSeconds, mt.rulesReviewTtlSeconds)
+          .append(readHealthThroughAdminServer, mt.readHealthThroughAdminServer)
+          .append(maxConcurrentServerStarts, mt.maxConcurrentServerStarts)
+          .append(maxConcurrentServerStartsPerNamespace, mt.maxConcurrentServerStartsPerNamespace)
+          .append(namespaceSharding, mt.namespaceSharding)
+          .append(replicaLeaseDurationSeconds, mt.replicaLeaseDurationSeconds)
+          .append(incrementalNamespaceRecheck, mt.incrementalNamespaceRecheck)
+          .append(engineStallThresholdSeconds, mt.engineStallThresholdSeconds)
+          .append(fiberStallThresholdSeconds, mt.fiberStallThresholdSeconds)
+          .append(watchStallThresholdSeconds, mt.watchStallThresholdSeconds)
+          .append(fiberBreadCrumbs, mt.fiberBreadCrumbs)
+          .append(maxConcurrentStatusReads, mt.maxConcurrentStatusReads)
+          .append(makeRightDeadlineSeconds, mt.makeRightDeadlineSeconds)
+          .append(scaleRequestWindowSeconds, mt.scaleRequestWindowSeconds)
+          .append(engineThreadCount, mt.engineThreadCount)
+          .append(serverSideApplyKinds, mt.serverSideApplyKinds)
           .isEquals();
     }
   }
@@ -175,10 +298,18 @@ public interface TuningParameters extends Map<String, String> {
   public static class WatchTuning {
     public final int watchLifetime;
     public final int watchMinimumDelay;
+    public final int watchEventDispatchShards;
 
-    public WatchTuning(int watchLifetime, int watchMinimumDelay) {
+    /**
+     * Create watch tuning.
+     * @param watchLifetime watch lifetime
+     * @param watchMinimumDelay watch minimum delay
+     * @param watchEventDispatchShards number of threads delivering watch events, or 0 to deliver on each watcher
+     */
+    public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchEventDispatchShards) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
+      this.watchEventDispatchShards = watchEventDispatchShards;
     }
 
     @Override
@@ -186,12 +317,17 @@ public interface TuningParameters extends Map<String, String> {
       return new ToStringBuilder(this)
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
+          .append("watchEventDispatchShards", watchEventDispatchShards)
           .toString();
     }
 
     @Override
     public int hashCode() {
-      return new HashCodeBuilder().append(watchLifetime).append(watchMinimumDelay).toHashCode();
+      return new HashCodeBuilder()
+          .append(watchLifetime)
+          .append(watchMinimumDelay)
+          .append(watchEventDispatchShards)
+          .toHashCode();
     }
 
     @Override
@@ -206,6 +342,7 @@ public interface TuningParameters extends Map<String, String> {
       return new EqualsBuilder()
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
+          .append(watchEventDispatchShards, wt.watchEventDispatchShards)
           .isEquals();
     }
   }
@@ -289,4 +426,63 @@ public interface TuningParameters extends Map<String, String> {
           .isEquals();
     }
   }
+
+  public static class IntrospectorTuning {
+    public final boolean compactConfigMapFormat;
+    public final int compressionThreshold;
+    public final int shardSize;
+    public final int maxShards;
+
+    /**
+     * Create introspector tuning.
+     * @param compactConfigMapFormat whether introspector output is stored compressed and sharded
+     * @param compressionThreshold size above which an introspector entry is compressed
+     * @param shardSize maximum size of the compressed entries in one shard config map
+     * @param maxShards number of shard config maps
+     */
+    public IntrospectorTuning(
+        boolean compactConfigMapFormat, int compressionThreshold, int shardSize, int maxShards) {
+      this.compactConfigMapFormat = compactConfigMapFormat;
+      this.compressionThreshold = compressionThreshold;
+      this.shardSize = shardSize;
+      this.maxShards = maxShards;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("compactConfigMapFormat", compactConfigMapFormat)
+          .append("compressionThreshold", compressionThreshold)
+          .append("shardSize", shardSize)
+          .append("maxShards", maxShards)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(compactConfigMapFormat)
+          .append(compressionThreshold)
+          .append(shardSize)
+          .append(maxShards)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof IntrospectorTuning)) {
+        return false;
+      }
+      IntrospectorTuning it = (IntrospectorTuning) o;
+      return new EqualsBuilder()
+          .append(compactConfigMapFormat, it.compactConfigMapFormat)
+          .append(compressionThreshold, it.compressionThreshold)
+          .append(shardSize, it.shardSize)
+          .append(maxShards, it.maxShards)
+          .isEquals();
+    }
+  }
 }
@@ -4,24 +4,25 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import oracle.kubernetes.operator.helpers.ConfigMapConsumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Engine;
+import org.apache.commons.lang3.StringUtils;
 
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static TuningParameters INSTANCE = null;
+  private static volatile TuningParameters INSTANCE = null;
 
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
-  private MainTuning main = null;
-  private CallBuilderTuning callBuilder = null;
-  private WatchTuning watch = null;
-  private PodTuning pod = null;
+  private final List<Consumer<TuningParameters>> listeners = new CopyOnWriteArrayList<>();
+  private volatile Snapshot snapshot;
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -37,7 +38,7 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     return INSTANCE;
   }
 
-  public static synchronized TuningParameters getInstance() {
+  public static TuningParameters getInstance() {
     return INSTANCE;
   }
 
@@ -46,92 +47,128 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   }
 
   private void update() {
-    MainTuning main =
-        new MainTuning(
-            (int) readTuningParameter("domainPresenceFailureRetrySeconds", 10),
-            (int) readTuningParameter("domainPresenceFailureRetryMaxCount", 5),
-            (int) readTuningParameter("domainPresenceRecheckIntervalSeconds", 120),
-            (int) readTuningParameter("targetNamespaceRecheckIntervalSeconds", 3),
-            (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
-            (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
-            readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
-
-    CallBuilderTuning callBuilder =
-        new CallBuilderTuning(
-            (int) readTuningParameter("callRequestLimit", 500),
-            (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
-
-    WatchTuning watch =
-        new WatchTuning(
-            (int) readTuningParameter("watchLifetime", 300),
-            (int) readTuningParameter("watchMinimumDelay", 5));
-
-    PodTuning pod =
-        new PodTuning(
-            (int) readTuningParameter("readinessProbeInitialDelaySeconds", 30),
-            (int) readTuningParameter("readinessProbeTimeoutSeconds", 5),
-            (int) readTuningParameter("readinessProbePeriodSeconds", 5),
-            (int) readTuningParameter("livenessProbeInitialDelaySeconds", 30),
-            (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
-            (int) readTuningParameter("livenessProbePeriodSeconds", 45),
-            readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
-
-    lock.writeLock().lock();
-    try {
-      if (!main.equals(this.main)
-          || !callBuilder.equals(this.callBuilder)
-          || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
-        LOGGER.info(MessageKeys.TUNING_PARAMETERS);
-      }
-      this.main = main;
-      this.callBuilder = callBuilder;
-      this.watch = watch;
-      this.pod = pod;
-    } finally {
-      lock.writeLock().unlock();
+    Snapshot previous = snapshot;
+    snapshot = new Snapshot(this);
+    if (!snapshot.equals(previous)) {
+      LOGGER.info(MessageKeys.TUNING_PARAMETERS);
+    }
+    if (previous != null) {
+      listeners.forEach(listener -> listener.accept(this));
     }
   }
 
+  @Override
+  public void addChangeListener(Consumer<TuningParameters> listener) {
+    listeners.add(listener);
+  }
+
   @Override
   public MainTuning getMainTuning() {
-    lock.readLock().lock();
-    try {
-      return main;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.main;
   }
 
   @Override
   public CallBuilderTuning getCallBuilderTuning() {
-    lock.readLock().lock();
-    try {
-      return callBuilder;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.callBuilder;
   }
 
   @Override
   public WatchTuning getWatchTuning() {
-    lock.readLock().lock();
-    try {
-      return watch;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.watch;
   }
 
   @Override
   public PodTuning getPodTuning() {
-    lock.readLock().lock();
-    try {
-      return pod;
-    } finally {
-      lock.readLock().unlock();
+    return snapshot.pod;
+  }
+
+  @Override
+  public IntrospectorTuning getIntrospectorTuning() {
+    return snapshot.introspector;
+  }
+
+  // The tuning objects built from one reading of the ConfigMap, published together
+  private static class Snapshot {
+    private final MainTuning main;
+    private final CallBuilderTuning callBuilder;
+    private final WatchTuning watch;
+    private final PodTuning pod;
+    private final IntrospectorTuning introspector;
+
+    Snapshot(ConfigMapConsumer values) {
+      main =
+          new MainTuning(
+              (int) values.readTuningParameter("domainPresenceFailureRetrySeconds", 10),
+              (int) values.readTuningParameter("domainPresenceFailureRetryMaxCount", 5),
+              (int) values.readTuningParameter("domainPresenceRecheckIntervalSeconds", 120),
+              (int) values.readTuningParameter("targetNamespaceRecheckIntervalSeconds", 3),
+              (int) values.readTuningParameter("statusUpdateTimeoutSeconds", 10),
+              (int) values.readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
+              values.readTuningParameter("statusUpdateInitialShortDelay", 3),
+              values.readTuningParameter("statusUpdateEventualLongDelay", 30),
+              (int) values.readTuningParameter("rulesReviewTtlSeconds", 600),
+              values.readBooleanTuningParameter("readHealthThroughAdminServer", false),
+              (int) values.readTuningParameter("maxConcurrentServerStarts", 0),
+              (int) values.readTuningParameter("maxConcurrentServerStartsPerNamespace", 0),
+              values.readBooleanTuningParameter("namespaceSharding", false),
+              (int) values.readTuningParameter("replicaLeaseDurationSeconds", 30),
+              !"full".equalsIgnoreCase(StringUtils.trim(values.get("namespaceRecheckMode"))),
+              (int) values.readTuningParameter("engineStallThresholdSeconds", 60),
+              (int) values.readTuningParameter("fiberStallThresholdSeconds", 1800),
+              (int) values.readTuningParameter("watchStallThresholdSeconds", 900),
+              values.readBooleanTuningParameter("fiberBreadCrumbs", false),
+              (int) values.readTuningParameter("maxConcurrentStatusReads", 4),
+              values.readTuningParameter("makeRightDeadlineSeconds", 0),
+              (int) values.readTuningParameter("scaleRequestWindowSeconds", 2),
+              (int) values.readTuningParameter("engineThreadCount", Engine.DEFAULT_THREAD_COUNT),
+              values.readListTuningParameter("serverSideApply"));
+
+      callBuilder =
+          new CallBuilderTuning(
+              (int) values.readTuningParameter("callRequestLimit", 500),
+              (int) values.readTuningParameter("callMaxRetryCount", 5),
+              (int) values.readTuningParameter("callTimeoutSeconds", 10));
+
+      watch =
+          new WatchTuning(
+              (int) values.readTuningParameter("watchLifetime", 300),
+              (int) values.readTuningParameter("watchMinimumDelay", 5),
+              (int) values.readTuningParameter("watchEventDispatchShards", 4));
+
+      pod =
+          new PodTuning(
+              (int) values.readTuningParameter("readinessProbeInitialDelaySeconds", 30),
+              (int) values.readTuningParameter("readinessProbeTimeoutSeconds", 5),
+              (int) values.readTuningParameter("readinessProbePeriodSeconds", 5),
+              (int) values.readTuningParameter("livenessProbeInitialDelaySeconds", 30),
+              (int) values.readTuningParameter("livenessProbeTimeoutSeconds", 5),
+              (int) values.readTuningParameter("livenessProbePeriodSeconds", 45),
+              values.readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
+
+      introspector =
+          new IntrospectorTuning(
+              "compact".equalsIgnoreCase(values.get("introspectorConfigMapFormat")),
+              (int) values.readTuningParameter("introspectorConfigMapCompressionThreshold", 32 * 1024),
+              (int) values.readTuningParameter("introspectorConfigMapShardSize", 600 * 1024),
+              (int) values.readTuningParameter("introspectorConfigMapMaxShards", 4));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Snapshot)) {
+        return false;
+      }
+      Snapshot other = (Snapshot) o;
+      return main.equals(other.main)
+          && callBuilder.equals(other.callBuilder)
+          && watch.equals(other.watch)
+          && pod.equals(other.pod)
+          && introspector.equals(other.introspector);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(main, callBuilder, watch, pod, introspector);
     }
   }
 }
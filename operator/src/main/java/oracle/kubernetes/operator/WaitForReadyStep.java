@@ -73,6 +73,13 @@ abstract class WaitForReadyStep<T> extends Step {
    */
   abstract void removeCallback(String name, Consumer<T> callback);
 
+  /**
+   * Returns the most recent value of the resource reported by the watcher.
+   * @param name the name of the resource
+   * @return the resource, or null if the watcher has not reported it
+   */
+  abstract T getLastReportedResource(String name);
+
   /**
    * Creates a {@link Step} that reads the specified resource asynchronously and then invokes the specified response.
    * @param name the name of the resource
@@ -140,9 +147,17 @@ abstract class WaitForReadyStep<T> extends Step {
   }
 
   // It is possible that the watch event was received between the time the step was created, and the time the callback
-  // was registered. Just in case, we will check the latest resource value in Kubernetes and process the resource
-  // if it is now ready
+  // was registered. Just in case, we will check the latest resource value reported by the watcher and process the
+  // resource if it is now ready. Only if the watcher has not reported the resource do we read it from Kubernetes.
   private void checkUpdatedResource(Packet packet, Fiber fiber, Callback callback) {
+    T lastReported = getLastReportedResource(getName());
+    if (lastReported != null) {
+      if (isReady(lastReported) && shouldProcessCallback(lastReported)) {
+        callback.proceedFromWait(lastReported);
+      }
+      return;
+    }
+
     fiber
         .createChildFiber()
         .start(
@@ -0,0 +1,126 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A registry of callbacks waiting for watch events on resources, keyed by resource name, which is
+ * shared by the watchers which support waiting. It also remembers the most recent value of each
+ * resource reported by the watcher, so that a newly registered waiter can check whether it has missed
+ * the event for which it is waiting, without reading the resource from Kubernetes. A value is kept
+ * until the watcher reports the deletion of its resource, so memory is bounded by the number of
+ * resources which exist in the watched namespace.
+ *
+ * <p>No lock is shared across resources: the callbacks for each name are held in a concurrent set,
+ * which may be iterated while it is being changed, so dispatching an event to the callbacks for a
+ * resource requires neither a lock nor a copy of the set.
+ *
+ * @param <T> the type of resource watched
+ */
+class WatchCallbackRegistry<T> {
+  private final Callbacks<T> modifiedCallbacks = new Callbacks<>();
+  private final Callbacks<T> deletedCallbacks = new Callbacks<>();
+  private final Map<String, T> lastReported = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a callback for additions of, and changes to, the named resource.
+   *
+   * @param name the name of the resource
+   * @param callback the callback to invoke when a change is reported
+   */
+  void addOnModifiedCallback(String name, Consumer<T> callback) {
+    modifiedCallbacks.add(name, callback);
+  }
+
+  void removeOnModifiedCallback(String name, Consumer<T> callback) {
+    modifiedCallbacks.remove(name, callback);
+  }
+
+  /**
+   * Registers a callback for the deletion of the named resource.
+   *
+   * @param name the name of the resource
+   * @param callback the callback to invoke when the deletion is reported
+   */
+  void addOnDeletedCallback(String name, Consumer<T> callback) {
+    deletedCallbacks.add(name, callback);
+  }
+
+  void removeOnDeletedCallback(String name, Consumer<T> callback) {
+    deletedCallbacks.remove(name, callback);
+  }
+
+  /**
+   * Records the latest value of an added or modified resource, and passes it to each callback
+   * registered for changes to it.
+   *
+   * @param name the name of the resource
+   * @param resource the reported value
+   */
+  void dispatchModified(String name, T resource) {
+    lastReported.put(name, resource);
+    modifiedCallbacks.get(name).forEach(c -> c.accept(resource));
+  }
+
+  /**
+   * Forgets a deleted resource, and passes it to each callback registered for its deletion. Those
+   * callbacks are then unregistered.
+   *
+   * @param name the name of the resource
+   * @param resource the last value of the deleted resource
+   */
+  void dispatchDeleted(String name, T resource) {
+    lastReported.remove(name);
+    deletedCallbacks.removeAll(name).forEach(c -> c.accept(resource));
+  }
+
+  /**
+   * Returns the most recent value reported for the named resource.
+   *
+   * @param name the name of the resource
+   * @return the resource, or null if none has been reported since the resource was last deleted
+   */
+  T getLastReported(String name) {
+    return lastReported.get(name);
+  }
+
+  int getNumCallbacks(String name) {
+    return modifiedCallbacks.get(name).size() + deletedCallbacks.get(name).size();
+  }
+
+  private static class Callbacks<T> {
+    private final Map<String, Set<Consumer<T>>> registrations = new ConcurrentHashMap<>();
+
+    // The set is created and updated under the map's lock for this name, so that a concurrent
+    // removal of the last callback cannot discard a set to which a callback is being added.
+    void add(String name, Consumer<T> callback) {
+      registrations.compute(name, (k, set) -> {
+        Set<Consumer<T>> result = Optional.ofNullable(set).orElseGet(ConcurrentHashMap::newKeySet);
+        result.add(callback);
+        return result;
+      });
+    }
+
+    void remove(String name, Consumer<T> callback) {
+      registrations.computeIfPresent(name, (k, set) -> {
+        set.remove(callback);
+        return set.isEmpty() ? null : set;
+      });
+    }
+
+    Set<Consumer<T>> get(String name) {
+      return Optional.ofNullable(registrations.get(name)).orElse(Collections.emptySet());
+    }
+
+    Set<Consumer<T>> removeAll(String name) {
+      return Optional.ofNullable(registrations.remove(name)).orElse(Collections.emptySet());
+    }
+  }
+}
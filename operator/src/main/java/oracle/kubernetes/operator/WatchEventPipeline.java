@@ -0,0 +1,245 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Moves the dispatch of watch events off the watcher threads, so that a slow listener does not hold
+ * up the reading of a watch stream. Events are divided among a fixed number of shards by a key, normally
+ * the domain UID; each shard delivers its events, one at a time and in the order received, on a
+ * thread from the supplied executor. Events for a domain thus keep their order, while events for
+ * different domains may be delivered in parallel.
+ *
+ * <p>While a MODIFIED event waits in a shard, a later MODIFIED event for the same object replaces
+ * its contents, rather than being queued behind it, so a listener which falls behind sees only the
+ * latest state of a frequently-changing object. Any other event for the object ends this merging, so
+ * that the sequence of added, modified and deleted events for each object is preserved.
+ */
+class WatchEventPipeline {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Shard[] shards;
+  private final Executor executor;
+
+  /**
+   * Creates a pipeline.
+   *
+   * @param numShards the number of shards
+   * @param executor the executor on which to deliver events. To keep every shard busy, it should be
+   *     able to run at least as many tasks concurrently as there are shards.
+   */
+  WatchEventPipeline(int numShards, Executor executor) {
+    this.executor = executor;
+    this.shards = new Shard[numShards];
+    for (int i = 0; i < numShards; i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  /**
+   * Queues a watch event for delivery to a listener.
+   *
+   * @param listener the listener to receive the event
+   * @param response the watch event
+   * @param shardKey the key which selects the shard, such as a domain UID
+   * @param objectKey a key which identifies the object in the event among all those sent to the listener
+   * @param <T> the type of object watched
+   */
+  <T> void dispatch(WatchListener<T> listener, Watch.Response<T> response, String shardKey, String objectKey) {
+    shards[Math.floorMod(Objects.hashCode(shardKey), shards.length)]
+        .enqueue(new Event<>(listener, response, objectKey));
+  }
+
+  /**
+   * Returns a snapshot of the state of each shard.
+   *
+   * @return a list of metrics, one per shard
+   */
+  List<ShardMetrics> getShardMetrics() {
+    List<ShardMetrics> result = new ArrayList<>();
+    for (Shard shard : shards) {
+      result.add(shard.getMetrics());
+    }
+    return result;
+  }
+
+  private static class Event<T> {
+    private final WatchListener<T> listener;
+    private final String objectKey;
+    private final long receivedTime = System.currentTimeMillis();
+    private Watch.Response<T> response;
+
+    Event(WatchListener<T> listener, Watch.Response<T> response, String objectKey) {
+      this.listener = listener;
+      this.response = response;
+      this.objectKey = objectKey;
+    }
+
+    boolean isModified() {
+      return "MODIFIED".equalsIgnoreCase(response.type);
+    }
+
+    // identifies the object across listeners, since one shard serves several watchers
+    Object getMergeKey() {
+      return List.of(listener, objectKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    void mergeFrom(Event<?> later) {
+      response = (Watch.Response<T>) later.response;
+    }
+
+    void deliver() {
+      listener.receivedResponse(response);
+    }
+  }
+
+  private class Shard {
+    private final Deque<Event<?>> queue = new ArrayDeque<>();
+    private final Map<Object, Event<?>> mergeableEvents = new HashMap<>();
+    private boolean scheduled;
+    private long numDelivered;
+    private long numMerged;
+    private long maxLagMillis;
+
+    void enqueue(Event<?> event) {
+      boolean needsScheduling;
+      synchronized (this) {
+        if (!mergeIntoQueuedEvent(event)) {
+          queue.add(event);
+        }
+        needsScheduling = !scheduled;
+        scheduled = true;
+      }
+
+      if (needsScheduling) {
+        executor.execute(this::deliverQueuedEvents);
+      }
+    }
+
+    private boolean mergeIntoQueuedEvent(Event<?> event) {
+      Event<?> queued = mergeableEvents.remove(event.getMergeKey());
+      if (queued != null && event.isModified()) {
+        queued.mergeFrom(event);
+        mergeableEvents.put(event.getMergeKey(), queued);
+        numMerged++;
+        return true;
+      } else if (event.isModified()) {
+        mergeableEvents.put(event.getMergeKey(), event);
+      }
+      return false;
+    }
+
+    private void deliverQueuedEvents() {
+      Event<?> event;
+      while ((event = takeNextEvent()) != null) {
+        try {
+          event.deliver();
+        } catch (Throwable t) {
+          LOGGER.warning(MessageKeys.EXCEPTION, t);
+        }
+      }
+    }
+
+    private synchronized Event<?> takeNextEvent() {
+      Event<?> event = queue.poll();
+      if (event == null) {
+        scheduled = false;
+        return null;
+      }
+
+      mergeableEvents.remove(event.getMergeKey(), event);
+      numDelivered++;
+      maxLagMillis = Math.max(maxLagMillis, System.currentTimeMillis() - event.receivedTime);
+      return event;
+    }
+
+    synchronized ShardMetrics getMetrics() {
+      long lagMillis = queue.isEmpty() ? 0 : System.currentTimeMillis() - queue.peek().receivedTime;
+      return new ShardMetrics(queue.size(), lagMillis, maxLagMillis, numDelivered, numMerged);
+    }
+  }
+
+  /** The state of a single shard at the time it was requested. */
+  static class ShardMetrics {
+    private final int numQueued;
+    private final long lagMillis;
+    private final long maxLagMillis;
+    private final long numDelivered;
+    private final long numMerged;
+
+    ShardMetrics(int numQueued, long lagMillis, long maxLagMillis, long numDelivered, long numMerged) {
+      this.numQueued = numQueued;
+      this.lagMillis = lagMillis;
+      this.maxLagMillis = maxLagMillis;
+      this.numDelivered = numDelivered;
+      this.numMerged = numMerged;
+    }
+
+    /**
+     * Returns the number of events waiting for delivery.
+     *
+     * @return a count
+     */
+    int getNumQueued() {
+      return numQueued;
+    }
+
+    /**
+     * Returns the time for which the oldest waiting event has waited.
+     *
+     * @return a time in milliseconds, or zero if no events are waiting
+     */
+    long getLagMillis() {
+      return lagMillis;
+    }
+
+    /**
+     * Returns the longest time for which any delivered event waited.
+     *
+     * @return a time in milliseconds
+     */
+    long getMaxLagMillis() {
+      return maxLagMillis;
+    }
+
+    /**
+     * Returns the number of events delivered.
+     *
+     * @return a count
+     */
+    long getNumDelivered() {
+      return numDelivered;
+    }
+
+    /**
+     * Returns the number of MODIFIED events merged into one already waiting for the same object.
+     *
+     * @return a count
+     */
+    long getNumMerged() {
+      return numMerged;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("queued=%d, lag=%dms, maxLag=%dms, delivered=%d, merged=%d",
+          numQueued, lagMillis, maxLagMillis, numDelivered, numMerged);
+    }
+  }
+}
@@ -4,8 +4,12 @@
 package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -18,6 +22,8 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.net.HttpURLConnection.HTTP_GONE;
@@ -26,19 +32,36 @@ import static java.net.HttpURLConnection.HTTP_GONE;
  * This class handles the Watching interface and drives the watch support for a specific type of
  * object. It runs in a separate thread to drive watching asynchronously to the main thread.
  *
+ * <p>Watches request bookmark events, which the server sends periodically to report its current
+ * resource version, so that the resource version of a quiet watch does not fall so far behind that it
+ * expires. When a resource version does expire, the watcher resumes from the resource version given
+ * by the server in its error, if any, and otherwise must relist, restarting from resource version
+ * zero. An error whose status cannot be read need not mean that the version expired, so the watcher
+ * first resumes from the last resource version it saw, which bookmarks keep recent, and relists only
+ * if that watch fails in the same way before delivering anything. The number of relists performed and
+ * avoided is counted for each watcher class.
+ *
+ * <p>If an event pipeline has been set, events are handed to it for delivery to the listener on
+ * another thread, sharded by domain UID; otherwise they are delivered on the watcher thread.
+ *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final long IGNORED_RESOURCE_VERSION = 0;
+  private static final Map<Class<?>, RelistCounters> relistCounters = new ConcurrentHashMap<>();
+  private static WatchEventPipeline eventPipeline;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
-  private final WatchTuning tuning;
+  private final AtomicBoolean hasFailed = new AtomicBoolean(false);
+  private volatile WatchTuning tuning;
   private Long resourceVersion;
+  private boolean resumedAfterUnreadableError;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
-  private Thread thread = null;
+  private volatile Thread thread = null;
+  private volatile DateTime lastActivity = SystemClock.now();
   private long lastInitialize = 0;
 
   /**
@@ -73,6 +96,16 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
+  /**
+   * Replaces this watcher's tuning parameters. The new watch lifetime applies from the next watch
+   * request which this watcher makes.
+   *
+   * @param tuning Watch tuning parameters
+   */
+  void setTuning(WatchTuning tuning) {
+    this.tuning = tuning;
+  }
+
   /** Waits for this watcher's thread to exit. For unit testing only. */
   void waitForExit() {
     try {
@@ -84,6 +117,36 @@ abstract class Watcher<T> {
     }
   }
 
+  /**
+   * Returns true if this watcher's thread is still running.
+   *
+   * @return true if the watcher is running
+   */
+  boolean isRunning() {
+    return thread != null && thread.isAlive();
+  }
+
+  /**
+   * Returns true if this watcher may have missed events since this method was last called, because
+   * a watch ended with an exception or had to restart from resource version zero. Clears the record
+   * of failure.
+   *
+   * @return true if the watcher has failed since the last call
+   */
+  boolean checkAndClearFailure() {
+    return hasFailed.getAndSet(false);
+  }
+
+  /**
+   * Returns the time at which this watcher last started a watch or received an event, including a
+   * bookmark. As the watch is restarted at least once per watch lifetime, a long-quiet watcher is stalled.
+   *
+   * @return the time of the last activity
+   */
+  DateTime getLastActivity() {
+    return lastActivity;
+  }
+
   /**
    * Sets the listener for watch events.
    *
@@ -143,9 +206,12 @@ abstract class Watcher<T> {
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion.toString())
-                .withTimeoutSeconds(tuning.watchLifetime))) {
+                .withTimeoutSeconds(tuning.watchLifetime)
+                .withAllowWatchBookmarks(true))) {
+      lastActivity = SystemClock.now();
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
+        lastActivity = SystemClock.now();
 
         if (isStopping()) {
           setIsDraining(true);
@@ -156,11 +222,14 @@ abstract class Watcher<T> {
 
         if (isError(item)) {
           handleErrorResponse(item);
+        } else if (isBookmark(item)) {
+          handleBookmark(item);
         } else {
           handleRegularUpdate(item);
         }
       }
     } catch (Throwable ex) {
+      hasFailed.set(true);
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
     }
   }
@@ -187,26 +256,116 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("BOOKMARK");
+  }
+
+  // A bookmark carries only the current resource version, and is not passed to the listener
+  private void handleBookmark(Watch.Response<T> item) {
+    resumedAfterUnreadableError = false;
+    trackResourceVersion(item.type, item.object);
+  }
+
+  /**
+   * Sets the pipeline through which all watchers deliver events to their listeners.
+   *
+   * @param pipeline the pipeline, or null to deliver events on the watcher threads
+   */
+  static void setEventPipeline(WatchEventPipeline pipeline) {
+    eventPipeline = pipeline;
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
+    resumedAfterUnreadableError = false;
     trackResourceVersion(item.type, item.object);
-    if (listener != null) {
+    if (listener == null) {
+      return;
+    }
+
+    WatchEventPipeline pipeline = eventPipeline;
+    if (pipeline == null) {
       listener.receivedResponse(item);
+    } else {
+      V1ObjectMeta metadata = getMetadata(item.object);
+      pipeline.dispatch(listener, item, getShardKey(item.object, metadata), getObjectKey(metadata));
     }
   }
 
+  private String getShardKey(T object, V1ObjectMeta metadata) {
+    return Optional.ofNullable(getDomainUid(object)).orElseGet(() -> getObjectKey(metadata));
+  }
+
+  private String getObjectKey(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata).map(m -> m.getNamespace() + "/" + m.getName()).orElse(null);
+  }
+
+  /**
+   * Returns the UID of the domain to which a watched object belongs. Events for objects with the same
+   * domain UID are delivered in order.
+   *
+   * @param object a watched object
+   * @return the value of the object's domain UID label, or null if there is none
+   */
+  protected String getDomainUid(T object) {
+    return Optional.ofNullable(getMetadata(object))
+        .map(V1ObjectMeta::getLabels)
+        .map(l -> l.get(LabelConstants.DOMAINUID_LABEL))
+        .orElse(null);
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
     V1Status status = item.status;
     if (status == null) {
       // The kubernetes client parsing logic can mistakenly parse a status as a type
       // with similar fields, such as V1ConfigMap. In this case, the actual status is
-      // not available to our layer, so respond defensively by resetting resource version.
-      resourceVersion = 0L;
+      // not available to our layer, so resume from the last resource version seen; only if
+      // that fails in the same way, respond defensively by resetting resource version.
+      if (resumedAfterUnreadableError) {
+        resumedAfterUnreadableError = false;
+        resourceVersion = 0L;
+        recordRelistPerformed();
+      } else {
+        resumedAfterUnreadableError = true;
+        recordRelistAvoided();
+      }
     } else if (status.getCode() == HTTP_GONE) {
       resourceVersion = computeNextResourceVersionFromMessage(status);
+      if (resourceVersion == 0L) {
+        recordRelistPerformed();
+      } else {
+        recordRelistAvoided();
+      }
     }
   }
 
+  private void recordRelistAvoided() {
+    RelistCounters counters = getRelistCounters(getClass());
+    counters.recordAvoided();
+    LOGGER.fine(MessageKeys.WATCH_RELIST_AVOIDED, getClass().getSimpleName(), resourceVersion,
+        counters.getNumPerformed(), counters.getNumAvoided());
+  }
+
+  // restarting from version zero may skip deletions which occurred while the watch was down
+  private void recordRelistPerformed() {
+    hasFailed.set(true);
+    RelistCounters counters = getRelistCounters(getClass());
+    counters.recordPerformed();
+    LOGGER.info(MessageKeys.WATCH_RELIST_PERFORMED, getClass().getSimpleName(),
+        counters.getNumPerformed(), counters.getNumAvoided());
+  }
+
+  /**
+   * Returns the counts of relists performed and avoided after errors by watchers of the specified class.
+   * They are logged with each relist.
+   *
+   * @param watcherClass a watcher class
+   * @return the counters for that class
+   */
+  private static RelistCounters getRelistCounters(Class<?> watcherClass) {
+    return relistCounters.computeIfAbsent(watcherClass, c -> new RelistCounters());
+  }
+
   private long computeNextResourceVersionFromMessage(V1Status status) {
     String message = status.getMessage();
     if (message != null) {
@@ -247,9 +406,7 @@ abstract class Watcher<T> {
 
   private long getResourceVersionFromMetadata(Object object) {
     try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      V1ObjectMeta metadata = (V1ObjectMeta) getMetadata.invoke(object);
-      String val = metadata.getResourceVersion();
+      String val = Optional.ofNullable(getMetadata(object)).map(V1ObjectMeta::getResourceVersion).orElse(null);
       return !isNullOrEmpty(val) ? Long.parseLong(val) : 0;
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
@@ -257,6 +414,15 @@ abstract class Watcher<T> {
     }
   }
 
+  private V1ObjectMeta getMetadata(Object object) {
+    try {
+      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
+      return (V1ObjectMeta) getMetadata.invoke(object);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
   private void updateResourceVersion(long newResourceVersion) {
     if (resourceVersion == 0) {
       resourceVersion = newResourceVersion;
@@ -264,4 +430,37 @@ abstract class Watcher<T> {
       resourceVersion = newResourceVersion;
     }
   }
+
+  /** Counts of the outcomes of watch errors which invalidate the current resource version. */
+  private static class RelistCounters {
+    private final AtomicLong numAvoided = new AtomicLong();
+    private final AtomicLong numPerformed = new AtomicLong();
+
+    private void recordAvoided() {
+      numAvoided.incrementAndGet();
+    }
+
+    private void recordPerformed() {
+      numPerformed.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times a watcher resumed from a resource version supplied by the server.
+     *
+     * @return a count
+     */
+    long getNumAvoided() {
+      return numAvoided.get();
+    }
+
+    /**
+     * Returns the number of times a watcher restarted from resource version zero, causing the server
+     * to resend all existing resources.
+     *
+     * @return a count
+     */
+    long getNumPerformed() {
+      return numPerformed.get();
+    }
+  }
 }
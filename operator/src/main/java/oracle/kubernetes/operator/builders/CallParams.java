@@ -51,4 +51,14 @@ public interface CallParams {
    * @return the current setting. Defaults to null.
    */
   String getResourceVersion();
+
+  /**
+   * On a watch call: when true, asks the server to send periodic bookmark events, which carry only a
+   * resource version. Keeping the resource version current in this way makes it less likely that a
+   * watch will need to be restarted from scratch after its resource version has expired. Servers which
+   * do not support bookmarks ignore this option.
+   *
+   * @return the current setting. Defaults to null.
+   */
+  Boolean getAllowWatchBookmarks();
 }
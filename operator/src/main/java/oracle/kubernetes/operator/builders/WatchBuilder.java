@@ -12,11 +12,14 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.RbacAuthorizationV1Api;
+import io.kubernetes.client.openapi.models.V1ClusterRoleBinding;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1RoleBinding;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
@@ -33,8 +36,6 @@ public class WatchBuilder {
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
-  private static final Boolean ALLOW_BOOKMARKS = false;
-
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
@@ -153,6 +154,35 @@ public class WatchBuilder {
         new ListNamespaceCall());
   }
 
+  /**
+   * Creates a web hook object to track role binding calls.
+   *
+   * @param namespace the namespace
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1RoleBinding> createRoleBindingWatch(String namespace) throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1RoleBinding.class,
+        new ListNamespacedRoleBindingCall(namespace));
+  }
+
+  /**
+   * Creates a web hook object to track cluster role binding calls.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1ClusterRoleBinding> createClusterRoleBindingWatch() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1ClusterRoleBinding.class,
+        new ListClusterRoleBindingCall());
+  }
+
   /**
    * Sets a value for the fieldSelector parameter for the call that will set up this watch. Defaults
    * to null.
@@ -191,6 +221,11 @@ public class WatchBuilder {
     return this;
   }
 
+  public WatchBuilder withAllowWatchBookmarks(Boolean allowWatchBookmarks) {
+    callParams.setAllowWatchBookmarks(allowWatchBookmarks);
+    return this;
+  }
+
   public interface WatchFactory {
     <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
@@ -241,7 +276,7 @@ public class WatchBuilder {
             .listNamespacedServiceCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -276,7 +311,7 @@ public class WatchBuilder {
             .listNamespacedPodCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -311,7 +346,7 @@ public class WatchBuilder {
             .listNamespacedJobCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -346,7 +381,7 @@ public class WatchBuilder {
             .listNamespacedEventCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -415,7 +450,7 @@ public class WatchBuilder {
             .listNamespacedConfigMapCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -444,7 +479,7 @@ public class WatchBuilder {
         return new CoreV1Api(client)
             .listNamespaceCall(
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowWatchBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -459,4 +494,67 @@ public class WatchBuilder {
     }
   }
 
+  private class ListNamespacedRoleBindingCall implements BiFunction<ApiClient, CallParams, Call> {
+    private final String namespace;
+
+    ListNamespacedRoleBindingCall(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      // infinite timeout
+      OkHttpClient httpClient =
+          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+      client.setHttpClient(httpClient);
+
+      try {
+        return new RbacAuthorizationV1Api(client)
+            .listNamespacedRoleBindingCall(
+                namespace,
+                callParams.getPretty(),
+                callParams.getAllowWatchBookmarks(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private class ListClusterRoleBindingCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      // infinite timeout
+      OkHttpClient httpClient =
+          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+      client.setHttpClient(httpClient);
+
+      try {
+        return new RbacAuthorizationV1Api(client)
+            .listClusterRoleBindingCall(
+                callParams.getPretty(),
+                callParams.getAllowWatchBookmarks(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
 }
@@ -23,6 +23,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Deadline;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -118,6 +119,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
 
   @Override
   public NextAction apply(Packet packet) {
+    Deadline deadline = Deadline.get(packet);
+    if (deadline != null && deadline.isExpired()) {
+      return doTerminate(deadline.miss(requestParams.call), packet);
+    }
+    long callTimeoutSeconds = deadline == null ? timeoutSeconds : deadline.limitSeconds(timeoutSeconds);
+
     // clear out earlier results
     String cont = null;
     RetryStrategy retry = null;
@@ -239,7 +246,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
                         }
                       }
                     },
-                    timeoutSeconds,
+                    callTimeoutSeconds,
                     TimeUnit.SECONDS);
           } catch (Throwable t) {
             String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
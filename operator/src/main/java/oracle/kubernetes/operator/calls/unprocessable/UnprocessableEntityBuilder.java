@@ -5,9 +5,9 @@ package oracle.kubernetes.operator.calls.unprocessable;
 
 import java.util.Collections;
 
-import com.google.gson.Gson;
 import io.kubernetes.client.openapi.ApiException;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
+import oracle.kubernetes.operator.utils.Codecs;
 
 public class UnprocessableEntityBuilder implements FailureStatusSource {
   static final int HTTP_UNPROCESSABLE_ENTITY = 422;
@@ -27,7 +27,7 @@ public class UnprocessableEntityBuilder implements FailureStatusSource {
   }
 
   private UnprocessableEntityBuilder(ApiException exception) {
-    errorBody = new Gson().fromJson(exception.getResponseBody(), ErrorBody.class);
+    errorBody = Codecs.getGson().fromJson(exception.getResponseBody(), ErrorBody.class);
   }
 
   public static boolean isUnprocessableEntity(ApiException exception) {
@@ -71,6 +71,6 @@ public class UnprocessableEntityBuilder implements FailureStatusSource {
   }
 
   private String createMessageBody() {
-    return new Gson().toJson(errorBody);
+    return Codecs.getGson().toJson(errorBody);
   }
 }
@@ -10,7 +10,7 @@ import java.util.function.Function;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
-import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.utils.Codecs;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
@@ -18,7 +18,7 @@ public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Codecs.toKubernetesYaml(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -44,7 +44,7 @@ public class AnnotationHelper {
   }
 
   private static V1Pod addHashAndDebug(V1Pod pod) {
-    String dump = Yaml.dump(pod);
+    String dump = Codecs.toKubernetesYaml(pod);
     addHash(pod);
     pod.getMetadata().putAnnotationsItem(HASHED_STRING, dump);
     return pod;
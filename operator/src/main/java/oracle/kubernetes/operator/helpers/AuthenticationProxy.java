@@ -3,13 +3,19 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.function.Consumer;
+
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewSpec;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 
 /** Delegate authentication decisions to Kubernetes. */
 public class AuthenticationProxy {
@@ -55,6 +61,85 @@ public class AuthenticationProxy {
     return status;
   }
 
+  /**
+   * Creates a step which checks asynchronously if the specified access token can be authenticated.
+   * The status is passed to the specified consumer before the next step runs; as with {@link
+   * #check}, it is null if the check could not be made.
+   *
+   * @param principal The user, group or service account.
+   * @param token The access token that identifies the user.
+   * @param consumer receives the status of the token review.
+   * @param next the step to run after the check.
+   * @return a step which performs the check.
+   */
+  public Step createCheckStep(
+      String principal, String token, Consumer<V1TokenReviewStatus> consumer, Step next) {
+    TokenReviewStep tokenReviewStep = new TokenReviewStep(token, consumer, next);
+    return authorizationProxy.createCheckStep(
+        principal,
+        null,
+        AuthorizationProxy.Operation.create,
+        AuthorizationProxy.Resource.TOKENREVIEWS,
+        null,
+        AuthorizationProxy.Scope.cluster,
+        null,
+        tokenReviewStep::setAllowed,
+        tokenReviewStep);
+  }
+
+  // Creates the token review if the principal was found to be allowed to do so
+  private class TokenReviewStep extends Step {
+    private final String token;
+    private final Consumer<V1TokenReviewStatus> consumer;
+    private boolean allowed;
+
+    TokenReviewStep(String token, Consumer<V1TokenReviewStatus> consumer, Step next) {
+      super(next);
+      this.token = token;
+      this.consumer = consumer;
+    }
+
+    void setAllowed(boolean allowed) {
+      this.allowed = allowed;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!allowed) {
+        LOGGER.info(MessageKeys.CANNOT_CREATE_TOKEN_REVIEW);
+        consumer.accept(null);
+        return doNext(packet);
+      }
+
+      return doNext(
+          new CallBuilder()
+              .createTokenReviewAsync(prepareTokenReview(token), new TokenReviewResponseStep(consumer, getNext())),
+          packet);
+    }
+  }
+
+  private static class TokenReviewResponseStep extends ResponseStep<V1TokenReview> {
+    private final Consumer<V1TokenReviewStatus> consumer;
+
+    TokenReviewResponseStep(Consumer<V1TokenReviewStatus> consumer, Step next) {
+      super(next);
+      this.consumer = consumer;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1TokenReview> callResponse) {
+      consumer.accept(callResponse.getResult() != null ? callResponse.getResult().getStatus() : null);
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1TokenReview> callResponse) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_TOKEN_REVIEW, callResponse.getE());
+      consumer.accept(null);
+      return doNext(packet);
+    }
+  }
+
   private V1TokenReview prepareTokenReview(String token) {
     LOGGER.entering();
     V1TokenReviewSpec spec = new V1TokenReviewSpec();
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -15,9 +16,13 @@ import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 
 /** Delegate authorization decisions to Kubernetes ABAC and/or RBAC. */
 public class AuthorizationProxy {
@@ -113,6 +118,40 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Creates a step which checks asynchronously if the specified principal is allowed to perform the
+   * specified operation on the specified resource in the specified scope. The result is passed to
+   * the specified consumer before the next step runs. As with {@link #check}, a failure to check is
+   * logged and treated as a denial.
+   *
+   * @param principal The user, group or service account.
+   * @param groups The groups that principal is a member of.
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param resourceName The name of the resource instance on which the operation is to be
+   *     authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @param consumer receives true if the operation is allowed, or false if not.
+   * @param next the step to run after the check.
+   * @return a step which performs the check.
+   */
+  public Step createCheckStep(
+      String principal,
+      final List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName,
+      Consumer<Boolean> consumer,
+      Step next) {
+    return new CallBuilder()
+        .createSubjectAccessReviewAsync(
+            prepareSubjectAccessReview(principal, groups, operation, resource, resourceName, scope, namespaceName),
+            new SubjectAccessReviewResponseStep(consumer, next));
+  }
+
   private Boolean createSelfSubjectAccessReview(V1SelfSubjectAccessReview subjectAccessReview) {
     try {
       subjectAccessReview = new CallBuilder().createSelfSubjectAccessReview(subjectAccessReview);
@@ -137,7 +176,7 @@ public class AuthorizationProxy {
    * @param namespaceName name of the namespace if scope is namespace else null.
    * @return an instance of SubjectAccessReview.
    */
-  private V1SubjectAccessReview prepareSubjectAccessReview(
+  V1SubjectAccessReview prepareSubjectAccessReview(
       String principal,
       final List<String> groups,
       Operation operation,
@@ -235,6 +274,34 @@ public class AuthorizationProxy {
     }
   }
 
+  private static class SubjectAccessReviewResponseStep extends ResponseStep<V1SubjectAccessReview> {
+    private final Consumer<Boolean> consumer;
+
+    SubjectAccessReviewResponseStep(Consumer<Boolean> consumer, Step next) {
+      super(next);
+      this.consumer = consumer;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1SubjectAccessReview> callResponse) {
+      consumer.accept(isAllowed(callResponse.getResult()));
+      return doNext(packet);
+    }
+
+    private boolean isAllowed(V1SubjectAccessReview review) {
+      return review != null
+          && review.getStatus() != null
+          && Boolean.TRUE.equals(review.getStatus().getAllowed());
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1SubjectAccessReview> callResponse) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, callResponse.getE());
+      consumer.accept(false);
+      return doNext(packet);
+    }
+  }
+
   public enum Operation {
     get,
     list,
@@ -275,7 +342,9 @@ public class AuthorizationProxy {
     PODPRESETS("podpresets", "settings.k8s.io"),
     INGRESSES("ingresses", "extensions"),
     NETWORKPOLICIES("networkpolicies", "extensions"),
-    PODSECURITYPOLICIES("podsecuritypolicies", "extensions");
+    PODSECURITYPOLICIES("podsecuritypolicies", "extensions"),
+    ROLEBINDINGS("rolebindings", "rbac.authorization.k8s.io"),
+    CLUSTERROLEBINDINGS("clusterrolebindings", "rbac.authorization.k8s.io");
 
     private final String resource;
     private final String subResource;
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import com.google.gson.JsonObject;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
@@ -14,12 +15,15 @@ import io.kubernetes.client.openapi.apis.ApiextensionsV1beta1Api;
 import io.kubernetes.client.openapi.apis.AuthenticationV1Api;
 import io.kubernetes.client.openapi.apis.AuthorizationV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoordinationV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -38,6 +42,9 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.VersionInfo;
 import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.calls.AsyncRequestStep;
@@ -59,6 +66,11 @@ public class CallBuilder {
   /** HTTP status code for "Not Found". */
   public static final int NOT_FOUND = 404;
 
+  /** The field manager which the operator names in server-side apply requests. */
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  private static final String CORE_API_VERSION = "v1";
+
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
         @Override
@@ -135,6 +147,33 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1ConfigMap) requestParams.body,
                   callback));
+  private final CallFactory<V1ConfigMap> applyConfigmap =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyConfigMapAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1ConfigMap) requestParams.body,
+                  callback));
+  private final CallFactory<V1Lease> createLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(createLeaseAsync(usage, requestParams.namespace, (V1Lease) requestParams.body, callback));
+  private final CallFactory<V1Lease> replaceLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              replaceLeaseAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Lease) requestParams.body,
+                  callback));
+  private final CallFactory<V1Lease> readLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(readLeaseAsync(usage, requestParams.name, requestParams.namespace, callback));
+  private final CallFactory<V1LeaseList> listLease =
+      (requestParams, usage, cont, callback) ->
+          wrap(listLeaseAsync(usage, requestParams.namespace, cont, callback));
   private final CallFactory<V1Pod> createPod =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -148,6 +187,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<V1Pod> applyPod =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyPodAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Pod) requestParams.body,
+                  callback));
   private final CallFactory<V1Job> createJob =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -157,6 +205,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> applyService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Service) requestParams.body,
+                  callback));
   private final CallFactory<V1PersistentVolume> createPersistentvolume =
       ((requestParams, client, cont, callback) ->
           wrap(
@@ -179,6 +236,9 @@ public class CallBuilder {
           wrap(
               createSubjectAccessReviewAsync(
                   usage, (V1SubjectAccessReview) requestParams.body, callback));
+  private final CallFactory<V1TokenReview> createTokenreview =
+      (requestParams, usage, cont, callback) ->
+          wrap(createTokenReviewAsync(usage, (V1TokenReview) requestParams.body, callback));
   private final CallFactory<V1SelfSubjectRulesReview> createSelfsubjectrulesreview =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -272,6 +332,10 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1DeleteOptions) requestParams.body,
                   callback));
+  private final CallFactory<V1Status> deletecollectionConfigMap =
+      (requestParams, usage, cont, callback) ->
+          wrap(deleteCollectionConfigMapAsync(usage, requestParams.namespace, cont,
+              (V1DeleteOptions) requestParams.body, callback));
   private final CallFactory<V1Status> deletePod =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -290,6 +354,10 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1DeleteOptions) requestParams.body,
                   callback));
+  private final CallFactory<V1Status> deletecollectionJob =
+      (requestParams, usage, cont, callback) ->
+          wrap(deleteCollectionJobAsync(usage, requestParams.namespace, cont,
+              (V1DeleteOptions) requestParams.body, callback));
   private final CallFactory<V1Status> deleteService =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -459,7 +527,7 @@ public class CallBuilder {
   }
 
   public CallBuilder withLabelSelectors(String... selectors) {
-    this.labelSelector = String.join(",", selectors);
+    this.labelSelector = selectors.length == 1 ? selectors[0] : String.join(",", selectors);
     return this;
   }
 
@@ -849,6 +917,45 @@ public class CallBuilder {
         deleteConfigMap);
   }
 
+  private Call deleteCollectionConfigMapAsync(
+      ApiClient client, String namespace, String cont, V1DeleteOptions deleteOptions, ApiCallback<V1Status> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .deleteCollectionNamespacedConfigMapAsync(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            dryRun,
+            fieldSelector,
+            gracePeriodSeconds,
+            labelSelector,
+            limit,
+            orphanDependents,
+            propagationPolicy,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            deleteOptions,
+            callback);
+  }
+
+  /**
+   * Asynchronous step for deleting collection of config maps.
+   *
+   * @param namespace Namespace
+   * @param deleteOptions Delete options
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteCollectionConfigMapAsync(
+      String namespace, V1DeleteOptions deleteOptions, ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("deleteConfigMapCollection", namespace, null, deleteOptions),
+        deletecollectionConfigMap);
+  }
+
   private Call replaceConfigMapAsync(
       ApiClient client,
       String name,
@@ -877,6 +984,137 @@ public class CallBuilder {
         replaceConfigmap);
   }
 
+  Call applyConfigMapCall(ApiClient client, String name, String namespace, V1ConfigMap body)
+      throws ApiException {
+    V1Patch patch = toApplyPatch(client, "ConfigMap", body);
+    return toApplyCall(
+        new CoreV1Api(client)
+            .patchNamespacedConfigMapCall(name, namespace, patch, pretty, dryRun, FIELD_MANAGER, true, null),
+        client,
+        patch);
+  }
+
+  private Call applyConfigMapAsync(
+      ApiClient client,
+      String name,
+      String namespace,
+      V1ConfigMap body,
+      ApiCallback<V1ConfigMap> callback)
+      throws ApiException {
+    return executeApply(client, applyConfigMapCall(client, name, namespace, body), V1ConfigMap.class, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a config map on the server, creating it if it does not exist.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the config map
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyConfigMapAsync(
+      String name, String namespace, V1ConfigMap body, ResponseStep<V1ConfigMap> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyConfigMap", namespace, name, body),
+        applyConfigmap);
+  }
+
+  /* Leases */
+
+  private Call readLeaseAsync(
+      ApiClient client, String name, String namespace, ApiCallback<V1Lease> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .readNamespacedLeaseAsync(name, namespace, pretty, exact, export, callback);
+  }
+
+  /**
+   * Asynchronous step for reading lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readLeaseAsync(String name, String namespace, ResponseStep<V1Lease> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("readLease", namespace, name, null), readLease);
+  }
+
+  private Call createLeaseAsync(
+      ApiClient client, String namespace, V1Lease body, ApiCallback<V1Lease> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .createNamespacedLeaseAsync(namespace, body, pretty, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for creating lease.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step createLeaseAsync(String namespace, V1Lease body, ResponseStep<V1Lease> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("createLease", namespace, null, body), createLease);
+  }
+
+  private Call replaceLeaseAsync(
+      ApiClient client, String name, String namespace, V1Lease body, ApiCallback<V1Lease> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .replaceNamespacedLeaseAsync(name, namespace, body, pretty, dryRun, null, callback);
+  }
+
+  /**
+   * Asynchronous step for replacing lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step replaceLeaseAsync(
+      String name, String namespace, V1Lease body, ResponseStep<V1Lease> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("replaceLease", namespace, name, body), replaceLease);
+  }
+
+  private Call listLeaseAsync(
+      ApiClient client, String namespace, String cont, ApiCallback<V1LeaseList> callback)
+      throws ApiException {
+    return new CoordinationV1Api(client)
+        .listNamespacedLeaseAsync(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            callback);
+  }
+
+  /**
+   * Asynchronous step for listing leases.
+   *
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listLeaseAsync(String namespace, ResponseStep<V1LeaseList> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("listLease", namespace, null, null), listLease);
+  }
+
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
@@ -1013,6 +1251,37 @@ public class CallBuilder {
         patchPod);
   }
 
+  Call applyPodCall(ApiClient client, String name, String namespace, V1Pod body) throws ApiException {
+    V1Patch patch = toApplyPatch(client, "Pod", body);
+    return toApplyCall(
+        new CoreV1Api(client)
+            .patchNamespacedPodCall(name, namespace, patch, pretty, dryRun, FIELD_MANAGER, true, null),
+        client,
+        patch);
+  }
+
+  private Call applyPodAsync(
+      ApiClient client, String name, String namespace, V1Pod body, ApiCallback<V1Pod> callback)
+      throws ApiException {
+    return executeApply(client, applyPodCall(client, name, namespace, body), V1Pod.class, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a pod on the server, creating it if it does not exist.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the pod
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyPodAsync(String name, String namespace, V1Pod body, ResponseStep<V1Pod> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyPod", namespace, name, body),
+        applyPod);
+  }
+
   private Call deleteCollectionPodAsync(
       ApiClient client, String namespace, String cont, V1DeleteOptions deleteOptions, ApiCallback<V1Status> callback)
       throws ApiException {
@@ -1130,6 +1399,45 @@ public class CallBuilder {
         responseStep, new RequestParams("deleteJob", namespace, name, deleteOptions), deleteJob);
   }
 
+  private Call deleteCollectionJobAsync(
+      ApiClient client, String namespace, String cont, V1DeleteOptions deleteOptions, ApiCallback<V1Status> callback)
+      throws ApiException {
+    return new BatchV1Api(client)
+        .deleteCollectionNamespacedJobAsync(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            dryRun,
+            fieldSelector,
+            gracePeriodSeconds,
+            labelSelector,
+            limit,
+            orphanDependents,
+            propagationPolicy,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            deleteOptions,
+            callback);
+  }
+
+  /**
+   * Asynchronous step for deleting collection of jobs.
+   *
+   * @param namespace Namespace
+   * @param deleteOptions Delete options
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteCollectionJobAsync(
+      String namespace, V1DeleteOptions deleteOptions, ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("deleteJobCollection", namespace, null, deleteOptions),
+        deletecollectionJob);
+  }
+
   /**
    * List services.
    *
@@ -1247,6 +1555,39 @@ public class CallBuilder {
         responseStep, new RequestParams("createService", namespace, null, body), createService);
   }
 
+  Call applyServiceCall(ApiClient client, String name, String namespace, V1Service body)
+      throws ApiException {
+    V1Patch patch = toApplyPatch(client, "Service", body);
+    return toApplyCall(
+        new CoreV1Api(client)
+            .patchNamespacedServiceCall(name, namespace, patch, pretty, dryRun, FIELD_MANAGER, true, null),
+        client,
+        patch);
+  }
+
+  private Call applyServiceAsync(
+      ApiClient client, String name, String namespace, V1Service body, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return executeApply(client, applyServiceCall(client, name, namespace, body), V1Service.class, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a service on the server, creating it if it does not exist.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the service
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyServiceAsync(
+      String name, String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyService", namespace, name, body),
+        applyService);
+  }
+
   /**
    * Delete service.
    *
@@ -1590,6 +1931,24 @@ public class CallBuilder {
     return executeSynchronousCall(requestParams, createTokenReviewCall);
   }
 
+  private Call createTokenReviewAsync(
+      ApiClient client, V1TokenReview body, ApiCallback<V1TokenReview> callback)
+      throws ApiException {
+    return new AuthenticationV1Api(client).createTokenReviewAsync(body, null, null, pretty, callback);
+  }
+
+  /**
+   * Asynchronous step for creating token review.
+   *
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step createTokenReviewAsync(V1TokenReview body, ResponseStep<V1TokenReview> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("createTokenReview", null, null, body), createTokenreview);
+  }
+
   public Step readPodLogAsync(String name, String namespace, ResponseStep<String> responseStep) {
     return createRequestAsync(
         responseStep, new RequestParams("readPodLog", namespace, name, null), readPodLog);
@@ -1641,4 +2000,31 @@ public class CallBuilder {
   private CancellableCall wrap(Call call) {
     return new CallWrapper(call);
   }
+
+  // The desired state is sent as JSON, which is also valid YAML. An apply request must name the
+  // apiVersion and kind of the resource, which the operator's models leave unset.
+  private V1Patch toApplyPatch(ApiClient client, String kind, Object body) {
+    JsonObject patch = new JsonObject();
+    patch.addProperty("apiVersion", CORE_API_VERSION);
+    patch.addProperty("kind", kind);
+    client.getJSON().getGson().toJsonTree(body).getAsJsonObject().entrySet().stream()
+        .filter(e -> !patch.has(e.getKey()))
+        .forEach(e -> patch.add(e.getKey(), e.getValue()));
+    return new V1Patch(client.getJSON().getGson().toJson(patch));
+  }
+
+  // The generated patch calls do not offer the apply content type, so the request is rebuilt with it
+  private Call toApplyCall(Call patchCall, ApiClient client, V1Patch patch) {
+    Request request =
+        patchCall.request().newBuilder()
+            .header("Content-Type", V1Patch.PATCH_FORMAT_APPLY_YAML)
+            .patch(RequestBody.create(MediaType.parse(V1Patch.PATCH_FORMAT_APPLY_YAML), patch.getValue()))
+            .build();
+    return client.getHttpClient().newCall(request);
+  }
+
+  private <T> Call executeApply(ApiClient client, Call call, Class<T> resultType, ApiCallback<T> callback) {
+    client.executeAsync(call, resultType, callback);
+    return call;
+  }
 }
@@ -5,38 +5,56 @@ package oracle.kubernetes.operator.helpers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
-import java.util.Collection;
-import java.util.HashSet;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
 /**
  * Kubernetes mounts ConfigMaps in the Pod's file-system as directories where the contained files
  * are named with the keys and the contents of the file are the values. This class assists with
  * parsing this data and representing it as a Map.
+ *
+ * <p>The files are read once into an immutable snapshot, which readers use without locking or
+ * file access. The directory is registered with a {@link WatchService}, and the files are read
+ * again only after it reports a change; Kubernetes updates a mounted ConfigMap by replacing a
+ * symbolic link in the directory, which is reported as a change to the directory.
  */
-public class ConfigMapConsumer implements Map<String, String> {
+public class ConfigMapConsumer extends AbstractMap<String, String> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final File mountPointDir;
   private final ScheduledExecutorService threadPool;
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>(null);
   private final Runnable onUpdate;
+  private volatile Map<String, String> values = Collections.emptyMap();
+  private volatile WatchService watchService;
 
   /**
    * Construct config map consumer.
    * @param executorService executor
    * @param mountPoint mount point
-   * @param onUpdate on update flag
+   * @param onUpdate run after the contents of the ConfigMap have changed
    */
   public ConfigMapConsumer(
       ScheduledExecutorService executorService, String mountPoint, Runnable onUpdate) {
@@ -44,19 +62,30 @@ public class ConfigMapConsumer implements Map<String, String> {
     this.mountPointDir = new File(mountPoint);
     this.onUpdate = onUpdate;
     if (mountPointDir.exists()) {
+      values = readValues();
+      watchService = createWatchService();
       schedule();
     }
   }
 
+  private WatchService createWatchService() {
+    try {
+      WatchService service = FileSystems.getDefault().newWatchService();
+      mountPointDir.toPath().register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      return service;
+    } catch (IOException | UnsupportedOperationException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return null;
+    }
+  }
+
   private void schedule() {
     long initialDelay = readTuningParameter("configMapUpdateInitialDelay", 3);
     long delay = readTuningParameter("configMapUpdateDelay", 10);
     ScheduledFuture<?> old =
         future.getAndSet(
             threadPool.scheduleWithFixedDelay(
-                () -> {
-                  onUpdate.run();
-                },
+                this::checkForChanges,
                 initialDelay,
                 delay,
                 TimeUnit.SECONDS));
@@ -65,6 +94,38 @@ public class ConfigMapConsumer implements Map<String, String> {
     }
   }
 
+  /**
+   * Reads the files again if the watch service has reported a change to them, or if there is no
+   * watch service. If their contents have changed, publishes them and runs the update callback.
+   */
+  void checkForChanges() {
+    if (hasPendingChanges()) {
+      Map<String, String> newValues = readValues();
+      if (!newValues.equals(values)) {
+        values = newValues;
+        onUpdate.run();
+      }
+    }
+  }
+
+  // Drains the events reported by the watch service, without waiting for more
+  private boolean hasPendingChanges() {
+    WatchService service = watchService;
+    if (service == null) {
+      return true;
+    }
+
+    boolean changed = false;
+    for (WatchKey key = service.poll(); key != null; key = service.poll()) {
+      changed |= !key.pollEvents().isEmpty();
+      if (!key.reset()) {
+        watchService = null;
+        return true;
+      }
+    }
+    return changed;
+  }
+
   /**
    * read tuning parameter.
    * @param parameter parameter
@@ -84,108 +145,71 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
-  @Override
-  public int size() {
-    String[] list = mountPointDir.list();
-    return list == null ? null : list.length;
-  }
-
-  @Override
-  public boolean isEmpty() {
-    return size() == 0;
-  }
-
-  @Override
-  public boolean containsKey(Object key) {
-    if (key instanceof String) {
-      File child = new File(mountPointDir, (String) key);
-      return child.exists();
-    }
-    return false;
-  }
-
-  @Override
-  public boolean containsValue(Object value) {
-    throw new UnsupportedOperationException();
+  /**
+   * read boolean tuning parameter.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @return parameter value
+   */
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    return val != null ? Boolean.parseBoolean(val.trim()) : defaultValue;
   }
 
-  @Override
-  public String get(Object key) {
-    if (key instanceof String) {
-      return readValue((String) key);
+  /**
+   * read comma-separated list tuning parameter.
+   * @param parameter parameter
+   * @return the trimmed, non-empty items of the parameter value, or an empty list if it is not defined
+   */
+  public List<String> readListTuningParameter(String parameter) {
+    String val = get(parameter);
+    if (val == null) {
+      return Collections.emptyList();
     }
-    return null;
+    return Arrays.stream(val.split(","))
+        .map(String::trim)
+        .filter(item -> !item.isEmpty())
+        .collect(Collectors.toList());
   }
 
   @Override
-  public String put(String key, String value) {
-    throw new UnsupportedOperationException();
-  }
-
-  @Override
-  public String remove(Object key) {
-    throw new UnsupportedOperationException();
-  }
-
-  @Override
-  public void putAll(Map<? extends String, ? extends String> m) {
-    throw new UnsupportedOperationException();
+  public int size() {
+    return values.size();
   }
 
   @Override
-  public void clear() {
-    throw new UnsupportedOperationException();
+  public boolean containsKey(Object key) {
+    return values.containsKey(key);
   }
 
   @Override
-  public Set<String> keySet() {
-    Set<String> keys = new HashSet<>();
-    String[] list = mountPointDir.list();
-    if (list != null) {
-      for (String s : list) {
-        keys.add(s);
-      }
-    }
-    return keys;
+  public String get(Object key) {
+    return values.get(key);
   }
 
   @Override
-  public Collection<String> values() {
-    throw new UnsupportedOperationException();
+  public Set<Entry<String, String>> entrySet() {
+    return values.entrySet();
   }
 
-  @Override
-  public Set<Entry<String, String>> entrySet() {
-    Set<Entry<String, String>> entries = new HashSet<>();
+  private Map<String, String> readValues() {
+    Map<String, String> result = new HashMap<>();
     String[] list = mountPointDir.list();
     if (list != null) {
-      for (String s : list) {
-        entries.add(
-            new Entry<String, String>() {
-
-              @Override
-              public String getKey() {
-                return s;
-              }
-
-              @Override
-              public String getValue() {
-                return readValue(s);
-              }
-
-              @Override
-              public String setValue(String value) {
-                throw new UnsupportedOperationException();
-              }
-            });
+      for (String key : list) {
+        String value = readValue(key);
+        if (value != null) {
+          result.put(key, value);
+        }
       }
     }
-    return entries;
+    return Collections.unmodifiableMap(result);
   }
 
+  // Kubernetes also mounts hidden links and directories, which do not hold values
   private String readValue(String key) {
     File child = new File(mountPointDir, key);
-    if (child.exists()) {
+    if (child.isFile() && !key.startsWith("..")) {
       try {
         return new String(Files.readAllBytes(child.toPath()));
       } catch (IOException e) {
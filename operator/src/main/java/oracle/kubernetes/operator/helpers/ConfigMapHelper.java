@@ -3,20 +3,18 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -27,15 +25,19 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.utils.Codecs;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
+import static oracle.kubernetes.operator.helpers.DomainStatusPatch.ERR_INTROSPECTOR;
 
 public class ConfigMapHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -44,6 +46,7 @@ public class ConfigMapHelper {
   private static ConfigMapComparator COMPARATOR = new ConfigMapComparatorImpl();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
+  private static final ObjectReader TOPOLOGY_READER = Codecs.yamlReaderFor(DomainTopology.class);
 
   private ConfigMapHelper() {
   }
@@ -91,62 +94,14 @@ public class ConfigMapHelper {
     return new CallBuilder().readConfigMapAsync(situConfigMapName, ns, new ReadSituConfigMapStep());
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          // Beginning of file, extract file name
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    String fname = line.substring(lastSlash + 1, line.length());
-    return fname;
-  }
-
   /**
    * parse domain topology yaml.
    * @param topologyYaml topology yaml.
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = TOPOLOGY_READER.readValue(topologyYaml);
 
       LOGGER.fine(
           ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
@@ -206,6 +161,11 @@ public class ConfigMapHelper {
       return new ReadResponseStep(next);
     }
 
+    @Override
+    String getPacketKey() {
+      return ProcessingConstants.SCRIPT_CONFIG_MAP;
+    }
+
     ResponseStep<V1ConfigMap> createCreateResponseStep(Step next) {
       return new CreateResponseStep(next);
     }
@@ -309,6 +269,9 @@ public class ConfigMapHelper {
     }
 
     Step verifyConfigMap(Step next) {
+      if (usesServerSideApply()) {
+        return applyConfigMap(next);
+      }
       return new CallBuilder()
           .readConfigMapAsync(
               model.getMetadata().getName(), domainNamespace, createReadResponseStep(next));
@@ -316,6 +279,53 @@ public class ConfigMapHelper {
 
     abstract ResponseStep<V1ConfigMap> createReadResponseStep(Step next);
 
+    boolean usesServerSideApply() {
+      return ServerSideApply.isEnabledFor(ServerSideApply.CONFIG_MAP);
+    }
+
+    // Applies the model, unless the same model was last applied and the config map has not changed since
+    private Step applyConfigMap(Step next) {
+      V1ConfigMap applied = ServerSideApply.getAppliedConfigMap(model);
+      if (applied != null) {
+        return new RecordConfigMapStep(applied, next);
+      }
+      return new CallBuilder()
+          .applyConfigMapAsync(
+              model.getMetadata().getName(), domainNamespace, model, new ApplyResponseStep(next));
+    }
+
+    abstract String getPacketKey();
+
+    private class RecordConfigMapStep extends Step {
+      private final V1ConfigMap configMap;
+
+      RecordConfigMapStep(V1ConfigMap configMap, Step next) {
+        super(next);
+        this.configMap = configMap;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        logConfigMapExists();
+        packet.put(getPacketKey(), configMap);
+        return doNext(packet);
+      }
+    }
+
+    private class ApplyResponseStep extends ResponseStep<V1ConfigMap> {
+      ApplyResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        LOGGER.info(MessageKeys.CM_APPLIED, model.getMetadata().getName(), domainNamespace);
+        ServerSideApply.recordAppliedConfigMap(model, callResponse.getResult());
+        packet.put(getPacketKey(), callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     Step createConfigMap(Step next) {
       return new CallBuilder()
           .createConfigMapAsync(domainNamespace, model, createCreateResponseStep(next));
@@ -359,15 +369,14 @@ public class ConfigMapHelper {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
 
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      // Parse results into separate data files
-      Map<String, String> data = parseIntrospectorResult(result, info.getDomainUid());
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      Map<String, String> data = getIntrospectorData(packet);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
       String topologyYaml = data.get("topology.yaml");
       if (topologyYaml != null) {
-        LOGGER.fine("topology.yaml: " + topologyYaml);
         DomainTopology domainTopology = parseDomainTopologyYaml(topologyYaml);
         if (domainTopology == null || !domainTopology.getDomainValid()) {
           // If introspector determines Domain is invalid then log erros and terminate the fiber
@@ -384,9 +393,21 @@ public class ConfigMapHelper {
             MessageKeys.WLS_CONFIGURATION_READ,
             (System.currentTimeMillis() - ((Long) packet.get(JobHelper.START_TIME))),
             wlsDomainConfig);
-        SitConfigMapContext context =
-            new SitConfigMapContext(
-                this, info.getDomainUid(), getOperatorNamespace(), info.getNamespace(), data);
+        String fingerprint = (String) packet.get(ProcessingConstants.INTROSPECTION_INPUTS_FINGERPRINT);
+        SitConfigMapContext context;
+        if (IntrospectorConfigMapStorage.isCompactFormat()) {
+          IntrospectorConfigMapStorage.Layout layout = IntrospectorConfigMapStorage.createLayout(data);
+          if (!layout.isValid()) {
+            layout.logValidationError();
+            return doNext(
+                DomainStatusUpdater.createFailedStep(ERR_INTROSPECTOR, layout.getValidationError(), null), packet);
+          }
+          context = new CompactSitConfigMapContext(
+              this, info.getDomainUid(), getOperatorNamespace(), info.getNamespace(), layout, fingerprint);
+        } else {
+          context = new SitConfigMapContext(
+              this, info.getDomainUid(), getOperatorNamespace(), info.getNamespace(), data, fingerprint);
+        }
 
         return doNext(context.verifyConfigMap(getNext()), packet);
       }
@@ -395,6 +416,14 @@ public class ConfigMapHelper {
       return doNext(getNext(), packet);
     }
 
+    // The introspector output was parsed into separate data files as the job log was read
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getIntrospectorData(Packet packet) {
+      Map<String, String> data =
+          (Map<String, String>) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA);
+      return data != null ? data : new HashMap<>();
+    }
+
     private void logValidationErrors(List<String> validationErrors) {
       if (!validationErrors.isEmpty()) {
         for (String err : validationErrors) {
@@ -408,18 +437,21 @@ public class ConfigMapHelper {
     final Map<String, String> data;
     final String domainUid;
     final String cmName;
+    final String fingerprint;
 
     SitConfigMapContext(
         Step conflictStep,
         String domainUid,
         String operatorNamespace,
         String domainNamespace,
-        Map<String, String> data) {
+        Map<String, String> data,
+        String fingerprint) {
       super(conflictStep, operatorNamespace, domainNamespace);
 
       this.domainUid = domainUid;
       this.cmName = getConfigMapName(domainUid);
       this.data = data;
+      this.fingerprint = fingerprint;
       this.model = createModel(data);
     }
 
@@ -439,8 +471,33 @@ public class ConfigMapHelper {
       return new ReadResponseStep(next);
     }
 
+    @Override
+    String getPacketKey() {
+      return ProcessingConstants.SIT_CONFIG_MAP;
+    }
+
     private V1ObjectMeta createMetadata() {
-      return super.createMetadata(cmName).putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid);
+      return recordFingerprint(createDomainMetadata(cmName));
+    }
+
+    // Record the inputs from which the introspector output was produced
+    V1ObjectMeta recordFingerprint(V1ObjectMeta metadata) {
+      return fingerprint == null
+          ? metadata
+          : metadata.putAnnotationsItem(IntrospectionFingerprint.FINGERPRINT_ANNOTATION, fingerprint);
+    }
+
+    @Override
+    protected boolean isCompatibleMap(V1ConfigMap existingMap) {
+      return super.isCompatibleMap(existingMap) && hasSameFingerprint(existingMap);
+    }
+
+    boolean hasSameFingerprint(V1ConfigMap existingMap) {
+      return fingerprint == null || fingerprint.equals(IntrospectionFingerprint.getRecordedFingerprint(existingMap));
+    }
+
+    V1ObjectMeta createDomainMetadata(String name) {
+      return super.createMetadata(name).putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid);
     }
 
     ResponseStep<V1ConfigMap> createCreateResponseStep(Step next) {
@@ -525,6 +582,191 @@ public class ConfigMapHelper {
     }
   }
 
+  /**
+   * A context for the compact storage format of the introspector config map, described in {@link
+   * IntrospectorConfigMapStorage}. The primary config map is annotated with a hash which covers its
+   * own contents and those of its shards. If that hash matches, nothing is written; otherwise each
+   * shard is written only if its own hash differs, shards no longer needed are deleted, and the
+   * primary config map is replaced last.
+   */
+  static class CompactSitConfigMapContext extends SitConfigMapContext {
+    static final String SHARD_COUNT_ANNOTATION = "weblogic.introspectorShards";
+
+    private final List<V1ConfigMap> shardModels = new ArrayList<>();
+
+    CompactSitConfigMapContext(
+        Step conflictStep,
+        String domainUid,
+        String operatorNamespace,
+        String domainNamespace,
+        IntrospectorConfigMapStorage.Layout layout,
+        String fingerprint) {
+      super(conflictStep, domainUid, operatorNamespace, domainNamespace, layout.getData(), fingerprint);
+
+      List<String> shardHashes = new ArrayList<>();
+      for (Map<String, byte[]> shard : layout.getShards()) {
+        String name = IntrospectorConfigMapStorage.getShardName(domainUid, shardModels.size() + 1);
+        String hash = IntrospectorConfigMapStorage.getContentHash(null, shard);
+        shardModels.add(createCompactModel(name, hash, null, shard));
+        shardHashes.add(hash);
+      }
+
+      String primaryHash = DigestUtils.sha256Hex(
+          IntrospectorConfigMapStorage.getContentHash(layout.getData(), layout.getBinaryData())
+              + String.join(",", shardHashes));
+      this.model = createCompactModel(cmName, primaryHash, layout.getData(), layout.getBinaryData());
+      recordFingerprint(this.model.getMetadata())
+          .putAnnotationsItem(SHARD_COUNT_ANNOTATION, Integer.toString(shardModels.size()));
+    }
+
+    private V1ConfigMap createCompactModel(
+        String name, String hash, Map<String, String> data, Map<String, byte[]> binaryData) {
+      return new V1ConfigMap()
+          .apiVersion("v1")
+          .kind("ConfigMap")
+          .metadata(createDomainMetadata(name).putAnnotationsItem(SHA256_ANNOTATION, hash))
+          .data(data)
+          .binaryData(binaryData);
+    }
+
+    List<V1ConfigMap> getShardModels() {
+      return shardModels;
+    }
+
+    @Override
+    ResponseStep<V1ConfigMap> createReadResponseStep(Step next) {
+      return new CompactReadResponseStep(next);
+    }
+
+    // The shards are written only when their hashes change, which needs the primary config map to be read
+    @Override
+    boolean usesServerSideApply() {
+      return false;
+    }
+
+    @Override
+    protected boolean isCompatibleMap(V1ConfigMap existingMap) {
+      return VersionHelper.matchesResourceVersion(existingMap.getMetadata(), DEFAULT_DOMAIN_VERSION)
+          && hasSameHash(existingMap, model)
+          && hasSameFingerprint(existingMap);
+    }
+
+    private static boolean hasSameHash(V1ConfigMap existingMap, V1ConfigMap model) {
+      return getAnnotation(model, SHA256_ANNOTATION).equals(getAnnotation(existingMap, SHA256_ANNOTATION));
+    }
+
+    private static String getAnnotation(V1ConfigMap configMap, String name) {
+      return Optional.ofNullable(configMap.getMetadata())
+          .map(V1ObjectMeta::getAnnotations)
+          .map(a -> a.get(name))
+          .orElse("");
+    }
+
+    private static int getShardCount(V1ConfigMap configMap) {
+      if (configMap == null) {
+        return 0;
+      }
+
+      try {
+        return Integer.parseInt(getAnnotation(configMap, SHARD_COUNT_ANNOTATION));
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
+    // The shards are content-addressed, so an out-of-date primary is replaced wholesale
+    @Override
+    Step updateConfigMap(Step next, V1ConfigMap existingConfigMap) {
+      return new CallBuilder()
+          .replaceConfigMapAsync(cmName, domainNamespace, model, createReplaceResponseStep(next));
+    }
+
+    private Step createShardSteps(V1ConfigMap existingPrimary, Step next) {
+      List<Step> steps = new ArrayList<>();
+      for (V1ConfigMap shardModel : shardModels) {
+        steps.add(new CallBuilder()
+            .readConfigMapAsync(
+                shardModel.getMetadata().getName(), domainNamespace, new ReadShardResponseStep(shardModel)));
+      }
+      for (int i = shardModels.size() + 1; i <= getShardCount(existingPrimary); i++) {
+        steps.add(new CallBuilder()
+            .deleteConfigMapAsync(
+                IntrospectorConfigMapStorage.getShardName(domainUid, i),
+                domainNamespace,
+                new V1DeleteOptions(),
+                new DefaultResponseStep<>()));
+      }
+      steps.add(next);
+      return Step.chain(steps.toArray(new Step[0]));
+    }
+
+    class CompactReadResponseStep extends DefaultResponseStep<V1ConfigMap> {
+      CompactReadResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        V1ConfigMap existingMap = callResponse.getResult();
+        if (existingMap == null) {
+          return doNext(createShardSteps(null, createConfigMap(getNext())), packet);
+        } else if (isCompatibleMap(existingMap)) {
+          logConfigMapExists();
+          packet.put(ProcessingConstants.SIT_CONFIG_MAP, existingMap);
+          return doNext(packet);
+        } else {
+          return doNext(createShardSteps(existingMap, updateConfigMap(getNext(), existingMap)), packet);
+        }
+      }
+    }
+
+    class ReadShardResponseStep extends DefaultResponseStep<V1ConfigMap> {
+      private final V1ConfigMap shardModel;
+
+      ReadShardResponseStep(V1ConfigMap shardModel) {
+        this.shardModel = shardModel;
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        V1ConfigMap existingShard = callResponse.getResult();
+        if (existingShard == null) {
+          return doNext(
+              new CallBuilder()
+                  .createConfigMapAsync(domainNamespace, shardModel, new WriteShardResponseStep(getNext())),
+              packet);
+        } else if (hasSameHash(existingShard, shardModel)) {
+          return doNext(packet);
+        } else {
+          return doNext(
+              new CallBuilder()
+                  .replaceConfigMapAsync(
+                      shardModel.getMetadata().getName(),
+                      domainNamespace,
+                      shardModel,
+                      new WriteShardResponseStep(getNext())),
+              packet);
+        }
+      }
+    }
+
+    private class WriteShardResponseStep extends ResponseStep<V1ConfigMap> {
+      WriteShardResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        return super.onFailure(conflictStep, packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        return doNext(packet);
+      }
+    }
+  }
+
   private static class DeleteIntrospectorConfigMapStep extends Step {
     private final String domainUid;
     private final String namespace;
@@ -560,7 +802,21 @@ public class ConfigMapHelper {
                   this.namespace,
                   new V1DeleteOptions(),
                   new DefaultResponseStep<>(next));
-      return step;
+      return IntrospectorConfigMapStorage.isCompactFormat() ? deleteShards(step) : step;
+    }
+
+    private Step deleteShards(Step next) {
+      List<Step> steps = new ArrayList<>();
+      for (int i = 1; i <= IntrospectorConfigMapStorage.getMaxShards(); i++) {
+        steps.add(new CallBuilder()
+            .deleteConfigMapAsync(
+                IntrospectorConfigMapStorage.getShardName(domainUid, i),
+                namespace,
+                new V1DeleteOptions(),
+                new DefaultResponseStep<>()));
+      }
+      steps.add(next);
+      return Step.chain(steps.toArray(new Step[0]));
     }
   }
 
@@ -582,8 +838,9 @@ public class ConfigMapHelper {
 
       V1ConfigMap result = callResponse.getResult();
       if (result != null) {
-        Map<String, String> data = result.getData();
-        String topologyYaml = data.get("topology.yaml");
+        Optional.ofNullable(IntrospectionFingerprint.getRecordedFingerprint(result))
+            .ifPresent(f -> packet.put(ProcessingConstants.INTROSPECTED_INPUTS_FINGERPRINT, f));
+        String topologyYaml = IntrospectorConfigMapStorage.getEntry(result, "topology.yaml");
         if (topologyYaml != null) {
           ConfigMapHelper.DomainTopology domainTopology =
               ConfigMapHelper.parseDomainTopologyYaml(topologyYaml);
@@ -26,7 +26,6 @@ import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresourceScale
 import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresources;
 import io.kubernetes.client.openapi.models.V1beta1CustomResourceValidation;
 import io.kubernetes.client.openapi.models.V1beta1JSONSchemaProps;
-import io.kubernetes.client.util.Yaml;
 import oracle.kubernetes.json.SchemaGenerator;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -34,6 +33,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.utils.Codecs;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -68,7 +68,7 @@ public class CrdHelper {
           "# Copyright (c) 2020, Oracle Corporation and/or its affiliates.\n"
               + "# Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.\n");
       writer.write("\n");
-      Yaml.dump(context.model, writer);
+      Codecs.writeKubernetesYaml(context.model, writer);
     } catch (IOException io) {
       throw new RuntimeException(io);
     }
@@ -195,7 +195,7 @@ public class CrdHelper {
     }
 
     static V1beta1JSONSchemaProps createOpenApiV3Schema() {
-      Gson gson = new Gson();
+      Gson gson = Codecs.getGson();
       JsonElement jsonElementSpec =
           gson.toJsonTree(createSchemaGenerator().generate(DomainSpec.class));
       V1beta1JSONSchemaProps spec = gson.fromJson(jsonElementSpec, V1beta1JSONSchemaProps.class);
@@ -20,6 +20,7 @@ import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -40,6 +41,8 @@ public class DomainPresenceInfo {
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
+  private final AtomicReference<RolloutProgress> rolloutProgress = new AtomicReference<>();
+  private final String resourceSelector;
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
@@ -54,6 +57,7 @@ public class DomainPresenceInfo {
     this.namespace = domain.getMetadata().getNamespace();
     this.domainUid = domain.getDomainUid();
     this.serverStartupInfo = new AtomicReference<>(null);
+    this.resourceSelector = createResourceSelector(domainUid);
   }
 
   /**
@@ -67,6 +71,7 @@ public class DomainPresenceInfo {
     this.namespace = namespace;
     this.domainUid = domainUid;
     this.serverStartupInfo = new AtomicReference<>(null);
+    this.resourceSelector = createResourceSelector(domainUid);
   }
 
   private static <K, V> boolean removeIfPresentAnd(
@@ -82,6 +87,19 @@ public class DomainPresenceInfo {
     return false;
   }
 
+  private static String createResourceSelector(String domainUid) {
+    return LabelConstants.forDomainUidSelector(domainUid) + "," + LabelConstants.CREATEDBYOPERATOR_LABEL;
+  }
+
+  /**
+   * Returns the label selector for the Kubernetes resources the operator created for this domain.
+   *
+   * @return the label selector
+   */
+  public String getResourceSelector() {
+    return resourceSelector;
+  }
+
   void setServerService(String serverName, V1Service service) {
     getSko(serverName).getService().set(service);
   }
@@ -220,6 +238,7 @@ public class DomainPresenceInfo {
     V1Pod deletedPod = sko.getPod().getAndAccumulate(event, this::getNewerCurrentOrNull);
     if (deletedPod != null) {
       sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
+      sko.getLastReadHealth().set(null);
     }
     return deletedPod != null;
   }
@@ -272,6 +291,26 @@ public class DomainPresenceInfo {
             });
   }
 
+  /**
+   * Returns the health last read from the specified server.
+   *
+   * @param serverName the name of the server
+   * @return the last health read, or null if none has been read since the server's pod was created
+   */
+  public LastReadHealth getLastReadHealth(String serverName) {
+    return getSko(serverName).getLastReadHealth().get();
+  }
+
+  /**
+   * Records the health last read from the specified server.
+   *
+   * @param serverName the name of the server
+   * @param health the health read
+   */
+  public void setLastReadHealth(String serverName, LastReadHealth health) {
+    getSko(serverName).getLastReadHealth().set(health);
+  }
+
   /**
    * Applies an add or modify event for a server service. If the current service is newer than the
    * one associated with the event, ignores the event.
@@ -450,6 +489,33 @@ public class DomainPresenceInfo {
     this.serverStartupInfo.set(serverStartupInfo);
   }
 
+  /**
+   * Returns the progress of the server rollout currently in progress for this domain.
+   *
+   * @return the rollout progress, or null if no rollout is in progress
+   */
+  public RolloutProgress getRolloutProgress() {
+    return rolloutProgress.get();
+  }
+
+  /**
+   * Records the start of a server rollout for this domain.
+   *
+   * @param progress the progress of the new rollout
+   */
+  void setRolloutProgress(RolloutProgress progress) {
+    rolloutProgress.set(progress);
+  }
+
+  /**
+   * Records the end of a server rollout, unless another has since started.
+   *
+   * @param progress the progress of the completed rollout
+   */
+  void clearRolloutProgress(RolloutProgress progress) {
+    rolloutProgress.compareAndSet(progress, null);
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("DomainPresenceInfo{");
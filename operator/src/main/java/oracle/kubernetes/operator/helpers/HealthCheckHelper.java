@@ -127,19 +127,19 @@ public final class HealthCheckHelper {
     V1SelfSubjectRulesReview review = ap.review(ns);
     if (review != null) {
       V1SubjectRulesReviewStatus status = review.getStatus();
-      List<V1ResourceRule> rules = status.getResourceRules();
+      ResourceRulesIndex index = new ResourceRulesIndex(status.getResourceRules());
 
       if (namespace != null) {
         for (Resource r : namespaceAccessChecks.keySet()) {
           for (Operation op : namespaceAccessChecks.get(r)) {
-            check(rules, r, op, namespace);
+            check(index, r, op, namespace);
           }
         }
       }
       if (!Main.isDedicated() && operatorNamespace.equals(ns)) {
         for (Resource r : clusterAccessChecks.keySet()) {
           for (Operation op : clusterAccessChecks.get(r)) {
-            check(rules, r, op, ns);
+            check(index, r, op, ns);
           }
         }
       }
@@ -159,43 +159,17 @@ public final class HealthCheckHelper {
    */
   public static boolean check(
       List<V1ResourceRule> rules, Resource res, Operation op) {
-    String verb = op.name();
-    String apiGroup = res.getApiGroup();
-    String resource = res.getResource();
-    String sub = res.getSubResource();
-    if (sub != null && !sub.isEmpty()) {
-      resource = resource + "/" + sub;
-    }
-    for (V1ResourceRule rule : rules) {
-      List<String> ruleApiGroups = rule.getApiGroups();
-      if (apiGroupMatch(ruleApiGroups, apiGroup)) {
-        List<String> ruleResources = rule.getResources();
-        if (ruleResources != null && (ruleResources.contains("*") || ruleResources.contains(resource))) {
-          List<String> ruleVerbs = rule.getVerbs();
-          if (ruleVerbs != null && (ruleVerbs.contains("*") || ruleVerbs.contains(verb))) {
-            return true;
-          }
-        }
-      }
-    }
-    return false;
+    return new ResourceRulesIndex(rules).canI(res, op);
   }
 
   private static void check(
-      List<V1ResourceRule> rules, Resource r, Operation op, String ns) {
+      ResourceRulesIndex index, Resource r, Operation op, String ns) {
 
-    if (!check(rules, r, op)) {
+    if (!index.canI(r, op)) {
       LOGGER.warning(MessageKeys.VERIFY_ACCESS_DENIED_WITH_NS, op, r.getResource(), ns);
     }
   }
 
-  private static boolean apiGroupMatch(List<String> ruleApiGroups, String apiGroup) {
-    if (apiGroup == null || apiGroup.isEmpty()) {
-      return ruleApiGroups == null || ruleApiGroups.isEmpty() || ruleApiGroups.contains("");
-    }
-    return ruleApiGroups != null && (ruleApiGroups.contains("*") || ruleApiGroups.contains(apiGroup));
-  }
-
   /**
    * Verify the k8s version.
    *
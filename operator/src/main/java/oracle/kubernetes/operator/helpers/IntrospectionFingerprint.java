@@ -0,0 +1,159 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A fingerprint over the inputs on which domain introspection depends: the image, the domain home,
+ * the configuration override settings, the domain restart version, and the resource versions of the
+ * configuration override config map and of the secrets the introspector reads. The fingerprint of
+ * the inputs to the last introspection is recorded as an annotation on the introspector config map,
+ * so that the operator can reuse the topology stored there until one of those inputs changes.
+ */
+class IntrospectionFingerprint {
+  static final String FINGERPRINT_ANNOTATION = "weblogic.introspectionInputs";
+
+  private IntrospectionFingerprint() {
+  }
+
+  /**
+   * Creates a step which reads the resources on which introspection depends, and records the
+   * fingerprint of the current inputs in the packet as {@link
+   * ProcessingConstants#INTROSPECTION_INPUTS_FINGERPRINT}.
+   *
+   * @param next the next step to run
+   * @return a step to be scheduled
+   */
+  static Step createStep(Step next) {
+    return new ComputeFingerprintStep(next);
+  }
+
+  /**
+   * Returns the fingerprint recorded on an introspector config map.
+   *
+   * @param configMap an introspector config map
+   * @return the recorded fingerprint, or null if there is none
+   */
+  static String getRecordedFingerprint(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap.getMetadata())
+        .map(V1ObjectMeta::getAnnotations)
+        .map(a -> a.get(FINGERPRINT_ANNOTATION))
+        .orElse(null);
+  }
+
+  /**
+   * Computes the fingerprint of the introspection inputs.
+   *
+   * @param domain the domain to introspect
+   * @param resourceVersions the resource versions of the config maps and secrets read by the
+   *     introspector, keyed by kind and name. An absent resource should map to an empty string.
+   * @return a hex-encoded SHA-256 hash
+   */
+  static String compute(Domain domain, Map<String, String> resourceVersions) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("image=").append(domain.getSpec().getImage()).append('\n');
+    sb.append("domainHome=").append(domain.getDomainHome()).append('\n');
+    sb.append("configOverrides=").append(domain.getConfigOverrides()).append('\n');
+    sb.append("configOverrideSecrets=").append(domain.getConfigOverrideSecrets()).append('\n');
+    sb.append("restartVersion=").append(domain.getAdminServerSpec().getDomainRestartVersion()).append('\n');
+    new TreeMap<>(resourceVersions).forEach((k, v) -> sb.append(k).append('=').append(v).append('\n'));
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
+  private static class ComputeFingerprintStep extends Step {
+    ComputeFingerprintStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Domain domain = info.getDomain();
+      SortedMap<String, String> resourceVersions = new TreeMap<>();
+
+      List<Step> steps = new ArrayList<>();
+      Optional.ofNullable(domain.getConfigOverrides())
+          .ifPresent(name -> steps.add(readConfigMap(name, info.getNamespace(), resourceVersions)));
+      Optional.ofNullable(domain.getWebLogicCredentialsSecretName())
+          .ifPresent(name -> steps.add(readSecret(name, info.getNamespace(), resourceVersions)));
+      for (String name : domain.getConfigOverrideSecrets()) {
+        steps.add(readSecret(name, info.getNamespace(), resourceVersions));
+      }
+      steps.add(new RecordFingerprintStep(resourceVersions, getNext()));
+
+      return doNext(Step.chain(steps.toArray(new Step[0])), packet);
+    }
+
+    private Step readConfigMap(String name, String namespace, Map<String, String> resourceVersions) {
+      return new CallBuilder()
+          .readConfigMapAsync(name, namespace, new ResourceVersionStep<>("configmap/" + name, resourceVersions));
+    }
+
+    private Step readSecret(String name, String namespace, Map<String, String> resourceVersions) {
+      return new CallBuilder()
+          .readSecretAsync(name, namespace, new ResourceVersionStep<V1Secret>("secret/" + name, resourceVersions));
+    }
+  }
+
+  private static class ResourceVersionStep<T> extends DefaultResponseStep<T> {
+    private final String key;
+    private final Map<String, String> resourceVersions;
+
+    ResourceVersionStep(String key, Map<String, String> resourceVersions) {
+      this.key = key;
+      this.resourceVersions = resourceVersions;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<T> callResponse) {
+      resourceVersions.put(key, getResourceVersion(callResponse.getResult()));
+      return doNext(packet);
+    }
+
+    private String getResourceVersion(T resource) {
+      V1ObjectMeta metadata = null;
+      if (resource instanceof V1ConfigMap) {
+        metadata = ((V1ConfigMap) resource).getMetadata();
+      } else if (resource instanceof V1Secret) {
+        metadata = ((V1Secret) resource).getMetadata();
+      }
+      return Optional.ofNullable(metadata).map(V1ObjectMeta::getResourceVersion).orElse("");
+    }
+  }
+
+  private static class RecordFingerprintStep extends Step {
+    private final Map<String, String> resourceVersions;
+
+    RecordFingerprintStep(Map<String, String> resourceVersions, Step next) {
+      super(next);
+      this.resourceVersions = resourceVersions;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      packet.put(
+          ProcessingConstants.INTROSPECTION_INPUTS_FINGERPRINT, compute(info.getDomain(), resourceVersions));
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,241 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.IntrospectorTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Support for the optional compact storage format of the introspector config map. In this format,
+ * entries larger than a threshold are gzipped into the config map's binaryData (which Kubernetes
+ * stores base64-encoded), and all compressed entries other than the domain topology are spread over
+ * a small, fixed set of shard config maps. Each config map is annotated with a hash of its
+ * contents, so that a shard is written only when its contents change.
+ *
+ * <p>The format is selected by the tuning parameter "introspectorConfigMapFormat" with the value
+ * "compact"; the default is to keep every entry as plain text in a single config map.
+ */
+class IntrospectorConfigMapStorage {
+  static final String FORMAT_PARAM = "introspectorConfigMapFormat";
+  static final String COMPACT_FORMAT = "compact";
+  static final String COMPRESSION_THRESHOLD_PARAM = "introspectorConfigMapCompressionThreshold";
+  static final String SHARD_SIZE_PARAM = "introspectorConfigMapShardSize";
+  static final String MAX_SHARDS_PARAM = "introspectorConfigMapMaxShards";
+  static final String COMPRESSED_SUFFIX = ".gz";
+  static final String TOPOLOGY_YAML = "topology.yaml";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final int DEFAULT_COMPRESSION_THRESHOLD = 32 * 1024;
+  // binaryData is base64-encoded on the wire, so leave room for the 4/3 expansion under 1 MiB
+  private static final int DEFAULT_SHARD_SIZE = 600 * 1024;
+  private static final int DEFAULT_MAX_SHARDS = 4;
+  private static final IntrospectorTuning DEFAULT_TUNING =
+      new IntrospectorTuning(false, DEFAULT_COMPRESSION_THRESHOLD, DEFAULT_SHARD_SIZE, DEFAULT_MAX_SHARDS);
+
+  private IntrospectorConfigMapStorage() {
+  }
+
+  static boolean isCompactFormat() {
+    return getTuning().compactConfigMapFormat;
+  }
+
+  static int getMaxShards() {
+    return getTuning().maxShards;
+  }
+
+  private static IntrospectorTuning getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getIntrospectorTuning)
+        .orElse(DEFAULT_TUNING);
+  }
+
+  /**
+   * Returns the name of the specified shard of the introspector config map.
+   *
+   * @param domainUid the domain UID
+   * @param index the shard index, starting at 1
+   * @return a config map name
+   */
+  static String getShardName(String domainUid, int index) {
+    return ConfigMapHelper.SitConfigMapContext.getConfigMapName(domainUid) + "-" + index;
+  }
+
+  /**
+   * Returns the named entry from an introspector config map in either storage format.
+   *
+   * @param configMap an introspector config map
+   * @param name the name of the entry
+   * @return the entry contents, or null if there is no such entry
+   */
+  static String getEntry(V1ConfigMap configMap, String name) {
+    String value = Optional.ofNullable(configMap.getData()).map(d -> d.get(name)).orElse(null);
+    if (value != null) {
+      return value;
+    }
+
+    return Optional.ofNullable(configMap.getBinaryData())
+        .map(d -> d.get(name + COMPRESSED_SUFFIX))
+        .map(IntrospectorConfigMapStorage::decompress)
+        .orElse(null);
+  }
+
+  static byte[] compress(String value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(value.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static String decompress(byte[] value) {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(value))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Computes a hash over the contents of a config map. Entries are taken in key order, so the
+   * result does not depend on map iteration order.
+   *
+   * @param data the plain-text entries
+   * @param binaryData the binary entries
+   * @return a hex-encoded SHA-256 hash
+   */
+  static String getContentHash(Map<String, String> data, Map<String, byte[]> binaryData) {
+    StringBuilder sb = new StringBuilder();
+    if (data != null) {
+      new TreeMap<>(data).forEach((k, v) -> sb.append(k).append('=').append(DigestUtils.sha256Hex(v)).append('\n'));
+    }
+    if (binaryData != null) {
+      new TreeMap<>(binaryData)
+          .forEach((k, v) -> sb.append(k).append(':').append(DigestUtils.sha256Hex(v)).append('\n'));
+    }
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
+  static Layout createLayout(Map<String, String> entries) {
+    IntrospectorTuning tuning = getTuning();
+    return new Layout(entries, tuning.compressionThreshold, tuning.shardSize, tuning.maxShards);
+  }
+
+  /**
+   * Returns the index, starting at 0, of the shard which holds the named entry. The index depends
+   * only on the name, so an entry stays in its shard however the other entries change.
+   *
+   * @param name the name of an introspector entry
+   * @param maxShards the number of shards
+   * @return a shard index
+   */
+  static int getShardIndex(String name, int maxShards) {
+    return Math.floorMod(name.hashCode(), Math.max(1, maxShards));
+  }
+
+  /**
+   * The division of introspector output between the primary config map and its shards. Small
+   * entries stay as plain text in the primary config map, so that the files pods read directly are
+   * unchanged; the compressed topology also stays in the primary, so the operator can read it with
+   * a single call. Each of the remaining compressed entries goes to the shard chosen by a hash of its
+   * name. A shard whose contents would exceed the configured size makes the layout invalid, as
+   * Kubernetes would reject the config map; an invalid layout must not be stored.
+   */
+  static class Layout {
+    private final SortedMap<String, String> data = new TreeMap<>();
+    private final SortedMap<String, byte[]> binaryData = new TreeMap<>();
+    private final List<SortedMap<String, byte[]>> shards = new ArrayList<>();
+    private Object[] oversizedShard;
+
+    Layout(Map<String, String> entries, int compressionThreshold, int shardSize, int maxShards) {
+      for (Map.Entry<String, String> entry : new TreeMap<>(entries).entrySet()) {
+        if (entry.getValue().length() <= compressionThreshold) {
+          data.put(entry.getKey(), entry.getValue());
+        } else if (entry.getKey().equals(TOPOLOGY_YAML)) {
+          binaryData.put(entry.getKey() + COMPRESSED_SUFFIX, compress(entry.getValue()));
+        } else {
+          getShard(getShardIndex(entry.getKey(), maxShards))
+              .put(entry.getKey() + COMPRESSED_SUFFIX, compress(entry.getValue()));
+        }
+      }
+
+      for (int i = 0; i < shards.size() && oversizedShard == null; i++) {
+        checkShardSize(i + 1, shards.get(i), shardSize);
+      }
+    }
+
+    private SortedMap<String, byte[]> getShard(int index) {
+      while (shards.size() <= index) {
+        shards.add(new TreeMap<>());
+      }
+      return shards.get(index);
+    }
+
+    private void checkShardSize(int index, Map<String, byte[]> shard, int shardSize) {
+      int shardBytes = 0;
+      for (byte[] value : shard.values()) {
+        shardBytes += value.length;
+      }
+      if (shardBytes > shardSize) {
+        oversizedShard = new Object[] {index, shardBytes, shardSize, MAX_SHARDS_PARAM};
+      }
+    }
+
+    /**
+     * Returns true if every shard fits within the configured size.
+     *
+     * @return true if the layout may be stored
+     */
+    boolean isValid() {
+      return oversizedShard == null;
+    }
+
+    void logValidationError() {
+      LOGGER.severe(MessageKeys.INTROSPECTOR_SHARD_TOO_LARGE, oversizedShard);
+    }
+
+    String getValidationError() {
+      return LOGGER.getFormattedMessage(MessageKeys.INTROSPECTOR_SHARD_TOO_LARGE, oversizedShard);
+    }
+
+    Map<String, String> getData() {
+      return data;
+    }
+
+    Map<String, byte[]> getBinaryData() {
+      return binaryData;
+    }
+
+    /**
+     * Returns the binary contents of the shards, in order, up to the last one which holds an entry.
+     * The first element belongs in the shard with index 1.
+     *
+     * @return a list of maps, one per shard
+     */
+    List<SortedMap<String, byte[]>> getShards() {
+      return shards;
+    }
+  }
+}
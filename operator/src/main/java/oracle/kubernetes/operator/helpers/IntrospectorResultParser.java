@@ -0,0 +1,120 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An incremental parser for the output of the domain introspector job. Lines are fed to it one at a
+ * time, in a single pass over the pod log, and each completed file is added to the data map as soon
+ * as its end marker is seen. Files are delimited by lines of the form:
+ *
+ * <pre>
+ * &gt;&gt;&gt; /u01/introspect/domain1/topology.yaml
+ * ...contents...
+ * &gt;&gt;&gt; EOF
+ * </pre>
+ */
+class IntrospectorResultParser implements Consumer<String> {
+  private static final String FILE_MARKER = ">>>";
+  private static final String EOF_MARKER = "EOF";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final Map<String, String> data = new HashMap<>();
+  private final StringBuilder contents = new StringBuilder();
+  private String fileName;
+
+  /**
+   * Parses the specified text into a map of file names to contents.
+   *
+   * @param text the introspector job output
+   * @return a map of file names to file contents
+   */
+  static Map<String, String> parse(CharSequence text) {
+    IntrospectorResultParser parser = new IntrospectorResultParser();
+    forEachLine(text, parser);
+    return parser.getData();
+  }
+
+  /**
+   * Passes each line of the specified text to the consumer, without copying the text as a whole.
+   * Lines may be terminated by either '\n' or "\r\n"; the terminators are not passed on.
+   *
+   * @param text the text to split
+   * @param consumer the recipient of the lines
+   */
+  static void forEachLine(CharSequence text, Consumer<String> consumer) {
+    if (text == null) {
+      return;
+    }
+
+    int start = 0;
+    int length = text.length();
+    while (start < length) {
+      int end = indexOfNewline(text, start);
+      int next = end + 1;
+      if (end > start && text.charAt(end - 1) == '\r') {
+        end--;
+      }
+      consumer.accept(text.subSequence(start, end).toString());
+      start = next;
+    }
+  }
+
+  private static int indexOfNewline(CharSequence text, int from) {
+    for (int i = from; i < text.length(); i++) {
+      if (text.charAt(i) == '\n') {
+        return i;
+      }
+    }
+    return text.length();
+  }
+
+  static String extractFilename(String line) {
+    return line.substring(line.lastIndexOf('/') + 1);
+  }
+
+  @Override
+  public void accept(String line) {
+    if (fileName == null) {
+      if (isFileStart(line)) {
+        fileName = extractFilename(line);
+      }
+    } else if (isFileEnd(line)) {
+      data.put(fileName, contents.toString());
+      contents.setLength(0);
+      fileName = null;
+    } else {
+      contents.append(line).append(LINE_SEPARATOR);
+    }
+  }
+
+  private boolean isFileStart(String line) {
+    return line.startsWith(FILE_MARKER) && !line.endsWith(EOF_MARKER);
+  }
+
+  private boolean isFileEnd(String line) {
+    return line.startsWith(FILE_MARKER) && line.endsWith(EOF_MARKER);
+  }
+
+  /**
+   * Returns true if the last line accepted was the start of, or part of the contents of, a file.
+   *
+   * @return true if a file is being parsed
+   */
+  boolean isInFile() {
+    return fileName != null;
+  }
+
+  /**
+   * Returns the files parsed so far. A file whose end marker has not yet been seen is not included.
+   *
+   * @return a map of file names to file contents
+   */
+  Map<String, String> getData() {
+    return data;
+  }
+}
@@ -58,7 +58,7 @@ public class JobHelper {
    */
   public static Step createDomainIntrospectorJobStep(Step next) {
 
-    return new DomainIntrospectorJobStep(next);
+    return IntrospectionFingerprint.createStep(new DomainIntrospectorJobStep(next));
   }
 
   private static boolean runIntrospector(Packet packet, DomainPresenceInfo info) {
@@ -66,7 +66,18 @@ public class JobHelper {
     LOGGER.fine("runIntrospector topology: " + topology);
     LOGGER.fine("runningServersCount: " + runningServersCount(info));
     LOGGER.fine("creatingServers: " + creatingServers(info));
-    return topology == null || isBringingUpNewDomain(info);
+    return topology == null || haveIntrospectionInputsChanged(packet, info);
+  }
+
+  // If the introspector config map records the inputs from which it was produced, introspect again
+  // only when those inputs change. Otherwise, introspect whenever a new domain is being brought up.
+  private static boolean haveIntrospectionInputsChanged(Packet packet, DomainPresenceInfo info) {
+    String introspected = (String) packet.get(ProcessingConstants.INTROSPECTED_INPUTS_FINGERPRINT);
+    if (introspected == null) {
+      return isBringingUpNewDomain(info);
+    }
+
+    return !introspected.equals(packet.get(ProcessingConstants.INTROSPECTION_INPUTS_FINGERPRINT));
   }
 
   private static boolean isBringingUpNewDomain(DomainPresenceInfo info) {
@@ -325,14 +336,17 @@ public class JobHelper {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
       String result = callResponse.getResult();
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+      }
 
       if (result != null) {
-        convertJobLogsToOperatorLogs(result);
+        IntrospectorResultParser parser = new IntrospectorResultParser();
+        processJobLog(result, parser);
         if (!severeStatuses.isEmpty()) {
           updateStatus(packet.getSpi(DomainPresenceInfo.class));
         }
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA, parser.getData());
       }
 
       V1Job domainIntrospectorJob =
@@ -348,21 +362,31 @@ public class JobHelper {
       return domainIntrospectorJob == null || !JobWatcher.isComplete(domainIntrospectorJob);
     }
 
+    // Make a single pass over the job log, handing each line to the parser, which collects the
+    // introspected files, and converting the remaining lines to operator log messages.
+    private void processJobLog(String jobLogs, IntrospectorResultParser parser) {
+      IntrospectorResultParser.forEachLine(jobLogs, line -> {
+        boolean wasInFile = parser.isInFile();
+        parser.accept(line);
+        if (!wasInFile && !parser.isInFile()) {
+          convertJobLogLineToOperatorLog(line);
+        }
+      });
+      logToOperator();
+    }
+
     // Parse log messages out of a Job Log
     //  - assumes each job log message starts with '@['
     //  - assumes any lines that don't start with '@[' are part
     //    of the previous log message
     //  - ignores all lines in the log up to the first line that starts with '@['
-    private void convertJobLogsToOperatorLogs(String jobLogs) {
-      for (String line : jobLogs.split(EOL_PATTERN)) {
-        if (line.startsWith("@[")) {
-          logToOperator();
-          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-        } else if (logMessage.length() > 0) {
-          logMessage.append(System.lineSeparator()).append(line.trim());
-        }
+    private void convertJobLogLineToOperatorLog(String line) {
+      if (line.startsWith("@[")) {
+        logToOperator();
+        logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+      } else if (logMessage.length() > 0) {
+        logMessage.append(System.lineSeparator()).append(line.trim());
       }
-      logToOperator();
     }
 
     private void logToOperator() {
@@ -0,0 +1,53 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Objects;
+
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * The last health read from a server, with the response from which it was parsed. A server usually
+ * returns the same response on every status update, so while it does, the parsed state and health
+ * are reused. The response is short, so it is kept whole rather than as a hash, which costs more to
+ * compute than the comparison it would save.
+ */
+public class LastReadHealth {
+  private final String response;
+  private final String state;
+  private final ServerHealth health;
+
+  /**
+   * Construct last read health.
+   * @param response the response returned by the server
+   * @param state the server state parsed from the response
+   * @param health the server health parsed from the response
+   */
+  public LastReadHealth(String response, String state, ServerHealth health) {
+    this.response = response;
+    this.state = state;
+    this.health = health;
+  }
+
+  public boolean isReadFrom(String response) {
+    return Objects.equals(this.response, response);
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public ServerHealth getHealth() {
+    return health;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("state", state)
+        .append("health", health)
+        .toString();
+  }
+}
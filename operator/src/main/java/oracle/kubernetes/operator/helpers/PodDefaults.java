@@ -6,9 +6,12 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
 import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
 
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_DEBUG_CONFIG_MAP_SUFFIX;
@@ -50,7 +53,28 @@ class PodDefaults {
   }
 
   private static V1Volume createSitConfigVolume(String domainUid) {
-    return createVolume(getSitConfigMapVolumeName(domainUid), getConfigMapName(domainUid));
+    return IntrospectorConfigMapStorage.isCompactFormat()
+        ? createCompactSitConfigVolume(domainUid)
+        : createVolume(getSitConfigMapVolumeName(domainUid), getConfigMapName(domainUid));
+  }
+
+  // In the compact format, the introspector output is spread across the primary config map and
+  // its optional shards, which are projected into the same directory.
+  private static V1Volume createCompactSitConfigVolume(String domainUid) {
+    V1ProjectedVolumeSource projected =
+        new V1ProjectedVolumeSource()
+            .defaultMode(ALL_READ_AND_EXECUTE)
+            .addSourcesItem(createConfigMapProjection(getConfigMapName(domainUid), false));
+    for (int i = 1; i <= IntrospectorConfigMapStorage.getMaxShards(); i++) {
+      projected.addSourcesItem(
+          createConfigMapProjection(IntrospectorConfigMapStorage.getShardName(domainUid, i), true));
+    }
+    return new V1Volume().name(getSitConfigMapVolumeName(domainUid)).projected(projected);
+  }
+
+  private static V1VolumeProjection createConfigMapProjection(String configMapName, boolean optional) {
+    return new V1VolumeProjection()
+        .configMap(new V1ConfigMapProjection().name(configMapName).optional(optional));
   }
 
   private static String getSitConfigMapVolumeName(String domainUid) {
@@ -279,7 +279,15 @@ public abstract class PodStepContext extends BasePodStepContext {
    */
   Step createPod(Step next) {
     clearBeingDeleted();
-    return createPodAsync(createResponse(next));
+    return usesServerSideApply() ? applyPod(new ApplyCreateResponseStep(next)) : createPodAsync(createResponse(next));
+  }
+
+  private boolean usesServerSideApply() {
+    return ServerSideApply.isEnabledFor(ServerSideApply.POD);
+  }
+
+  private Step applyPod(ResponseStep<V1Pod> response) {
+    return new CallBuilder().applyPodAsync(getPodName(), getNamespace(), getPodModel(), response);
   }
 
   private Step createPodAsync(ResponseStep<V1Pod> response) {
@@ -320,6 +328,10 @@ public abstract class PodStepContext extends BasePodStepContext {
             new V1Patch(patchBuilder.build().toString()), patchResponse(next));
   }
 
+  private Step updateCurrentPod(V1Pod currentPod, Step next) {
+    return usesServerSideApply() ? applyPod(new ApplyPatchResponseStep(next)) : patchCurrentPod(currentPod, next);
+  }
+
   private void logPodCreated() {
     LOGGER.info(getPodCreatedMessageKey(), getDomainUid(), getServerName());
   }
@@ -760,7 +772,7 @@ public abstract class PodStepContext extends BasePodStepContext {
             getReasonToRecycle(currentPod));
         return doNext(replaceCurrentPod(getNext()), packet);
       } else if (mustPatchPod(currentPod)) {
-        return doNext(patchCurrentPod(currentPod, getNext()), packet);
+        return doNext(updateCurrentPod(currentPod, getNext()), packet);
       } else {
         logPodExists();
         return doNext(packet);
@@ -850,6 +862,34 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
   }
 
+  // A pod which cannot be updated by an apply request, because its spec differs, is replaced
+  // in the same way as a pod whose recorded spec differs
+  private class ApplyCreateResponseStep extends CreateResponseStep {
+    ApplyCreateResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      return ServerSideApply.isUnprocessable(callResponse)
+          ? doNext(replaceCurrentPod(getNext()), packet)
+          : super.onFailure(packet, callResponse);
+    }
+  }
+
+  private class ApplyPatchResponseStep extends PatchPodResponseStep {
+    ApplyPatchResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      return ServerSideApply.isUnprocessable(callResponse)
+          ? doNext(replaceCurrentPod(getNext()), packet)
+          : super.onFailure(packet, callResponse);
+    }
+  }
+
   private class PatchPodResponseStep extends BaseResponseStep {
     private final Step next;
 
@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import io.kubernetes.client.openapi.models.V1ResourceRule;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+
+/**
+ * The resource rules returned by a self subject rules review, indexed by API group and resource so
+ * that a permission may be checked with a few hash lookups, rather than by matching every rule.
+ * Wildcards are indexed under "*", and match the same way as in {@link HealthCheckHelper#check}:
+ * a wildcard API group does not match the core group.
+ */
+public class ResourceRulesIndex {
+  private static final String WILDCARD = "*";
+  private static final String CORE_GROUP = "";
+
+  // API group -> resource -> verbs permitted
+  private final Map<String, Map<String, Set<String>>> verbs = new HashMap<>();
+
+  /**
+   * Creates an index of the specified rules.
+   *
+   * @param rules the resource rules from a self subject rules review; may be null
+   */
+  public ResourceRulesIndex(List<V1ResourceRule> rules) {
+    Optional.ofNullable(rules).orElse(Collections.emptyList()).forEach(this::addRule);
+  }
+
+  private void addRule(V1ResourceRule rule) {
+    if (rule.getResources() == null || rule.getVerbs() == null) {
+      return;
+    }
+
+    for (String apiGroup : getApiGroups(rule)) {
+      Map<String, Set<String>> resources = verbs.computeIfAbsent(apiGroup, g -> new HashMap<>());
+      for (String resource : rule.getResources()) {
+        resources.computeIfAbsent(resource, r -> new HashSet<>()).addAll(rule.getVerbs());
+      }
+    }
+  }
+
+  private List<String> getApiGroups(V1ResourceRule rule) {
+    List<String> apiGroups = rule.getApiGroups();
+    return apiGroups == null || apiGroups.isEmpty() ? Collections.singletonList(CORE_GROUP) : apiGroups;
+  }
+
+  /**
+   * Returns true if the rules permit the operation on the resource.
+   *
+   * @param resource the resource
+   * @param operation the operation
+   * @return true if permitted
+   */
+  public boolean canI(Resource resource, Operation operation) {
+    return canI(resource.getApiGroup(), getResourceName(resource), operation.name());
+  }
+
+  /**
+   * Returns true if the rules permit the verb on the resource.
+   *
+   * @param apiGroup the API group of the resource; null or empty for the core group
+   * @param resource the resource name, including any subresource, such as "pods/log"
+   * @param verb the verb, such as "list"
+   * @return true if permitted
+   */
+  public boolean canI(String apiGroup, String resource, String verb) {
+    if (apiGroup == null || apiGroup.isEmpty()) {
+      return canI(verbs.get(CORE_GROUP), resource, verb);
+    }
+    return canI(verbs.get(apiGroup), resource, verb) || canI(verbs.get(WILDCARD), resource, verb);
+  }
+
+  private boolean canI(Map<String, Set<String>> resources, String resource, String verb) {
+    return resources != null
+        && (permits(resources.get(resource), verb) || permits(resources.get(WILDCARD), verb));
+  }
+
+  private String getResourceName(Resource resource) {
+    String sub = resource.getSubResource();
+    return sub == null || sub.isEmpty() ? resource.getResource() : resource.getResource() + "/" + sub;
+  }
+
+  private boolean permits(Set<String> permitted, String verb) {
+    return permitted != null && (permitted.contains(verb) || permitted.contains(WILDCARD));
+  }
+}
@@ -85,7 +85,8 @@ public abstract class ResponseStep<T> extends Step {
   }
 
   private NextAction getPotentialRetryAction(Packet packet) {
-    return Optional.ofNullable(doPotentialRetry(conflictStep, packet, CallResponse.createNull())).orElse(doEnd(packet));
+    return Optional.ofNullable(doPotentialRetry(conflictStep, packet, CallResponse.createNull()))
+          .orElseGet(() -> doEnd(packet));
   }
 
   /**
@@ -150,7 +151,7 @@ public abstract class ResponseStep<T> extends Step {
    */
   public NextAction onFailure(Step conflictStep, Packet packet, CallResponse<T> callResponse) {
     return Optional.ofNullable(doPotentialRetry(conflictStep, packet, callResponse))
-        .orElse(onFailureNoRetry(packet, callResponse));
+        .orElseGet(() -> onFailureNoRetry(packet, callResponse));
   }
 
   protected NextAction onFailureNoRetry(Packet packet, CallResponse<T> callResponse) {
@@ -30,7 +30,8 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
  * out-of-date specification, it defers the processing of these servers to the RollingHelper. This
  * class will ensure that a minimum number of cluster members remain up, if possible, throughout the
- * rolling process.
+ * rolling process. Clusters roll in parallel, and each server restart waits for a permit from the
+ * {@link RolloutScheduler}, which limits the number of restarts across all clusters and domains.
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -94,9 +95,10 @@ public class RollingHelper {
       for (Map.Entry<String, StepAndPacket> entry : rolling.entrySet()) {
         // If this server isn't currently Ready, then it can be safely restarted now
         // regardless of the state of its cluster (if any)
+        StepAndPacket restart = RolloutScheduler.throttle(entry.getValue());
         if (!availableServers.contains(entry.getKey())) {
           servers.add(entry.getKey());
-          serversThatCanRestartNow.add(entry.getValue());
+          serversThatCanRestartNow.add(restart);
           continue;
         }
 
@@ -105,7 +107,7 @@ public class RollingHelper {
         String clusterName = (String) p.get(ProcessingConstants.CLUSTER_NAME);
         if (clusterName == null) {
           servers.add(entry.getKey());
-          serversThatCanRestartNow.add(entry.getValue());
+          serversThatCanRestartNow.add(restart);
           continue;
         }
 
@@ -115,7 +117,7 @@ public class RollingHelper {
           cr = new ConcurrentLinkedQueue<>();
           clusteredRestarts.put(clusterName, cr);
         }
-        cr.add(entry.getValue());
+        cr.add(restart);
       }
 
       if (!servers.isEmpty()) {
@@ -138,7 +140,8 @@ public class RollingHelper {
       }
 
       if (!work.isEmpty()) {
-        return doForkJoin(getNext(), packet, work);
+        RolloutProgress progress = RolloutScheduler.startProgress(packet, rolling.size());
+        return doForkJoin(RolloutScheduler.createEndProgressStep(progress, getNext()), packet, work);
       }
 
       return doNext(packet);
@@ -0,0 +1,51 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.RolloutStatus;
+import org.joda.time.DateTime;
+
+/**
+ * The progress of a single rollout of server pods for a domain: the number of servers to start or
+ * restart, the number which have completed, and the time the rollout began. The estimated completion
+ * time assumes that the remaining servers will complete at the same average rate as those already done.
+ */
+public class RolloutProgress {
+  private final int serversTotal;
+  private final AtomicInteger serversCompleted = new AtomicInteger();
+  private final DateTime startTime = SystemClock.now();
+
+  RolloutProgress(int serversTotal) {
+    this.serversTotal = serversTotal;
+  }
+
+  void recordServerCompleted() {
+    serversCompleted.incrementAndGet();
+  }
+
+  /**
+   * Returns a description of this progress suitable for the domain status.
+   *
+   * @return a rollout status
+   */
+  public RolloutStatus toStatus() {
+    int completed = serversCompleted.get();
+    return new RolloutStatus()
+          .withServersTotal(serversTotal)
+          .withServersCompleted(completed)
+          .withEstimatedCompletionTime(getEstimatedCompletionTime(completed));
+  }
+
+  private DateTime getEstimatedCompletionTime(int completed) {
+    if (completed == 0) {
+      return null;
+    }
+
+    long elapsed = SystemClock.now().getMillis() - startTime.getMillis();
+    return startTime.plus(elapsed * serversTotal / completed);
+  }
+}
@@ -0,0 +1,246 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+
+/**
+ * Limits the number of server pods which the operator starts or restarts at once. Each server is
+ * started under a permit; there is an operator-wide limit on the number of permits, set by the tuning
+ * parameter "maxConcurrentServerStarts", and a limit for each namespace, set by
+ * "maxConcurrentServerStartsPerNamespace". A missing or non-positive value means no limit. Servers
+ * waiting for a permit are served in the order in which they asked for one, except that a server whose
+ * namespace is at its limit does not hold up servers in other namespaces.
+ *
+ * <p>Each server's work runs in its own fiber, and its permit is released when that fiber ends,
+ * whether or not it succeeds. The scheduler also records, in the {@link DomainPresenceInfo}, the
+ * progress of each rollout, so that it may be reported in the domain status.
+ */
+public class RolloutScheduler {
+  static final String MAX_CONCURRENT_PARAM = "maxConcurrentServerStarts";
+  static final String MAX_CONCURRENT_PER_NAMESPACE_PARAM = "maxConcurrentServerStartsPerNamespace";
+
+  private static RolloutScheduler instance = new RolloutScheduler();
+
+  private final Deque<Request> waiting = new ArrayDeque<>();
+  private final Map<String, Integer> activeByNamespace = new HashMap<>();
+  private int numActive;
+
+  RolloutScheduler() {
+  }
+
+  static RolloutScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates a step which starts or restarts a set of servers, running as many at once as the
+   * scheduler permits, and records the progress of the rollout until all have completed.
+   *
+   * @param servers the steps and packets which start or restart each server
+   * @param next the step to run after all servers have completed
+   * @return a step to be scheduled
+   */
+  public static Step createRolloutStep(Collection<StepAndPacket> servers, Step next) {
+    return new RolloutStep(servers, next);
+  }
+
+  /**
+   * Begins recording the progress of a rollout for the domain in the specified packet.
+   *
+   * @param packet a packet containing a {@link DomainPresenceInfo}
+   * @param numServers the number of servers to be started or restarted
+   * @return the progress of the new rollout
+   */
+  static RolloutProgress startProgress(Packet packet, int numServers) {
+    RolloutProgress progress = new RolloutProgress(numServers);
+    Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class)).ifPresent(info -> info.setRolloutProgress(progress));
+    return progress;
+  }
+
+  /**
+   * Creates a step which ends the recording of a rollout.
+   *
+   * @param progress the progress of the rollout, as returned by {@link #startProgress(Packet, int)}
+   * @param next the next step to run
+   * @return a step to be scheduled
+   */
+  static Step createEndProgressStep(RolloutProgress progress, Step next) {
+    return new EndProgressStep(progress, next);
+  }
+
+  /**
+   * Wraps the work to start or restart a single server, so that it runs only under a permit and is
+   * counted as part of the progress of the current rollout.
+   *
+   * @param server the step and packet which start or restart the server
+   * @return a step and packet to be run in place of the original
+   */
+  static StepAndPacket throttle(StepAndPacket server) {
+    return new StepAndPacket(new AwaitPermitStep(server.step), server.packet);
+  }
+
+  private static String getNamespace(Packet packet) {
+    return Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+          .map(DomainPresenceInfo::getNamespace)
+          .orElse("");
+  }
+
+  private static Optional<MainTuning> getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning);
+  }
+
+  private static boolean isBelowLimit(int count, int limit) {
+    return limit <= 0 || count < limit;
+  }
+
+  private void submit(Fiber fiber, Step step, Packet packet) {
+    List<Request> permitted;
+    synchronized (this) {
+      waiting.add(new Request(fiber, step, packet));
+      permitted = grantPermits();
+    }
+    permitted.forEach(Request::run);
+  }
+
+  private void release(String namespace) {
+    List<Request> permitted;
+    synchronized (this) {
+      numActive--;
+      activeByNamespace.computeIfPresent(namespace, (k, count) -> count > 1 ? count - 1 : null);
+      permitted = grantPermits();
+    }
+    permitted.forEach(Request::run);
+  }
+
+  // must be called while holding the monitor
+  private List<Request> grantPermits() {
+    Optional<MainTuning> tuning = getTuning();
+    int limit = tuning.map(t -> t.maxConcurrentServerStarts).orElse(0);
+    int namespaceLimit = tuning.map(t -> t.maxConcurrentServerStartsPerNamespace).orElse(0);
+
+    List<Request> permitted = new ArrayList<>();
+    for (Iterator<Request> it = waiting.iterator(); it.hasNext() && isBelowLimit(numActive, limit); ) {
+      Request request = it.next();
+      if (isBelowLimit(activeByNamespace.getOrDefault(request.namespace, 0), namespaceLimit)) {
+        it.remove();
+        numActive++;
+        activeByNamespace.merge(request.namespace, 1, Integer::sum);
+        permitted.add(request);
+      }
+    }
+    return permitted;
+  }
+
+  synchronized int getNumActive() {
+    return numActive;
+  }
+
+  synchronized int getNumWaiting() {
+    return waiting.size();
+  }
+
+  /** A server waiting for a permit. */
+  private class Request implements CompletionCallback {
+    private final String namespace;
+    private final Fiber fiber;
+    private final Step step;
+    private final Packet packet;
+
+    Request(Fiber fiber, Step step, Packet packet) {
+      this.namespace = getNamespace(packet);
+      this.fiber = fiber;
+      this.step = step;
+      this.packet = packet;
+    }
+
+    void run() {
+      fiber.createChildFiber().start(step, packet, this);
+    }
+
+    @Override
+    public void onCompletion(Packet resultPacket) {
+      Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+            .map(DomainPresenceInfo::getRolloutProgress)
+            .ifPresent(RolloutProgress::recordServerCompleted);
+      release(namespace);
+      fiber.resume(resultPacket);
+    }
+
+    @Override
+    public void onThrowable(Packet resultPacket, Throwable throwable) {
+      release(namespace);
+      fiber.terminate(throwable, resultPacket);
+    }
+  }
+
+  private static class AwaitPermitStep extends Step {
+    private final Step serverStep;
+
+    AwaitPermitStep(Step serverStep) {
+      super(null);
+      this.serverStep = serverStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> getInstance().submit(fiber, serverStep, packet));
+    }
+  }
+
+  private static class RolloutStep extends Step {
+    private final Collection<StepAndPacket> servers;
+
+    RolloutStep(Collection<StepAndPacket> servers, Step next) {
+      super(next);
+      this.servers = servers;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (servers.isEmpty()) {
+        return doNext(packet);
+      }
+
+      return doForkJoin(
+            createEndProgressStep(startProgress(packet, servers.size()), getNext()),
+            packet,
+            servers.stream().map(RolloutScheduler::throttle).collect(Collectors.toList()));
+    }
+  }
+
+  private static class EndProgressStep extends Step {
+    private final RolloutProgress progress;
+
+    EndProgressStep(RolloutProgress progress, Step next) {
+      super(next);
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+            .ifPresent(info -> info.clearRolloutProgress(progress));
+      return doNext(packet);
+    }
+  }
+}
@@ -14,6 +14,7 @@ class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicBoolean isPodBeingDeleted = new AtomicBoolean(false);
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
+  private final AtomicReference<LastReadHealth> lastReadHealth = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
 
@@ -47,6 +48,15 @@ class ServerKubernetesObjects {
     return lastKnownStatus;
   }
 
+  /**
+   * The health last read from the managed server.
+   *
+   * @return Health
+   */
+  AtomicReference<LastReadHealth> getLastReadHealth() {
+    return lastReadHealth;
+  }
+
   /**
    * The Service.
    *
@@ -0,0 +1,123 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.unprocessable.UnprocessableEntityBuilder;
+import oracle.kubernetes.operator.utils.Codecs;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Support for the optional server-side apply mode, in which the operator sends the complete desired
+ * state of a resource in a single apply request, rather than reading the resource, comparing it to the
+ * desired state, and then creating, replacing or patching it. The API server merges the request into
+ * the existing resource, so there is no conflict to detect and retry.
+ *
+ * <p>The mode is selected for each kind of resource by the tuning parameter "serverSideApply", whose
+ * value is a comma-separated list of the kinds "pod", "service" and "configmap". By default, no kind
+ * uses it. All requests are made with the same field manager and are forced, so that the operator
+ * takes ownership of the fields which it created before the mode was selected. Fields which it set
+ * before then, and no longer sets, are left in place until the resource is recreated.
+ *
+ * <p>Pods and services are already tracked by watches, so an unchanged pod or service costs nothing.
+ * Config maps are not, so the hash of each config map applied is kept, together with the resource
+ * version the API server returned; a config map whose desired state has the same hash is not applied
+ * again until a watch reports that it was changed or deleted by someone else.
+ */
+public class ServerSideApply {
+  static final String KINDS_PARAM = "serverSideApply";
+  static final String POD = "pod";
+  static final String SERVICE = "service";
+  static final String CONFIG_MAP = "configmap";
+
+  private static final Map<String, AppliedConfigMap> appliedConfigMaps = new ConcurrentHashMap<>();
+
+  private ServerSideApply() {
+  }
+
+  static boolean isEnabledFor(String kind) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> t.serverSideApplyKinds.stream().anyMatch(kind::equalsIgnoreCase))
+        .orElse(false);
+  }
+
+  /**
+   * Returns true if the API server rejected an apply request as unprocessable, as it does when the
+   * request would change an immutable field.
+   * @param callResponse the response to an apply request
+   * @return true if the request was rejected
+   */
+  static boolean isUnprocessable(CallResponse<?> callResponse) {
+    return Optional.ofNullable(callResponse.getE()).map(UnprocessableEntityBuilder::isUnprocessableEntity)
+        .orElse(false);
+  }
+
+  /**
+   * Returns the config map last applied with the same desired state, if it is not known to have changed.
+   * @param model the desired state of the config map
+   * @return the config map returned by the API server, or null if the model must be applied
+   */
+  static V1ConfigMap getAppliedConfigMap(V1ConfigMap model) {
+    return Optional.ofNullable(appliedConfigMaps.get(getKey(model.getMetadata())))
+        .filter(applied -> applied.hash.equals(getHash(model)))
+        .map(applied -> applied.result)
+        .orElse(null);
+  }
+
+  static void recordAppliedConfigMap(V1ConfigMap model, V1ConfigMap result) {
+    appliedConfigMaps.put(getKey(model.getMetadata()), new AppliedConfigMap(getHash(model), result));
+  }
+
+  /**
+   * Forgets the applied state of a config map reported by a watch, unless the watch reports the
+   * resource version which the operator applied.
+   * @param configMap a config map reported by a watch event
+   * @param deleted true if the config map was deleted
+   */
+  public static void onConfigMapWatchEvent(V1ConfigMap configMap, boolean deleted) {
+    appliedConfigMaps.computeIfPresent(
+        getKey(configMap.getMetadata()),
+        (key, applied) -> !deleted && applied.hasResourceVersion(configMap) ? applied : null);
+  }
+
+  static void clearAppliedConfigMaps() {
+    appliedConfigMaps.clear();
+  }
+
+  private static String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
+  private static String getHash(V1ConfigMap model) {
+    return DigestUtils.sha256Hex(Codecs.toKubernetesYaml(model));
+  }
+
+  private static class AppliedConfigMap {
+    private final String hash;
+    private final V1ConfigMap result;
+
+    AppliedConfigMap(String hash, V1ConfigMap result) {
+      this.hash = hash;
+      this.result = result;
+    }
+
+    boolean hasResourceVersion(V1ConfigMap configMap) {
+      return Objects.equals(getResourceVersion(result), getResourceVersion(configMap));
+    }
+
+    private static String getResourceVersion(V1ConfigMap configMap) {
+      return Optional.ofNullable(configMap).map(V1ConfigMap::getMetadata).map(V1ObjectMeta::getResourceVersion)
+          .orElse(null);
+    }
+  }
+}
@@ -507,16 +507,28 @@ public class ServiceHelper {
     Step verifyService(Step next) {
       V1Service service = getServiceFromRecord();
       if (service == null) {
-        return createNewService(next);
+        return usesServerSideApply() ? applyService(getServiceCreatedMessageKey(), next) : createNewService(next);
       } else if (canUseCurrentService(createModel(), service)) {
         logServiceExists();
         return next;
+      } else if (usesServerSideApply()) {
+        return applyService(getServiceReplaceMessageKey(), next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
       }
     }
 
+    private boolean usesServerSideApply() {
+      return ServerSideApply.isEnabledFor(ServerSideApply.SERVICE);
+    }
+
+    private Step applyService(String messageKey, Step next) {
+      return new CallBuilder()
+          .applyServiceAsync(
+              createServiceName(), getNamespace(), createModel(), new ApplyResponse(messageKey, next));
+    }
+
     protected abstract void logServiceExists();
 
     private Step createNewService(Step next) {
@@ -640,6 +652,35 @@ public class ServiceHelper {
         return doNext(packet);
       }
     }
+
+    private class ApplyResponse extends ResponseStep<V1Service> {
+      private final String messageKey;
+
+      ApplyResponse(String messageKey, Step next) {
+        super(next);
+        this.messageKey = messageKey;
+      }
+
+      // A change to an immutable field, such as the cluster IP, requires the service to be recreated
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        if (ServerSideApply.isUnprocessable(callResponse)) {
+          removeServiceFromRecord();
+          return doNext(deleteAndReplaceService(getNext()), packet);
+        } else if (UnrecoverableErrorBuilder.isAsyncCallFailure(callResponse)) {
+          return doNext(DomainStatusUpdater.createFailedStep(callResponse, null), packet);
+        } else {
+          return super.onFailure(packet, callResponse);
+        }
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        logServiceCreated(messageKey);
+        addServiceToRecord(callResponse.getResult());
+        return doNext(packet);
+      }
+    }
   }
 
   private static class DeleteServiceStep extends Step {
@@ -24,6 +24,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import org.glassfish.jersey.client.ClientProperties;
 
 /** HTTP Client. */
 public class HttpClient {
@@ -180,7 +181,38 @@ public class HttpClient {
       String requestUrl, String serviceUrl, String payload, boolean throwOnFailure)
       throws HttpException {
     String url = serviceUrl + requestUrl;
-    WebTarget target = httpClient.target(url);
+    return executePost(url, httpClient.target(url), payload, throwOnFailure);
+  }
+
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and
+   * the payload provided to issue a HTTP POST request, which fails if the server does not respond
+   * within the specified time. This method does not throw HttpException if the HTTP request returns
+   * failure status code.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceUrl The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @param timeoutMillis The time to wait for a connection, and then for the response
+   * @return A Result object containing the respond from the REST call
+   */
+  public Result executeTimedPostUrlOnServiceClusterIP(
+      String requestUrl, String serviceUrl, String payload, int timeoutMillis) {
+    String url = serviceUrl + requestUrl;
+    WebTarget target = httpClient.target(url)
+        .property(ClientProperties.CONNECT_TIMEOUT, timeoutMillis)
+        .property(ClientProperties.READ_TIMEOUT, timeoutMillis);
+    try {
+      return executePost(url, target, payload, false);
+    } catch (HttpException httpException) {
+      // not thrown, as failures are returned in the result
+      return null;
+    }
+  }
+
+  private Result executePost(String url, WebTarget target, String payload, boolean throwOnFailure)
+      throws HttpException {
     Invocation.Builder invocationBuilder =
         target
             .request()
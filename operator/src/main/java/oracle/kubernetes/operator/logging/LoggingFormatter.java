@@ -15,11 +15,11 @@ import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.utils.Codecs;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
@@ -126,8 +126,7 @@ public class LoggingFormatter extends Formatter {
     map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
     String json = "";
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
+      json = Codecs.getJsonMapper().writeValueAsString(map);
 
     } catch (JsonProcessingException e) {
       String tmp =
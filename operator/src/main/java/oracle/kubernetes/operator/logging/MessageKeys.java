@@ -119,6 +119,24 @@ public class MessageKeys {
   public static final String DOMAIN_VALIDATION_FAILED = "WLSKO-0157";
   public static final String NO_INTERNAL_CERTIFICATE = "WLSKO-162";
   public static final String NO_EXTERNAL_CERTIFICATE = "WLSKO-163";
+  public static final String OPERATOR_REPLICAS_CHANGED = "WLSKO-0164";
+  public static final String NAMESPACE_WATCH_FAILED = "WLSKO-0165";
+  public static final String NAMESPACE_DOMAINS_DRIFTED = "WLSKO-0166";
+  public static final String OPERATOR_STALLED = "WLSKO-0167";
+  public static final String OPERATOR_STALL_ENDED = "WLSKO-0168";
+  public static final String DEADLINE_EXCEEDED = "WLSKO-0169";
+  public static final String CM_APPLIED = "WLSKO-0170";
+  public static final String DOMAIN_RESOURCES_DELETED = "WLSKO-0171";
+  public static final String WLS_BULK_HEALTH_READ_FAILED = "WLSKO-0172";
+  public static final String INTROSPECTOR_SHARD_TOO_LARGE = "WLSKO-0173";
+  public static final String WATCH_RELIST_PERFORMED = "WLSKO-0174";
+  public static final String WATCH_RELIST_AVOIDED = "WLSKO-0175";
+  public static final String NAMESPACE_RELEASED = "WLSKO-0176";
+  public static final String SCALE_REQUEST_FAILED = "WLSKO-0177";
+  public static final String DOMAIN_PODS_NOT_DELETED = "WLSKO-0178";
+  public static final String DEADLINE_MISSES = "WLSKO-0179";
+  public static final String DOMAIN_PROCESSING_STALLED = "WLSKO-0180";
+  public static final String SCALE_REQUEST_APPLIED = "WLSKO-0181";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
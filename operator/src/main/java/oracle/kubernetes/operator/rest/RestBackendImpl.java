@@ -6,14 +6,21 @@ package oracle.kubernetes.operator.rest;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonPatchBuilder;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
@@ -24,6 +31,7 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -34,21 +42,30 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.weblogic.domain.model.Domain;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 /**
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
- * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
- * hold some per-request state.
+ * Kubernetes and WebLogic. Domains are read from the operator's cache of the domains it manages,
+ * rather than listed from Kubernetes; only a namespace for which the cache holds nothing, such as one
+ * managed by another replica when namespaces are sharded among replicas, is listed. The caller's
+ * token and access are reviewed by asynchronous calls before a request is processed, so that the
+ * REST server's threads do not wait for Kubernetes; the request is then processed on the REST
+ * server's executor rather than on the engine's threads. A separate instance is created for each REST
+ * request since we need to hold some per-request state.
  */
 public class RestBackendImpl implements RestBackend {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String NEW_CLUSTER =
-      "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static TopologyRetriever INSTANCE =
       (String ns, String domainUid) -> {
         Scan s = ScanCache.INSTANCE.lookupScan(ns, domainUid);
@@ -57,14 +74,38 @@ public class RestBackendImpl implements RestBackend {
         }
         return null;
       };
+  // Only the domains of the namespaces which this replica manages are known to it, and found here.
+  // Those of a namespace which another replica manages are not found: that replica answers for them.
+  private static DomainRetriever DOMAIN_RETRIEVER =
+      new DomainRetriever() {
+        @Override
+        public List<Domain> getDomains(Collection<String> namespaces) {
+          return DomainProcessorImpl.getCachedDomains(getOwnedNamespaces(namespaces));
+        }
+
+        @Override
+        public Domain getDomain(String domainUid, Collection<String> namespaces) {
+          return DomainProcessorImpl.findCachedDomain(domainUid, getOwnedNamespaces(namespaces));
+        }
+
+        private List<String> getOwnedNamespaces(Collection<String> namespaces) {
+          return namespaces.stream().filter(DomainProcessorImpl::isNamespaceOwned).collect(Collectors.toList());
+        }
+      };
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
+  private final Map<String, Boolean> accessDecisions = new ConcurrentHashMap<>();
   private final String principal;
+  private final String accessToken;
   private final Collection<String> targetNamespaces;
+  private final Engine engine;
+  private final Executor executor;
+  private V1TokenReviewStatus tokenReviewStatus;
   private V1UserInfo userInfo;
 
   /**
-   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request. The
+   * caller is not authenticated until the backend is first used.
    *
    * @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
    *     api.
@@ -72,40 +113,120 @@ public class RestBackendImpl implements RestBackend {
    *     the WebLogic operator REST api.
    * @param targetNamespaces a list of Kubernetes namepaces that contain domains that the WebLogic
    *     operator manages.
+   * @param engine the engine which runs the calls to Kubernetes made by {@link #runAuthorized}.
+   * @param executor the executor of the REST server, which runs the actions of {@link #runAuthorized},
+   *     so that they neither run on nor block the engine's threads.
    */
-  RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
+  RestBackendImpl(
+      String principal, String accessToken, Collection<String> targetNamespaces, Engine engine, Executor executor) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
-    userInfo = authenticate(accessToken);
-    this.targetNamespaces = targetNamespaces;
+    this.accessToken = accessToken;
+    this.targetNamespaces = new LinkedHashSet<>(targetNamespaces);
+    this.engine = engine;
+    this.executor = executor;
     LOGGER.exiting();
   }
 
-  private void authorize(String domainUid, Operation operation) {
-    LOGGER.entering(domainUid, operation);
-    boolean authorized;
-    if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
-    } else {
-      authorized =
-          atz.check(
+  @Override
+  public void runAuthorized(
+      String domainUid, Operation operation, Runnable action, Consumer<Throwable> onFailure) {
+    engine
+        .createFiber()
+        .start(
+            createAuthorizationStep(domainUid, operation, null),
+            new Packet(),
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {
+                executor.execute(() -> runAction(action, onFailure));
+              }
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                executor.execute(() -> onFailure.accept(throwable));
+              }
+            });
+  }
+
+  private void runAction(Runnable action, Consumer<Throwable> onFailure) {
+    try {
+      action.run();
+    } catch (Throwable throwable) {
+      onFailure.accept(throwable);
+    }
+  }
+
+  /**
+   * Creates a step which authenticates the caller and reviews its access to a domain, as described by
+   * {@link #runAuthorized}, recording the results for use by this backend.
+   *
+   * @param domainUid the domain to be accessed, or null
+   * @param operation the operation to be performed, or null
+   * @param next the step to run after the reviews
+   * @return a step which performs the authentication and reviews
+   */
+  Step createAuthorizationStep(String domainUid, Operation operation, Step next) {
+    return atn.createCheckStep(
+        principal, accessToken, status -> tokenReviewStatus = status,
+        new AccessReviewStep(domainUid, operation, next));
+  }
+
+  private class AccessReviewStep extends Step {
+    private final String domainUid;
+    private final Operation operation;
+
+    AccessReviewStep(String domainUid, Operation operation, Step next) {
+      super(next);
+      this.domainUid = domainUid;
+      this.operation = operation;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      userInfo = toUserInfo(tokenReviewStatus);
+
+      List<StepAndPacket> reviews = new ArrayList<>();
+      if (operation != null) {
+        reviews.add(createReview(null, Operation.list, packet));
+      }
+      Domain domain = domainUid == null ? null : DOMAIN_RETRIEVER.getDomain(domainUid, targetNamespaces);
+      if (domain != null) {
+        reviews.add(createReview(domain, Operation.get, packet));
+        if (operation != Operation.get) {
+          reviews.add(createReview(domain, operation, packet));
+        }
+      }
+      return doForkJoin(getNext(), packet, reviews);
+    }
+
+    // A domain's operations are reviewed in its namespace; a null domain means the list of domains
+    private StepAndPacket createReview(Domain domain, Operation operation, Packet packet) {
+      String uid = Optional.ofNullable(domain).map(Domain::getDomainUid).orElse(null);
+      return new StepAndPacket(
+          atz.createCheckStep(
               userInfo.getUsername(),
               userInfo.getGroups(),
               operation,
               Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
+              uid,
+              domain == null ? Scope.cluster : Scope.namespace,
+              Optional.ofNullable(domain).map(d -> d.getMetadata().getNamespace()).orElse(null),
+              allowed -> accessDecisions.put(getAccessKey(uid, operation), allowed),
+              null),
+          packet.clone());
     }
-    if (authorized) {
+  }
+
+  private String getAccessKey(String domainUid, Operation operation) {
+    return operation + "/" + Optional.ofNullable(domainUid).orElse("");
+  }
+
+  // Only the accesses reviewed by the authorization step are allowed. The reviews are never repeated
+  // synchronously here, as that would block the thread which runs the action.
+  private void authorize(String domainUid, Operation operation) {
+    LOGGER.entering(domainUid, operation);
+    if (Boolean.TRUE.equals(accessDecisions.get(getAccessKey(domainUid, operation)))) {
       LOGGER.exiting();
       return;
     }
@@ -115,25 +236,7 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
-  private String getNamespace(String domainUid) {
-    if (domainUid == null) {
-      throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
-    }
-
-    return getNamespace(domainUid, getDomainsList());
-  }
-
-  private String getNamespace(String domainUid, List<Domain> domains) {
-    if (domainUid == null) {
-      throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
-    }
-    Domain domain = findDomain(domainUid, domains);
-    return domain.getMetadata().getNamespace();
-  }
-
-  private V1UserInfo authenticate(String accessToken) {
-    LOGGER.entering();
-    V1TokenReviewStatus status = atn.check(principal, accessToken);
+  private V1UserInfo toUserInfo(V1TokenReviewStatus status) {
     if (status == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -149,12 +252,11 @@ public class RestBackendImpl implements RestBackend {
       LOGGER.throwing(e);
       throw e;
     }
-    userInfo = status.getUser();
-    if (userInfo == null) {
+    V1UserInfo result = status.getUser();
+    if (result == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_USER_INFO, status));
     }
-    LOGGER.exiting(userInfo);
-    return userInfo;
+    return result;
   }
 
   @Override
@@ -162,35 +264,18 @@ public class RestBackendImpl implements RestBackend {
     LOGGER.entering();
     authorize(null, Operation.list);
     Set<String> result = new TreeSet<>();
-    List<Domain> domains = getDomainsList();
-    for (Domain domain : domains) {
+    for (Domain domain : DOMAIN_RETRIEVER.getDomains(targetNamespaces)) {
       result.add(domain.getDomainUid());
     }
     LOGGER.exiting(result);
     return result;
   }
 
-  private List<Domain> getDomainsList() {
-    Collection<List<Domain>> c = new ArrayList<>();
-    try {
-      for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
-
-        if (dl != null) {
-          c.add(dl.getItems());
-        }
-      }
-      return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
-    } catch (ApiException e) {
-      throw handleApiException(e);
-    }
-  }
-
   @Override
   public boolean isDomainUid(String domainUid) {
     LOGGER.entering(domainUid);
     authorize(null, Operation.list);
-    boolean result = getDomainUids().contains(domainUid);
+    boolean result = DOMAIN_RETRIEVER.getDomain(domainUid, targetNamespaces) != null;
     LOGGER.exiting(result);
     return result;
   }
@@ -214,14 +299,13 @@ public class RestBackendImpl implements RestBackend {
   @Override
   public boolean isCluster(String domainUid, String cluster) {
     LOGGER.entering(domainUid, cluster);
-    authorize(domainUid, Operation.list);
     boolean result = getClusters(domainUid).contains(cluster);
     LOGGER.exiting(result);
     return result;
   }
 
   @Override
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+  public long scaleCluster(String domainUid, String cluster, int managedServerCount) {
     LOGGER.entering(domainUid, cluster, managedServerCount);
 
     if (managedServerCount < 0) {
@@ -231,27 +315,63 @@ public class RestBackendImpl implements RestBackend {
 
     authorize(domainUid, Operation.update);
 
-    List<Domain> domains = getDomainsList();
-    Domain domain = findDomain(domainUid, domains);
+    Domain domain = findDomain(domainUid);
 
     verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
 
-    patchDomain(domain, cluster, managedServerCount);
-    LOGGER.exiting();
+    long result = ScaleRequestPipeline.getInstance()
+        .submit(domain.getMetadata().getNamespace(), domainUid, cluster, managedServerCount);
+    LOGGER.exiting(result);
+    return result;
   }
 
-  private void patchDomain(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) {
-      return;
+  @Override
+  public ScaleClusterStatusModel getScaleStatus(String domainUid, String cluster, Long request) {
+    LOGGER.entering(domainUid, cluster, request);
+    authorize(domainUid, Operation.get);
+
+    Domain domain = findDomain(domainUid);
+    ScaleClusterStatusModel result = ScaleRequestPipeline.getInstance()
+        .getStatus(domain.getMetadata().getNamespace(), domainUid, cluster, request);
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  /**
+   * Sets the number of managed servers in a cluster, as the last of a series of accepted requests.
+   * The domain is read again, as it may have changed since the requests were accepted.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param cluster the name of the cluster
+   * @param replicas the desired number of managed servers
+   */
+  static void applyScale(String namespace, String domainUid, String cluster, int replicas) {
+    Domain domain = DOMAIN_RETRIEVER.getDomain(domainUid, Collections.singleton(namespace));
+    if (domain == null) {
+      throw createWebApplicationException(Status.NOT_FOUND.getStatusCode(), domainUid);
     }
+    patchDomain(domain, cluster, replicas);
+  }
 
+  // The cached domain may be stale, so the patch is always sent; its test guards against a moved cluster
+  private static void patchDomain(Domain domain, String cluster, int replicas) {
     try {
       JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
       int index = getClusterIndex(domain, cluster);
       if (index < 0) {
-        patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
+        // a cluster without settings uses the domain's default replicas, so add settings for it
+        JsonObject settings = Json.createObjectBuilder().add("clusterName", cluster).add("replicas", replicas).build();
+        if (domain.getSpec().getClusters().isEmpty()) {
+          patchBuilder.add("/spec/clusters", Json.createArrayBuilder().add(settings).build());
+        } else {
+          patchBuilder.add("/spec/clusters/-", settings);
+        }
       } else {
-        patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+        // the domain is read from the operator's cache, so make sure that the cluster has not moved
+        patchBuilder
+            .test("/spec/clusters/" + index + "/clusterName", cluster)
+            .replace("/spec/clusters/" + index + "/replicas", replicas);
       }
 
       new CallBuilder()
@@ -263,7 +383,7 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private int getClusterIndex(Domain domain, String cluster) {
+  private static int getClusterIndex(Domain domain, String cluster) {
     for (int i = 0; i < domain.getSpec().getClusters().size(); i++) {
       if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) {
         return i;
@@ -317,18 +437,17 @@ public class RestBackendImpl implements RestBackend {
     return new WlsDomainConfig(null);
   }
 
-  private Domain findDomain(String domainUid, List<Domain> domains) {
-    for (Domain domain : domains) {
-      if (domainUid.equals(domain.getDomainUid())) {
-        return domain;
-      }
+  private Domain findDomain(String domainUid) {
+    Domain domain = DOMAIN_RETRIEVER.getDomain(domainUid, targetNamespaces);
+    if (domain != null) {
+      return domain;
     }
 
     throw createWebApplicationException(
         Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
-  private WebApplicationException handleApiException(ApiException e) {
+  private static WebApplicationException handleApiException(ApiException e) {
     // TBD - what about e.getResponseHeaders?
     return createWebApplicationException(e.getCode(), e.getResponseBody());
   }
@@ -343,7 +462,7 @@ public class RestBackendImpl implements RestBackend {
     return createWebApplicationException(status.getStatusCode(), msg);
   }
 
-  private WebApplicationException createWebApplicationException(int status, String msg) {
+  private static WebApplicationException createWebApplicationException(int status, String msg) {
     ResponseBuilder rb = Response.status(status);
     if (msg != null) {
       rb.entity(msg);
@@ -374,4 +493,10 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface DomainRetriever {
+    List<Domain> getDomains(Collection<String> namespaces);
+
+    Domain getDomain(String domainUid, Collection<String> namespaces);
+  }
 }
@@ -4,11 +4,13 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.operator.work.Engine;
 
 /** RestConfigImpl provides the WebLogic Operator REST api configuration. */
 public class RestConfigImpl implements RestConfig {
@@ -17,6 +19,8 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Engine engine;
+  private final Executor executor;
 
   /**
    * Constructs a RestConfigImpl.
@@ -24,11 +28,17 @@ public class RestConfigImpl implements RestConfig {
    * @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param targetNamespaces is a list of the Kubernetes Namespaces covered by this Operator.
+   * @param engine is the engine which runs the REST api's calls to Kubernetes.
+   * @param executor is the executor which processes the REST requests once their calls to Kubernetes
+   *     complete.
    */
-  public RestConfigImpl(String principal, Collection<String> targetNamespaces) {
+  public RestConfigImpl(
+      String principal, Collection<String> targetNamespaces, Engine engine, Executor executor) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     this.targetNamespaces = targetNamespaces;
+    this.engine = engine;
+    this.executor = executor;
     LOGGER.exiting();
   }
 
@@ -90,7 +100,7 @@ public class RestConfigImpl implements RestConfig {
   @Override
   public RestBackend getBackend(String accessToken) {
     LOGGER.entering();
-    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces);
+    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces, engine, executor);
     LOGGER.exiting();
     return result;
   }
@@ -47,6 +47,7 @@ import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
  */
 public class RestServer {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  // The resources suspend their responses while the operator calls Kubernetes, so few threads are needed
   private static final int CORE_POOL_SIZE = 3;
   private static final String SSL_PROTOCOL = "TLSv1.2";
   private static final String[] SSL_PROTOCOLS = {
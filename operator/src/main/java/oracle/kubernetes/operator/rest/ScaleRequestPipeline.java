@@ -0,0 +1,236 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+/**
+ * Accepts requests to scale WebLogic clusters and applies them in the background. Requests for the
+ * same cluster which arrive within a short window are coalesced, so that only the last target is
+ * applied, with a single change to the domain. Autoscalers which send bursts of requests therefore
+ * cause one make-right of the domain, rather than one per request. The outcome of each request is
+ * kept for a while after it is applied, so that its caller may learn whether it was applied or failed.
+ */
+class ScaleRequestPipeline {
+  static final String WINDOW_PARAM = "scaleRequestWindowSeconds";
+  private static final int DEFAULT_WINDOW_SECONDS = 2;
+  static final int RESULT_TTL_SECONDS = 600;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static ScaleRequestPipeline INSTANCE =
+      new ScaleRequestPipeline(
+          Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance()),
+          RestBackendImpl::applyScale);
+
+  private final ScheduledExecutorService executor;
+  private final ScaleApplier applier;
+  private final Map<String, ClusterScale> clusters = new ConcurrentHashMap<>();
+  private final Map<Long, RequestResult> results = new ConcurrentHashMap<>();
+  private final AtomicLong numAccepted = new AtomicLong();
+  private final AtomicLong numCoalesced = new AtomicLong();
+  private final AtomicLong numApplied = new AtomicLong();
+
+  ScaleRequestPipeline(ScheduledExecutorService executor, ScaleApplier applier) {
+    this.executor = executor;
+    this.applier = applier;
+  }
+
+  static ScaleRequestPipeline getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Accepts a request to scale a cluster. If a request for the cluster is already waiting to be
+   * applied, its target is replaced by this one.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param cluster the name of the cluster
+   * @param replicas the desired number of managed servers
+   * @return the identifier of the request, by which its state may be read
+   */
+  long submit(String namespace, String domainUid, String cluster, int replicas) {
+    long request = numAccepted.incrementAndGet();
+    AtomicBoolean isFirst = new AtomicBoolean();
+    ClusterScale scale = clusters.compute(getKey(namespace, domainUid, cluster),
+        (k, current) -> accept(Optional.ofNullable(current).orElse(new ClusterScale(namespace, domainUid, cluster)),
+              request, replicas, isFirst));
+    if (isFirst.get()) {
+      executor.schedule(scale::apply, getWindowSeconds(), TimeUnit.SECONDS);
+    } else {
+      numCoalesced.incrementAndGet();
+    }
+    return request;
+  }
+
+  private ClusterScale accept(ClusterScale scale, long request, int replicas, AtomicBoolean isFirst) {
+    isFirst.set(scale.accept(request, replicas));
+    return scale;
+  }
+
+  /**
+   * Returns the state of the scaling request for a cluster which is waiting to be applied and, if a
+   * request is specified, whether that request is still pending, or was applied or failed.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param cluster the name of the cluster
+   * @param request the identifier returned when a request was submitted, or null
+   * @return a description of the requests, without links
+   */
+  ScaleClusterStatusModel getStatus(String namespace, String domainUid, String cluster, Long request) {
+    Optional<ClusterScale> scale = Optional.ofNullable(clusters.get(getKey(namespace, domainUid, cluster)));
+    ScaleClusterStatusModel status = scale.map(ClusterScale::getStatus).orElse(new ScaleClusterStatusModel(cluster));
+    if (request != null) {
+      status.setRequest(request);
+      Optional.ofNullable(results.get(request))
+          .filter(result -> !result.isExpired(SystemClock.now()))
+          .ifPresentOrElse(result -> result.describe(status),
+              () -> scale.filter(s -> s.isPending(request))
+                  .ifPresent(s -> status.setRequestState(ScaleClusterStatusModel.PENDING)));
+    }
+    return status;
+  }
+
+  /**
+   * Returns the number of requests accepted, coalesced with later ones and applied, for all clusters.
+   *
+   * @return a description of the counters
+   */
+  String getMetrics() {
+    return "accepted=" + numAccepted.get() + ", coalesced=" + numCoalesced.get() + ", applied=" + numApplied.get();
+  }
+
+  // Records the outcome of the requests which were applied together, and forgets those which expired
+  private void recordResults(List<Long> requests, RequestResult result) {
+    DateTime now = SystemClock.now();
+    results.values().removeIf(r -> r.isExpired(now));
+    requests.forEach(request -> results.put(request, result));
+  }
+
+  private String getKey(String namespace, String domainUid, String cluster) {
+    return namespace + "/" + domainUid + "/" + cluster;
+  }
+
+  private int getWindowSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> Math.max(t.scaleRequestWindowSeconds, 0))
+        .orElse(DEFAULT_WINDOW_SECONDS);
+  }
+
+  @FunctionalInterface
+  interface ScaleApplier {
+    void apply(String namespace, String domainUid, String cluster, int replicas);
+  }
+
+  // The outcome of applying one or more requests for a cluster
+  private static class RequestResult {
+    private final String state;
+    private final String failure;
+    private final DateTime completed = SystemClock.now();
+
+    RequestResult(String state, String failure) {
+      this.state = state;
+      this.failure = failure;
+    }
+
+    boolean isExpired(DateTime now) {
+      return !completed.plusSeconds(RESULT_TTL_SECONDS).isAfter(now);
+    }
+
+    void describe(ScaleClusterStatusModel status) {
+      status.setRequestState(state);
+      status.setFailure(failure);
+    }
+  }
+
+  // The requests for a cluster, from the first one accepted until the last one is applied
+  private class ClusterScale {
+    private final String namespace;
+    private final String domainUid;
+    private final String cluster;
+    private final List<Long> pendingRequests = new ArrayList<>();
+    private Integer pendingReplicas;
+    private long accepted;
+    private long coalesced;
+
+    ClusterScale(String namespace, String domainUid, String cluster) {
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.cluster = cluster;
+    }
+
+    // Returns true if the request must be scheduled, false if it replaced one which is pending
+    synchronized boolean accept(long request, int replicas) {
+      accepted++;
+      pendingRequests.add(request);
+      boolean isFirst = pendingReplicas == null;
+      if (!isFirst) {
+        coalesced++;
+      }
+      pendingReplicas = replicas;
+      return isFirst;
+    }
+
+    void apply() {
+      int replicas;
+      List<Long> requests;
+      synchronized (this) {
+        replicas = pendingReplicas;
+        pendingReplicas = null;
+        requests = new ArrayList<>(pendingRequests);
+        pendingRequests.clear();
+      }
+
+      try {
+        applier.apply(namespace, domainUid, cluster, replicas);
+        numApplied.incrementAndGet();
+        recordResults(requests, new RequestResult(ScaleClusterStatusModel.APPLIED, null));
+        LOGGER.info(MessageKeys.SCALE_REQUEST_APPLIED, cluster, domainUid, namespace, replicas, getMetrics());
+      } catch (RuntimeException e) {
+        recordResults(requests, new RequestResult(ScaleClusterStatusModel.FAILED, e.getMessage()));
+        LOGGER.warning(MessageKeys.SCALE_REQUEST_FAILED, cluster, domainUid, namespace, replicas, e.getMessage());
+      } finally {
+        clusters.computeIfPresent(getKey(namespace, domainUid, cluster), (k, scale) -> scale.isDone() ? null : scale);
+      }
+    }
+
+    // Returns true if no request was accepted while the last one was applied
+    private synchronized boolean isDone() {
+      return pendingReplicas == null;
+    }
+
+    synchronized boolean isPending(long request) {
+      return pendingRequests.contains(request);
+    }
+
+    synchronized ScaleClusterStatusModel getStatus() {
+      ScaleClusterStatusModel status = new ScaleClusterStatusModel(cluster);
+      status.setPendingManagedServerCount(pendingReplicas);
+      status.setAccepted(accepted);
+      status.setCoalesced(coalesced);
+      return status;
+    }
+  }
+}
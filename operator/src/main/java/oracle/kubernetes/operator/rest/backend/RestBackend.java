@@ -4,6 +4,10 @@
 package oracle.kubernetes.operator.rest.backend;
 
 import java.util.Set;
+import java.util.function.Consumer;
+
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -12,6 +16,22 @@ import java.util.Set;
  */
 public interface RestBackend {
 
+  /**
+   * Authenticates the caller of this request and reviews its access to the WebLogic domains, by
+   * calls to Kubernetes which do not block the calling thread. When they complete, runs the
+   * specified action, which may then call the other methods of this backend; those use the results
+   * of the reviews rather than calling Kubernetes themselves.
+   *
+   * @param domainUid - the domain which the action accesses, or null if it accesses only the list of
+   *     domains, or none.
+   * @param operation - the operation which the action performs on the domain, or on the list of
+   *     domains if domainUid is null; or null if the action needs only an authenticated caller.
+   * @param action - the action to run.
+   * @param onFailure - receives the failure to authenticate the caller, or of the action.
+   */
+  public void runAuthorized(
+      String domainUid, Operation operation, Runnable action, Consumer<Throwable> onFailure);
+
   /**
    * Get the unique identifiers of all the WebLogic domains that have been registered with the
    * WebLogic operator.
@@ -50,10 +70,11 @@ public interface RestBackend {
   public boolean isCluster(String domainUid, String cluster);
 
   /**
-   * Scales the number of managed servers in a WebLogic cluster. This method configures the desired
-   * number of managed servers, both at the Kubernetes and WebLogic cluster levels, then returns. It
-   * does not wait for the number of running managed servers to match the configured number of
-   * servers.
+   * Accepts a request to scale the number of managed servers in a WebLogic cluster. The request is
+   * applied shortly afterwards, by configuring the desired number of managed servers, both at the
+   * Kubernetes and WebLogic cluster levels. Requests for the same cluster which arrive before it is
+   * applied are coalesced, so that only the last is applied. This method does not wait for the
+   * request to be applied, nor for the number of running managed servers to match it.
    *
    * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
    *     with the WebLogic operator. The caller is responsible for calling isDomainUid first and not
@@ -61,6 +82,18 @@ public interface RestBackend {
    * @param cluster - the name of the cluster in the WebLogic domain. The caller is responsible for
    *     calling isCluster first and not calling this method if the cluster does not exist.
    * @param managedServerCount - the desired number of WebLogic managed servers.
+   * @return the identifier of the request, by which getScaleStatus reports whether it was applied.
+   */
+  public long scaleCluster(String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Describes the requests to scale a WebLogic cluster which have been accepted.
+   *
+   * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator.
+   * @param cluster - the name of the cluster in the WebLogic domain.
+   * @param request - the identifier returned by scaleCluster for the request to describe, or null.
+   * @return the state of the requests, without links.
    */
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount);
+  public ScaleClusterStatusModel getScaleStatus(String domainUid, String cluster, Long request);
 }
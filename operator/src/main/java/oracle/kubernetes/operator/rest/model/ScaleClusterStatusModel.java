@@ -0,0 +1,124 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleClusterStatusModel describes the request to scale a WebLogic cluster which is waiting to be
+ * applied, if any, and how many requests have been accepted and coalesced with later ones since the
+ * last request was applied. When read for a particular request, it also describes whether that request
+ * is pending, or was applied or failed.
+ */
+public class ScaleClusterStatusModel extends ItemModel {
+
+  /** The state of a request which is waiting to be applied. */
+  public static final String PENDING = "Pending";
+  /** The state of a request which was applied to the domain. */
+  public static final String APPLIED = "Applied";
+  /** The state of a request which could not be applied to the domain. */
+  public static final String FAILED = "Failed";
+
+  private String cluster;
+  private Integer pendingManagedServerCount;
+  private long accepted;
+  private long coalesced;
+  private Long request;
+  private String requestState;
+  private String failure;
+
+  /** Construct an empty ScaleClusterStatusModel. */
+  public ScaleClusterStatusModel() {
+  }
+
+  /**
+   * Construct a ScaleClusterStatusModel for a cluster with no requests.
+   *
+   * @param cluster - the cluster's name.
+   */
+  public ScaleClusterStatusModel(String cluster) {
+    setCluster(cluster);
+  }
+
+  public String getCluster() {
+    return cluster;
+  }
+
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the number of managed servers requested by the request waiting to be applied.
+   *
+   * @return the requested number of managed servers, or null if no request is waiting.
+   */
+  public Integer getPendingManagedServerCount() {
+    return pendingManagedServerCount;
+  }
+
+  public void setPendingManagedServerCount(Integer pendingManagedServerCount) {
+    this.pendingManagedServerCount = pendingManagedServerCount;
+  }
+
+  public long getAccepted() {
+    return accepted;
+  }
+
+  public void setAccepted(long accepted) {
+    this.accepted = accepted;
+  }
+
+  public long getCoalesced() {
+    return coalesced;
+  }
+
+  public void setCoalesced(long coalesced) {
+    this.coalesced = coalesced;
+  }
+
+  public Long getRequest() {
+    return request;
+  }
+
+  public void setRequest(Long request) {
+    this.request = request;
+  }
+
+  /**
+   * Get the state of the request read: pending, applied or failed.
+   *
+   * @return the state of the request, or null if none was read, or it is no longer known.
+   */
+  public String getRequestState() {
+    return requestState;
+  }
+
+  public void setRequestState(String requestState) {
+    this.requestState = requestState;
+  }
+
+  /**
+   * Get the reason why the request read could not be applied.
+   *
+   * @return the reason, or null if it did not fail.
+   */
+  public String getFailure() {
+    return failure;
+  }
+
+  public void setFailure(String failure) {
+    this.failure = failure;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "cluster=" + getCluster()
+        + ", pendingManagedServerCount=" + getPendingManagedServerCount()
+        + ", accepted=" + getAccepted()
+        + ", coalesced=" + getCoalesced()
+        + ", request=" + getRequest()
+        + ", requestState=" + getRequestState()
+        + ", failure=" + getFailure()
+        + ", " + super.propertiesToString();
+  }
+}
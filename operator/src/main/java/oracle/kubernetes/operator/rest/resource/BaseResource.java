@@ -3,9 +3,12 @@
 
 package oracle.kubernetes.operator.rest.resource;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
@@ -13,6 +16,7 @@ import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
@@ -28,6 +32,8 @@ public class BaseResource {
 
   @Context private UriInfo uriInfo;
   @Context private ContainerRequestContext containerRequestContext;
+  private URI baseUri;
+  private RestBackend backend;
 
   protected BaseResource(BaseResource parent, String pathSegment) {
     this.parent = parent;
@@ -43,10 +49,57 @@ public class BaseResource {
   }
 
   protected RestBackend getBackend() {
+    if (getRoot().backend != null) {
+      return getRoot().backend;
+    }
     return (RestBackend)
         getContainerRequestContext().getProperty(AuthenticationFilter.REST_BACKEND_PROPERTY);
   }
 
+  /**
+   * Completes this request asynchronously. The backend authenticates the caller and reviews its
+   * access without blocking the REST server's thread; this resource and its parents are then
+   * verified to exist, and the result computed and used to resume the response.
+   *
+   * @param asyncResponse - the suspended response to the request.
+   * @param domainUid - the domain which the request accesses, or null if it accesses only the list
+   *     of domains, or none.
+   * @param operation - the operation which the request performs, or null if it needs only an
+   *     authenticated caller.
+   * @param result - computes the entity of the response, or the response itself.
+   */
+  protected void respond(
+      AsyncResponse asyncResponse, String domainUid, Operation operation, Supplier<?> result) {
+    captureRequestContext();
+    getBackend()
+        .runAuthorized(
+            domainUid,
+            operation,
+            () -> {
+              verifyExists();
+              asyncResponse.resume(result.get());
+            },
+            asyncResponse::resume);
+  }
+
+  // The request context is not available to the threads which complete a suspended request,
+  // so the parts of it which they use are captured before it is suspended
+  private void captureRequestContext() {
+    BaseResource root = getRoot();
+    root.backend = getBackend();
+    root.baseUri = getUriInfo().getBaseUri();
+  }
+
+  /**
+   * Verifies that this resource and its parents exist. Resources whose existence depends on the
+   * state of the domains override this method; they must call it on their parents first.
+   */
+  protected void verifyExists() {
+    if (getParent() != null) {
+      getParent().verifyExists();
+    }
+  }
+
   protected UriInfo getUriInfo() {
     return getRoot().uriInfo;
   }
@@ -83,7 +136,9 @@ public class BaseResource {
 
   protected String href(String... pathSegments) {
 
-    UriBuilder b = getUriInfo().getBaseUriBuilder();
+    URI capturedBaseUri = getRoot().baseUri;
+    UriBuilder b =
+        capturedBaseUri != null ? UriBuilder.fromUri(capturedBaseUri) : getUriInfo().getBaseUriBuilder();
 
     // traverse my parents to find the path segments to this resource.
     // insert each into an array starting at 0 so that the array
@@ -6,8 +6,12 @@ package oracle.kubernetes.operator.rest.resource;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
@@ -34,11 +38,16 @@ public class ClusterResource extends BaseResource {
   /**
    * Get a description of this Weblogic cluster.
    *
-   * @return a ClusterModel describing this cluster.
+   * @param asyncResponse - the suspended response, which is resumed with a ClusterModel describing
+   *     this cluster.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public ClusterModel get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, getDomainUid(), Operation.get, this::describeCluster);
+  }
+
+  private ClusterModel describeCluster() {
     LOGGER.entering(href());
     ClusterModel item = new ClusterModel(getCluster());
     addSelfAndParentLinks(item);
@@ -60,7 +69,21 @@ public class ClusterResource extends BaseResource {
     return result;
   }
 
+  @Override
+  protected void verifyExists() {
+    super.verifyExists();
+    if (!getBackend().isCluster(getDomainUid(), getCluster())) {
+      WebApplicationException e = getParent().notFound(getCluster());
+      LOGGER.throwing(e);
+      throw e;
+    }
+  }
+
   private String getCluster() {
     return getPathSegment();
   }
+
+  private String getDomainUid() {
+    return getParent().getParent().getPathSegment();
+  }
 }
@@ -7,9 +7,11 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
@@ -37,11 +39,16 @@ public class ClustersResource extends BaseResource {
   /**
    * List a WebLogic domain's clusters.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @param asyncResponse - the suspended response, which is resumed with a collection of ClusterModels
+   *     describing the clusters.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, getDomainUid(), Operation.get, this::listClusters);
+  }
+
+  private CollectionModel<ClusterModel> listClusters() {
     LOGGER.entering(href());
     String domainUid = getDomainUid();
     CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
@@ -59,16 +66,12 @@ public class ClustersResource extends BaseResource {
    * Construct and return a 'cluster' jaxrs child resource.
    *
    * @param cluster - the name of the WebLogic cluster.
-   * @return the cluster sub resource, throws a WebApplicationException if cluster does not exist.
+   * @return the cluster sub resource. Whether the cluster exists is verified when a request to it,
+   *     or to one of its sub resources, is processed.
    */
   @Path("{clusters}")
   public ClusterResource getClusterResource(@PathParam("clusters") String cluster) {
     LOGGER.entering(href(), cluster);
-    if (!getBackend().isCluster(getDomainUid(), cluster)) {
-      WebApplicationException e = notFound(cluster);
-      LOGGER.throwing(e);
-      throw e;
-    }
     ClusterResource result = new ClusterResource(this, cluster);
     LOGGER.exiting(result);
     return result;
@@ -6,8 +6,12 @@ package oracle.kubernetes.operator.rest.resource;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.DomainModel;
@@ -34,11 +38,16 @@ public class DomainResource extends BaseResource {
   /**
    * Get a description of this Weblogic domain.
    *
-   * @return a DomainModel describing this domain.
+   * @param asyncResponse - the suspended response, which is resumed with a DomainModel describing this
+   *     domain.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public DomainModel get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, null, Operation.list, this::describeDomain);
+  }
+
+  private DomainModel describeDomain() {
     LOGGER.entering(href());
     DomainModel item = new DomainModel(getDomainUid());
     addSelfAndParentLinks(item);
@@ -60,6 +69,16 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  @Override
+  protected void verifyExists() {
+    super.verifyExists();
+    if (!getBackend().isDomainUid(getDomainUid())) {
+      WebApplicationException e = getParent().notFound(getDomainUid());
+      LOGGER.throwing(e);
+      throw e;
+    }
+  }
+
   private String getDomainUid() {
     return getPathSegment();
   }
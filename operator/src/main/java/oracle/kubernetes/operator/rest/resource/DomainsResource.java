@@ -7,9 +7,11 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
@@ -37,11 +39,16 @@ public class DomainsResource extends BaseResource {
   /**
    * List the WebLogic domains that are registered with the WebLogic operator.
    *
-   * @return a collection of DomainModels describing the domains.
+   * @param asyncResponse - the suspended response, which is resumed with a collection of DomainModels
+   *     describing the domains.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, null, Operation.list, this::listDomains);
+  }
+
+  private CollectionModel<DomainModel> listDomains() {
     LOGGER.entering(href());
     CollectionModel<DomainModel> collection = new CollectionModel<DomainModel>();
     for (String domainUid : getBackend().getDomainUids()) {
@@ -59,17 +66,12 @@ public class DomainsResource extends BaseResource {
    *
    * @param domainUid - the unique identifier assigned to the WebLogic domain when it was registered
    *     with the WebLogic operator.
-   * @return the domain sub resource, throws a WebApplicationException if domainUID is not
-   *     registered.
+   * @return the domain sub resource. Whether the domain is registered is verified when a request to
+   *     it, or to one of its sub resources, is processed.
    */
   @Path("{domainUID}")
   public DomainResource getDomainResource(@PathParam("domainUID") String domainUid) {
     LOGGER.entering(href(), domainUid);
-    if (!getBackend().isDomainUid(domainUid)) {
-      WebApplicationException e = notFound(domainUid);
-      LOGGER.throwing(e);
-      throw e;
-    }
     DomainResource result = new DomainResource(this, domainUid);
     LOGGER.exiting(result);
     return result;
@@ -4,12 +4,21 @@
 package oracle.kubernetes.operator.rest.resource;
 
 import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
 
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 
 /**
  * ScaleResource is a jaxrs resource that implements the REST api for the
@@ -31,19 +40,53 @@ public class ScaleClusterResource extends BaseResource {
   }
 
   /**
-   * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
-   * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * Scale this WebLogic cluster up or down. This method accepts the request and returns; the
+   * specified number of managed servers is configured shortly afterwards, at both the Kubernetes
+   * and WebLogic levels. Requests which arrive before an earlier one has been applied replace it.
+   * This method does not wait for the new managed servers to start or removed managed servers to
+   * stop.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the suspended response, which is resumed with status 202 (Accepted) and
+   *     the location of this resource, with the request's identifier as the "request" query
+   *     parameter, from which the state of the request may be read.
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public void post(final ScaleClusterParamsModel params, @Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, getDomainUid(), Operation.update, () -> scale(params));
+  }
+
+  private Response scale(ScaleClusterParamsModel params) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
-    LOGGER.exiting();
+    long request = getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    Response result =
+        Response.accepted().location(UriBuilder.fromUri(href()).queryParam("request", request).build()).build();
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  /**
+   * Describe the requests to scale this WebLogic cluster which have been accepted.
+   *
+   * @param request - the identifier of an accepted request whose state is to be described, or null.
+   *     Its state is known until some minutes after it was applied.
+   * @param asyncResponse - the suspended response, which is resumed with a ScaleClusterStatusModel
+   *     describing the requests.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public void get(@QueryParam("request") Long request, @Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, getDomainUid(), Operation.get, () -> describeScaling(request));
+  }
+
+  private ScaleClusterStatusModel describeScaling(Long request) {
+    LOGGER.entering(href(), request);
+    ScaleClusterStatusModel item = getBackend().getScaleStatus(getDomainUid(), getCluster(), request);
+    addSelfAndParentLinks(item);
+    LOGGER.exiting(item);
+    return item;
   }
 
   private String getCluster() {
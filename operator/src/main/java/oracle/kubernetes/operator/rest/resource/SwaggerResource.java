@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.rest.resource;
 import java.io.InputStream;
 import javax.ws.rs.GET;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -33,11 +35,15 @@ public class SwaggerResource extends BaseResource {
   /**
    * Get a swagger definition that describes this version of the WebLogic Operator REST api.
    *
-   * @return a json swagger definition.
+   * @param asyncResponse - the suspended response, which is resumed with a json swagger definition.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public InputStream get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, null, null, this::getSwagger);
+  }
+
+  private InputStream getSwagger() {
     LOGGER.entering();
     InputStream is = this.getClass().getClassLoader().getResourceAsStream("operator-swagger.json");
     if (is == null) {
@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.rest.resource;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -35,11 +37,16 @@ public class VersionResource extends BaseResource {
   /**
    * Get a description of this version of the WebLogic Operator REST api.
    *
-   * @return a VersionModel describing this version.
+   * @param asyncResponse - the suspended response, which is resumed with a VersionModel describing
+   *     this version.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public VersionModel get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, null, null, this::describeVersion);
+  }
+
+  private VersionModel describeVersion() {
     LOGGER.entering(href());
     String version = getVersion();
     VersionModel item =
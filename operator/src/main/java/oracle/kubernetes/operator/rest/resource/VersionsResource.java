@@ -8,6 +8,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -34,11 +36,16 @@ public class VersionsResource extends BaseResource {
   /**
    * List the supported versions of the WebLogic operator REST api.
    *
-   * @return a collection of VersionModels describing the supported versions.
+   * @param asyncResponse - the suspended response, which is resumed with a collection of VersionModels
+   *     describing the supported versions.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<VersionModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
+    respond(asyncResponse, null, null, this::listVersions);
+  }
+
+  private CollectionModel<VersionModel> listVersions() {
     LOGGER.entering(href());
     CollectionModel<VersionModel> collection = new CollectionModel<VersionModel>();
     for (String version : VersionUtils.getVersions()) {
@@ -3,14 +3,29 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
-import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.ForkJoinPolicy;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -18,7 +33,20 @@ import oracle.kubernetes.operator.work.Step;
 import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
 import static oracle.kubernetes.operator.LabelConstants.getCreatedbyOperatorSelector;
 
+/**
+ * Deletes the Kubernetes resources of a domain. Pods, jobs and config maps are each removed with a
+ * single request for the collection labeled with the domain UID. Services cannot be deleted as a
+ * collection, so they are listed by the same labels and deleted in parallel, once the watch on pods
+ * reports that the domain's pods are gone. Each pod is deleted with the grace period in its own spec,
+ * which allows its server the configured shutdown timeout. The wait for the watch is limited to the
+ * longest grace period, plus a margin, as the watch stops when its namespace stops being managed;
+ * the domain's pods are then read to report any which remain.
+ */
 public class DeleteDomainStep extends Step {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final long DEFAULT_GRACE_PERIOD_SECONDS = 30;
+  private static final long DELETE_WAIT_MARGIN_SECONDS = 30;
+
   private final DomainPresenceInfo info;
   private final String namespace;
   private final String domainUid;
@@ -38,39 +66,71 @@ public class DeleteDomainStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Step serverDownStep =
+    List<V1Pod> pods = getServerPods();
+
+    return doNext(
         Step.chain(
             deletePods(),
+            deleteJobs(),
+            deleteConfigMaps(),
+            new AwaitPodsDeletedStep(pods),
+            readRemainingPods(),
             deleteServices(),
-            ConfigMapHelper.deleteDomainIntrospectorConfigMapStep(domainUid, namespace, getNext()));
-    if (info != null) {
-      serverDownStep =
-          new ServerDownIteratorStep(
-              info.getServerPods().map(PodHelper::getPodServerName).collect(Collectors.toList()),
-              serverDownStep);
+            new RecordTeardownStep(domainUid, System.currentTimeMillis(), getNext())),
+        packet);
+  }
+
+  private List<V1Pod> getServerPods() {
+    if (info == null) {
+      return Collections.emptyList();
     }
 
-    return doNext(serverDownStep, packet);
+    List<V1Pod> pods = info.getServerPods().collect(Collectors.toList());
+    pods.forEach(pod -> info.setServerPodBeingDeleted(PodHelper.getPodServerName(pod), Boolean.TRUE));
+    return pods;
+  }
+
+  private CallBuilder withDomainSelectors() {
+    return new CallBuilder().withLabelSelectors(forDomainUidSelector(domainUid), getCreatedbyOperatorSelector());
+  }
+
+  private Step deletePods() {
+    return withDomainSelectors().deleteCollectionPodAsync(namespace, new DefaultResponseStep<>(null));
+  }
+
+  // Foreground propagation also removes the pods of the introspector job
+  private Step deleteJobs() {
+    return withDomainSelectors().deleteCollectionJobAsync(
+        namespace, new V1DeleteOptions().propagationPolicy("Foreground"), new DefaultResponseStep<>(null));
+  }
+
+  private Step deleteConfigMaps() {
+    return withDomainSelectors().deleteCollectionConfigMapAsync(
+        namespace, new V1DeleteOptions(), new DefaultResponseStep<>(null));
+  }
+
+  private Step readRemainingPods() {
+    return withDomainSelectors()
+        .listPodAsync(
+            namespace,
+            new ActionResponseStep<V1PodList>() {
+              Step createSuccessStep(V1PodList result, Step next) {
+                return new ReportRemainingPodsStep(domainUid, result.getItems(), next);
+              }
+            });
   }
 
   private Step deleteServices() {
-    return new CallBuilder()
-        .withLabelSelectors(forDomainUidSelector(domainUid), getCreatedbyOperatorSelector())
+    return withDomainSelectors()
         .listServiceAsync(
             namespace,
             new ActionResponseStep<V1ServiceList>() {
               Step createSuccessStep(V1ServiceList result, Step next) {
-                return new DeleteServiceListStep(result.getItems(), next);
+                return new DeleteServicesStep(result.getItems(), next);
               }
             });
   }
 
-  private Step deletePods() {
-    return new CallBuilder()
-        .withLabelSelectors(forDomainUidSelector(domainUid), getCreatedbyOperatorSelector())
-        .deleteCollectionPodAsync(namespace, new DefaultResponseStep<>(null));
-  }
-
   /**
    * A response step which treats a NOT_FOUND status as success with a null result. On success with
    * a non-null response, runs a specified new step before continuing the step chain.
@@ -88,4 +148,110 @@ public class DeleteDomainStep extends Step {
           : doNext(createSuccessStep(callResponse.getResult(), getNext()), packet);
     }
   }
+
+  // Waits, using the pod watcher, until each of the pods known before the deletion is reported deleted,
+  // or until it has had its grace period and a margin
+  private static class AwaitPodsDeletedStep extends Step {
+    private final List<V1Pod> pods;
+
+    AwaitPodsDeletedStep(List<V1Pod> pods) {
+      super(null);
+      this.pods = pods;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      PodAwaiterStepFactory pw = packet.getSpi(PodAwaiterStepFactory.class);
+      if (pw == null || pods.isEmpty()) {
+        return doNext(packet);
+      }
+
+      return doForkJoin(getNext(), packet, pods.stream()
+          .map(pod -> new StepAndPacket(pw.waitForDelete(pod, null), packet.clone()))
+          .collect(Collectors.toList()), createForkJoinPolicy());
+    }
+
+    private ForkJoinPolicy createForkJoinPolicy() {
+      return ForkJoinPolicy.create()
+          .withFailurePolicy(ForkJoinPolicy.FailurePolicy.CONTINUE)
+          .withChildTimeout(getLongestGracePeriodSeconds() + DELETE_WAIT_MARGIN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private long getLongestGracePeriodSeconds() {
+      return pods.stream()
+          .map(V1Pod::getSpec)
+          .filter(Objects::nonNull)
+          .map(V1PodSpec::getTerminationGracePeriodSeconds)
+          .filter(Objects::nonNull)
+          .max(Long::compare)
+          .orElse(DEFAULT_GRACE_PERIOD_SECONDS);
+    }
+  }
+
+  private static class ReportRemainingPodsStep extends Step {
+    private final String domainUid;
+    private final List<V1Pod> pods;
+
+    ReportRemainingPodsStep(String domainUid, List<V1Pod> pods, Step next) {
+      super(next);
+      this.domainUid = domainUid;
+      this.pods = pods;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!pods.isEmpty()) {
+        LOGGER.warning(MessageKeys.DOMAIN_PODS_NOT_DELETED, domainUid, getPodNames());
+      }
+      return doNext(packet);
+    }
+
+    private String getPodNames() {
+      return pods.stream().map(V1Pod::getMetadata).map(V1ObjectMeta::getName).collect(Collectors.joining(", "));
+    }
+  }
+
+  private static class DeleteServicesStep extends Step {
+    private final Collection<V1Service> services;
+
+    DeleteServicesStep(Collection<V1Service> services, Step next) {
+      super(next);
+      this.services = services;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (services.isEmpty()) {
+        return doNext(packet);
+      }
+
+      return doForkJoin(getNext(), packet, services.stream()
+          .map(service -> new StepAndPacket(createDeleteStep(service), packet.clone()))
+          .collect(Collectors.toList()));
+    }
+
+    private Step createDeleteStep(V1Service service) {
+      return new CallBuilder()
+          .deleteServiceAsync(
+              service.getMetadata().getName(), service.getMetadata().getNamespace(),
+              new V1DeleteOptions(), new DefaultResponseStep<>(null));
+    }
+  }
+
+  private static class RecordTeardownStep extends Step {
+    private final String domainUid;
+    private final long startTime;
+
+    RecordTeardownStep(String domainUid, long startTime, Step next) {
+      super(next);
+      this.domainUid = domainUid;
+      this.startTime = startTime;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      LOGGER.info(MessageKeys.DOMAIN_RESOURCES_DELETED, domainUid, System.currentTimeMillis() - startTime);
+      return doNext(packet);
+    }
+  }
 }
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,6 +15,7 @@ import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.RolloutScheduler;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -54,7 +57,7 @@ public class ManagedServerUpIteratorStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    Map<String, List<StepAndPacket>> startDetailsByCluster = new LinkedHashMap<>();
     Map<String, StepAndPacket> rolling = new ConcurrentHashMap<>();
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
 
@@ -66,7 +69,8 @@ public class ManagedServerUpIteratorStep extends Step {
 
       p.put(ProcessingConstants.SERVER_NAME, ssi.serverConfig.getName());
 
-      startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
+      startDetailsByCluster.computeIfAbsent(ssi.getClusterName(), c -> new ArrayList<>())
+          .add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
     }
 
     if (LOGGER.isFineEnabled()) {
@@ -85,9 +89,31 @@ public class ManagedServerUpIteratorStep extends Step {
               + serverList);
     }
 
+    Collection<StepAndPacket> startDetails = interleave(startDetailsByCluster.values());
     if (startDetails.isEmpty()) {
       return doNext(packet);
     }
-    return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, startDetails);
+    return doNext(
+        RolloutScheduler.createRolloutStep(startDetails, new ManagedServerUpAfterStep(getNext())), packet);
+  }
+
+  // Takes one server from each cluster in turn, so that when the rollout scheduler limits the number of
+  // servers starting at once, all clusters come up together, rather than one after another.
+  private static Collection<StepAndPacket> interleave(Collection<List<StepAndPacket>> startDetailsByCluster) {
+    List<Iterator<StepAndPacket>> iterators = new ArrayList<>();
+    startDetailsByCluster.forEach(l -> iterators.add(l.iterator()));
+
+    Collection<StepAndPacket> result = new ArrayList<>();
+    while (!iterators.isEmpty()) {
+      for (Iterator<Iterator<StepAndPacket>> it = iterators.iterator(); it.hasNext(); ) {
+        Iterator<StepAndPacket> cluster = it.next();
+        if (cluster.hasNext()) {
+          result.add(cluster.next());
+        } else {
+          it.remove();
+        }
+      }
+    }
+    return result;
   }
 }
@@ -5,20 +5,26 @@ package oracle.kubernetes.operator.steps;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.LastReadHealth;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -27,9 +33,11 @@ import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
+import oracle.kubernetes.operator.utils.Codecs;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Deadline;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -39,6 +47,7 @@ import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_BULK_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 
 public class ReadHealthStep extends Step {
@@ -48,6 +57,8 @@ public class ReadHealthStep extends Step {
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  static final String BULK_READ_PARAM = "readHealthThroughAdminServer";
+
   private ReadHealthStep(Step next) {
     super(next);
   }
@@ -72,6 +83,42 @@ public class ReadHealthStep extends Step {
 
   // overallHealthState, healthState
 
+  private static String getBulkRetrieveHealthSearchUrl() {
+    return "/management/weblogic/latest/domainRuntime/serverRuntimes/search";
+  }
+
+  private static String getBulkRetrieveHealthSearchPayload() {
+    return "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] }";
+  }
+
+  /**
+   * Returns true if the health of the servers of a domain is to be read with a single request to its
+   * admin server, as selected by the tuning parameter "readHealthThroughAdminServer".
+   *
+   * @return true if bulk reads are enabled
+   */
+  public static boolean isBulkReadEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> t.readHealthThroughAdminServer)
+        .orElse(false);
+  }
+
+  /**
+   * Creates asynchronous {@link Step} to read the health of all running servers of a domain from its
+   * admin server. The response for each server is recorded in the packet, where the steps created by
+   * {@link #createReadHealthStep(Step)} find it; those steps read the health of any server missing
+   * from the response directly from that server.
+   *
+   * @param timeoutSeconds the time to wait for the admin server's response, which is further limited
+   *     by the deadline in the packet, if any
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createBulkReadHealthStep(long timeoutSeconds, Step next) {
+    return new BulkReadHealthStep(timeoutSeconds, next);
+  }
+
   @Override
   public NextAction apply(Packet packet) {
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
@@ -82,6 +129,10 @@ public class ReadHealthStep extends Step {
 
     String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
 
+    if (recordBulkReadHealth(packet, info, serverName)) {
+      return doNext(packet);
+    }
+
     String secretName = dom.getWebLogicCredentialsSecretName();
 
     V1Service service = info.getServerService(serverName);
@@ -95,6 +146,80 @@ public class ReadHealthStep extends Step {
     return doNext(packet);
   }
 
+  // Uses the response for the server from a bulk read, if there was one
+  private boolean recordBulkReadHealth(Packet packet, DomainPresenceInfo info, String serverName) {
+    @SuppressWarnings("unchecked")
+    Map<String, String> bulkResponses = (Map<String, String>) packet.get(SERVER_HEALTH_BULK_READ);
+    String response = bulkResponses == null ? null : bulkResponses.get(serverName);
+    if (response == null) {
+      return false;
+    }
+
+    try {
+      recordServerHealth(packet, info, serverName, readServerHealth(info, serverName, response));
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static WlsDomainConfig getDomainConfig(Packet packet, DomainPresenceInfo info) {
+    WlsDomainConfig domainConfig =
+        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      domainConfig = Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+          .map(Scan::getWlsDomainConfig)
+          .orElse(null);
+    }
+    return domainConfig;
+  }
+
+  private static void recordServerHealth(
+      Packet packet, DomainPresenceInfo info, String serverName, Pair<String, ServerHealth> pair) {
+    String state = pair.getLeft();
+    if (state != null && !state.isEmpty()) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      info.updateLastKnownServerStatus(serverName, state);
+      serverStateMap.put(serverName, state);
+    }
+
+    @SuppressWarnings("unchecked")
+    ConcurrentMap<String, ServerHealth> serverHealthMap =
+        (ConcurrentMap<String, ServerHealth>)
+            packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
+
+    serverHealthMap.put(serverName, pair.getRight());
+    AtomicInteger remainingServersHealthToRead =
+        packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+    remainingServersHealthToRead.getAndDecrement();
+  }
+
+  // A server which returns the same response as on the last read has the same state and health,
+  // so the objects parsed then are reused
+  private static Pair<String, ServerHealth> readServerHealth(
+      DomainPresenceInfo info, String serverName, String jsonResult) throws IOException {
+    LastReadHealth lastRead = info == null ? null : info.getLastReadHealth(serverName);
+    if (lastRead != null && lastRead.isReadFrom(jsonResult)) {
+      return new Pair<>(lastRead.getState(), lastRead.getHealth());
+    }
+
+    Pair<String, ServerHealth> pair = parseServerHealthJson(jsonResult);
+    if (info != null && pair != null) {
+      info.setLastReadHealth(serverName, new LastReadHealth(jsonResult, pair.getLeft(), pair.getRight()));
+    }
+    return pair;
+  }
+
+  private static Pair<String, ServerHealth> parseServerHealthJson(String jsonResult) throws IOException {
+    if (jsonResult == null) {
+      return null;
+    }
+
+    return parseServerHealth(Codecs.getJsonTreeReader().readTree(jsonResult));
+  }
+
   static final class ReadHealthWithHttpClientStep extends Step {
     private final V1Service service;
     private final V1Pod pod;
@@ -110,12 +235,7 @@ public class ReadHealthStep extends Step {
       try {
         HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
         DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-        WlsDomainConfig domainConfig =
-            (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-        if (domainConfig == null) {
-          Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-          domainConfig = scan.getWlsDomainConfig();
-        }
+        WlsDomainConfig domainConfig = getDomainConfig(packet, info);
         String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
         WlsServerConfig serverConfig = domainConfig.getServerConfig(serverName);
 
@@ -147,26 +267,8 @@ public class ReadHealthStep extends Step {
                     getRetrieveHealthSearchPayload(),
                     false);
 
-            Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
-
-            String state = pair.getLeft();
-            if (state != null && !state.isEmpty()) {
-              ConcurrentMap<String, String> serverStateMap =
-                  (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
-              info.updateLastKnownServerStatus(serverName, state);
-              serverStateMap.put(serverName, state);
-            }
-
-            @SuppressWarnings("unchecked")
-            ConcurrentMap<String, ServerHealth> serverHealthMap =
-                (ConcurrentMap<String, ServerHealth>)
-                    packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
-
-            serverHealthMap.put(
-                (String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
-            AtomicInteger remainingServersHealthToRead =
-                packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-            remainingServersHealthToRead.getAndDecrement();
+            recordServerHealth(
+                packet, info, serverName, createServerHealthFromResult(info, serverName, result));
           }
         }
         return doNext(packet);
@@ -181,10 +283,10 @@ public class ReadHealthStep extends Step {
       }
     }
 
-    private Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
-        throws IOException {
+    private Pair<String, ServerHealth> createServerHealthFromResult(
+        DomainPresenceInfo info, String serverName, Result restResult) throws IOException {
       if (restResult.isSuccessful()) {
-        return parseServerHealthJson(restResult.getResponse());
+        return readServerHealth(info, serverName, restResult.getResponse());
       }
       return new Pair<>(
           WebLogicConstants.UNKNOWN_STATE,
@@ -194,64 +296,158 @@ public class ReadHealthStep extends Step {
                       ? OVERALL_HEALTH_FOR_SERVER_OVERLOADED
                       : OVERALL_HEALTH_NOT_AVAILABLE));
     }
+  }
 
-    private Pair<String, ServerHealth> parseServerHealthJson(String jsonResult) throws IOException {
-      if (jsonResult == null) {
-        return null;
-      }
+  private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
+
+    JsonNode healthState = null;
+    JsonNode subsystemName = null;
+    JsonNode symptoms = null;
+    JsonNode overallHealthState = root.path("overallHealthState");
+    if (overallHealthState != null) {
+      healthState = overallHealthState.path("state");
+      subsystemName = overallHealthState.path("subsystemName");
+      symptoms = overallHealthState.path("symptoms");
+    }
+    JsonNode activationTime = root.path("activationTime");
 
-      ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
-
-      JsonNode healthState = null;
-      JsonNode subsystemName = null;
-      JsonNode symptoms = null;
-      JsonNode overallHealthState = root.path("overallHealthState");
-      if (overallHealthState != null) {
-        healthState = overallHealthState.path("state");
-        subsystemName = overallHealthState.path("subsystemName");
-        symptoms = overallHealthState.path("symptoms");
+    List<String> sym = new ArrayList<>();
+    if (symptoms != null) {
+      Iterator<JsonNode> it = symptoms.elements();
+      while (it.hasNext()) {
+        sym.add(it.next().asText());
       }
-      JsonNode activationTime = root.path("activationTime");
+    }
 
-      List<String> sym = new ArrayList<>();
-      if (symptoms != null) {
-        Iterator<JsonNode> it = symptoms.elements();
-        while (it.hasNext()) {
-          sym.add(it.next().asText());
-        }
+    String subName = null;
+    if (subsystemName != null) {
+      String s = subsystemName.asText();
+      if (s != null && !"null".equals(s)) {
+        subName = s;
       }
+    }
 
-      String subName = null;
-      if (subsystemName != null) {
-        String s = subsystemName.asText();
-        if (s != null && !"null".equals(s)) {
-          subName = s;
-        }
+    ServerHealth health =
+        new ServerHealth()
+            .withOverallHealth(healthState != null ? healthState.asText() : null)
+            .withActivationTime(
+                activationTime != null ? new DateTime(activationTime.asLong()) : null);
+    if (subName != null) {
+      health
+          .getSubsystems()
+          .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    }
+
+    JsonNode state = root.path("state");
+
+    String stateVal = null;
+    if (state != null) {
+      String s = state.asText();
+      if (s != null && !"null".equals(s)) {
+        stateVal = s;
       }
+    }
 
-      ServerHealth health =
-          new ServerHealth()
-              .withOverallHealth(healthState != null ? healthState.asText() : null)
-              .withActivationTime(
-                  activationTime != null ? new DateTime(activationTime.asLong()) : null);
-      if (subName != null) {
-        health
-            .getSubsystems()
-            .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    return new Pair<>(stateVal, health);
+  }
+
+  private static class BulkReadHealthStep extends Step {
+    private final long timeoutSeconds;
+
+    BulkReadHealthStep(long timeoutSeconds, Step next) {
+      super(next);
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.remove(SERVER_HEALTH_BULK_READ);
+
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      WlsDomainConfig domainConfig = getDomainConfig(packet, info);
+      String adminServerName = domainConfig == null ? null : domainConfig.getAdminServerName();
+      WlsServerConfig serverConfig = adminServerName == null ? null : domainConfig.getServerConfig(adminServerName);
+      V1Service service = serverConfig == null ? null : info.getServerService(adminServerName);
+      V1Pod pod = service == null ? null : info.getServerPod(adminServerName);
+      if (pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
       }
 
-      JsonNode state = root.path("state");
+      Domain dom = info.getDomain();
+      Step getClient =
+          HttpClient.createAuthenticatedClientForServer(
+              dom.getMetadata().getNamespace(),
+              dom.getWebLogicCredentialsSecretName(),
+              new BulkReadHealthWithHttpClientStep(service, pod, serverConfig, timeoutSeconds, getNext()));
+      return doNext(getClient, packet);
+    }
+  }
+
+  static final class BulkReadHealthWithHttpClientStep extends Step {
+    private final V1Service service;
+    private final V1Pod pod;
+    private final WlsServerConfig serverConfig;
+    private final long timeoutSeconds;
 
-      String stateVal = null;
-      if (state != null) {
-        String s = state.asText();
-        if (s != null && !"null".equals(s)) {
-          stateVal = s;
+    BulkReadHealthWithHttpClientStep(
+        V1Service service, V1Pod pod, WlsServerConfig serverConfig, long timeoutSeconds, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.serverConfig = serverConfig;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      int timeoutMillis = getTimeoutMillis(packet);
+      try {
+        HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
+        String serviceUrl =
+            HttpClient.getServiceUrl(
+                service, pod, serverConfig.getAdminProtocolChannelName(), serverConfig.getListenPort());
+        if (httpClient != null && serviceUrl != null && timeoutMillis > 0) {
+          Result result =
+              httpClient.executeTimedPostUrlOnServiceClusterIP(
+                  getBulkRetrieveHealthSearchUrl(), serviceUrl, getBulkRetrieveHealthSearchPayload(), timeoutMillis);
+          if (result.isSuccessful()) {
+            packet.put(SERVER_HEALTH_BULK_READ, parseBulkResponse(result.getResponse()));
+          } else {
+            logBulkReadFailed(packet, "HTTP status " + result.getStatus());
+          }
         }
+      } catch (Throwable t) {
+        // the health of each server will be read from that server
+        logBulkReadFailed(packet, t);
       }
+      return doNext(packet);
+    }
 
-      return new Pair<>(stateVal, health);
+    // An admin server which does not answer must not hold up the status update, whose deadline
+    // also bounds the reads of the individual servers which follow this one.
+    private int getTimeoutMillis(Packet packet) {
+      Deadline deadline = Deadline.get(packet);
+      long seconds = deadline == null ? timeoutSeconds : deadline.limitSeconds(timeoutSeconds);
+      return (int) TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private void logBulkReadFailed(Packet packet, Object reason) {
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_BULK_HEALTH_READ_FAILED,
+          serverConfig.getName(),
+          reason);
+    }
+
+    // Returns the text of the search result for each server, by server name
+    private Map<String, String> parseBulkResponse(String jsonResult) throws IOException {
+      Map<String, String> responses = new HashMap<>();
+      if (jsonResult != null) {
+        for (JsonNode item : Codecs.getJsonTreeReader().readTree(jsonResult).path("items")) {
+          Optional.ofNullable(item.path("name").textValue()).ifPresent(name -> responses.put(name, item.toString()));
+        }
+      }
+      return responses;
     }
   }
 }
@@ -0,0 +1,139 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.io.Writer;
+import java.util.Map;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+import io.kubernetes.client.util.Yaml;
+
+/**
+ * The serializers which the operator uses to read and write JSON and YAML. Each is expensive to create
+ * and safe to share once configured, so is created once and reused, rather than on every call.
+ *
+ * <p>The SnakeYAML instances which produce the Kubernetes form of YAML are not thread-safe, so one is
+ * kept per thread. Their output is the same as that of {@link Yaml#dump(Object)}, which creates an
+ * instance on every call.
+ */
+public class Codecs {
+  private static final Gson GSON = new Gson();
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+  private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+  private static final ObjectReader JSON_TREE_READER = JSON_MAPPER.reader();
+  private static final ObjectReader JSON_MAP_READER = JSON_MAPPER.readerFor(Map.class);
+  private static final ThreadLocal<org.yaml.snakeyaml.Yaml> KUBERNETES_YAML =
+      ThreadLocal.withInitial(Yaml::getSnakeYaml);
+
+  private Codecs() {
+    // no instances
+  }
+
+  /**
+   * Returns the Gson instance shared by the operator.
+   * @return a Gson instance with the default configuration
+   */
+  public static Gson getGson() {
+    return GSON;
+  }
+
+  /**
+   * Returns the Jackson mapper for JSON shared by the operator.
+   * @return an object mapper with the default configuration
+   */
+  public static ObjectMapper getJsonMapper() {
+    return JSON_MAPPER;
+  }
+
+  /**
+   * Returns a reader of JSON trees, whose deserializer has already been located.
+   * @return an object reader
+   */
+  public static ObjectReader getJsonTreeReader() {
+    return JSON_TREE_READER;
+  }
+
+  /**
+   * Returns a reader of JSON objects as maps, whose deserializer has already been located.
+   * @return an object reader
+   */
+  public static ObjectReader getJsonMapReader() {
+    return JSON_MAP_READER;
+  }
+
+  /**
+   * Returns a reader of YAML into the specified type. The deserializer for the type is located when
+   * the reader is created, so callers which read the same type repeatedly should keep the reader.
+   * @param type the type to read
+   * @return an object reader
+   */
+  public static ObjectReader yamlReaderFor(Class<?> type) {
+    return YAML_MAPPER.readerFor(type);
+  }
+
+  /**
+   * Converts an object to YAML, in the form used by the Kubernetes client.
+   * @param object a Kubernetes model object
+   * @return the YAML representation of the object
+   */
+  public static String toKubernetesYaml(Object object) {
+    return KUBERNETES_YAML.get().dump(object);
+  }
+
+  /**
+   * Writes an object as YAML, in the form used by the Kubernetes client.
+   * @param object a Kubernetes model object
+   * @param writer the writer to which the YAML representation of the object is written
+   */
+  public static void writeKubernetesYaml(Object object, Writer writer) {
+    KUBERNETES_YAML.get().dump(object, writer);
+  }
+
+  /**
+   * Converts a JSON-P value to the equivalent Gson tree, without writing and parsing its text.
+   * @param value a JSON-P value
+   * @return a Gson element
+   */
+  public static JsonElement toGson(JsonValue value) {
+    switch (value.getValueType()) {
+      case OBJECT:
+        return toGson((JsonObject) value);
+      case ARRAY:
+        return toGson((JsonArray) value);
+      case STRING:
+        return new JsonPrimitive(((JsonString) value).getString());
+      case NUMBER:
+        return new JsonPrimitive(((JsonNumber) value).numberValue());
+      case TRUE:
+        return new JsonPrimitive(true);
+      case FALSE:
+        return new JsonPrimitive(false);
+      default:
+        return JsonNull.INSTANCE;
+    }
+  }
+
+  private static com.google.gson.JsonObject toGson(JsonObject object) {
+    com.google.gson.JsonObject result = new com.google.gson.JsonObject();
+    object.forEach((name, value) -> result.add(name, toGson(value)));
+    return result;
+  }
+
+  private static com.google.gson.JsonArray toGson(JsonArray array) {
+    com.google.gson.JsonArray result = new com.google.gson.JsonArray();
+    array.forEach(value -> result.add(toGson(value)));
+    return result;
+  }
+}
@@ -6,9 +6,7 @@ package oracle.kubernetes.operator.utils;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.json.JsonPatch;
-import javax.json.JsonValue;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -20,11 +18,8 @@ public class PatchUtils {
    */
   public static List<JsonObject> toKubernetesPatch(JsonPatch jsonPatch) {
     return jsonPatch.toJsonArray().stream()
-        .map(PatchUtils::toJsonObject)
+        .map(Codecs::toGson)
+        .map(JsonElement::getAsJsonObject)
         .collect(Collectors.toList());
   }
-
-  private static JsonObject toJsonObject(JsonValue value) {
-    return new Gson().fromJson(value.toString(), JsonElement.class).getAsJsonObject();
-  }
 }
@@ -10,10 +10,10 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.utils.Codecs;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.WlsDomain;
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -201,10 +201,9 @@ public class WlsDomainConfig implements WlsDomain {
    */
   @SuppressWarnings("unchecked")
   private static ParsedJson parseJson(String jsonString) {
-    ObjectMapper mapper = new ObjectMapper();
     try {
       ParsedJson parsedJson = new ParsedJson();
-      Map result = mapper.readValue(jsonString, Map.class);
+      Map result = Codecs.getJsonMapReader().readValue(jsonString);
       parsedJson.domainName = (String) result.get("name");
       parsedJson.adminServerName = (String) result.get("adminServerName");
       Map servers = (Map<String, Object>) result.get("servers");
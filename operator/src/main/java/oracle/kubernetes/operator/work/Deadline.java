@@ -0,0 +1,117 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * The time by which a plan, such as a status update or a make-right, must complete. A deadline is
+ * carried in the plan's packet, and so is shared by the packets cloned from it for child fibers.
+ * Steps which wait for a response limit their waits to the time remaining, and fail when none
+ * remains. The number of plans which missed their deadlines is kept for each type of plan.
+ */
+public class Deadline {
+  public static final String PACKET_KEY = "deadline";
+
+  private static final ConcurrentMap<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+  private final String planType;
+  private final long expiresAtMillis;
+  private final AtomicBoolean missed = new AtomicBoolean();
+
+  private Deadline(String planType, long expiresAtMillis) {
+    this.planType = planType;
+    this.expiresAtMillis = expiresAtMillis;
+  }
+
+  /**
+   * Sets a deadline in the specified packet. Does nothing if the time allowed is not positive.
+   *
+   * @param packet the packet of the plan
+   * @param planType the type of the plan, by which misses are counted
+   * @param seconds the time allowed the plan, from now
+   */
+  public static void set(Packet packet, String planType, long seconds) {
+    if (seconds > 0) {
+      packet.put(PACKET_KEY, new Deadline(planType, SystemClock.now().getMillis() + seconds * 1000));
+    }
+  }
+
+  /**
+   * Returns the deadline in the specified packet.
+   *
+   * @param packet a packet
+   * @return the deadline, or null if there is none
+   */
+  public static Deadline get(Packet packet) {
+    return packet.getValue(PACKET_KEY);
+  }
+
+  public static void clear(Packet packet) {
+    packet.remove(PACKET_KEY);
+  }
+
+  /**
+   * Returns the number of plans which have missed their deadlines, by plan type.
+   *
+   * @return a map of plan types to counts
+   */
+  public static Map<String, Long> getMissCounts() {
+    Map<String, Long> result = new TreeMap<>();
+    misses.forEach((type, count) -> result.put(type, count.get()));
+    return result;
+  }
+
+  static void resetMissCounts() {
+    misses.clear();
+  }
+
+  public String getPlanType() {
+    return planType;
+  }
+
+  public long getRemainingMillis() {
+    return Math.max(expiresAtMillis - SystemClock.now().getMillis(), 0);
+  }
+
+  public boolean isExpired() {
+    return getRemainingMillis() == 0;
+  }
+
+  /**
+   * Limits a timeout to the time remaining before this deadline, rounded up to whole seconds.
+   *
+   * @param timeoutSeconds a timeout in seconds
+   * @return the lesser of the timeout and the seconds remaining
+   */
+  public long limitSeconds(long timeoutSeconds) {
+    return Math.min(timeoutSeconds, (getRemainingMillis() + 999) / 1000);
+  }
+
+  /**
+   * Records that an operation could not be performed before this deadline, and returns an
+   * exception describing it. The plan is counted as having missed its deadline only once.
+   *
+   * @param operation the operation which was not performed
+   * @return an exception to terminate the plan with
+   */
+  public DeadlineExceededException miss(String operation) {
+    if (missed.compareAndSet(false, true)) {
+      misses.computeIfAbsent(planType, t -> new AtomicLong()).incrementAndGet();
+    }
+    return new DeadlineExceededException(planType, operation);
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline{planType=" + planType + ", remainingMillis=" + getRemainingMillis() + "}";
+  }
+}
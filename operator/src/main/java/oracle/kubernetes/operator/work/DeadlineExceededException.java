@@ -0,0 +1,21 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * Thrown when a plan reaches its {@link Deadline} before an operation could be performed.
+ */
+@SuppressWarnings("serial")
+public class DeadlineExceededException extends RuntimeException {
+  private final String planType;
+
+  DeadlineExceededException(String planType, String operation) {
+    super("Deadline for " + planType + " exceeded before " + operation);
+    this.planType = planType;
+  }
+
+  public String getPlanType() {
+    return planType;
+  }
+}
@@ -14,7 +14,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
+  public static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
 
   /**
@@ -42,13 +42,28 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
+    return wrap(container, createThreadPool(id));
+  }
+
+  /**
+   * Creates a pool of daemon threads, whose size may be changed while it runs.
+   * @param id id
+   * @return thread pool
+   */
+  public static ScheduledThreadPoolExecutor createThreadPool(String id) {
     ScheduledThreadPoolExecutor threadPool =
         new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return threadPool;
   }
 
-  private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
+  /**
+   * Wraps an executor so that its tasks run in the specified container.
+   * @param container container
+   * @param ex executor
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
 
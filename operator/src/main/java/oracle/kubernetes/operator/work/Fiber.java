@@ -22,6 +22,8 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.NextAction.Kind;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
 
@@ -49,7 +51,14 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
  *
  * <p>Setting the {@link #LOGGER} for FINE would give you basic start/stop/resume/suspend level
  * logging. Using FINER would cause more detailed logging, which includes what steps are executed in
- * what order and how they behaved.
+ * what order and how they behaved. If {@link #setBreadCrumbsEnabled(boolean) enabled}, each fiber also
+ * records the steps which it has run, and logs them at FINE when it completes.
+ *
+ * <h2>Action Reuse</h2>
+ *
+ * <p>While a fiber applies a step, the methods of {@link Step} which create a {@link NextAction}, such
+ * as {@link Step#doNext(Packet) doNext}, reuse the fiber's current action rather than allocating one per
+ * step. Such an action is therefore valid only until the fiber's next call to one of those methods.
  */
 public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -57,6 +66,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final int DONE = 1;
   private static final int CANCELLED = 2;
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
+  private static volatile boolean breadCrumbsEnabled;
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
   public final Engine owner;
@@ -72,13 +82,19 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private final Map<String, Component> components = new ConcurrentHashMap<>();
   /** The next action for this Fiber. */
   private NextAction na;
+  /** True while the thread running this Fiber is applying a step, which may reuse the next action. */
+  private boolean applyingStep;
   private ClassLoader contextClassLoader;
   private CompletionCallback completionCallback;
   /** The thread on which this Fiber is currently executing, if applicable. */
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
+  /** The time at which this Fiber was last suspended, or null if it is not suspended. */
+  private volatile DateTime suspendedSince;
+  /** The name of the step with which this Fiber will resume, while it is suspended. */
+  private volatile String suspendedAt;
   private Collection<Fiber> children = null;
-  // Will only be populated if log level is at least FINE
+  // Will only be populated if bread crumbs are enabled
   private List<BreadCrumb> breadCrumbs = null;
 
   Fiber(Engine engine) {
@@ -119,6 +135,26 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return CURRENT_FIBER.get();
   }
 
+  /**
+   * Enables or disables the recording of bread crumbs by fibers started afterwards.
+   *
+   * @param enabled true to record bread crumbs
+   */
+  public static void setBreadCrumbsEnabled(boolean enabled) {
+    breadCrumbsEnabled = enabled;
+  }
+
+  /**
+   * Returns a next action for a step to return. While the current thread is applying a step of a fiber,
+   * this is that fiber's current action, which is reused; otherwise it is a new action.
+   *
+   * @return a next action
+   */
+  static NextAction getActionForReuse() {
+    Fiber fiber = CURRENT_FIBER.get();
+    return fiber != null && fiber.applyingStep ? fiber.na : new NextAction();
+  }
+
   /**
    * Starts the execution of this fiber asynchronously. This method works like {@link
    * Thread#start()}.
@@ -134,8 +170,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.completionCallback = completionCallback;
 
     if (status.get() == NOT_COMPLETE) {
-      if (LOGGER.isFineEnabled()) {
+      if (breadCrumbsEnabled) {
         breadCrumbs = new ArrayList<>();
+      }
+      if (LOGGER.isFineEnabled()) {
         LOGGER.fine("{0} started", getName());
       }
 
@@ -186,9 +224,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         na.packet = resumePacket;
         if (na.kind == Kind.SUSPEND) {
           doAddRunnable = true;
-          NextAction resume = new NextAction();
-          resume.invoke(na.next, na.packet);
-          na = resume;
+          suspendedSince = null;
+          na.invoke(na.next, na.packet);
         } else {
           if (LOGGER.isFinerEnabled()) {
             LOGGER.finer(
@@ -226,6 +263,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         throw new IllegalStateException();
       }
       na.terminate(t, packet);
+      suspendedSince = null;
 
       addBreadCrumb(na);
       completionCheck();
@@ -583,7 +621,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         return false;
       }
 
-      LOGGER.fine(CURRENT_STEPS, na.next);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(CURRENT_STEPS, na.next);
+      }
 
       if (LOGGER.isFinerEnabled()) {
         LOGGER.finer(
@@ -595,26 +635,31 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
       addBreadCrumb(na);
 
+      // the step may reuse the current action, so save its contents
+      Step step = na.next;
+      Packet packet = na.packet;
       NextAction result;
+      applyingStep = true;
       try {
-        result = na.next.apply(na.packet);
+        result = step.apply(packet);
       } catch (Throwable t) {
-        Packet p = na.packet;
         na = new NextAction();
-        na.terminate(t, p);
+        na.terminate(t, packet);
 
         addBreadCrumb(na);
         return false;
+      } finally {
+        applyingStep = false;
       }
 
       if (LOGGER.isFinerEnabled()) {
-        LOGGER.finer("{0} {1} returned with {2}", getName(), na.next, result);
+        LOGGER.finer("{0} {1} returned with {2}", getName(), step, result);
       }
 
       // If resume is called before suspend, then make sure
       // resume(Packet) is not lost
       if (result.kind != NextAction.Kind.SUSPEND) {
-        result.packet = na.packet;
+        result.packet = packet;
       }
 
       na = result;
@@ -622,6 +667,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         case INVOKE:
           break;
         case SUSPEND:
+          suspendedAt = result.next == null ? null : result.next.getName();
+          suspendedSince = SystemClock.now();
           addBreadCrumb(new SuspendMarkerBreadCrumb());
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
@@ -667,6 +714,32 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return getName();
   }
 
+  /**
+   * Returns the time at which this fiber was suspended.
+   *
+   * @return the suspension time, or null if the fiber is not suspended
+   */
+  public DateTime getSuspendedSince() {
+    return suspendedSince;
+  }
+
+  /**
+   * Describes the progress of this fiber, for diagnosing stalled processing: its name, the step
+   * with which it will resume if it is suspended and, if bread crumbs were enabled when it started,
+   * its bread crumbs. May be called from any thread.
+   *
+   * @return a description of the fiber
+   */
+  public String describe() {
+    StringBuilder sb = new StringBuilder(getName());
+    String stepName = suspendedAt;
+    if (suspendedSince != null && stepName != null) {
+      sb.append(" at ").append(stepName);
+    }
+    writeBreadCrumb(sb);
+    return sb.toString();
+  }
+
   /**
    * Gets the current {@link Packet} associated with this fiber. This method returns null if no
    * packet has been associated with the fiber yet.
@@ -754,15 +827,17 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private synchronized void addBreadCrumb(NextAction na) {
+  // The unsynchronized checks avoid taking the monitor for each step when bread crumbs are disabled
+
+  private void addBreadCrumb(NextAction na) {
     if (breadCrumbs != null) {
-      breadCrumbs.add(new NextActionBreadCrumb(na));
+      addBreadCrumb(new NextActionBreadCrumb(na));
     }
   }
 
-  private synchronized void addBreadCrumb(Fiber child) {
+  private void addBreadCrumb(Fiber child) {
     if (breadCrumbs != null) {
-      breadCrumbs.add(new ChildFiberBreadCrumb(child));
+      addBreadCrumb(new ChildFiberBreadCrumb(child));
     }
   }
 
@@ -873,26 +948,31 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
+  // Copies the contents of the action, which may be reused
   private static class NextActionBreadCrumb implements BreadCrumb {
-    private final NextAction na;
+    private final Kind kind;
+    private final Step next;
+    private final Throwable throwable;
 
     NextActionBreadCrumb(NextAction na) {
-      this.na = na;
+      this.kind = na.kind;
+      this.next = na.next;
+      this.throwable = na.throwable;
     }
 
     @Override
     public void writeTo(StringBuilder sb) {
-      switch (na.kind) {
+      switch (kind) {
         case INVOKE:
         case SUSPEND:
-          if (na.next != null) {
-            sb.append(na.next.getName());
+          if (next != null) {
+            sb.append(next.getName());
           }
           break;
         case THROW:
-          if (na.throwable != null) {
+          if (throwable != null) {
             sb.append('(');
-            sb.append(na.throwable.getClass().getSimpleName());
+            sb.append(throwable.getClass().getSimpleName());
             sb.append(')');
           }
           break;
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -38,6 +40,32 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Returns the fibers started by this gate which are currently suspended.
+   *
+   * @return a map of the keys of the suspended fibers to the fibers
+   */
+  public Map<String, Fiber> getSuspendedFibers() {
+    Map<String, Fiber> suspended = new HashMap<>();
+    gateMap.forEach((key, fiber) -> {
+      if (fiber.getSuspendedSince() != null) {
+        suspended.put(key, fiber);
+      }
+    });
+    return suspended;
+  }
+
+  /**
+   * Cancels all of the fibers started by this gate which have not completed. A cancelled fiber does
+   * not invoke its completion callback.
+   */
+  public synchronized void cancelAll() {
+    for (Fiber fiber : gateMap.values()) {
+      fiber.cancel(false);
+    }
+    gateMap.clear();
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
    * updated if no Fiber is started.
@@ -0,0 +1,177 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Step.MultiThrowable;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+
+/**
+ * Runs the child fibers of a suspended parent fiber as directed by a {@link ForkJoinPolicy}, and
+ * resumes or terminates the parent once they are done. Each child is owned by the fork-join: it
+ * completes exactly once, whether it ends, fails, or is cancelled at its deadline, and only then is
+ * the next pending child started.
+ */
+class ForkJoin {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Fiber parent;
+  private final Packet packet;
+  private final ForkJoinPolicy policy;
+  private final Iterator<StepAndPacket> pending;
+  private final int size;
+  private final AtomicInteger remaining;
+  private final List<Throwable> throwables = new ArrayList<>();
+  private final Set<Fiber> running = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean finished = new AtomicBoolean();
+
+  ForkJoin(Fiber parent, Packet packet, Collection<StepAndPacket> startDetails, ForkJoinPolicy policy) {
+    this.parent = parent;
+    this.packet = packet;
+    this.policy = policy;
+    this.pending = new ArrayList<>(startDetails).iterator();
+    this.size = startDetails.size();
+    this.remaining = new AtomicInteger(size);
+  }
+
+  void start() {
+    if (size == 0) {
+      finish();
+      return;
+    }
+
+    int initial = policy.getMaxParallelism() == 0 ? size : Math.min(policy.getMaxParallelism(), size);
+    for (int i = 0; i < initial; i++) {
+      startNext();
+    }
+  }
+
+  private void startNext() {
+    StepAndPacket sp;
+    synchronized (pending) {
+      if (finished.get() || !pending.hasNext()) {
+        return;
+      }
+      sp = pending.next();
+    }
+    new Child(parent.createChildFiber()).start(sp);
+  }
+
+  private void childDone(Throwable throwable) {
+    if (throwable != null) {
+      policy.getChildFailureListener().accept(throwable);
+      switch (policy.getFailurePolicy()) {
+        case FAIL_FAST:
+          failFast(throwable);
+          return;
+        case CONTINUE:
+          LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+          break;
+        default:
+          synchronized (throwables) {
+            throwables.add(throwable);
+          }
+      }
+    }
+
+    if (remaining.decrementAndGet() == 0) {
+      finish();
+    } else {
+      startNext();
+    }
+  }
+
+  private void failFast(Throwable throwable) {
+    if (finished.compareAndSet(false, true)) {
+      for (Fiber child : running) {
+        child.cancel(true);
+      }
+      parent.terminate(throwable, packet);
+    }
+  }
+
+  private void finish() {
+    if (!finished.compareAndSet(false, true)) {
+      return;
+    }
+
+    // no need to synchronize throwables as all children are done
+    if (throwables.isEmpty()) {
+      parent.resume(packet);
+    } else if (throwables.size() == 1) {
+      parent.terminate(throwables.get(0), packet);
+    } else {
+      parent.terminate(new MultiThrowable(throwables), packet);
+    }
+  }
+
+  private class Child implements CompletionCallback {
+    private final Fiber fiber;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile ScheduledFuture<?> deadline;
+
+    Child(Fiber fiber) {
+      this.fiber = fiber;
+    }
+
+    void start(StepAndPacket sp) {
+      running.add(fiber);
+      if (policy.getChildTimeoutMillis() > 0) {
+        deadline = parent.owner.getExecutor()
+            .schedule(this::onDeadline, policy.getChildTimeoutMillis(), TimeUnit.MILLISECONDS);
+      }
+      fiber.start(sp.step, sp.packet, this);
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      if (markDone()) {
+        childDone(null);
+      }
+    }
+
+    @Override
+    public void onThrowable(Packet p, Throwable throwable) {
+      if (markDone()) {
+        childDone(throwable);
+      }
+    }
+
+    private void onDeadline() {
+      if (markDone()) {
+        fiber.cancel(true);
+        childDone(new TimeoutException(
+            fiber + " did not complete within " + policy.getChildTimeoutMillis() + " ms"));
+      }
+    }
+
+    private boolean markDone() {
+      if (!done.compareAndSet(false, true)) {
+        return false;
+      }
+
+      running.remove(fiber);
+      ScheduledFuture<?> future = deadline;
+      if (future != null) {
+        future.cancel(false);
+      }
+      return true;
+    }
+  }
+}
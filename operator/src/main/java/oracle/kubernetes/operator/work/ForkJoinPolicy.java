@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Controls how {@link Step#doForkJoin(Step, Packet, java.util.Collection, ForkJoinPolicy)} runs its
+ * child fibers: how many may run at once, what happens when one fails, and how long each may run.
+ */
+public class ForkJoinPolicy {
+  private int maxParallelism;
+  private FailurePolicy failurePolicy = FailurePolicy.COLLECT_ALL;
+  private long childTimeoutMillis;
+  private Consumer<Throwable> childFailureListener = throwable -> { };
+
+  /** What a fork-join does when a child fiber fails or exceeds its deadline. */
+  public enum FailurePolicy {
+    /** Run all children, then terminate the parent with the failures, if any. */
+    COLLECT_ALL,
+    /** Cancel the running children, start no more, and terminate the parent with the failure. */
+    FAIL_FAST,
+    /** Log each failure and resume the parent once all children are done. */
+    CONTINUE
+  }
+
+  /**
+   * Creates a policy which runs all children at once with no deadline and collects their failures,
+   * as {@link Step#doForkJoin(Step, Packet, java.util.Collection)} does.
+   *
+   * @return a new policy
+   */
+  public static ForkJoinPolicy create() {
+    return new ForkJoinPolicy();
+  }
+
+  /**
+   * Limits the number of child fibers running at once. Further children are started as running
+   * ones complete, in the order given.
+   *
+   * @param maxParallelism the maximum number of running children, or zero for no limit
+   * @return this policy
+   */
+  public ForkJoinPolicy withMaxParallelism(int maxParallelism) {
+    this.maxParallelism = Math.max(maxParallelism, 0);
+    return this;
+  }
+
+  public ForkJoinPolicy withFailurePolicy(FailurePolicy failurePolicy) {
+    this.failurePolicy = failurePolicy;
+    return this;
+  }
+
+  /**
+   * Sets a deadline for each child fiber, measured from its start. A child which has not completed
+   * by its deadline is cancelled and counts as failed with a {@link java.util.concurrent.TimeoutException}.
+   *
+   * @param timeout the time allowed each child, or zero for no deadline
+   * @param unit the unit of the timeout
+   * @return this policy
+   */
+  public ForkJoinPolicy withChildTimeout(long timeout, TimeUnit unit) {
+    this.childTimeoutMillis = Math.max(unit.toMillis(timeout), 0);
+    return this;
+  }
+
+  /**
+   * Sets an action to run each time a child fiber fails or exceeds its deadline, before the failure
+   * is handled as the failure policy directs.
+   *
+   * @param childFailureListener the action, which receives the failure
+   * @return this policy
+   */
+  public ForkJoinPolicy withChildFailureListener(Consumer<Throwable> childFailureListener) {
+    this.childFailureListener = childFailureListener;
+    return this;
+  }
+
+  int getMaxParallelism() {
+    return maxParallelism;
+  }
+
+  FailurePolicy getFailurePolicy() {
+    return failurePolicy;
+  }
+
+  long getChildTimeoutMillis() {
+    return childTimeoutMillis;
+  }
+
+  Consumer<Throwable> getChildFailureListener() {
+    return childFailureListener;
+  }
+
+  @Override
+  public String toString() {
+    return "ForkJoinPolicy{maxParallelism=" + maxParallelism + ", failurePolicy=" + failurePolicy
+        + ", childTimeoutMillis=" + childTimeoutMillis + "}";
+  }
+}
@@ -0,0 +1,243 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A map which may be forked in constant time. The entries of a map are held in a chain of frozen
+ * layers, shared with the maps forked from it, and a private layer to which changes are written.
+ * Forking freezes the private layer, so that neither the original map nor the fork sees changes made
+ * to the other afterwards. A removal of an entry from a frozen layer is recorded as a tombstone in
+ * the private layer. Lookups search the layers from the newest; when the chain grows too deep, it is
+ * flattened into a single layer.
+ *
+ * <p>Reads do not lock; changes and forks synchronize on the map. Iteration and size work on a
+ * flattened copy, and so cost time proportional to the number of entries in all layers.
+ *
+ * @param <V> the type of the values in the map
+ */
+class LayeredMap<V> extends AbstractMap<String, V> {
+  private static final int MAX_DEPTH = 8;
+  private static final Object REMOVED = new Object();
+
+  private volatile Layer frozen;
+  private volatile ConcurrentMap<String, Object> changes;
+  private volatile Object version = new Object();
+
+  LayeredMap() {
+  }
+
+  private LayeredMap(Layer frozen, Object version) {
+    this.frozen = frozen;
+    this.version = version;
+  }
+
+  /**
+   * Creates a map with the same entries as this one, sharing them rather than copying them.
+   *
+   * @return the new map
+   */
+  synchronized LayeredMap<V> fork() {
+    if (changes != null && !changes.isEmpty()) {
+      frozen = Layer.create(changes, frozen);
+      changes = null;
+    }
+    return new LayeredMap<>(frozen, version);
+  }
+
+  /**
+   * Returns an object which is replaced whenever the entries of this map change, so that information
+   * derived from the entries may be cached. A map and its forks share a version until they change.
+   *
+   * @return the version of the map's entries
+   */
+  Object getVersion() {
+    return version;
+  }
+
+  @Override
+  public V get(Object key) {
+    return key instanceof String ? unmask(lookup((String) key)) : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized V put(String key, V value) {
+    V old = get(key);
+    getChanges().put(key, value);
+    version = new Object();
+    return old;
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+    V old = get(key);
+    if (old != null) {
+      if (lookupFrozen((String) key) != null) {
+        getChanges().put((String) key, REMOVED);
+      } else {
+        getChanges().remove(key);
+      }
+      version = new Object();
+    }
+    return old;
+  }
+
+  @Override
+  public synchronized void clear() {
+    frozen = null;
+    changes = null;
+    version = new Object();
+  }
+
+  // The map to which changes are written is created on the first change, as many forks never change
+  private ConcurrentMap<String, Object> getChanges() {
+    if (changes == null) {
+      changes = new ConcurrentHashMap<>();
+    }
+    return changes;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new AbstractSet<Entry<String, V>>() {
+      @Override
+      public Iterator<Entry<String, V>> iterator() {
+        return new EntryIterator(flatten());
+      }
+
+      @Override
+      public int size() {
+        return flatten().size();
+      }
+    };
+  }
+
+  private Object lookup(String key) {
+    ConcurrentMap<String, Object> current = changes;
+    Object value = current == null ? null : current.get(key);
+    return value != null ? value : lookupFrozen(key);
+  }
+
+  private Object lookupFrozen(String key) {
+    return frozen == null ? null : frozen.lookup(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  private V unmask(Object value) {
+    return value == REMOVED ? null : (V) value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, V> flatten() {
+    Map<String, V> result = new LinkedHashMap<>();
+    ConcurrentMap<String, Object> current = changes;
+    Map<String, Object> newer = current == null ? Collections.emptyMap() : current;
+    for (Map.Entry<String, Object> entry : Layer.merge(frozen, newer).entrySet()) {
+      result.put(entry.getKey(), (V) entry.getValue());
+    }
+    return result;
+  }
+
+  private static class Layer {
+    private final Map<String, Object> entries;
+    private final Layer parent;
+    private final int depth;
+
+    private Layer(Map<String, Object> entries, Layer parent) {
+      this.entries = entries;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+
+    static Layer create(Map<String, Object> entries, Layer parent) {
+      if (parent != null && parent.depth >= MAX_DEPTH) {
+        return new Layer(new HashMap<>(merge(parent, entries)), null);
+      }
+      return new Layer(entries, parent);
+    }
+
+    // Returns the entries of the layers and the newer entries, without tombstones
+    static Map<String, Object> merge(Layer layer, Map<String, Object> newer) {
+      Deque<Map<String, Object>> maps = new ArrayDeque<>();
+      maps.push(newer);
+      for (Layer l = layer; l != null; l = l.parent) {
+        maps.push(l.entries);
+      }
+
+      Map<String, Object> result = new LinkedHashMap<>();
+      for (Map<String, Object> map : maps) {
+        map.forEach((key, value) -> {
+          if (value == REMOVED) {
+            result.remove(key);
+          } else {
+            result.put(key, value);
+          }
+        });
+      }
+      return result;
+    }
+
+    Object lookup(String key) {
+      for (Layer l = this; l != null; l = l.parent) {
+        Object value = l.entries.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, V>> {
+    private final Iterator<Entry<String, V>> entries;
+    private Entry<String, V> current;
+
+    EntryIterator(Map<String, V> snapshot) {
+      entries = snapshot.entrySet().iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return entries.hasNext();
+    }
+
+    @Override
+    public Entry<String, V> next() {
+      current = entries.next();
+      return new SimpleEntry<String, V>(current) {
+        @Override
+        public V setValue(V value) {
+          super.setValue(value);
+          return put(getKey(), value);
+        }
+      };
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      LayeredMap.this.remove(current.getKey());
+      current = null;
+    }
+  }
+}
@@ -23,6 +23,8 @@ public final class NextAction {
     this.kind = k;
     this.next = v;
     this.packet = p;
+    this.onExit = null;
+    this.throwable = null;
   }
 
   /**
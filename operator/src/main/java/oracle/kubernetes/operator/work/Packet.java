@@ -8,20 +8,31 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Cloning is cheap: the values and components of a clone are shared with the original until one of
+ * them changes, so that a packet may be cloned for each of many steps run in parallel. SPIs are looked up
+ * once per type and cached until the components change; a component is expected always to return the
+ * same SPI for a type, as do those created by {@link Component#createFor(Object...)}.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private static final Object NO_SPI = new Object();
+
+  private final LayeredMap<Component> components;
+  private final LayeredMap<Object> delegate;
+  private volatile SpiIndex spiIndex;
 
   public Packet() {
+    this(new LayeredMap<>(), new LayeredMap<>(), null);
   }
 
-  private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+  private Packet(LayeredMap<Component> components, LayeredMap<Object> delegate, SpiIndex spiIndex) {
+    this.components = components;
+    this.delegate = delegate;
+    this.spiIndex = spiIndex;
   }
 
   /**
@@ -30,7 +41,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return Cloned packet
    */
   public Packet clone() {
-    return new Packet(this);
+    return new Packet(components.fork(), delegate.fork(), spiIndex);
   }
 
   /**
@@ -40,13 +51,26 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
+    return getSpiIndex().getSpi(spiType, this::findSpi);
+  }
+
+  private SpiIndex getSpiIndex() {
+    Object version = components.getVersion();
+    SpiIndex index = spiIndex;
+    if (index == null || index.version != version) {
+      spiIndex = index = new SpiIndex(version);
+    }
+    return index;
+  }
+
+  private Object findSpi(Class<?> spiType) {
     for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
+      Object s = c.getSpi(spiType);
       if (s != null) {
         return s;
       }
     }
-    return null;
+    return NO_SPI;
   }
 
   @Override
@@ -68,13 +92,43 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  // The SPIs found for a version of the components, shared with clones until their components change
+  private static class SpiIndex {
+    private final Object version;
+    private final Map<Class<?>, Object> spis = new ConcurrentHashMap<>();
+
+    SpiIndex(Object version) {
+      this.version = version;
+    }
+
+    <S> S getSpi(Class<S> spiType, Function<Class<?>, Object> finder) {
+      Object spi = spis.computeIfAbsent(spiType, finder);
+      return spi == NO_SPI ? null : spiType.cast(spi);
+    }
+  }
 }
@@ -110,7 +110,7 @@ public abstract class Step {
    * @return The next action
    */
   protected NextAction doNext(Packet packet) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.invoke(next, packet);
     return na;
   }
@@ -124,7 +124,7 @@ public abstract class Step {
    * @return The next action
    */
   protected NextAction doNext(Step step, Packet packet) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.invoke(step, packet);
     return na;
   }
@@ -147,7 +147,7 @@ public abstract class Step {
    * @return Next action that will end processing with a throwable
    */
   protected final NextAction doTerminate(Throwable throwable, Packet packet) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.terminate(throwable, packet);
     return na;
   }
@@ -161,7 +161,7 @@ public abstract class Step {
    * @return The next action
    */
   protected NextAction doRetry(Packet packet, long delay, TimeUnit unit) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.delay(this, packet, delay, unit);
     return na;
   }
@@ -176,7 +176,7 @@ public abstract class Step {
    * @return The next action
    */
   protected NextAction doDelay(Packet packet, long delay, TimeUnit unit) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.delay(next, packet, delay, unit);
     return na;
   }
@@ -192,7 +192,7 @@ public abstract class Step {
    * @return The next action
    */
   protected NextAction doDelay(Step step, Packet packet, long delay, TimeUnit unit) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.delay(step, packet, delay, unit);
     return na;
   }
@@ -205,7 +205,7 @@ public abstract class Step {
    * @return Next action
    */
   protected NextAction doSuspend(Consumer<Fiber> onExit) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.suspend(next, onExit);
     return na;
   }
@@ -220,7 +220,7 @@ public abstract class Step {
    * @return Next action
    */
   protected NextAction doSuspend(Step step, Consumer<Fiber> onExit) {
-    NextAction na = new NextAction();
+    NextAction na = Fiber.getActionForReuse();
     na.suspend(step, onExit);
     return na;
   }
@@ -241,30 +241,24 @@ public abstract class Step {
    */
   protected NextAction doForkJoin(
       Step step, Packet packet, Collection<StepAndPacket> startDetails) {
-    return doSuspend(
-        step,
-        (fiber) -> {
-          CompletionCallback callback =
-              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
-                @Override
-                public void onCompletion(Packet p) {
-                  if (count.decrementAndGet() == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
-                  }
-                }
-              };
-          // start forked fibers
-          for (StepAndPacket sp : startDetails) {
-            fiber.createChildFiber().start(sp.step, sp.packet, callback);
-          }
-        });
+    return doForkJoin(step, packet, startDetails, ForkJoinPolicy.create());
+  }
+
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for each step and packet pair, as directed by the specified policy. When all of the
+   * child fibers are done, then this fiber is resumed with the indicated step and packet, or
+   * terminated if the policy treats the failure of a child as the failure of this fiber.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param policy the limits on the child fibers and the handling of their failures
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, ForkJoinPolicy policy) {
+    return doSuspend(step, (fiber) -> new ForkJoin(fiber, packet, startDetails, policy).start());
   }
 
   /**
@@ -309,7 +303,7 @@ public abstract class Step {
   public static class MultiThrowable extends RuntimeException {
     private final List<Throwable> throwables;
 
-    private MultiThrowable(List<Throwable> throwables) {
+    MultiThrowable(List<Throwable> throwables) {
       super(throwables.get(0));
       this.throwables = throwables;
     }
@@ -67,6 +67,10 @@ public class DomainStatus {
   @Range(minimum = 0)
   private Integer replicas;
 
+  @Description("Progress of the operator in starting or restarting the servers of this domain, while it is doing so.")
+  @Valid
+  private RolloutStatus rollout;
+
   public DomainStatus() {
   }
 
@@ -82,6 +86,7 @@ public class DomainStatus {
     clusters = that.clusters.stream().map(ClusterStatus::new).collect(Collectors.toList());
     startTime = that.startTime;
     replicas = that.replicas;
+    rollout = that.rollout == null ? null : new RolloutStatus(that.rollout);
   }
 
   /**
@@ -370,6 +375,35 @@ public class DomainStatus {
     return startTime;
   }
 
+  /**
+   * Progress of the operator in starting or restarting the servers of this domain.
+   *
+   * @return the rollout progress, or null if no rollout is in progress
+   */
+  public RolloutStatus getRollout() {
+    return rollout;
+  }
+
+  /**
+   * Progress of the operator in starting or restarting the servers of this domain.
+   *
+   * @param rollout the rollout progress, or null if no rollout is in progress
+   */
+  public void setRollout(RolloutStatus rollout) {
+    this.rollout = rollout;
+  }
+
+  /**
+   * Progress of the operator in starting or restarting the servers of this domain.
+   *
+   * @param rollout the rollout progress, or null if no rollout is in progress
+   * @return this
+   */
+  public DomainStatus withRollout(RolloutStatus rollout) {
+    this.rollout = rollout;
+    return this;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -379,6 +413,7 @@ public class DomainStatus {
         .append("servers", servers)
         .append("clusters", clusters)
         .append("startTime", startTime)
+        .append("rollout", rollout)
         .toString();
   }
 
@@ -391,6 +426,7 @@ public class DomainStatus {
         .append(Domain.sortOrNull(clusters))
         .append(Domain.sortOrNull(conditions))
         .append(message)
+        .append(rollout)
         .toHashCode();
   }
 
@@ -410,6 +446,7 @@ public class DomainStatus {
         .append(Domain.sortOrNull(clusters), Domain.sortOrNull(rhs.clusters))
         .append(Domain.sortOrNull(conditions), Domain.sortOrNull(rhs.conditions))
         .append(message, rhs.message)
+        .append(rollout, rhs.rollout)
         .isEquals();
   }
 
@@ -418,6 +455,7 @@ public class DomainStatus {
         .withStringField("message", DomainStatus::getMessage)
         .withStringField("reason", DomainStatus::getReason)
         .withIntegerField("replicas", DomainStatus::getReplicas)
+        .withObjectField("rollout", DomainStatus::getRollout, RolloutStatus.getObjectPatch())
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
         .withListField("servers", ServerStatus.getObjectPatch(), DomainStatus::getServers);
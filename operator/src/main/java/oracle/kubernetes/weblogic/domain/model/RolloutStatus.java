@@ -0,0 +1,146 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import oracle.kubernetes.json.Description;
+import oracle.kubernetes.json.Range;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.joda.time.DateTime;
+
+import static oracle.kubernetes.weblogic.domain.model.ObjectPatch.createObjectPatch;
+
+/** RolloutStatus describes the progress of the operator in starting or restarting the servers of a domain. */
+public class RolloutStatus {
+
+  @Description("The number of WebLogic Servers which the operator is starting or restarting.")
+  @Range(minimum = 0)
+  private Integer serversTotal;
+
+  @Description("The number of those WebLogic Servers which the operator has finished starting or restarting.")
+  @Range(minimum = 0)
+  private Integer serversCompleted;
+
+  @Description(
+      "RFC 3339 date and time at which the operator expects to finish starting or restarting the "
+          + "servers, based on the rate at which servers have completed so far.")
+  private DateTime estimatedCompletionTime;
+
+  public RolloutStatus() {
+  }
+
+  /**
+   * Copy constructor.
+   * @param other the object to deep-copy
+   */
+  RolloutStatus(RolloutStatus other) {
+    this.serversTotal = other.serversTotal;
+    this.serversCompleted = other.serversCompleted;
+    this.estimatedCompletionTime = other.estimatedCompletionTime;
+  }
+
+  /**
+   * The number of servers being started or restarted.
+   *
+   * @return total servers
+   */
+  public Integer getServersTotal() {
+    return serversTotal;
+  }
+
+  /**
+   * The number of servers being started or restarted.
+   *
+   * @param serversTotal total servers
+   * @return this
+   */
+  public RolloutStatus withServersTotal(Integer serversTotal) {
+    this.serversTotal = serversTotal;
+    return this;
+  }
+
+  /**
+   * The number of servers which have been started or restarted.
+   *
+   * @return completed servers
+   */
+  public Integer getServersCompleted() {
+    return serversCompleted;
+  }
+
+  /**
+   * The number of servers which have been started or restarted.
+   *
+   * @param serversCompleted completed servers
+   * @return this
+   */
+  public RolloutStatus withServersCompleted(Integer serversCompleted) {
+    this.serversCompleted = serversCompleted;
+    return this;
+  }
+
+  /**
+   * RFC 3339 date and time at which the rollout is expected to complete.
+   *
+   * @return estimated completion time
+   */
+  public DateTime getEstimatedCompletionTime() {
+    return estimatedCompletionTime;
+  }
+
+  /**
+   * RFC 3339 date and time at which the rollout is expected to complete.
+   *
+   * @param estimatedCompletionTime estimated completion time
+   * @return this
+   */
+  public RolloutStatus withEstimatedCompletionTime(DateTime estimatedCompletionTime) {
+    this.estimatedCompletionTime = estimatedCompletionTime;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("serversTotal", serversTotal)
+        .append("serversCompleted", serversCompleted)
+        .append("estimatedCompletionTime", estimatedCompletionTime)
+        .toString();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+        .append(serversTotal)
+        .append(serversCompleted)
+        .append(estimatedCompletionTime)
+        .toHashCode();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    }
+    if (!(other instanceof RolloutStatus)) {
+      return false;
+    }
+    RolloutStatus rhs = ((RolloutStatus) other);
+    return new EqualsBuilder()
+        .append(serversTotal, rhs.serversTotal)
+        .append(serversCompleted, rhs.serversCompleted)
+        .append(estimatedCompletionTime, rhs.estimatedCompletionTime)
+        .isEquals();
+  }
+
+  private static final ObjectPatch<RolloutStatus> rolloutPatch = createObjectPatch(RolloutStatus.class)
+        .withIntegerField("serversTotal", RolloutStatus::getServersTotal)
+        .withIntegerField("serversCompleted", RolloutStatus::getServersCompleted)
+        .withDateTimeField("estimatedCompletionTime", RolloutStatus::getEstimatedCompletionTime);
+
+  static ObjectPatch<RolloutStatus> getObjectPatch() {
+    return rolloutPatch;
+  }
+}
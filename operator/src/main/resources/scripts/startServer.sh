@@ -126,6 +126,37 @@ function copySitCfg() {
   fi
 }
 
+#
+# Define helper fn to expand introspector files that the operator stored compressed
+#
+# - When the operator uses its compact introspector config map format, large files
+#   are mounted gzipped with a '.gz' suffix. If there are any, copy the introspector
+#   directory to a local directory, expand them there, and use that directory instead.
+# - Sets 'introspector_dir' to the directory from which to read introspector files.
+#
+
+function expandIntrospectorFiles() {
+  src_dir=${1?}
+  tgt_dir=${2?}
+
+  introspector_dir=${src_dir}
+  ls ${src_dir}/*.gz > /dev/null 2>&1
+  [ $? -ne 0 ] && return
+
+  trace "Expanding compressed introspector files from '$src_dir' to '$tgt_dir'."
+
+  createFolder $tgt_dir
+  for local_fname in ${src_dir}/* ; do
+    if [[ "$local_fname" == *.gz ]]; then
+      gunzip -c $local_fname > $tgt_dir/`basename ${local_fname%.gz}`
+    else
+      cp -L $local_fname $tgt_dir/
+    fi
+    [ $? -ne 0 ] && trace SEVERE "failed to copy $local_fname to $tgt_dir" && exitOrLoop
+  done
+  introspector_dir=${tgt_dir}
+}
+
 # trace env vars and dirs before export.*Home calls
 
 traceEnv before
@@ -223,14 +254,16 @@ fi
 #          trigger unnecessary situational config overhead.
 #
 
+expandIntrospectorFiles /weblogic-operator/introspector /tmp/weblogic-operator/introspector
+
 createFolder ${DOMAIN_HOME}/servers/${SERVER_NAME}/security
-copyIfChanged /weblogic-operator/introspector/boot.properties \
+copyIfChanged ${introspector_dir}/boot.properties \
               ${DOMAIN_HOME}/servers/${SERVER_NAME}/security/boot.properties
 
-copySitCfg /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
-copySitCfg /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
-copySitCfg /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
-copySitCfg /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
+copySitCfg ${introspector_dir} ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
+copySitCfg ${introspector_dir} ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
+copySitCfg ${introspector_dir} ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
+copySitCfg ${introspector_dir} ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
 
 
 
@@ -12,6 +12,8 @@ import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -19,12 +21,13 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 /** A test stub for processing domains in unit tests. */
 public abstract class DomainProcessorDelegateStub implements DomainProcessorDelegate {
   private FiberTestSupport testSupport;
+  private PodAwaiterStepFactory podAwaiterStepFactory = new PassthroughPodAwaiterStepFactory();
 
   public DomainProcessorDelegateStub(FiberTestSupport testSupport) {
     this.testSupport = testSupport;
   }
 
-  public static DomainProcessorDelegate createDelegate(KubernetesTestSupport testSupport) {
+  public static DomainProcessorDelegateStub createDelegate(KubernetesTestSupport testSupport) {
     return createStrictStub(DomainProcessorDelegateStub.class, testSupport);
   }
 
@@ -35,7 +38,16 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
 
   @Override
   public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
-    return new PassthroughPodAwaiterStepFactory();
+    return podAwaiterStepFactory;
+  }
+
+  /**
+   * Makes waits for pod deletion suspend forever, as they do once the namespace's pod watcher is stopped.
+   * @return this stub
+   */
+  public DomainProcessorDelegateStub withPodDeletionsNeverReported() {
+    podAwaiterStepFactory = new UnreportedDeletionPodAwaiterStepFactory();
+    return this;
   }
 
   @Override
@@ -70,4 +82,16 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
       return next;
     }
   }
+
+  private static class UnreportedDeletionPodAwaiterStepFactory extends PassthroughPodAwaiterStepFactory {
+    @Override
+    public Step waitForDelete(V1Pod pod, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          return doSuspend(fiber -> { });
+        }
+      };
+    }
+  }
 }
@@ -5,15 +5,23 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
@@ -43,6 +51,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
@@ -51,11 +60,17 @@ import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.logging.MessageKeys.DOMAIN_RESOURCES_DELETED;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -71,6 +86,8 @@ public class DomainProcessorTest {
       IntStream.rangeClosed(1, MAX_SERVERS).mapToObj(n -> MS_PREFIX + n).toArray(String[]::new);
 
   private List<Memento> mementos = new ArrayList<>();
+  private List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private DomainConfigurator domainConfigurator;
   private Map<String, DomainPresenceInfo> presenceInfoMap = new HashMap<>();
@@ -94,9 +111,13 @@ public class DomainProcessorTest {
    */
   @Before
   public void setUp() throws Exception {
-    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(consoleHandlerMemento = TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "OWNED_NAMESPACES", new HashSet<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightFiberGates", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusFiberGates", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS_BY_UID", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -133,6 +154,59 @@ public class DomainProcessorTest {
     assertThat(info.getClusterService(CLUSTER), notNullValue());
   }
 
+  @Test
+  public void afterMakeRight_findCachedDomainByUid() {
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+
+    assertThat(DomainProcessorImpl.findCachedDomain(UID, Collections.singletonList(NS)), sameInstance(domain));
+  }
+
+  @Test
+  public void whenDomainNotInSearchedNamespaces_doNotFindCachedDomain() {
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+
+    assertThat(DomainProcessorImpl.findCachedDomain(UID, Collections.singletonList("other")), nullValue());
+  }
+
+  @Test
+  public void afterDomainShutDown_doNotFindCachedDomain() {
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, true, true);
+
+    assertThat(DomainProcessorImpl.findCachedDomain(UID, Collections.singletonList(NS)), nullValue());
+  }
+
+  @Test
+  public void whenNamespaceReleased_leaveDomainRunningAndForgetIt() {
+    defineServerResources(ADMIN_NAME);
+    Arrays.stream(MANAGED_SERVER_NAMES).forEach(this::defineServerResources);
+    processor.startNamespace(NS);
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+    int numRunningPods = getRunningPods().size();
+
+    processor.releaseNamespace(NS);
+
+    assertThat(getRunningPods().size(), equalTo(numRunningPods));
+    assertThat(DomainProcessorImpl.isNamespaceOwned(NS), equalTo(false));
+  }
+
+  @Test
+  public void whenNamespaceReleased_doNotFindCachedDomain() {
+    processor.startNamespace(NS);
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+
+    processor.releaseNamespace(NS);
+
+    assertThat(DomainProcessorImpl.findCachedDomain(UID, Collections.singletonList(NS)), nullValue());
+  }
+
+  @Test
+  public void whenNamespaceStartedWithoutDomains_namespaceIsOwned() {
+    processor.startNamespace(NS);
+
+    assertThat(DomainProcessorImpl.isNamespaceOwned(NS), equalTo(true));
+  }
+
   @Test
   public void whenDomainScaledDown_removeExcessPodsAndServices() {
     defineServerResources(ADMIN_NAME);
@@ -185,6 +259,58 @@ public class DomainProcessorTest {
     assertThat(getRunningPods(), empty());
   }
 
+  @Test
+  public void whenDomainShutDown_removeDomainConfigMapsAndJobs() {
+    testSupport.defineResources(
+        createDomainConfigMap(UID, "introspector-cm"), createDomainConfigMap("other", "other-cm"),
+        new V1Job().metadata(KubernetesUtils.withOperatorLabels(UID, new V1ObjectMeta().name("job").namespace(NS))));
+
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, true, true);
+
+    assertThat(getConfigMapNames(), both(hasItem("other-cm")).and(not(hasItem("introspector-cm"))));
+    assertThat(testSupport.getResources(KubernetesTestSupport.JOB), empty());
+  }
+
+  @Test
+  public void whenDomainShutDown_reportTeardownTime() {
+    consoleHandlerMemento.collectLogMessages(logRecords, DOMAIN_RESOURCES_DELETED);
+    defineServerResources(ADMIN_NAME);
+
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, true, true);
+
+    assertThat(logRecords, containsInfo(DOMAIN_RESOURCES_DELETED));
+  }
+
+  @Test
+  public void whenPodWatcherStopsDuringTeardown_completeTeardownAfterGracePeriod() {
+    consoleHandlerMemento.collectLogMessages(logRecords, DOMAIN_RESOURCES_DELETED)
+          .ignoringLoggedExceptions(TimeoutException.class);
+    processor = new DomainProcessorImpl(
+          DomainProcessorDelegateStub.createDelegate(testSupport).withPodDeletionsNeverReported());
+    defineServerResources(ADMIN_NAME);
+
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, true, true);
+    testSupport.setTime(60, TimeUnit.SECONDS);
+
+    assertThat(logRecords, containsInfo(DOMAIN_RESOURCES_DELETED));
+    assertThat(getRunningServices(), empty());
+  }
+
+  private V1ConfigMap createDomainConfigMap(String domainUid, String name) {
+    return new V1ConfigMap().metadata(
+        KubernetesUtils.withOperatorLabels(domainUid, new V1ObjectMeta().name(name).namespace(NS)));
+  }
+
+  private List<String> getConfigMapNames() {
+    return testSupport.<V1ConfigMap>getResources(KubernetesTestSupport.CONFIG_MAP).stream()
+        .map(V1ConfigMap::getMetadata)
+        .map(V1ObjectMeta::getName)
+        .collect(Collectors.toList());
+  }
+
   private V1Service createNonOperatorService() {
     return new V1Service()
         .metadata(
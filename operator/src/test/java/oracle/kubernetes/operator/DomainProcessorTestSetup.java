@@ -128,6 +128,8 @@ public class DomainProcessorTestSetup {
             .metadata(
                 new V1ObjectMeta()
                     .putLabelsItem("job-name", "")
+                    .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+                    .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
                     .name(LegalNames.toJobIntrospectorName(UID))
                     .namespace(NS)));
   }
@@ -0,0 +1,209 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IncrementalNamespaceRecheckTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final DateTime CREATION_TIME = DateTime.now();
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Set<String> failedNamespaces = new HashSet<>();
+  private final Map<String, Map<String, Domain>> cachedDomains = new HashMap<>();
+  private final List<String> rereadNamespaces = new ArrayList<>();
+  private final IncrementalNamespaceRecheck recheck = new IncrementalNamespaceRecheck(
+      failedNamespaces::contains,
+      ns -> cachedDomains.getOrDefault(ns, Collections.emptyMap()),
+      RereadStep::new);
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private Domain createDomain(String ns, String uid, String resourceVersion) {
+    return new Domain()
+          .withMetadata(new V1ObjectMeta().namespace(ns).name(uid)
+                .creationTimestamp(CREATION_TIME).resourceVersion(resourceVersion))
+          .withSpec(new DomainSpec().withDomainUid(uid));
+  }
+
+  private void defineDomain(Domain domain) {
+    testSupport.defineResources(domain);
+  }
+
+  private void cacheDomain(Domain domain) {
+    cachedDomains.computeIfAbsent(domain.getMetadata().getNamespace(), ns -> new HashMap<>())
+          .put(domain.getDomainUid(), domain);
+  }
+
+  private void defineAndCacheDomain(String ns, String uid) {
+    defineDomain(createDomain(ns, uid, "1"));
+    cacheDomain(createDomain(ns, uid, "1"));
+  }
+
+  private void runRecheck(String... namespaces) {
+    testSupport.runSteps(recheck.createStep(Arrays.asList(namespaces)));
+  }
+
+  class RereadStep extends Step {
+    private final String ns;
+
+    RereadStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      rereadNamespaces.add(ns);
+      return doNext(packet);
+    }
+  }
+
+  @Test
+  public void byDefault_recheckIsIncremental() {
+    assertThat(IncrementalNamespaceRecheck.isEnabled(), is(true));
+  }
+
+  @Test
+  public void whenModeIsFull_recheckIsNotIncremental() {
+    TuningParameters.getInstance().put(IncrementalNamespaceRecheck.MODE_PARAM, "full");
+
+    assertThat(IncrementalNamespaceRecheck.isEnabled(), is(false));
+  }
+
+  @Test
+  public void whenCachedDomainsMatch_doNotRereadNamespace() {
+    defineAndCacheDomain(NS1, "domain1");
+    defineAndCacheDomain(NS1, "domain2");
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, empty());
+  }
+
+  @Test
+  public void whenWatchersFailed_rereadNamespace() {
+    defineAndCacheDomain(NS1, "domain1");
+    failedNamespaces.add(NS1);
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, contains(NS1));
+  }
+
+  @Test
+  public void whenDomainNotCached_rereadNamespace() {
+    defineDomain(createDomain(NS1, "domain1", "1"));
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, contains(NS1));
+  }
+
+  @Test
+  public void whenCachedDomainDeleted_rereadNamespace() {
+    cacheDomain(createDomain(NS1, "domain1", "1"));
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, contains(NS1));
+  }
+
+  @Test
+  public void whenDomainNewerThanCached_rereadNamespace() {
+    defineDomain(createDomain(NS1, "domain1", "2"));
+    cacheDomain(createDomain(NS1, "domain1", "1"));
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, contains(NS1));
+  }
+
+  @Test
+  public void whenCachedDomainNewerThanListed_doNotRereadNamespace() {
+    defineDomain(createDomain(NS1, "domain1", "1"));
+    cacheDomain(createDomain(NS1, "domain1", "2"));
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, empty());
+  }
+
+  @Test
+  public void rereadOnlyNamespacesThatHaveDrifted() {
+    defineAndCacheDomain(NS1, "domain1");
+    defineDomain(createDomain(NS2, "domain2", "1"));
+
+    runRecheck(NS1, NS2);
+
+    assertThat(rereadNamespaces, contains(NS2));
+  }
+
+  @Test
+  public void whenSeveralNamespacesDrifted_rereadEach() {
+    failedNamespaces.add(NS1);
+    defineDomain(createDomain(NS2, "domain2", "1"));
+
+    runRecheck(NS1, NS2);
+
+    assertThat(rereadNamespaces, containsInAnyOrder(NS1, NS2));
+  }
+
+  @Test
+  public void whenListFails_doNotRereadNamespace() {
+    defineDomain(createDomain(NS1, "domain1", "1"));
+    testSupport.failOnResource(DOMAIN, null, NS1, 500);
+
+    runRecheck(NS1);
+
+    assertThat(rereadNamespaces, empty());
+  }
+}
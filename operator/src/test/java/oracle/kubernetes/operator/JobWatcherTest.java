@@ -25,6 +25,7 @@ import org.junit.Test;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -329,6 +330,35 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
     assertThat(terminalStep.wasRun(), is(false));
   }
 
+  @Test
+  public void whenCompletedJobReportedBeforeWait_performNextStepWithoutReadingJob() {
+    sendJobModifiedWatchBeforeWaitForReady(this::markJobCompleted);
+
+    assertThat(terminalStep.wasRun(), is(true));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenDifferentCompletedJobReportedBeforeWait_dontPerformNextStep() {
+    sendJobModifiedWatchBeforeWaitForReady(this::createCompletedJobWithDifferentTimestamp);
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  // Sends a watch indicating that the job has changed and then starts the waitForReady step with an incomplete job
+  private void sendJobModifiedWatchBeforeWaitForReady(Function<V1Job,V1Job> modifier) {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    JobWatcher watcher = createWatcher(stopping);
+    testSupport.defineResources(cachedJob);
+
+    try {
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", modifier.apply(createJob())));
+      testSupport.runSteps(watcher.waitForReady(cachedJob, terminalStep));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
   @SuppressWarnings("unused")
   private V1Job createCompletedJobWithDifferentTimestamp(V1Job job) {
     clock++;
@@ -374,4 +404,9 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
     // Override as JobWatcher doesn't currently implement listener for callback
   }
 
+  @Override
+  public void whenEventPipelineSet_deliverEventsThroughIt() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
 }
@@ -5,14 +5,25 @@ package oracle.kubernetes.operator;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.logging.LogRecord;
 
+import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.work.Deadline;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
 import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.logging.MessageKeys.DEADLINE_MISSES;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -21,9 +32,12 @@ public class MainTest {
   private static final String NS = "default";
   private static final String DOMAIN_UID = "domain-uid-for-testing";
   private Method getTargetNamespaces;
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
 
   @After
   public void tearDown() {
+    mementos.forEach(Memento::revert);
   }
 
   @Test
@@ -113,6 +127,41 @@ public class MainTest {
     assertTrue(KubernetesUtils.isFirstNewer(domainMeta, domain2Meta));
   }
 
+  @Test
+  public void whenPlansMissDeadlines_logMissesAtInfo() {
+    collectDeadlineMissMessages();
+
+    missDeadline();
+    Main.logDeadlineMisses();
+
+    assertThat(logRecords, containsInfo(DEADLINE_MISSES));
+  }
+
+  @Test
+  public void whenNoPlanMissedDeadlineSinceLastReport_dontLogMisses() {
+    collectDeadlineMissMessages();
+
+    missDeadline();
+    Main.logDeadlineMisses();
+    logRecords.clear();
+    Main.logDeadlineMisses();
+
+    assertThat(logRecords, empty());
+  }
+
+  // reports any misses left by other tests, so that only new ones are reported by the test
+  private void collectDeadlineMissMessages() {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, DEADLINE_MISSES));
+    Main.logDeadlineMisses();
+    logRecords.clear();
+  }
+
+  private void missDeadline() {
+    Packet packet = new Packet();
+    Deadline.set(packet, "test", 1);
+    Deadline.get(packet).miss("testing");
+  }
+
   @SuppressWarnings({"unchecked", "SameParameterValue"})
   private Collection<String> invoke_getTargetNamespaces(String tnValue, String namespace)
       throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
@@ -0,0 +1,222 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class NamespaceShardingTest {
+  private static final String NS = "operator-ns";
+  private static final String REPLICA1 = "replica1";
+  private static final String REPLICA2 = "replica2";
+  private static final String REPLICA3 = "replica3";
+  private static final int LEASE_DURATION = 30;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final NamespaceSharding sharding = new NamespaceSharding(NS, REPLICA1, LEASE_DURATION);
+  private final List<String> namespaces =
+        IntStream.range(0, 100).mapToObj(i -> "ns" + i).collect(Collectors.toList());
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private V1Lease createLease(String replica, DateTime renewTime, int durationSeconds) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta().name(replica).namespace(NS)
+                .putLabelsItem(LabelConstants.OPERATOR_REPLICA_LABEL, "true"))
+          .spec(new V1LeaseSpec().holderIdentity(replica)
+                .renewTime(renewTime).leaseDurationSeconds(durationSeconds));
+  }
+
+  private void defineLiveLease(String replica) {
+    testSupport.defineResources(createLease(replica, SystemClock.now(), LEASE_DURATION));
+  }
+
+  private void refresh(NamespaceSharding sharding) {
+    testSupport.runSteps(sharding.createRefreshStep(null));
+  }
+
+  @Test
+  public void byDefault_shardingIsDisabled() {
+    assertThat(NamespaceSharding.isEnabled(), is(false));
+  }
+
+  @Test
+  public void whenParameterSet_shardingIsEnabled() {
+    TuningParameters.getInstance().put(NamespaceSharding.SHARDING_PARAM, "true");
+
+    assertThat(NamespaceSharding.isEnabled(), is(true));
+  }
+
+  @Test
+  public void whenLeaseDurationNotSet_useDefault() {
+    assertThat(NamespaceSharding.getConfiguredLeaseDurationSeconds(),
+          equalTo(NamespaceSharding.DEFAULT_LEASE_DURATION_SECONDS));
+  }
+
+  @Test
+  public void whenLeaseDurationSet_useIt() {
+    TuningParameters.getInstance().put(NamespaceSharding.LEASE_DURATION_PARAM, "45");
+
+    assertThat(NamespaceSharding.getConfiguredLeaseDurationSeconds(), equalTo(45));
+  }
+
+  @Test
+  public void beforeRefresh_replicaOwnsAllNamespaces() {
+    assertThat(sharding.selectOwned(namespaces), equalTo(namespaces));
+  }
+
+  @Test
+  public void whenNoLeaseExists_refreshCreatesOne() {
+    refresh(sharding);
+
+    V1Lease lease = testSupport.getResourceWithName(LEASE, REPLICA1);
+    assertThat(lease.getSpec().getHolderIdentity(), equalTo(REPLICA1));
+    assertThat(lease.getSpec().getLeaseDurationSeconds(), equalTo(LEASE_DURATION));
+    assertThat(lease.getMetadata().getLabels().get(LabelConstants.OPERATOR_REPLICA_LABEL), equalTo("true"));
+  }
+
+  @Test
+  public void whenLeaseExists_refreshRenewsIt() {
+    defineLiveLease(REPLICA1);
+    SystemClockTestSupport.increment();
+
+    refresh(sharding);
+
+    V1Lease lease = testSupport.getResourceWithName(LEASE, REPLICA1);
+    assertThat(lease.getSpec().getRenewTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  public void afterRefresh_includeReplicasWithLiveLeases() {
+    defineLiveLease(REPLICA2);
+
+    refresh(sharding);
+
+    assertThat(sharding.getReplicas(), contains(REPLICA1, REPLICA2));
+  }
+
+  @Test
+  public void afterRefresh_ignoreReplicasWithExpiredLeases() {
+    testSupport.defineResources(createLease(REPLICA2, SystemClock.now(), 1));
+    SystemClockTestSupport.increment();
+    SystemClockTestSupport.increment();
+
+    refresh(sharding);
+
+    assertThat(sharding.getReplicas(), contains(REPLICA1));
+  }
+
+  @Test
+  public void withSeveralReplicas_eachNamespaceHasExactlyOneOwner() {
+    NamespaceSharding sharding2 = new NamespaceSharding(NS, REPLICA2, LEASE_DURATION);
+    NamespaceSharding sharding3 = new NamespaceSharding(NS, REPLICA3, LEASE_DURATION);
+    refresh(sharding);
+    refresh(sharding2);
+    refresh(sharding3);
+    refresh(sharding);
+    refresh(sharding2);
+
+    for (String ns : namespaces) {
+      long numOwners = Stream.of(sharding, sharding2, sharding3).filter(s -> s.isOwned(ns)).count();
+      assertThat(ns, numOwners, equalTo(1L));
+    }
+  }
+
+  @Test
+  public void withSeveralReplicas_eachReplicaOwnsSomeNamespaces() {
+    defineLiveLease(REPLICA2);
+    defineLiveLease(REPLICA3);
+
+    refresh(sharding);
+
+    assertThat(sharding.selectOwned(namespaces), not(empty()));
+    assertThat(sharding.selectOwned(namespaces).size(), not(equalTo(namespaces.size())));
+  }
+
+  @Test
+  public void whenReplicaJoins_existingReplicaKeepsOnlyNamespacesItOwned() {
+    defineLiveLease(REPLICA2);
+    refresh(sharding);
+    List<String> ownedBefore = new ArrayList<>(sharding.selectOwned(namespaces));
+
+    defineLiveLease(REPLICA3);
+    refresh(sharding);
+
+    assertThat(sharding.selectOwned(namespaces), everyItem(isIn(ownedBefore)));
+  }
+
+  @Test
+  public void whenReplicaLeaves_existingReplicaKeepsNamespacesItOwned() {
+    defineLiveLease(REPLICA2);
+    testSupport.defineResources(createLease(REPLICA3, SystemClock.now(), 1));
+    refresh(sharding);
+    List<String> ownedBefore = new ArrayList<>(sharding.selectOwned(namespaces));
+
+    SystemClockTestSupport.increment();
+    SystemClockTestSupport.increment();
+    refresh(sharding);
+
+    assertThat(sharding.getReplicas(), containsInAnyOrder(REPLICA1, REPLICA2));
+    assertThat(ownedBefore, everyItem(isIn(sharding.selectOwned(namespaces))));
+  }
+
+  @Test
+  public void whenLeaseApiFails_keepPreviousReplicas() {
+    defineLiveLease(REPLICA2);
+    refresh(sharding);
+
+    testSupport.failOnResource(LEASE, null, NS, 500);
+    SystemClockTestSupport.increment();
+    refresh(sharding);
+
+    assertThat(sharding.getReplicas(), contains(REPLICA1, REPLICA2));
+  }
+}
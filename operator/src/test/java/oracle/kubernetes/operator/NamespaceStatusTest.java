@@ -0,0 +1,125 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ResourceRule;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class NamespaceStatusTest {
+  private static final int TTL_SECONDS = 10;
+
+  private final NamespaceStatus namespaceStatus = new NamespaceStatus();
+  private final V1SubjectRulesReviewStatus reviewStatus = new V1SubjectRulesReviewStatus()
+      .addResourceRulesItem(new V1ResourceRule()
+          .apiGroups(singletonList("")).resources(singletonList("pods")).verbs(singletonList("get")));
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void advanceSeconds(int seconds) {
+    for (int i = 0; i < seconds; i++) {
+      SystemClockTestSupport.increment();
+    }
+  }
+
+  @Test
+  public void beforeRulesReviewed_reviewIsNotCurrent() {
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(false));
+    assertThat(namespaceStatus.getRulesReviewStatus(), nullValue());
+  }
+
+  @Test
+  public void afterRulesReviewed_reviewIsCurrent() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(true));
+  }
+
+  @Test
+  public void afterRulesReviewed_indexReviewedRules() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    assertThat(namespaceStatus.getRulesIndex().canI(Resource.PODS, Operation.get), is(true));
+  }
+
+  @Test
+  public void afterTtlExpires_reviewIsNotCurrent() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    advanceSeconds(TTL_SECONDS);
+
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(false));
+  }
+
+  @Test
+  public void afterTtlExpires_continueToReturnStatus() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    advanceSeconds(TTL_SECONDS);
+
+    assertThat(namespaceStatus.getRulesReviewStatus(), sameInstance(reviewStatus));
+  }
+
+  @Test
+  public void whenInvalidatedWithoutChangeTime_reviewIsNotCurrent() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    namespaceStatus.invalidateRulesReview(null);
+
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(false));
+    assertThat(namespaceStatus.getRulesReviewStatus(), sameInstance(reviewStatus));
+  }
+
+  @Test
+  public void whenBindingCreatedAfterReview_reviewIsNotCurrent() {
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+    advanceSeconds(1);
+
+    namespaceStatus.invalidateRulesReview(SystemClock.now());
+
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(false));
+  }
+
+  @Test
+  public void whenBindingCreatedWellBeforeReview_reviewRemainsCurrent() {
+    advanceSeconds(5);
+    namespaceStatus.setRulesReview(reviewStatus, TTL_SECONDS);
+
+    namespaceStatus.invalidateRulesReview(SystemClock.now().minusSeconds(5));
+
+    assertThat(namespaceStatus.isRulesReviewCurrent(), is(true));
+  }
+
+  @Test
+  public void whenNotReviewed_invalidationHasNoEffect() {
+    namespaceStatus.invalidateRulesReview(null);
+
+    assertThat(namespaceStatus.getRulesReviewStatus(), nullValue());
+  }
+}
@@ -32,7 +32,7 @@ public class NamespaceTest {
   private static final String ADDITIONAL_NAMESPACE = "NS3";
 
   private Domain domain = DomainProcessorTestSetup.createTestDomain();
-  private final TuningParameters.WatchTuning tuning = new TuningParameters.WatchTuning(30, 0);
+  private final TuningParameters.WatchTuning tuning = new TuningParameters.WatchTuning(30, 0, 0);
   private List<Memento> mementos = new ArrayList<>();
   private Set<String> currentNamespaces = new HashSet<>();
   private Map<String,String> helmValues = new HashMap<>();
@@ -0,0 +1,259 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.logging.MessageKeys.DOMAIN_PROCESSING_STALLED;
+import static oracle.kubernetes.operator.logging.MessageKeys.OPERATOR_STALLED;
+import static oracle.kubernetes.operator.logging.MessageKeys.OPERATOR_STALL_ENDED;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class OperatorWatchdogTest {
+  private static final int THRESHOLD_SECONDS = 3;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Runnable> engineQueue = new ArrayList<>();
+  private final Collection<FiberGate> fiberGates = new ArrayList<>();
+  private final Collection<Watcher<?>> watchers = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final FiberTestSupport fiberTestSupport = new FiberTestSupport();
+  private final OperatorWatchdog watchdog = new OperatorWatchdog(engineQueue::add, () -> fiberGates, () -> watchers);
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, OPERATOR_STALLED, OPERATOR_STALL_ENDED, DOMAIN_PROCESSING_STALLED));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParameters.getInstance().put(OperatorWatchdog.ENGINE_STALL_PARAM, Integer.toString(THRESHOLD_SECONDS));
+    TuningParameters.getInstance().put(OperatorWatchdog.FIBER_STALL_PARAM, Integer.toString(THRESHOLD_SECONDS));
+    TuningParameters.getInstance().put(OperatorWatchdog.WATCH_STALL_PARAM, Integer.toString(THRESHOLD_SECONDS));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void advanceSeconds(int seconds) {
+    for (int i = 0; i < seconds; i++) {
+      SystemClockTestSupport.increment();
+    }
+  }
+
+  private void runEngineQueue() {
+    new ArrayList<>(engineQueue).forEach(Runnable::run);
+    engineQueue.clear();
+  }
+
+  private void checkAfter(int seconds) {
+    advanceSeconds(seconds);
+    watchdog.run();
+  }
+
+  @Test
+  public void initially_operatorIsLiveAndReady() {
+    watchdog.run();
+
+    assertThat(watchdog.isLive(), is(true));
+    assertThat(watchdog.isReady(), is(true));
+  }
+
+  @Test
+  public void whenEngineRunsProbes_operatorRemainsLive() {
+    watchdog.run();
+    runEngineQueue();
+    checkAfter(THRESHOLD_SECONDS + 1);
+    runEngineQueue();
+    checkAfter(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isLive(), is(true));
+  }
+
+  @Test
+  public void whileProbeOutstanding_doNotQueueAnother() {
+    watchdog.run();
+    checkAfter(1);
+
+    assertThat(engineQueue.size(), is(1));
+  }
+
+  @Test
+  public void whenEngineDoesNotRunProbe_operatorIsNotLiveOrReady() {
+    watchdog.run();
+    checkAfter(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isLive(), is(false));
+    assertThat(watchdog.isReady(), is(false));
+    assertThat(logRecords, containsWarning(OPERATOR_STALLED));
+  }
+
+  @Test
+  public void whenEngineStalls_logThreadStacks() {
+    watchdog.run();
+    checkAfter(THRESHOLD_SECONDS + 1);
+
+    assertThat(logRecords, containsWarning(OPERATOR_STALLED));
+  }
+
+  @Test
+  public void whileEngineRemainsStalled_logStallOnlyOnce() {
+    watchdog.run();
+    checkAfter(THRESHOLD_SECONDS + 1);
+    logRecords.clear();
+    checkAfter(1);
+
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  public void whenStalledEngineRunsProbe_operatorIsLiveAgain() {
+    watchdog.run();
+    checkAfter(THRESHOLD_SECONDS + 1);
+    logRecords.clear();
+    runEngineQueue();
+    checkAfter(1);
+
+    assertThat(watchdog.isLive(), is(true));
+    assertThat(logRecords, containsInfo(OPERATOR_STALL_ENDED));
+  }
+
+  @Test
+  public void whenFiberSuspendedLongerThanThreshold_operatorRemainsLiveAndReady() {
+    startSuspendedFiber();
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isLive(), is(true));
+    assertThat(watchdog.isReady(), is(true));
+    assertThat(logRecords, containsWarning(DOMAIN_PROCESSING_STALLED, "domain1"));
+  }
+
+  @Test
+  public void whileFiberRemainsSuspended_logDomainStallOnlyOnce() {
+    startSuspendedFiber();
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+    logRecords.clear();
+    keepEngineRunning(1);
+
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  public void whenWatcherStalls_operatorIsReadyButNotLive() {
+    watchers.add(new WatcherStub(true));
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isReady(), is(true));
+    assertThat(logRecords, containsWarning(OPERATOR_STALLED));
+  }
+
+  @Test
+  public void whenFiberSuspendedWithinThreshold_dontReportDomainStall() {
+    startSuspendedFiber();
+    keepEngineRunning(THRESHOLD_SECONDS - 1);
+
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  public void whenFiberCompletes_dontReportDomainStall() {
+    startFiber(new TerminalStep());
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+
+    assertThat(logRecords, empty());
+  }
+
+  private void startSuspendedFiber() {
+    startFiber(new SuspendingStep());
+  }
+
+  private void startFiber(Step step) {
+    FiberGate gate = fiberTestSupport.createFiberGate();
+    fiberGates.add(gate);
+    gate.startFiber("domain1", step, new Packet(), createStub(CompletionCallback.class));
+  }
+
+  private void keepEngineRunning(int seconds) {
+    for (int i = 0; i < seconds; i++) {
+      checkAfter(1);
+      runEngineQueue();
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  @Test
+  public void whenRunningWatcherInactiveLongerThanThreshold_operatorIsNotLive() {
+    watchers.add(new WatcherStub(true));
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isLive(), is(false));
+    assertThat(logRecords, containsWarning(OPERATOR_STALLED));
+  }
+
+  @Test
+  public void whenStoppedWatcherInactive_operatorIsLive() {
+    watchers.add(new WatcherStub(false));
+    keepEngineRunning(THRESHOLD_SECONDS + 1);
+
+    assertThat(watchdog.isLive(), is(true));
+  }
+
+  static class WatcherStub extends Watcher<Object> {
+    private final boolean running;
+
+    WatcherStub(boolean running) {
+      super("0", new WatchTuning(30, 0, 0), new AtomicBoolean(false));
+      this.running = running;
+    }
+
+    @Override
+    boolean isRunning() {
+      return running;
+    }
+
+    @Override
+    public WatchI<Object> initiateWatch(WatchBuilder watchBuilder) {
+      return null;
+    }
+  }
+}
@@ -24,6 +24,7 @@ import org.junit.Test;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -214,6 +215,39 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     }
   }
 
+  @Test
+  public void whenPodReportedReadyBeforeWait_runNextStepWithoutReadingPod() {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    testSupport.defineResources(createPod());
+
+    try {
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", markPodReady(createPod())));
+      testSupport.runSteps(watcher.waitForReady(createPod(), terminalStep));
+
+      assertThat(terminalStep.wasRun(), is(true));
+      assertThat(testSupport.getNumCalls(), equalTo(0));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  @Test
+  public void whenPodReportedNotReadyBeforeWait_dontRunNextStep() {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    testSupport.defineResources(markPodReady(createPod()));
+
+    try {
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", createPod()));
+      testSupport.runSteps(watcher.waitForReady(createPod(), terminalStep));
+
+      assertThat(terminalStep.wasRun(), is(false));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
   @Test
   public void whenPodDeletedOnFirstRead_runNextStep() {
     AtomicBoolean stopping = new AtomicBoolean(false);
@@ -23,29 +23,37 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
-import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Deadline;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class ServerStatusReaderTest extends HttpUserAgentTest {
@@ -54,10 +62,11 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
-  private FiberTestSupport testSupport = new FiberTestSupport();
+  private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private List<Memento> mementos = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
   private Domain domain =
-      new Domain().withMetadata(new V1ObjectMeta().namespace(NS)).withSpec(new DomainSpec());
+      new Domain().withMetadata(new V1ObjectMeta().namespace(NS).name(UID)).withSpec(new DomainSpec());
   private DomainPresenceInfo info = new DomainPresenceInfo(domain);
 
   /**
@@ -66,7 +75,9 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
    */
   @Before
   public void setUp() throws NoSuchFieldException {
-    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
     mementos.add(TuningParametersStub.install());
@@ -181,8 +192,52 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenHealthReadsFail_leaveNoServersHealthToRead() {
+    consoleControl.ignoringLoggedExceptions(IllegalStateException.class);
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    setReadyStatus(info.getServerPod("server1"));
+    setReadyStatus(info.getServerPod("server2"));
+    stepFactory.failure = new IllegalStateException("health read failed");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(0));
+  }
+
+  @Test
+  public void whenStatusReadsUseAllTimeAllowed_writeStatusRead() {
+    info.setServerPod("server1", createPod("server1"));
+    testSupport.defineResources(domain);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, createDomainConfig("server1"));
+    Deadline.set(testSupport.getPacket(), DomainProcessorImpl.STATUS_UPDATE_PLAN, 1);
+    SystemClockTestSupport.increment();
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createStatusStep(1, endStep));
+
+    assertThat(Deadline.get(packet), nullValue());
+    assertThat(
+        getRecordedDomain().getStatus().getServers(),
+        hasItem(new ServerStatus().withServerName("server1").withState(WebLogicConstants.STARTING_STATE)));
+  }
+
+  private WlsDomainConfig createDomainConfig(String serverName) {
+    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("mydomain");
+    configSupport.addWlsServer(serverName);
+    return configSupport.createDomainConfig();
+  }
+
+  private Domain getRecordedDomain() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, UID);
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
+    RuntimeException failure;
 
     @Override
     public Step apply(Step next) {
@@ -190,6 +245,9 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
         @Override
         public NextAction apply(Packet packet) {
           serverNames.add((String) packet.get(ProcessingConstants.SERVER_NAME));
+          if (failure != null) {
+            throw failure;
+          }
           return doNext(packet);
         }
       };
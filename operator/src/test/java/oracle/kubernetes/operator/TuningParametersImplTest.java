@@ -0,0 +1,156 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TuningParametersImplTest {
+  private static final long WAIT_MILLIS = 10_000;
+
+  private final ExecutorStub executor = createStrictStub(ExecutorStub.class);
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<TuningParameters> notifications = new ArrayList<>();
+  private Path mountPoint;
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StaticStubSupport.install(TuningParametersImpl.class, "INSTANCE", null));
+    mountPoint = Files.createTempDirectory("config");
+  }
+
+  /**
+   * Tear down test.
+   * @throws IOException if unable to delete the test files
+   */
+  @After
+  public void tearDown() throws IOException {
+    mementos.forEach(Memento::revert);
+    try (Stream<Path> paths = Files.walk(mountPoint)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Test
+  public void afterInitialization_getInstanceReturnsIt() throws IOException {
+    TuningParameters tuning = initializeInstance();
+
+    assertThat(TuningParameters.getInstance(), sameInstance(tuning));
+  }
+
+  @Test
+  public void whenCreated_readTuningFromFiles() throws IOException {
+    defineValue("watchLifetime", "60");
+
+    assertThat(initializeInstance().getWatchTuning().watchLifetime, equalTo(60));
+  }
+
+  @Test
+  public void whenValueChanges_publishNewTuningAndNotifyListeners() throws IOException {
+    defineValue("watchLifetime", "60");
+    TuningParameters tuning = initializeInstance();
+    tuning.addChangeListener(notifications::add);
+
+    defineValue("watchLifetime", "120");
+    waitFor(() -> tuning.getWatchTuning().watchLifetime == 120);
+
+    assertThat(notifications, hasSize(1));
+    assertThat(notifications.get(0), sameInstance(tuning));
+  }
+
+  @Test
+  public void whenNamedValueChanges_notifyListeners() throws IOException {
+    TuningParameters tuning = initializeInstance();
+    tuning.addChangeListener(notifications::add);
+
+    defineValue("engineThreadCount", "20");
+    waitFor(() -> "20".equals(tuning.get("engineThreadCount")));
+
+    assertThat(notifications, hasSize(1));
+  }
+
+  @Test
+  public void whenNothingChanges_dontNotifyListeners() throws IOException {
+    TuningParameters tuning = initializeInstance();
+    tuning.addChangeListener(notifications::add);
+
+    executor.runScheduled();
+
+    assertThat(notifications, is(empty()));
+  }
+
+  private TuningParameters initializeInstance() throws IOException {
+    return TuningParameters.initializeInstance(executor, mountPoint.toString());
+  }
+
+  private void defineValue(String name, String value) throws IOException {
+    Path file = Files.write(Files.createTempFile("value", null), value.getBytes());
+    Files.move(file, mountPoint.resolve(name), REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+
+  // The watch service reports changes asynchronously, so check for them until the condition is met
+  private void waitFor(BooleanSupplier condition) {
+    long stopTime = System.currentTimeMillis() + WAIT_MILLIS;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < stopTime) {
+      executor.runScheduled();
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    assertThat(condition.getAsBoolean(), is(true));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private Runnable command;
+
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+      this.command = command;
+      return createStub(ScheduledFuture.class);
+    }
+
+    void runScheduled() {
+      command.run();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WatchCallbackRegistryTest {
+  private static final String NAME = "name1";
+
+  private final WatchCallbackRegistry<String> registry = new WatchCallbackRegistry<>();
+  private final List<String> received = new ArrayList<>();
+
+  @Test
+  public void whenResourceModified_invokeAllCallbacksForName() {
+    List<String> received2 = new ArrayList<>();
+    registry.addOnModifiedCallback(NAME, received::add);
+    registry.addOnModifiedCallback(NAME, received2::add);
+
+    registry.dispatchModified(NAME, "value");
+
+    assertThat(received, contains("value"));
+    assertThat(received2, contains("value"));
+  }
+
+  @Test
+  public void whenOtherResourceModified_dontInvokeCallback() {
+    registry.addOnModifiedCallback(NAME, received::add);
+
+    registry.dispatchModified("name2", "value");
+
+    assertThat(received, empty());
+  }
+
+  @Test
+  public void afterCallbackRemoved_dontInvokeIt() {
+    Consumer<String> callback = received::add;
+    registry.addOnModifiedCallback(NAME, callback);
+    registry.removeOnModifiedCallback(NAME, callback);
+
+    registry.dispatchModified(NAME, "value");
+
+    assertThat(received, empty());
+    assertThat(registry.getNumCallbacks(NAME), equalTo(0));
+  }
+
+  @Test
+  public void whenCallbackRemovesItselfDuringDispatch_invokeRemainingCallbacks() {
+    registry.addOnModifiedCallback(NAME, new Consumer<>() {
+      @Override
+      public void accept(String s) {
+        registry.removeOnModifiedCallback(NAME, this);
+      }
+    });
+    registry.addOnModifiedCallback(NAME, received::add);
+
+    registry.dispatchModified(NAME, "value");
+
+    assertThat(received, contains("value"));
+    assertThat(registry.getNumCallbacks(NAME), equalTo(1));
+  }
+
+  @Test
+  public void whenResourceDeleted_invokeAndUnregisterDeleteCallbacks() {
+    registry.addOnDeletedCallback(NAME, received::add);
+
+    registry.dispatchDeleted(NAME, "value");
+    registry.dispatchDeleted(NAME, "again");
+
+    assertThat(received, contains("value"));
+  }
+
+  @Test
+  public void whenResourceModified_dontInvokeDeleteCallbacks() {
+    registry.addOnDeletedCallback(NAME, received::add);
+
+    registry.dispatchModified(NAME, "value");
+
+    assertThat(received, empty());
+  }
+
+  @Test
+  public void afterResourceModified_rememberLastReportedValue() {
+    registry.dispatchModified(NAME, "value1");
+    registry.dispatchModified(NAME, "value2");
+
+    assertThat(registry.getLastReported(NAME), equalTo("value2"));
+  }
+
+  @Test
+  public void afterResourceDeleted_forgetLastReportedValue() {
+    registry.dispatchModified(NAME, "value1");
+    registry.dispatchDeleted(NAME, "value1");
+
+    assertThat(registry.getLastReported(NAME), nullValue());
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.builders.WatchEvent.createAddedEvent;
+import static oracle.kubernetes.operator.builders.WatchEvent.createDeleteEvent;
+import static oracle.kubernetes.operator.builders.WatchEvent.createModifiedEvent;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WatchEventPipelineTest {
+  private static final String UID1 = "uid1";
+  private static final String UID2 = "uid2";
+
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
+  private final WatchEventPipeline pipeline = new WatchEventPipeline(1, scheduledTasks::add);
+  private final List<String> received = new ArrayList<>();
+  private final WatchListener<V1Pod> listener = this::recordEvent;
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(IllegalStateException.class));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void recordEvent(Watch.Response<V1Pod> response) {
+    received.add(response.type + ":" + response.object.getMetadata().getName()
+          + ":" + response.object.getMetadata().getResourceVersion());
+  }
+
+  private V1Pod createPod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name(name).resourceVersion(resourceVersion));
+  }
+
+  private void dispatch(Watch.Response<V1Pod> response) {
+    dispatch(listener, response);
+  }
+
+  private void dispatch(WatchListener<V1Pod> listener, Watch.Response<V1Pod> response) {
+    V1ObjectMeta metadata = response.object.getMetadata();
+    pipeline.dispatch(listener, response, UID1, metadata.getNamespace() + "/" + metadata.getName());
+  }
+
+  private void runScheduledTasks() {
+    while (!scheduledTasks.isEmpty()) {
+      scheduledTasks.remove(0).run();
+    }
+  }
+
+  @Test
+  public void whenEventDispatched_deliverOnExecutorThread() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+
+    assertThat(received, empty());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("ADDED:a:1"));
+  }
+
+  @Test
+  public void whileShardBusy_scheduleItOnlyOnce() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createAddedEvent(createPod("b", "1")).toWatchResponse());
+
+    assertThat(scheduledTasks, hasSize(1));
+  }
+
+  @Test
+  public void afterShardDrained_scheduleItAgainForNextEvent() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    runScheduledTasks();
+
+    dispatch(createAddedEvent(createPod("b", "1")).toWatchResponse());
+
+    assertThat(scheduledTasks, hasSize(1));
+  }
+
+  @Test
+  public void eventsWithSameShardKey_areDeliveredInOrder() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createAddedEvent(createPod("b", "2")).toWatchResponse());
+    dispatch(createDeleteEvent(createPod("a", "3")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("ADDED:a:1", "ADDED:b:2", "DELETED:a:3"));
+  }
+
+  @Test
+  public void eventsWithDifferentShardKeys_areDeliveredOnSeparateShards() {
+    WatchEventPipeline pipeline = new WatchEventPipeline(2, scheduledTasks::add);
+    String key2 = findKeyInOtherShard(pipeline);
+
+    pipeline.dispatch(listener, createAddedEvent(createPod("a", "1")).toWatchResponse(), UID1, "ns/a");
+    pipeline.dispatch(listener, createAddedEvent(createPod("b", "1")).toWatchResponse(), key2, "ns/b");
+
+    assertThat(scheduledTasks, hasSize(2));
+  }
+
+  private String findKeyInOtherShard(WatchEventPipeline pipeline) {
+    for (int i = 0; ; i++) {
+      String key = UID2 + i;
+      if (Math.floorMod(key.hashCode(), 2) != Math.floorMod(UID1.hashCode(), 2)) {
+        return key;
+      }
+    }
+  }
+
+  @Test
+  public void whenModifiedEventWaiting_mergeLaterModifiedEventForSameObject() {
+    dispatch(createModifiedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("b", "2")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("a", "3")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("MODIFIED:a:3", "MODIFIED:b:2"));
+  }
+
+  @Test
+  public void whenModifiedEventMerged_countIt() {
+    dispatch(createModifiedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("a", "2")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("a", "3")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(pipeline.getShardMetrics().get(0).getNumMerged(), equalTo(2L));
+    assertThat(pipeline.getShardMetrics().get(0).getNumDelivered(), equalTo(1L));
+  }
+
+  @Test
+  public void whenDeletedEventFollowsModified_doNotMergeLaterModifiedEvent() {
+    dispatch(createModifiedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createDeleteEvent(createPod("a", "2")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("a", "3")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("MODIFIED:a:1", "DELETED:a:2", "MODIFIED:a:3"));
+  }
+
+  @Test
+  public void whenAddedEventWaiting_doNotMergeModifiedEventIntoIt() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createModifiedEvent(createPod("a", "2")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("ADDED:a:1", "MODIFIED:a:2"));
+  }
+
+  @Test
+  public void whenModifiedEventAlreadyDelivered_doNotMergeLaterEvent() {
+    dispatch(createModifiedEvent(createPod("a", "1")).toWatchResponse());
+    runScheduledTasks();
+
+    dispatch(createModifiedEvent(createPod("a", "2")).toWatchResponse());
+    runScheduledTasks();
+
+    assertThat(received, contains("MODIFIED:a:1", "MODIFIED:a:2"));
+  }
+
+  @Test
+  public void whenSameObjectSentToDifferentListeners_doNotMergeEvents() {
+    List<String> otherReceived = new ArrayList<>();
+    dispatch(createModifiedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(r -> otherReceived.add(r.type), createModifiedEvent(createPod("a", "2")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("MODIFIED:a:1"));
+    assertThat(otherReceived, contains("MODIFIED"));
+  }
+
+  @Test
+  public void whenListenerThrowsException_continueDeliveringEvents() {
+    dispatch(r -> {
+      throw new IllegalStateException();
+    }, createAddedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createAddedEvent(createPod("b", "1")).toWatchResponse());
+
+    runScheduledTasks();
+
+    assertThat(received, contains("ADDED:b:1"));
+  }
+
+  @Test
+  public void whileEventsWaiting_reportQueueLength() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    dispatch(createAddedEvent(createPod("b", "1")).toWatchResponse());
+
+    assertThat(pipeline.getShardMetrics().get(0).getNumQueued(), equalTo(2));
+  }
+
+  @Test
+  public void afterEventsDelivered_reportNoLag() {
+    dispatch(createAddedEvent(createPod("a", "1")).toWatchResponse());
+    runScheduledTasks();
+
+    assertThat(pipeline.getShardMetrics().get(0).getNumQueued(), equalTo(0));
+    assertThat(pipeline.getShardMetrics().get(0).getLagMillis(), equalTo(0L));
+  }
+}
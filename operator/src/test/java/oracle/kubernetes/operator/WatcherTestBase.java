@@ -6,8 +6,11 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
@@ -22,10 +25,17 @@ import static java.net.HttpURLConnection.HTTP_GONE;
 import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
 import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static oracle.kubernetes.operator.logging.MessageKeys.WATCH_RELIST_AVOIDED;
+import static oracle.kubernetes.operator.logging.MessageKeys.WATCH_RELIST_PERFORMED;
+import static oracle.kubernetes.utils.LogMatcher.containsFine;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 /** Tests behavior of the Watcher class. */
 @SuppressWarnings("SameParameterValue")
@@ -34,8 +44,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private static final int INITIAL_RESOURCE_VERSION = 123;
   private static final String NAMESPACE = "testspace";
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
-  final WatchTuning tuning = new WatchTuning(30, 0);
+  final WatchTuning tuning = new WatchTuning(30, 0, 0);
   private List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
   private List<Watch.Response<?>> callBacks = new ArrayList<>();
   private int resourceVersion = INITIAL_RESOURCE_VERSION;
   private AtomicBoolean stopping = new AtomicBoolean(false);
@@ -67,7 +79,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
    */
   @Before
   public void setUp() throws Exception {
-    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException));
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException));
     mementos.add(StubWatchFactory.install());
     StubWatchFactory.setListener(this);
   }
@@ -119,6 +131,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createDeleteEvent(object).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createHttpGoneErrorResponse(int nextResourceVersion) {
     return WatchEvent.createErrorEvent(HTTP_GONE, nextResourceVersion).toWatchResponse();
   }
@@ -131,6 +147,34 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createErrorEventWithoutStatus().toWatchResponse();
   }
 
+  @Test
+  public void watchRequests_allowBookmarks() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("allowWatchBookmarks", "true"));
+  }
+
+  @Test
+  public void receivedBookmarks_areNotSentToListeners() {
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, empty());
+  }
+
+  @Test
+  public void afterBookmark_nextRequestSendsBookmarkResourceVersion() {
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", String.valueOf(resourceVersion - 2)));
+  }
+
   @Test
   public void receivedEvents_areSentToListeners() {
     Object object1 = createObjectWithMetaData();
@@ -142,6 +186,21 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
   }
 
+  @Test
+  public void whenEventPipelineSet_deliverEventsThroughIt() throws NoSuchFieldException {
+    List<Runnable> pipelineTasks = new ArrayList<>();
+    mementos.add(StaticStubSupport.install(
+          Watcher.class, "eventPipeline", new WatchEventPipeline(1, pipelineTasks::add)));
+    Object object1 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+    assertThat(callBacks, empty());
+
+    pipelineTasks.forEach(Runnable::run);
+    assertThat(callBacks, contains(addEvent(object1)));
+  }
+
   @SuppressWarnings({"rawtypes", "unchecked"})
   @Test
   public void afterFirstSetOfEvents_nextRequestSendsLastResourceVersion() {
@@ -170,6 +229,28 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", Integer.toString(NEXT_RESOURCE_VERSION)));
   }
 
+  @Test
+  public void afterHttpGoneErrorWithResourceVersion_logRelistAvoided() {
+    consoleControl.collectLogMessages(logRecords, WATCH_RELIST_AVOIDED).withLogLevel(Level.FINE);
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(logRecords, containsFine(WATCH_RELIST_AVOIDED));
+  }
+
+  @Test
+  public void afterHttpGoneErrorWithoutResourceVersion_logRelistPerformed() {
+    consoleControl.collectLogMessages(logRecords, WATCH_RELIST_PERFORMED);
+    StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(logRecords, containsInfo(WATCH_RELIST_PERFORMED));
+  }
+
   @Test
   public void afterHttpGoneErrorWithoutResourceVersion_nextRequestSendsResourceVersionZero() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
@@ -181,13 +262,62 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   }
 
   @Test
-  public void afterErrorWithoutStatus_nextRequestSendsResourceVersionZero() {
+  public void afterErrorWithoutStatus_nextRequestSendsLastResourceVersion() {
     StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
-    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", Integer.toString(INITIAL_RESOURCE_VERSION)));
+  }
+
+  @Test
+  public void afterErrorWithoutStatus_doNotReportFailure() {
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(watcher.checkAndClearFailure(), is(false));
+  }
+
+  @Test
+  public void afterBookmarkAndErrorWithoutStatus_nextRequestSendsBookmarkResourceVersion() {
+    StubWatchFactory.addCallResponses(
+        createBookmarkResponse(createObjectWithMetaData()), createErrorWithoutStatusResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", Integer.toString(resourceVersion - 2)));
+  }
+
+  @Test
+  public void whenResumedWatchAlsoFailsWithoutStatus_nextRequestSendsResourceVersionZero() {
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(2), hasEntry("resourceVersion", "0"));
+    assertThat(watcher.checkAndClearFailure(), is(true));
+  }
+
+  @Test
+  public void whenResumedWatchDeliversEvents_laterErrorWithoutStatusResumesAgain() {
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    StubWatchFactory.addCallResponses(
+        createAddResponse(createObjectWithMetaData()), createErrorWithoutStatusResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(2), not(hasEntry("resourceVersion", "0")));
   }
 
   @SuppressWarnings({"rawtypes"})
@@ -213,6 +343,56 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(StubWatchFactory.getNumCloseCalls(), equalTo(2));
   }
 
+  @Test
+  public void afterExceptionDuringNext_reportFailure() {
+    StubWatchFactory.throwExceptionOnNext(hasNextException);
+    scheduleAddResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(watcher.checkAndClearFailure(), is(true));
+  }
+
+  @Test
+  public void afterFailureReported_clearIt() {
+    StubWatchFactory.throwExceptionOnNext(hasNextException);
+    scheduleAddResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+    watcher.checkAndClearFailure();
+
+    assertThat(watcher.checkAndClearFailure(), is(false));
+  }
+
+  @Test
+  public void afterRelistPerformed_reportFailure() {
+    StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(watcher.checkAndClearFailure(), is(true));
+  }
+
+  @Test
+  public void afterRelistAvoided_doNotReportFailure() {
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(watcher.checkAndClearFailure(), is(false));
+  }
+
+  @Test
+  public void afterWatcherStopped_isNotRunning() {
+    scheduleAddResponse(createObjectWithMetaData());
+
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(watcher.isRunning(), is(false));
+  }
+
   void scheduleAddResponse(Object object) {
     StubWatchFactory.addCallResponses(createAddResponse(object));
   }
@@ -225,9 +405,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return Integer.toString(resourceVersion++);
   }
 
-  private void createAndRunWatcher(String nameSpace, AtomicBoolean stopping, int resourceVersion) {
+  private Watcher<?> createAndRunWatcher(String nameSpace, AtomicBoolean stopping, int resourceVersion) {
     Watcher<?> watcher = createWatcher(nameSpace, stopping, resourceVersion);
     watcher.waitForExit();
+    return watcher;
   }
 
   protected abstract Watcher<?> createWatcher(String ns, AtomicBoolean stopping, int rv);
@@ -15,9 +15,12 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.Deadline;
+import oracle.kubernetes.operator.work.DeadlineExceededException;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -27,6 +30,7 @@ import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONE
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertTrue;
@@ -121,6 +125,13 @@ public class AsyncRequestStepTest {
         () -> callFactory.sendFailedCallback(new ApiException("test failure"), statusCode));
   }
 
+  @Test
+  public void whenFailedCallbackRetried_doNotPrepareFailure() {
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertThat(nextStep.numFailuresNotRetried, equalTo(0));
+  }
+
   @Test
   public void afterFailedCallback_retrySentAfterDelay() {
     sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
@@ -131,6 +142,31 @@ public class AsyncRequestStepTest {
     assertTrue(callFactory.invokedWith(requestParams));
   }
 
+  @Test
+  public void whenDeadlineExpired_terminateFiberWithoutSendingRequest() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    FiberTestSupport deadlineSupport = new FiberTestSupport();
+    Deadline.set(deadlineSupport.getPacket(), "test", 1);
+    SystemClockTestSupport.increment();
+    callFactory.clearRequest();
+
+    deadlineSupport.runSteps(asyncRequestStep);
+
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+    deadlineSupport.verifyCompletionThrowable(DeadlineExceededException.class);
+  }
+
+  @Test
+  public void whenDeadlineSoonerThanTimeout_timeoutStepScheduledAtDeadline() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    FiberTestSupport deadlineSupport = new FiberTestSupport();
+    Deadline.set(deadlineSupport.getPacket(), "test", 3);
+
+    deadlineSupport.runSteps(asyncRequestStep);
+
+    assertTrue(deadlineSupport.hasItemScheduledAt(3, TimeUnit.SECONDS));
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -140,6 +176,7 @@ public class AsyncRequestStepTest {
 
   static class TestStep extends ResponseStep<Integer> {
     private Integer result;
+    private int numFailuresNotRetried;
 
     TestStep() {
       super(null);
@@ -150,6 +187,12 @@ public class AsyncRequestStepTest {
       result = callResponse.getResult();
       return null;
     }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Integer> callResponse) {
+      numFailuresNotRetried++;
+      return super.onFailureNoRetry(packet, callResponse);
+    }
   }
 
   @SuppressWarnings("SameParameterValue")
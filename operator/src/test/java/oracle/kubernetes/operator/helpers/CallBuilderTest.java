@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.pseudoserver.PseudoServlet;
 import com.meterware.pseudoserver.WebResource;
@@ -17,9 +19,14 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimSpec;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import okhttp3.Request;
+import okio.Buffer;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
@@ -34,6 +41,7 @@ import org.junit.Test;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -113,6 +121,63 @@ public class CallBuilderTest extends HttpUserAgentTest {
     callBuilder.replaceDomain(UID, NAMESPACE, domain);
   }
 
+  @Test
+  public void applyPodCall_isApplyPatchWithOperatorFieldManager() throws ApiException, IOException {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod1").namespace(NAMESPACE));
+
+    Request request = callBuilder.applyPodCall(new ApiClient(), "pod1", NAMESPACE, pod).request();
+
+    assertThat(request.method(), equalTo("PATCH"));
+    assertThat(request.body().contentType().type(), equalTo("application"));
+    assertThat(request.body().contentType().subtype(), equalTo("apply-patch+yaml"));
+    assertThat(request.url().queryParameter("fieldManager"), equalTo(CallBuilder.FIELD_MANAGER));
+    assertThat(request.url().queryParameter("force"), equalTo("true"));
+  }
+
+  @Test
+  public void applyPodCall_bodyNamesApiVersionAndKind() throws ApiException, IOException {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod1").namespace(NAMESPACE));
+
+    JsonObject body = readJsonBody(callBuilder.applyPodCall(new ApiClient(), "pod1", NAMESPACE, pod).request());
+
+    assertThat(body.get("apiVersion").getAsString(), equalTo("v1"));
+    assertThat(body.get("kind").getAsString(), equalTo("Pod"));
+    assertThat(body.getAsJsonObject("metadata").get("name").getAsString(), equalTo("pod1"));
+    assertThat(pod.getKind(), nullValue());
+  }
+
+  @Test
+  public void applyServiceCall_bodyNamesApiVersionAndKind() throws ApiException, IOException {
+    V1Service service = new V1Service().metadata(new V1ObjectMeta().name("service1").namespace(NAMESPACE));
+
+    JsonObject body = readJsonBody(
+        callBuilder.applyServiceCall(new ApiClient(), "service1", NAMESPACE, service).request());
+
+    assertThat(body.get("apiVersion").getAsString(), equalTo("v1"));
+    assertThat(body.get("kind").getAsString(), equalTo("Service"));
+  }
+
+  @Test
+  public void applyConfigMapCall_bodyNamesApiVersionAndKind() throws ApiException, IOException {
+    V1ConfigMap configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name("cm1").namespace(NAMESPACE));
+
+    JsonObject body = readJsonBody(
+        callBuilder.applyConfigMapCall(new ApiClient(), "cm1", NAMESPACE, configMap).request());
+
+    assertThat(body.get("apiVersion").getAsString(), equalTo("v1"));
+    assertThat(body.get("kind").getAsString(), equalTo("ConfigMap"));
+  }
+
+  private JsonObject readJsonBody(Request request) throws IOException {
+    return new JsonParser().parse(readBody(request)).getAsJsonObject();
+  }
+
+  private String readBody(Request request) throws IOException {
+    Buffer buffer = new Buffer();
+    request.body().writeTo(buffer);
+    return buffer.readUtf8();
+  }
+
   private V1PersistentVolumeClaimSpec createSpec() {
     return new V1PersistentVolumeClaimSpec().volumeName("TEST_VOL");
   }
@@ -0,0 +1,197 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ConfigMapConsumerTest {
+  private static final long WAIT_MILLIS = 10_000;
+
+  private final ExecutorStub executor = createStrictStub(ExecutorStub.class);
+  private Path mountPoint;
+  private int numUpdates;
+
+  @Before
+  public void setUp() throws IOException {
+    mountPoint = Files.createTempDirectory("config");
+  }
+
+  /**
+   * Tear down test.
+   * @throws IOException if unable to delete the test files
+   */
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(mountPoint)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Test
+  public void whenCreated_readValuesFromFiles() throws IOException {
+    defineValue("name1", "value1");
+    defineValue("name2", "value2");
+
+    ConfigMapConsumer consumer = createConsumer();
+
+    assertThat(consumer.get("name1"), equalTo("value1"));
+    assertThat(consumer.get("name2"), equalTo("value2"));
+    assertThat(consumer.size(), equalTo(2));
+  }
+
+  @Test
+  public void whenCreated_ignoreHiddenEntries() throws IOException {
+    defineValue("name1", "value1");
+    Files.createDirectory(mountPoint.resolve("..2020_01_01"));
+    defineValue("..data_tmp", "ignored");
+
+    ConfigMapConsumer consumer = createConsumer();
+
+    assertThat(consumer.keySet(), contains("name1"));
+  }
+
+  @Test
+  public void whenCreated_scheduleCheckForChangesWithDefaultDelays() {
+    createConsumer();
+
+    assertThat(executor.initialDelay, equalTo(3L));
+    assertThat(executor.delay, equalTo(10L));
+  }
+
+  @Test
+  public void whenCreatedWithDelaysDefined_scheduleCheckForChangesWithThem() throws IOException {
+    defineValue("configMapUpdateInitialDelay", "1");
+    defineValue("configMapUpdateDelay", "2");
+
+    createConsumer();
+
+    assertThat(executor.initialDelay, equalTo(1L));
+    assertThat(executor.delay, equalTo(2L));
+  }
+
+  @Test
+  public void whenFileChanges_publishNewValueAndRunUpdate() throws IOException {
+    defineValue("name1", "value1");
+    ConfigMapConsumer consumer = createConsumer();
+
+    defineValue("name1", "value2");
+    waitFor(consumer, () -> "value2".equals(consumer.get("name1")));
+
+    assertThat(numUpdates, equalTo(1));
+  }
+
+  @Test
+  public void whenFileAdded_publishNewValue() throws IOException {
+    ConfigMapConsumer consumer = createConsumer();
+
+    defineValue("name1", "value1");
+    waitFor(consumer, () -> consumer.containsKey("name1"));
+
+    assertThat(consumer.get("name1"), equalTo("value1"));
+  }
+
+  @Test
+  public void whenFileRemoved_removeValue() throws IOException {
+    defineValue("name1", "value1");
+    ConfigMapConsumer consumer = createConsumer();
+
+    Files.delete(mountPoint.resolve("name1"));
+    waitFor(consumer, () -> !consumer.containsKey("name1"));
+
+    assertThat(consumer.get("name1"), nullValue());
+  }
+
+  @Test
+  public void whenNoFilesChange_dontRunUpdate() throws IOException {
+    defineValue("name1", "value1");
+    ConfigMapConsumer consumer = createConsumer();
+
+    executor.runScheduled();
+
+    assertThat(numUpdates, equalTo(0));
+  }
+
+  @Test
+  public void whenMountPointMissing_haveNoValuesAndScheduleNothing() {
+    ConfigMapConsumer consumer =
+        new ConfigMapConsumer(executor, mountPoint.resolve("missing").toString(), () -> numUpdates++);
+
+    assertThat(consumer.isEmpty(), is(true));
+    assertThat(executor.command, nullValue());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void whenPutCalled_throwException() {
+    createConsumer().put("name1", "value1");
+  }
+
+  private ConfigMapConsumer createConsumer() {
+    return new ConfigMapConsumer(executor, mountPoint.toString(), () -> numUpdates++);
+  }
+
+  // Like Kubernetes, replace the file in one step, so that it is never seen partly written
+  private void defineValue(String name, String value) throws IOException {
+    Path file = Files.write(Files.createTempFile("value", null), value.getBytes());
+    Files.move(file, mountPoint.resolve(name), REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+
+  // The watch service reports changes asynchronously, so check for them until the condition is met
+  private void waitFor(ConfigMapConsumer consumer, BooleanSupplier condition) {
+    long stopTime = System.currentTimeMillis() + WAIT_MILLIS;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < stopTime) {
+      consumer.checkForChanges();
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    assertThat(condition.getAsBoolean(), is(true));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private Runnable command;
+    private long initialDelay;
+    private long delay;
+
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+      this.command = command;
+      this.initialDelay = unit.toSeconds(initialDelay);
+      this.delay = unit.toSeconds(delay);
+      return createStub(ScheduledFuture.class);
+    }
+
+    void runScheduled() {
+      command.run();
+    }
+  }
+}
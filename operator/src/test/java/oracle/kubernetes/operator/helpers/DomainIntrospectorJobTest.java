@@ -16,14 +16,17 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretReference;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.unprocessable.UnprocessableEntityBuilder;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Cluster;
@@ -38,14 +41,18 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SECRET;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVar;
 import static oracle.kubernetes.operator.logging.MessageKeys.JOB_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.JOB_DELETED;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -252,6 +259,77 @@ public class DomainIntrospectorJobTest {
     assertThat(terminalStep.wasRun(), is(false));
   }
 
+  @Test
+  public void whenIntrospectorRuns_recordInputFingerprintOnConfigMap() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig());
+
+    Packet packet = testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    assertThat(
+        getRecordedFingerprint(),
+        equalTo(packet.get(ProcessingConstants.INTROSPECTION_INPUTS_FINGERPRINT)));
+  }
+
+  @Test
+  public void whenRecordedFingerprintMatches_dontRunIntrospector() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig());
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    runWithRecordedFingerprint();
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  public void whenImageChanged_runIntrospector() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig());
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    domain.getSpec().setImage("image:1.1");
+    runWithRecordedFingerprint();
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsInfo(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  public void whenOverrideSecretChanged_runIntrospector() throws JsonProcessingException {
+    defineSecret(OVERRIDE_SECRET_1, "1");
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig());
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    this.<V1Secret>getResource(SECRET, OVERRIDE_SECRET_1).getMetadata().setResourceVersion("2");
+    runWithRecordedFingerprint();
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsInfo(getJobDeletedMessageKey()));
+  }
+
+  private void defineSecret(String name, String resourceVersion) {
+    testSupport.defineResources(
+        new V1Secret().metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion(resourceVersion)));
+  }
+
+  private <T> T getResource(String resourceType, String name) {
+    return testSupport.getResourceWithName(resourceType, name);
+  }
+
+  private void runWithRecordedFingerprint() {
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, createDomainConfig());
+    testSupport.addToPacket(ProcessingConstants.INTROSPECTED_INPUTS_FINGERPRINT, getRecordedFingerprint());
+    testSupport.runSteps(getStepFactory(), terminalStep);
+  }
+
+  private String getRecordedFingerprint() {
+    return IntrospectionFingerprint.getRecordedFingerprint(
+        getResource(CONFIG_MAP, ConfigMapHelper.SitConfigMapContext.getConfigMapName(UID)));
+  }
+
   private String getDomainHome() {
     return "/shared/domains/" + UID;
   }
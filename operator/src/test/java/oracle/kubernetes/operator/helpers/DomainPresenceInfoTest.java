@@ -3,10 +3,14 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
@@ -14,6 +18,16 @@ import static org.junit.Assert.assertThat;
 public class DomainPresenceInfoTest {
   private DomainPresenceInfo info = new DomainPresenceInfo("ns", "domain");
 
+  @Test
+  public void resourceSelector_selectsOperatorCreatedResourcesOfDomain() {
+    assertThat(info.getResourceSelector(), equalTo("weblogic.domainUID=domain,weblogic.createdByOperator"));
+  }
+
+  @Test
+  public void resourceSelector_isBuiltOnce() {
+    assertThat(info.getResourceSelector(), sameInstance(info.getResourceSelector()));
+  }
+
   @Test
   public void whenNoneDefined_getClusterServiceReturnsNull() {
     assertThat(info.getClusterService("cluster"), nullValue());
@@ -53,6 +67,26 @@ public class DomainPresenceInfoTest {
     assertThat(info.getExternalService("admin"), sameInstance(service));
   }
 
+  @Test
+  public void afterLastReadHealthDefined_nextCallReturnsIt() {
+    LastReadHealth health = new LastReadHealth("{}", "RUNNING", new ServerHealth());
+    info.setLastReadHealth("myserver", health);
+
+    assertThat(info.getLastReadHealth("myserver"), sameInstance(health));
+  }
+
+  @Test
+  public void afterServerPodDeleted_lastReadHealthIsForgotten() {
+    V1Pod pod = new V1Pod()
+        .metadata(new V1ObjectMeta().name("pod").creationTimestamp(new DateTime()).resourceVersion("1"));
+    info.setServerPod("myserver", pod);
+    info.setLastReadHealth("myserver", new LastReadHealth("{}", "RUNNING", new ServerHealth()));
+
+    info.deleteServerPodFromEvent("myserver", pod);
+
+    assertThat(info.getLastReadHealth("myserver"), nullValue());
+  }
+
   @Test
   public void whenNoneDefined_getServerPodReturnsNull() {
     assertThat(info.getServerPod("myserver"), nullValue());
@@ -21,6 +21,7 @@ import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.RolloutStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
@@ -79,6 +80,46 @@ public class DomainStatusPatchTest {
     assertThat(builder.getPatches(), hasItemsInOrder("ADD /status/replicas 2"));
   }
 
+  @Test
+  public void whenOnlyNewStatusHasRollout_addIt() {
+    DomainStatus status1 = new DomainStatus();
+    DomainStatus status2 = new DomainStatus()
+          .withRollout(new RolloutStatus().withServersTotal(4).withServersCompleted(0));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder("ADD /status/rollout {'serversCompleted':0,'serversTotal':4}"));
+  }
+
+  @Test
+  public void whenRolloutProgressChanged_replaceChangedFields() {
+    DateTime estimatedCompletionTime = new DateTime();
+    DomainStatus status1 = new DomainStatus()
+          .withRollout(new RolloutStatus().withServersTotal(4).withServersCompleted(0));
+    DomainStatus status2 = new DomainStatus()
+          .withRollout(new RolloutStatus().withServersTotal(4).withServersCompleted(1)
+                .withEstimatedCompletionTime(estimatedCompletionTime));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder(
+                "REPLACE /status/rollout/serversCompleted 1",
+                "ADD /status/rollout/estimatedCompletionTime '" + estimatedCompletionTime + "'"));
+  }
+
+  @Test
+  public void whenRolloutCompleted_removeIt() {
+    DomainStatus status1 = new DomainStatus()
+          .withRollout(new RolloutStatus().withServersTotal(4).withServersCompleted(3));
+    DomainStatus status2 = new DomainStatus();
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(), hasItemsInOrder("REMOVE /status/rollout"));
+  }
+
   private void computePatch(DomainStatus status1, DomainStatus status2) {
     status2.createPatchFrom(builder, status1);
   }
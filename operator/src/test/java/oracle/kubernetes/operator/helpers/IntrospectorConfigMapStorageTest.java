@@ -0,0 +1,325 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.COMPACT_FORMAT;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.COMPRESSION_THRESHOLD_PARAM;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.FORMAT_PARAM;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.MAX_SHARDS_PARAM;
+import static oracle.kubernetes.operator.helpers.IntrospectorConfigMapStorage.SHARD_SIZE_PARAM;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_SHARD_TOO_LARGE;
+import static oracle.kubernetes.utils.LogMatcher.containsSevere;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectorConfigMapStorageTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String BOOT_PROPERTIES = "boot.properties";
+  private static final String TOPOLOGY_YAML = "topology.yaml";
+  private static final String SIT_CFG_1 = "Sit-Cfg-CFG--introspector-situational-config.xml";
+  private static final String SIT_CFG_2 = "Sit-Cfg-JDBC--datasource.xml";
+  private static final String SIT_CFG_3 = "Sit-Cfg-WLDF--wldf.xml";
+  private static final String TOPOLOGY =
+      "domainValid: true\n"
+          + "domain:\n"
+          + "  name: \"base_domain\"\n"
+          + "  adminServerName: \"admin-server\"\n"
+          + "  servers:\n"
+          + "    - name: \"admin-server\"\n"
+          + "      listenPort: 7001\n";
+
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    consoleControl = TestUtils.silenceOperatorLogger()
+        .collectLogMessages(logRecords, INTROSPECTOR_SHARD_TOO_LARGE);
+    mementos.add(consoleControl);
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(ScanCacheStub.install());
+
+    TuningParametersStub.namedParameters.put(FORMAT_PARAM, COMPACT_FORMAT);
+    TuningParametersStub.namedParameters.put(COMPRESSION_THRESHOLD_PARAM, "100");
+    TuningParametersStub.namedParameters.put(SHARD_SIZE_PARAM, "1000");
+    TuningParametersStub.namedParameters.put(MAX_SHARDS_PARAM, "4");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenFormatParameterIsCompact_useCompactFormat() {
+    assertThat(IntrospectorConfigMapStorage.isCompactFormat(), is(true));
+  }
+
+  @Test
+  public void whenFormatParameterNotSet_dontUseCompactFormat() {
+    TuningParametersStub.namedParameters.remove(FORMAT_PARAM);
+
+    assertThat(IntrospectorConfigMapStorage.isCompactFormat(), is(false));
+  }
+
+  @Test
+  public void compressedValues_decompressToOriginal() {
+    String value = largeValue('x');
+
+    assertThat(
+        IntrospectorConfigMapStorage.decompress(IntrospectorConfigMapStorage.compress(value)),
+        equalTo(value));
+  }
+
+  @Test
+  public void layout_keepsSmallEntriesAsPlainText() {
+    IntrospectorConfigMapStorage.Layout layout =
+        IntrospectorConfigMapStorage.createLayout(createIntrospectorData());
+
+    assertThat(layout.getData(), hasKey(BOOT_PROPERTIES));
+    assertThat(layout.getData(), not(hasKey(TOPOLOGY_YAML)));
+  }
+
+  @Test
+  public void layout_keepsCompressedTopologyInPrimaryConfigMap() {
+    IntrospectorConfigMapStorage.Layout layout =
+        IntrospectorConfigMapStorage.createLayout(createIntrospectorData());
+
+    assertThat(layout.getBinaryData(), hasKey(TOPOLOGY_YAML + ".gz"));
+  }
+
+  @Test
+  public void layout_placesOtherLargeEntriesInShardsChosenByName() {
+    IntrospectorConfigMapStorage.Layout layout =
+        IntrospectorConfigMapStorage.createLayout(createIntrospectorData());
+
+    assertThat(getShardContaining(layout, SIT_CFG_1), hasKey(SIT_CFG_1 + ".gz"));
+    assertThat(getShardContaining(layout, SIT_CFG_2), hasKey(SIT_CFG_2 + ".gz"));
+  }
+
+  private Map<String, byte[]> getShardContaining(IntrospectorConfigMapStorage.Layout layout, String name) {
+    return layout.getShards().get(IntrospectorConfigMapStorage.getShardIndex(name, 4));
+  }
+
+  @Test
+  public void whenEntryAdded_otherShardsAreUnchanged() {
+    Map<String, String> data = createIntrospectorData();
+    IntrospectorConfigMapStorage.Layout before = IntrospectorConfigMapStorage.createLayout(data);
+    data.put(SIT_CFG_3, largeValue('w'));
+
+    IntrospectorConfigMapStorage.Layout after = IntrospectorConfigMapStorage.createLayout(data);
+
+    int changedShard = IntrospectorConfigMapStorage.getShardIndex(SIT_CFG_3, 4);
+    for (int i = 0; i < before.getShards().size(); i++) {
+      if (i != changedShard) {
+        assertThat(getContentHash(after.getShards().get(i)), equalTo(getContentHash(before.getShards().get(i))));
+      }
+    }
+  }
+
+  private String getContentHash(Map<String, byte[]> shard) {
+    return IntrospectorConfigMapStorage.getContentHash(null, shard);
+  }
+
+  @Test
+  public void whenShardsFit_layoutIsValid() {
+    assertThat(IntrospectorConfigMapStorage.createLayout(createIntrospectorData()).isValid(), is(true));
+  }
+
+  @Test
+  public void whenShardWouldExceedSize_layoutIsInvalid() {
+    TuningParametersStub.namedParameters.put(SHARD_SIZE_PARAM, "10");
+
+    assertThat(IntrospectorConfigMapStorage.createLayout(createIntrospectorData()).isValid(), is(false));
+  }
+
+  @Test
+  public void whenShardWouldExceedSize_dontCreateConfigMaps() {
+    consoleControl.ignoreMessage(INTROSPECTOR_SHARD_TOO_LARGE);
+    TuningParametersStub.namedParameters.put(SHARD_SIZE_PARAM, "10");
+
+    testSupport.runSteps(createSitConfigMapStep());
+
+    assertThat(testSupport.getResources(CONFIG_MAP), empty());
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenShardWouldExceedSize_reportFailureInDomainStatus() {
+    consoleControl.ignoreMessage(INTROSPECTOR_SHARD_TOO_LARGE);
+    TuningParametersStub.namedParameters.put(SHARD_SIZE_PARAM, "10");
+
+    testSupport.runSteps(createSitConfigMapStep());
+
+    DomainStatus status = getDomainStatus();
+    assertThat(status.getReason(), equalTo(DomainStatusPatch.ERR_INTROSPECTOR));
+    assertThat(status.getMessage(), containsString(MAX_SHARDS_PARAM));
+  }
+
+  @Test
+  public void whenShardWouldExceedSize_logSevereMessage() {
+    TuningParametersStub.namedParameters.put(SHARD_SIZE_PARAM, "10");
+
+    testSupport.runSteps(createSitConfigMapStep());
+
+    assertThat(logRecords, containsSevere(INTROSPECTOR_SHARD_TOO_LARGE));
+  }
+
+  @Test
+  public void whenShardsFit_sitConfigMapStepCreatesConfigMaps() {
+    testSupport.runSteps(createSitConfigMapStep());
+
+    assertThat(getConfigMap(ConfigMapHelper.SitConfigMapContext.getConfigMapName(domain.getDomainUid())),
+        notNullValue());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  private Step createSitConfigMapStep() {
+    Map<String, String> data = createIntrospectorData();
+    data.put(TOPOLOGY_YAML, TOPOLOGY);
+    testSupport.defineResources(domain);
+    testSupport
+        .addDomainPresenceInfo(new DomainPresenceInfo(domain))
+        .addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_DATA, data)
+        .addToPacket(JobHelper.START_TIME, System.currentTimeMillis());
+    return ConfigMapHelper.createSitConfigMapStep(terminalStep);
+  }
+
+  private DomainStatus getDomainStatus() {
+    return ((Domain) testSupport.getResourceWithName(DOMAIN, domain.getDomainUid())).getStatus();
+  }
+
+  @Test
+  public void contentHash_isIndependentOfMapOrder() {
+    Map<String, String> first = new HashMap<>();
+    first.put("a", "1");
+    first.put("b", "2");
+    Map<String, String> second = new HashMap<>();
+    second.put("b", "2");
+    second.put("a", "1");
+
+    assertThat(
+        IntrospectorConfigMapStorage.getContentHash(first, null),
+        equalTo(IntrospectorConfigMapStorage.getContentHash(second, null)));
+  }
+
+  @Test
+  public void whenNoConfigMaps_createPrimaryAndShards() {
+    testSupport.runSteps(createContext(createIntrospectorData()).verifyConfigMap(terminalStep));
+
+    assertThat(getConfigMap(ConfigMapHelper.SitConfigMapContext.getConfigMapName(UID)), notNullValue());
+    assertThat(getConfigMap(IntrospectorConfigMapStorage.getShardName(UID, 1)), notNullValue());
+    assertThat(getConfigMap(IntrospectorConfigMapStorage.getShardName(UID, 2)), notNullValue());
+  }
+
+  @Test
+  public void entriesMayBeReadBackFromPrimaryConfigMap() {
+    Map<String, String> data = createIntrospectorData();
+    testSupport.runSteps(createContext(data).verifyConfigMap(terminalStep));
+
+    V1ConfigMap primary = getConfigMap(ConfigMapHelper.SitConfigMapContext.getConfigMapName(UID));
+    assertThat(IntrospectorConfigMapStorage.getEntry(primary, TOPOLOGY_YAML), equalTo(data.get(TOPOLOGY_YAML)));
+    assertThat(IntrospectorConfigMapStorage.getEntry(primary, BOOT_PROPERTIES), equalTo(data.get(BOOT_PROPERTIES)));
+  }
+
+  @Test
+  public void whenIntrospectorDataUnchanged_dontWriteConfigMaps() {
+    testSupport.runSteps(createContext(createIntrospectorData()).verifyConfigMap(terminalStep));
+    testSupport.clearNumCalls();
+
+    testSupport.runSteps(createContext(createIntrospectorData()).verifyConfigMap(terminalStep));
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenOneShardChanged_writeOnlyThatShardAndPrimary() {
+    testSupport.runSteps(createContext(createIntrospectorData()).verifyConfigMap(terminalStep));
+    V1ConfigMap firstShard = getConfigMap(IntrospectorConfigMapStorage.getShardName(UID, 1));
+    testSupport.clearNumCalls();
+
+    Map<String, String> data = createIntrospectorData();
+    data.put(SIT_CFG_2, largeValue('z'));
+    testSupport.runSteps(createContext(data).verifyConfigMap(terminalStep));
+
+    // read primary, read both shards, replace one shard, replace primary
+    assertThat(testSupport.getNumCalls(), equalTo(5));
+    assertThat(getConfigMap(IntrospectorConfigMapStorage.getShardName(UID, 1)), equalTo(firstShard));
+  }
+
+  @Test
+  public void whenFewerShardsNeeded_deleteExtraShards() {
+    testSupport.runSteps(createContext(createIntrospectorData()).verifyConfigMap(terminalStep));
+
+    Map<String, String> data = createIntrospectorData();
+    data.remove(SIT_CFG_2);
+    testSupport.runSteps(createContext(data).verifyConfigMap(terminalStep));
+
+    assertThat(getConfigMap(IntrospectorConfigMapStorage.getShardName(UID, 2)), nullValue());
+  }
+
+  private ConfigMapHelper.CompactSitConfigMapContext createContext(Map<String, String> data) {
+    return new ConfigMapHelper.CompactSitConfigMapContext(
+        terminalStep, UID, "operator", NS, IntrospectorConfigMapStorage.createLayout(data), null);
+  }
+
+  private V1ConfigMap getConfigMap(String name) {
+    return testSupport.getResourceWithName(CONFIG_MAP, name);
+  }
+
+  private Map<String, String> createIntrospectorData() {
+    Map<String, String> data = new HashMap<>();
+    data.put(BOOT_PROPERTIES, "username=weblogic");
+    data.put(TOPOLOGY_YAML, largeValue('t'));
+    data.put(SIT_CFG_1, largeValue('x'));
+    data.put(SIT_CFG_2, largeValue('y'));
+    return data;
+  }
+
+  private String largeValue(char c) {
+    return StringUtils.repeat(c, 500);
+  }
+}
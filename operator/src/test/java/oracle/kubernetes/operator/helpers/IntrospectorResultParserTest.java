@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectorResultParserTest {
+  private static final String EOL = System.lineSeparator();
+
+  @Test
+  public void whenTextHasMixedLineTerminators_splitIntoLines() {
+    List<String> lines = new ArrayList<>();
+
+    IntrospectorResultParser.forEachLine("line 1\nline 2\r\n\nline 4", lines::add);
+
+    assertThat(lines, contains("line 1", "line 2", "", "line 4"));
+  }
+
+  @Test
+  public void whenTextIsNull_produceNoLines() {
+    List<String> lines = new ArrayList<>();
+
+    IntrospectorResultParser.forEachLine(null, lines::add);
+
+    assertThat(lines.isEmpty(), is(true));
+  }
+
+  @Test
+  public void extractFileNameFromMarker() {
+    assertThat(
+        IntrospectorResultParser.extractFilename(">>>  /u01/introspect/domain1/topology.yaml"),
+        is("topology.yaml"));
+  }
+
+  @Test
+  public void whenResultContainsFiles_mapNamesToContents() {
+    Map<String, String> data = IntrospectorResultParser.parse(
+        "@[2018-10-04T21:07:06.864 UTC][introspectDomain.py:105] Printing file\n"
+            + ">>>  /u01/introspect/domain1/userKeyNodeManager.secure\n"
+            + "BPtNabkCIIc2IJp\n"
+            + ">>> EOF\n"
+            + "\n"
+            + ">>>  /u01/introspect/domain1/topology.yaml\n"
+            + "domainValid: true\n"
+            + "domain:\n"
+            + "  name: \"base_domain\"\n"
+            + ">>> EOF");
+
+    assertThat(data, aMapWithSize(2));
+    assertThat(data, hasEntry("userKeyNodeManager.secure", "BPtNabkCIIc2IJp" + EOL));
+    assertThat(
+        data,
+        hasEntry("topology.yaml", "domainValid: true" + EOL + "domain:" + EOL + "  name: \"base_domain\"" + EOL));
+  }
+
+  @Test
+  public void whenFileHasNoEndMarker_ignoreIt() {
+    Map<String, String> data =
+        IntrospectorResultParser.parse(">>>  /u01/introspect/domain1/topology.yaml\ndomainValid: true\n");
+
+    assertThat(data, not(hasKey("topology.yaml")));
+  }
+
+  @Test
+  public void whenResultHasNoFiles_returnEmptyMap() {
+    assertThat(IntrospectorResultParser.parse("@[INFO] nothing to see here"), anEmptyMap());
+  }
+
+  @Test
+  public void whileReadingFile_reportInFile() {
+    IntrospectorResultParser parser = new IntrospectorResultParser();
+
+    parser.accept(">>>  /u01/introspect/domain1/topology.yaml");
+    boolean inFileAtStart = parser.isInFile();
+    parser.accept("domainValid: true");
+    boolean inFileWithContents = parser.isInFile();
+    parser.accept(">>> EOF");
+
+    assertThat(inFileAtStart, is(true));
+    assertThat(inFileWithContents, is(true));
+    assertThat(parser.isInFile(), is(false));
+  }
+}
@@ -45,6 +45,8 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -93,6 +95,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -128,6 +131,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList);
     supportNamespaced(EVENT, V1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPvcList);
@@ -165,6 +169,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1JobList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1SecretList createSecretList(List<V1Secret> items) {
     return new V1SecretList().metadata(createListMeta()).items(items);
   }
@@ -296,6 +304,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.delete, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a server-side apply operation should fail if it matches the specified conditions.
+   * Applies to namespaced resources.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnApply(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.apply, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that any operation should fail if it matches the specified conditions. Applies to
    * namespaced resources.
@@ -377,6 +398,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    apply {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -641,8 +668,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataTypes.get(resourceType);
     }
 
-    public V1Status deleteResourceCollection(String namespace) {
-      data.clear();
+    public V1Status deleteResourceCollection(String namespace, String... labelSelectors) {
+      data.values().removeIf(withLabels(labelSelectors));
       return new V1Status().code(200);
     }
 
@@ -670,6 +697,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // The applied state replaces the resource, rather than being merged with the fields of other managers
+    T applyResource(String name, String namespace, T resource) {
+      return hasElementWithName(name) ? replaceResource(name, resource) : createResource(namespace, resource);
+    }
+
     @SuppressWarnings("unchecked")
     T fromJsonStructure(JsonStructure jsonStructure) {
       final GsonBuilder builder =
@@ -790,8 +822,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     @Override
-    public V1Status deleteResourceCollection(String namespace) {
-      return inNamespace(namespace).deleteResourceCollection(namespace);
+    public V1Status deleteResourceCollection(String namespace, String... labelSelectors) {
+      return inNamespace(namespace).deleteResourceCollection(namespace, labelSelectors);
     }
 
     @Override
@@ -804,6 +836,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T applyResource(String name, String namespace, T resource) {
+      return inNamespace(namespace).applyResource(name, namespace, resource);
+    }
+
     @Override
     Object listResources(String namespace, String fieldSelector, String... labelSelectors) {
       return listFactory.apply(inNamespace(namespace).getResources(fieldSelector, labelSelectors));
@@ -894,6 +931,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T applyResource(DataRepository<T> dataRepository) {
+      return dataRepository.applyResource(requestParams.name, requestParams.namespace, (T) requestParams.body);
+    }
+
     private <T> Object listResources(DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, fieldSelector, labelSelector);
     }
@@ -903,7 +945,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     public <T> V1Status deleteCollection(DataRepository<T> dataRepository) {
-      return dataRepository.deleteResourceCollection(requestParams.namespace);
+      return dataRepository.deleteResourceCollection(requestParams.namespace, labelSelector);
     }
   }
 
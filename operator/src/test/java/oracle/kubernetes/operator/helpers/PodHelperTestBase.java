@@ -123,6 +123,7 @@ public abstract class PodHelperTestBase {
   private static final String DOMAIN_NAME = "domain1";
   protected static final String UID = "uid1";
   private static final boolean INCLUDE_SERVER_OUT_IN_POD_LOG = true;
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
 
   private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
   private static final String STORAGE_VOLUME_NAME = "weblogic-domain-storage-volume";
@@ -644,6 +645,42 @@ public abstract class PodHelperTestBase {
     assertThat(patchedPod.getMetadata().getLabels().get("customer.label"), equalTo("value"));
   }
 
+  @Test
+  public void whenServerSideApplyEnabledAndNoPod_applyIt() {
+    enableServerSideApply();
+    testSupport.failOnCreate(POD, getPodName(), NS, HttpURLConnection.HTTP_INTERNAL_ERROR);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(testSupport.getResourceWithName(POD, getPodName()), notNullValue());
+    assertThat(logRecords, containsInfo(getCreatedMessageKey()));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndPodLacksExpectedCustomerLabel_applyIt() {
+    enableServerSideApply();
+    initializeExistingPod();
+    configurator.withPodLabel("customer.label", "value");
+
+    V1Pod patchedPod = getPatchedPod();
+
+    assertThat(patchedPod.getMetadata().getLabels().get("customer.label"), equalTo("value"));
+  }
+
+  @Test
+  public void whenServerSideApplyRejected_replacePod() {
+    enableServerSideApply();
+    initializeExistingPod();
+    configurator.withPodLabel("customer.label", "value");
+    testSupport.failOnApply(POD, getPodName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    verifyPodReplaced();
+  }
+
+  private void enableServerSideApply() {
+    TuningParametersStub.namedParameters.put(ServerSideApply.KINDS_PARAM, ServerSideApply.POD);
+  }
+
   @Test
   public void whenPodLacksExpectedCustomerAnnotations_addIt() {
     initializeExistingPod();
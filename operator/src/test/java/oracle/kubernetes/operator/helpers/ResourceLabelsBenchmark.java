@@ -0,0 +1,121 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.VersionConstants;
+
+/**
+ * Measures the allocation done to select and label the resources of a domain while making it right.
+ * Each round does the work of one make-right: it creates the selectors used to list the domain's existing
+ * pods and services, passes them to a {@link CallBuilder}, and creates the labeled metadata of the pod and
+ * service of each server. The selectors are either formatted and joined for each call, as the operator
+ * did, or taken from {@link DomainPresenceInfo#getResourceSelector()} and passed to the one-selector
+ * shortcut of {@link CallBuilder#withLabelSelectors(String...)}. The labels are built the same way in both.
+ *
+ * <p>This is not a unit test. Run it with the test classpath:
+ * <pre>java -cp ... oracle.kubernetes.operator.helpers.ResourceLabelsBenchmark [servers] [rounds]</pre>
+ */
+public class ResourceLabelsBenchmark {
+  private static final String UID = "domain1";
+  private static final String DOMAIN_NAME = "base_domain";
+  private static final String NS = "ns1";
+
+  private final int rounds;
+  private final List<String> serverNames;
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+
+  private ResourceLabelsBenchmark(int servers, int rounds) {
+    this.rounds = rounds;
+    serverNames = IntStream.range(0, servers).mapToObj(i -> "managed-server" + i).collect(Collectors.toList());
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of servers per domain and the number of rounds to time
+   */
+  public static void main(String[] args) {
+    int servers = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    ResourceLabelsBenchmark benchmark = new ResourceLabelsBenchmark(servers, rounds);
+
+    for (int i = 0; i < 3; i++) {
+      benchmark.measure("formatted", benchmark::selectPerCall);
+      benchmark.measure("memoized", benchmark::selectFromInfo);
+    }
+  }
+
+  private void measure(String name, Round round) {
+    long startBytes = getAllocatedBytes();
+    long startNanos = System.nanoTime();
+    long checksum = 0;
+    for (int i = 0; i < rounds; i++) {
+      checksum += round.run();
+    }
+    long nanos = System.nanoTime() - startNanos;
+    long bytes = getAllocatedBytes() - startBytes;
+
+    System.out.printf("%-10s %10.1f us/make-right %12d bytes/make-right (checksum %d)%n",
+        name, (double) nanos / rounds / 1000, bytes / rounds, checksum);
+  }
+
+  // Builds the selectors as the operator did before they were kept for each domain
+  private long selectPerCall() {
+    long checksum = 0;
+    for (int i = 0; i < 2; i++) {
+      checksum += new CallBuilder().withLabelSelectors(
+          String.join(",",
+              String.format("%s=%s", LabelConstants.DOMAINUID_LABEL, UID),
+              LabelConstants.CREATEDBYOPERATOR_LABEL)).hashCode();
+    }
+    return checksum + labelResources();
+  }
+
+  private long selectFromInfo() {
+    long checksum = 0;
+    for (int i = 0; i < 2; i++) {
+      checksum += new CallBuilder().withLabelSelectors(info.getResourceSelector()).hashCode();
+    }
+    return checksum + labelResources();
+  }
+
+  private long labelResources() {
+    long checksum = 0;
+    for (String serverName : serverNames) {
+      V1ObjectMeta pod = new V1ObjectMeta().name(UID + "-" + serverName).namespace(NS)
+          .putLabelsItem(LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DEFAULT_DOMAIN_VERSION)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+          .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, DOMAIN_NAME)
+          .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName)
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+      V1ObjectMeta service = new V1ObjectMeta().name(UID + "-" + serverName).namespace(NS)
+          .putLabelsItem(LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DEFAULT_DOMAIN_VERSION)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+          .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, DOMAIN_NAME)
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName);
+      checksum += pod.getLabels().size() + service.getLabels().size();
+    }
+    return checksum;
+  }
+
+  private static long getAllocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  interface Round {
+    long run();
+  }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1ResourceRule;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.create;
+import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.delete;
+import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.get;
+import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.list;
+import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.watch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ResourceRulesIndexTest {
+
+  private V1ResourceRule rule(List<String> apiGroups, List<String> resources, String... verbs) {
+    return new V1ResourceRule().apiGroups(apiGroups).resources(resources).verbs(Arrays.asList(verbs));
+  }
+
+  private ResourceRulesIndex index(V1ResourceRule... rules) {
+    return new ResourceRulesIndex(Arrays.asList(rules));
+  }
+
+  @Test
+  public void whenNoRules_denyEverything() {
+    ResourceRulesIndex index = new ResourceRulesIndex(null);
+
+    assertThat(index.canI(Resource.PODS, get), is(false));
+  }
+
+  @Test
+  public void whenRuleMatchesCoreResourceAndVerb_allowIt() {
+    ResourceRulesIndex index = index(rule(singletonList(""), singletonList("pods"), "get", "list"));
+
+    assertThat(index.canI(Resource.PODS, list), is(true));
+  }
+
+  @Test
+  public void whenRuleHasNoApiGroups_applyItToCoreGroup() {
+    ResourceRulesIndex index = index(rule(null, singletonList("pods"), "get"));
+
+    assertThat(index.canI(Resource.PODS, get), is(true));
+  }
+
+  @Test
+  public void whenVerbNotListed_denyIt() {
+    ResourceRulesIndex index = index(rule(singletonList(""), singletonList("pods"), "get", "list"));
+
+    assertThat(index.canI(Resource.PODS, delete), is(false));
+  }
+
+  @Test
+  public void whenResourceInOtherGroup_denyIt() {
+    ResourceRulesIndex index = index(rule(singletonList("batch"), singletonList("pods"), "get"));
+
+    assertThat(index.canI(Resource.PODS, get), is(false));
+  }
+
+  @Test
+  public void whenRuleHasWildcardVerb_allowAnyVerb() {
+    ResourceRulesIndex index = index(rule(singletonList("batch"), singletonList("jobs"), "*"));
+
+    assertThat(index.canI(Resource.JOBS, delete), is(true));
+  }
+
+  @Test
+  public void whenRuleHasWildcardResource_allowAnyResourceInGroup() {
+    ResourceRulesIndex index = index(rule(singletonList("weblogic.oracle"), singletonList("*"), "get"));
+
+    assertThat(index.canI(Resource.DOMAINSTATUSES, get), is(true));
+  }
+
+  @Test
+  public void whenRuleHasWildcardGroup_allowResourceInNamedGroup() {
+    ResourceRulesIndex index = index(rule(singletonList("*"), singletonList("jobs"), "create"));
+
+    assertThat(index.canI(Resource.JOBS, create), is(true));
+  }
+
+  @Test
+  public void whenRuleHasWildcardGroup_doNotApplyItToCoreGroup() {
+    ResourceRulesIndex index = index(rule(singletonList("*"), singletonList("*"), "*"));
+
+    assertThat(index.canI(Resource.PODS, get), is(false));
+  }
+
+  @Test
+  public void whenRuleListsSubresource_allowOnlySubresource() {
+    ResourceRulesIndex index = index(rule(singletonList(""), singletonList("pods/log"), "get"));
+
+    assertThat(index.canI(Resource.LOGS, get), is(true));
+    assertThat(index.canI(Resource.PODS, get), is(false));
+  }
+
+  @Test
+  public void whenSeveralRulesMatch_combineTheirVerbs() {
+    ResourceRulesIndex index = index(
+        rule(singletonList("rbac.authorization.k8s.io"), singletonList("rolebindings"), "list"),
+        rule(singletonList("rbac.authorization.k8s.io"), Arrays.asList("rolebindings", "roles"), "watch"));
+
+    assertThat(index.canI(Resource.ROLEBINDINGS, list), is(true));
+    assertThat(index.canI(Resource.ROLEBINDINGS, watch), is(true));
+  }
+
+  @Test
+  public void whenRuleHasNoVerbs_ignoreIt() {
+    ResourceRulesIndex index = index(new V1ResourceRule().resources(singletonList("pods")));
+
+    assertThat(index.canI(Resource.PODS, get), is(false));
+  }
+}
@@ -0,0 +1,203 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.helpers.RolloutScheduler.MAX_CONCURRENT_PARAM;
+import static oracle.kubernetes.operator.helpers.RolloutScheduler.MAX_CONCURRENT_PER_NAMESPACE_PARAM;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RolloutSchedulerTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final RolloutScheduler scheduler = new RolloutScheduler();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NS1, "domain1");
+  private final List<Fiber> heldFibers = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(StaticStubSupport.install(RolloutScheduler.class, "instance", scheduler));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    testSupport.addDomainPresenceInfo(info);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenNoLimitSet_startAllServersAtOnce() {
+    runRollout(new HoldStep(), new HoldStep(), new HoldStep());
+
+    assertThat(scheduler.getNumActive(), equalTo(3));
+    assertThat(scheduler.getNumWaiting(), equalTo(0));
+  }
+
+  @Test
+  public void whenLimitSet_excessServersWait() {
+    TuningParametersStub.namedParameters.put(MAX_CONCURRENT_PARAM, "2");
+
+    runRollout(new HoldStep(), new HoldStep(), new HoldStep());
+
+    assertThat(scheduler.getNumActive(), equalTo(2));
+    assertThat(scheduler.getNumWaiting(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerCompletes_startNextWaitingServer() {
+    TuningParametersStub.namedParameters.put(MAX_CONCURRENT_PARAM, "1");
+    runRollout(new HoldStep(), new HoldStep());
+
+    resumeHeldFiber();
+
+    assertThat(scheduler.getNumActive(), equalTo(1));
+    assertThat(scheduler.getNumWaiting(), equalTo(0));
+    assertThat(heldFibers, hasSize(1));
+  }
+
+  @Test
+  public void whenAllServersComplete_releaseAllPermits() {
+    TuningParametersStub.namedParameters.put(MAX_CONCURRENT_PARAM, "1");
+    runRollout(new HoldStep(), new HoldStep());
+
+    resumeHeldFiber();
+    resumeHeldFiber();
+
+    assertThat(scheduler.getNumActive(), equalTo(0));
+  }
+
+  @Test
+  public void whenNamespaceLimitReached_serversInOtherNamespacesStart() {
+    TuningParametersStub.namedParameters.put(MAX_CONCURRENT_PER_NAMESPACE_PARAM, "1");
+
+    testSupport.runSteps(RolloutScheduler.createRolloutStep(
+          Arrays.asList(
+                createServerStart(new HoldStep(), NS1),
+                createServerStart(new HoldStep(), NS1),
+                createServerStart(new HoldStep(), NS2)),
+          null));
+
+    assertThat(scheduler.getNumActive(), equalTo(2));
+    assertThat(scheduler.getNumWaiting(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerFails_releaseItsPermit() {
+    TuningParametersStub.namedParameters.put(MAX_CONCURRENT_PARAM, "1");
+    runRollout(new FailStep(), new HoldStep());
+
+    assertThat(scheduler.getNumActive(), equalTo(1));
+    assertThat(heldFibers, hasSize(1));
+
+    resumeHeldFiber();
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+    assertThat(scheduler.getNumActive(), equalTo(0));
+  }
+
+  @Test
+  public void duringRollout_reportProgress() {
+    runRollout(new HoldStep(), new HoldStep(), new HoldStep());
+
+    resumeHeldFiber();
+
+    assertThat(info.getRolloutProgress().toStatus().getServersTotal(), equalTo(3));
+    assertThat(info.getRolloutProgress().toStatus().getServersCompleted(), equalTo(1));
+  }
+
+  @Test
+  public void afterRollout_clearProgress() {
+    runRollout(new HoldStep(), new HoldStep());
+
+    resumeHeldFiber();
+    resumeHeldFiber();
+
+    assertThat(info.getRolloutProgress(), nullValue());
+  }
+
+  @Test
+  public void beforeAnyServerCompletes_estimatedCompletionTimeIsUnknown() {
+    RolloutProgress progress = new RolloutProgress(4);
+
+    assertThat(progress.toStatus().getEstimatedCompletionTime(), nullValue());
+  }
+
+  @Test
+  public void afterServerCompletes_estimateCompletionTimeFromAverageRate() {
+    RolloutProgress progress = new RolloutProgress(4);
+
+    SystemClockTestSupport.increment();
+    progress.recordServerCompleted();
+
+    assertThat(progress.toStatus().getEstimatedCompletionTime(), equalTo(new DateTime(4000)));
+  }
+
+  private void runRollout(Step... serverSteps) {
+    List<StepAndPacket> servers = new ArrayList<>();
+    for (Step step : serverSteps) {
+      servers.add(createServerStart(step, NS1));
+    }
+    testSupport.runSteps(RolloutScheduler.createRolloutStep(servers, null));
+  }
+
+  private StepAndPacket createServerStart(Step step, String namespace) {
+    Packet packet = testSupport.getPacket().clone();
+    if (!namespace.equals(NS1)) {
+      packet.getComponents().put(
+            DOMAIN_COMPONENT_NAME, Component.createFor(new DomainPresenceInfo(namespace, "domain2")));
+    }
+    return new StepAndPacket(step, packet);
+  }
+
+  private void resumeHeldFiber() {
+    heldFibers.remove(0).resume(new Packet());
+  }
+
+  private class HoldStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(heldFibers::add);
+    }
+  }
+
+  private static class FailStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      throw new IllegalStateException();
+    }
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ServerSideApplyTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String CM_NAME = ConfigMapHelper.SitConfigMapContext.getConfigMapName(UID);
+  private static final Map<String, String> DATA = Collections.singletonMap("topology.yaml", "domainValid: true");
+
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+
+    TuningParametersStub.namedParameters.put(ServerSideApply.KINDS_PARAM, "pod, ConfigMap");
+  }
+
+  /**
+   * Tear down test.
+   * @throws Exception on failure
+   */
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+    ServerSideApply.clearAppliedConfigMaps();
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenKindListed_isEnabled() {
+    assertThat(ServerSideApply.isEnabledFor(ServerSideApply.POD), is(true));
+    assertThat(ServerSideApply.isEnabledFor(ServerSideApply.CONFIG_MAP), is(true));
+  }
+
+  @Test
+  public void whenKindNotListed_isNotEnabled() {
+    assertThat(ServerSideApply.isEnabledFor(ServerSideApply.SERVICE), is(false));
+  }
+
+  @Test
+  public void whenParameterNotSet_noKindIsEnabled() {
+    TuningParametersStub.namedParameters.remove(ServerSideApply.KINDS_PARAM);
+
+    assertThat(ServerSideApply.isEnabledFor(ServerSideApply.POD), is(false));
+  }
+
+  @Test
+  public void whenConfigMapApplied_createItWithOneCall() {
+    testSupport.failOnCreate(CONFIG_MAP, CM_NAME, NS, HTTP_INTERNAL_ERROR);
+
+    Packet packet = verifySitConfigMap();
+
+    assertThat(testSupport.getResourceWithName(CONFIG_MAP, CM_NAME), notNullValue());
+    assertThat(packet.get(ProcessingConstants.SIT_CONFIG_MAP), notNullValue());
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenConfigMapUnchanged_dontApplyItAgain() {
+    verifySitConfigMap();
+    testSupport.clearNumCalls();
+
+    Packet packet = verifySitConfigMap();
+
+    assertThat(packet.get(ProcessingConstants.SIT_CONFIG_MAP), notNullValue());
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenWatchReportsOtherResourceVersion_applyConfigMapAgain() {
+    verifySitConfigMap();
+    testSupport.clearNumCalls();
+
+    ServerSideApply.onConfigMapWatchEvent(createWatchedConfigMap("17"), false);
+    verifySitConfigMap();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenWatchReportsAppliedResourceVersion_dontApplyConfigMapAgain() {
+    verifySitConfigMap();
+    testSupport.clearNumCalls();
+
+    ServerSideApply.onConfigMapWatchEvent(createWatchedConfigMap(null), false);
+    verifySitConfigMap();
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenWatchReportsDeletion_applyConfigMapAgain() {
+    verifySitConfigMap();
+    testSupport.clearNumCalls();
+
+    ServerSideApply.onConfigMapWatchEvent(createWatchedConfigMap(null), true);
+    verifySitConfigMap();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenCompactFormatUsed_readConfigMapBeforeWritingIt() {
+    testSupport.runSteps(
+        new ConfigMapHelper.CompactSitConfigMapContext(
+            terminalStep, UID, "operator", NS, IntrospectorConfigMapStorage.createLayout(DATA), null)
+            .verifyConfigMap(terminalStep));
+
+    assertThat(testSupport.getResourceWithName(CONFIG_MAP, CM_NAME), notNullValue());
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  private Packet verifySitConfigMap() {
+    return testSupport.runSteps(
+        new ConfigMapHelper.SitConfigMapContext(terminalStep, UID, "operator", NS, DATA, null)
+            .verifyConfigMap(terminalStep));
+  }
+
+  // the test support does not assign resource versions, so the applied config map has none
+  private V1ConfigMap createWatchedConfigMap(String resourceVersion) {
+    return new V1ConfigMap()
+        .metadata(new V1ObjectMeta().name(CM_NAME).namespace(NS).resourceVersion(resourceVersion));
+  }
+}
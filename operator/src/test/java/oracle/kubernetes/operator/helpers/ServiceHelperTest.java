@@ -46,6 +46,7 @@ import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
@@ -114,6 +115,7 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
   private static final String NAP_1 = "nap1";
   private static final String NAP_2 = "Nap2";
   private static final String NAP_3 = "NAP_3";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
   private static final int NAP_PORT_1 = 7100;
   private static final int NAP_PORT_2 = 37100;
   private static final int NAP_PORT_3 = 37200;
@@ -417,6 +419,60 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     testFacade.recordService(domainPresenceInfo, originalService);
   }
 
+  @Test
+  public void whenServerSideApplyEnabledAndNoService_applyIt() throws NoSuchFieldException {
+    enableServerSideApply();
+    testSupport.failOnCreate(SERVICE, testFacade.getServiceName(), NS, HTTP_INTERNAL_ERROR);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceCreateLogMessage()));
+    assertThat(
+        testFacade.getRecordedService(domainPresenceInfo),
+        is(serviceWithName(testFacade.getServiceName())));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndServiceChanged_applyItWithOneCall() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+    changeConfiguredListenPort();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndServiceUnchanged_makeNoCalls() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenServerSideApplyRejected_recreateService() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+    changeConfiguredListenPort();
+    testSupport.failOnApply(SERVICE, testFacade.getServiceName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(testFacade.getRecordedService(domainPresenceInfo), is(serviceWithName(testFacade.getServiceName())));
+  }
+
+  private void enableServerSideApply() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.namedParameters.put(ServerSideApply.KINDS_PARAM, ServerSideApply.SERVICE);
+  }
+
   @Test
   public void whenServiceLabelAdded_dontReplaceService() {
     verifyServiceNotReplaced(this::addNewLabel);
@@ -3,8 +3,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
@@ -48,7 +53,47 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, 2,
+        Boolean.parseBoolean(namedParameters.get("readHealthThroughAdminServer")),
+        getInt("maxConcurrentServerStarts", 0),
+        getInt("maxConcurrentServerStartsPerNamespace", 0),
+        Boolean.parseBoolean(namedParameters.get("namespaceSharding")),
+        getInt("replicaLeaseDurationSeconds", 30),
+        !"full".equalsIgnoreCase(namedParameters.get("namespaceRecheckMode")),
+        getInt("engineStallThresholdSeconds", 60),
+        getInt("fiberStallThresholdSeconds", 1800),
+        getInt("watchStallThresholdSeconds", 900),
+        Boolean.parseBoolean(namedParameters.get("fiberBreadCrumbs")),
+        getInt("maxConcurrentStatusReads", 4),
+        getInt("makeRightDeadlineSeconds", 0),
+        getInt("scaleRequestWindowSeconds", 2),
+        getInt("engineThreadCount", 10),
+        getList("serverSideApply"));
+  }
+
+  @Override
+  public IntrospectorTuning getIntrospectorTuning() {
+    return new IntrospectorTuning(
+        "compact".equalsIgnoreCase(namedParameters.get("introspectorConfigMapFormat")),
+        getInt("introspectorConfigMapCompressionThreshold", 32 * 1024),
+        getInt("introspectorConfigMapShardSize", 600 * 1024),
+        getInt("introspectorConfigMapMaxShards", 4));
+  }
+
+  // Parses a named parameter, as TuningParametersImpl does when it reads the operator's ConfigMap
+  private static int getInt(String name, int defaultValue) {
+    try {
+      return Optional.ofNullable(namedParameters.get(name)).map(String::trim).map(Integer::parseInt)
+          .orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static List<String> getList(String name) {
+    return Optional.ofNullable(namedParameters.get(name))
+        .map(value -> Arrays.stream(value.split(",")).map(String::trim).collect(Collectors.toList()))
+        .orElse(Collections.emptyList());
   }
 
   @Override
@@ -20,6 +20,12 @@ public abstract class HttpClientStub extends HttpClient {
     return new Result(response, status, successful);
   }
 
+  @Override
+  public Result executeTimedPostUrlOnServiceClusterIP(
+      String requestUrl, String serviceUrl, String payload, int timeoutMillis) {
+    return new Result(response, status, successful);
+  }
+
   public HttpClientStub withResponse(String response) {
     this.response = response;
     return this;
@@ -0,0 +1,119 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.meterware.pseudoserver.PseudoServer;
+import com.meterware.pseudoserver.PseudoServlet;
+import com.meterware.pseudoserver.WebResource;
+
+/**
+ * A local HTTP server which answers the health searches of the WebLogic REST API. The search of the
+ * domain's server runtimes returns the health of each server added with {@link #withServerHealth};
+ * the search of a single server's runtime returns the same health, whichever server is asked.
+ */
+public class WebLogicRestServerStub {
+  public static final String SERVER_SEARCH = "/management/weblogic/latest/serverRuntime/search";
+  public static final String DOMAIN_SEARCH = "/management/weblogic/latest/domainRuntime/serverRuntimes/search";
+  public static final String RUNNING_HEALTH =
+      "{\"overallHealthState\":{\"state\":\"ok\",\"subsystemName\":null,\"symptoms\":[]},"
+          + "\"activationTime\":1556759105378,\"state\":\"RUNNING\"}";
+
+  private final PseudoServer server = new PseudoServer();
+  private final Map<String, String> domainHealth = new LinkedHashMap<>();
+  private int domainSearchStatus = 200;
+  private long domainSearchDelayMillis;
+  private int numDomainSearches;
+  private int numServerSearches;
+
+  /**
+   * Starts a server which answers the health searches.
+   */
+  public WebLogicRestServerStub() {
+    server.setResource(DOMAIN_SEARCH, new PostServlet(this::getDomainSearchResponse));
+    server.setResource(SERVER_SEARCH, new PostServlet(this::getServerSearchResponse));
+  }
+
+  public int getPort() throws IOException {
+    return server.getConnectedPort();
+  }
+
+  public void shutDown() {
+    server.shutDown();
+  }
+
+  /**
+   * Includes the health of a server in the response to the search of the domain's server runtimes.
+   * @param serverName the name of the server
+   * @param state the state of the server
+   * @return this stub
+   */
+  public WebLogicRestServerStub withServerHealth(String serverName, String state) {
+    domainHealth.put(serverName, RUNNING_HEALTH.replace("RUNNING", state));
+    return this;
+  }
+
+  public WebLogicRestServerStub withDomainSearchStatus(int status) {
+    domainSearchStatus = status;
+    return this;
+  }
+
+  public WebLogicRestServerStub withDomainSearchDelay(long delayMillis) {
+    domainSearchDelayMillis = delayMillis;
+    return this;
+  }
+
+  public int getNumDomainSearches() {
+    return numDomainSearches;
+  }
+
+  public int getNumServerSearches() {
+    return numServerSearches;
+  }
+
+  private WebResource getDomainSearchResponse() {
+    numDomainSearches++;
+    delayDomainSearch();
+    if (domainSearchStatus != 200) {
+      return new WebResource("", domainSearchStatus);
+    }
+
+    return new WebResource(
+        domainHealth.entrySet().stream()
+            .map(e -> "{\"name\":\"" + e.getKey() + "\"," + e.getValue().substring(1))
+            .collect(Collectors.joining(",", "{\"items\":[", "]}")),
+        "application/json");
+  }
+
+  private void delayDomainSearch() {
+    try {
+      Thread.sleep(domainSearchDelayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private WebResource getServerSearchResponse() {
+    numServerSearches++;
+    return new WebResource(RUNNING_HEALTH, "application/json");
+  }
+
+  static class PostServlet extends PseudoServlet {
+    private final Supplier<WebResource> response;
+
+    PostServlet(Supplier<WebResource> response) {
+      this.response = response;
+    }
+
+    @Override
+    public WebResource getPostResponse() {
+      return response.get();
+    }
+  }
+}
@@ -4,8 +4,15 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 import javax.ws.rs.WebApplicationException;
 
 import com.meterware.simplestub.Memento;
@@ -16,11 +23,16 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.rest.RestBackendImpl.DomainRetriever;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -29,17 +41,27 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.After;
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.logging.MessageKeys.SCALE_REQUEST_FAILED;
+import static oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel.APPLIED;
+import static oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel.FAILED;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 @SuppressWarnings("SameParameterValue")
 public class RestBackendImplTest {
@@ -54,10 +76,19 @@ public class RestBackendImplTest {
   private RestBackend restBackend;
   private Domain domain = createDomain(NS, NAME1);
   private Domain domain2 = createDomain(NS, NAME2);
+  private final List<Domain> cachedDomains = new ArrayList<>(Arrays.asList(domain, domain2));
   private Domain updatedDomain;
   private DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private boolean authenticated = true;
+  private final List<String> deniedVerbs = new ArrayList<>();
+  private int numAccessReviews;
+  private final ScheduledExecutorStub scaleExecutor = ScheduledExecutorStub.create();
+  private Memento domainRetrieverMemento;
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<Runnable> restServerTasks = new ArrayList<>();
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -71,27 +102,41 @@ public class RestBackendImplTest {
    */
   @Before
   public void setUp() throws Exception {
-    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger()
+          .ignoringLoggedExceptions(WebApplicationException.class));
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(domainRetrieverMemento =
+        StaticStubSupport.install(RestBackendImpl.class, "DOMAIN_RETRIEVER", new DomainRetrieverStub()));
+    mementos.add(
+        StaticStubSupport.install(ScaleRequestPipeline.class, "INSTANCE",
+            new ScaleRequestPipeline(scaleExecutor, RestBackendImpl::applyScale)));
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
     testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
-    restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
+    restBackend = new RestBackendImpl(
+        "", "", Collections.singletonList(NS), testSupport.getEngine(), restServerTasks::add);
 
     setupScanCache();
   }
 
+  // reviews the accesses needed by a test which calls the backend directly, as runAuthorized would
+  private void authorize(String domainUid, Operation operation) {
+    testSupport.runSteps(getAuthorizationStep(domainUid, operation));
+  }
+
   private void authenticate(V1TokenReview tokenReview) {
-    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
+    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(authenticated).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
-    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
+    numAccessReviews++;
+    boolean allowed = !deniedVerbs.contains(subjectAccessReview.getSpec().getResourceAttributes().getVerb());
+    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(allowed));
   }
 
   /**
@@ -104,18 +149,66 @@ public class RestBackendImplTest {
     }
   }
 
+  @Test
+  public void whenNamespaceOwnedByAnotherReplica_findNoDomains() throws NoSuchFieldException {
+    authorize(null, Operation.list);
+    useDomainCache(new ConcurrentHashMap<>());
+
+    assertThat(restBackend.getDomainUids(), empty());
+    assertThat(restBackend.isDomainUid(NAME2), is(false));
+  }
+
+  @Test
+  public void whenOwnedNamespaceHasNoDomains_findNoDomains() throws NoSuchFieldException {
+    authorize(null, Operation.list);
+    useDomainCache(new ConcurrentHashMap<>(), NS);
+
+    assertThat(restBackend.getDomainUids(), empty());
+  }
+
+  @Test
+  public void whenNamespaceOwned_findCachedDomains() throws NoSuchFieldException {
+    authorize(null, Operation.list);
+    Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+    domains.computeIfAbsent(NS, ns -> new ConcurrentHashMap<>()).put(NAME1, new DomainPresenceInfo(domain));
+    useDomainCache(domains, NS);
+
+    assertThat(restBackend.getDomainUids(), contains(NAME1));
+    assertThat(restBackend.isDomainUid(NAME1), is(true));
+  }
+
+  // answers queries from the operator's own domain cache, which no listing from Kubernetes can fill
+  private void useDomainCache(Map<String, Map<String, DomainPresenceInfo>> domains, String... ownedNamespaces)
+      throws NoSuchFieldException {
+    domainRetrieverMemento.revert();
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS_BY_UID", indexByUid(domains)));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "OWNED_NAMESPACES",
+        new HashSet<>(Arrays.asList(ownedNamespaces))));
+  }
+
+  private Map<String, Map<String, DomainPresenceInfo>> indexByUid(
+      Map<String, Map<String, DomainPresenceInfo>> domains) {
+    Map<String, Map<String, DomainPresenceInfo>> index = new ConcurrentHashMap<>();
+    domains.forEach((ns, infos) -> infos.forEach(
+        (uid, info) -> index.computeIfAbsent(uid, k -> new ConcurrentHashMap<>()).put(ns, info)));
+    return index;
+  }
+
   @Test(expected = WebApplicationException.class)
   public void whenNegativeScaleSpecified_throwException() {
     restBackend.scaleCluster(NAME1, "cluster1", -1);
   }
 
   @Test
-  public void whenPerClusterReplicaSettingMatchesScaleRequest_doNothing() {
+  public void whenCachedReplicaSettingMatchesScaleRequest_patchDomainAnyway() {
+    authorize(NAME1, Operation.update);
     configureCluster("cluster1").withReplicas(5);
 
     restBackend.scaleCluster(NAME1, "cluster1", 5);
+    scaleExecutor.runScheduled();
 
-    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
   private Domain getUpdatedDomain() {
@@ -128,37 +221,226 @@ public class RestBackendImplTest {
 
   @Test
   public void whenPerClusterReplicaSetting_scaleClusterUpdatesSetting() {
+    authorize(NAME1, Operation.update);
     configureCluster("cluster1").withReplicas(1);
 
     restBackend.scaleCluster(NAME1, "cluster1", 5);
+    scaleExecutor.runScheduled();
 
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
   @Test
-  @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
+    authorize(NAME1, Operation.update);
     restBackend.scaleCluster(NAME1, "cluster1", 5);
+    scaleExecutor.runScheduled();
 
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
   @Test
-  public void whenNoPerClusterReplicaSettingAndDefaultMatchesRequest_doNothing() {
+  public void whenNoPerClusterReplicaSettingAndDefaultMatchesRequest_patchDomainAnyway() {
+    authorize(NAME1, Operation.update);
     configureDomain().withDefaultReplicaCount(REPLICA_LIMIT);
 
     restBackend.scaleCluster(NAME1, "cluster1", REPLICA_LIMIT);
+    scaleExecutor.runScheduled();
 
-    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(REPLICA_LIMIT));
   }
 
-  @Test(expected = WebApplicationException.class)
-  public void whenReplaceDomainReturnsError_scaleClusterThrowsException() {
+  @Test
+  public void whenReplaceDomainReturnsError_logScaleFailure() {
+    authorize(NAME2, Operation.update);
+    consoleControl.collectLogMessages(logRecords, SCALE_REQUEST_FAILED);
     testSupport.failOnResource(DOMAIN, NAME2, NS, HTTP_CONFLICT);
 
     DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
 
     restBackend.scaleCluster(NAME2, "cluster1", 3);
+    scaleExecutor.runScheduled();
+
+    assertThat(logRecords, containsWarning(SCALE_REQUEST_FAILED));
+  }
+
+  @Test
+  public void scaleCluster_doesNotUpdateDomainBeforeRequestApplied() {
+    authorize(NAME1, Operation.update);
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(restBackend.getScaleStatus(NAME1, "cluster1", null).getPendingManagedServerCount(), equalTo(5));
+  }
+
+  @Test
+  public void afterScaleRequestApplied_statusReportsItApplied() {
+    authorize(NAME1, Operation.update);
+    configureCluster("cluster1").withReplicas(1);
+
+    long request = restBackend.scaleCluster(NAME1, "cluster1", 5);
+    scaleExecutor.runScheduled();
+
+    assertThat(restBackend.getScaleStatus(NAME1, "cluster1", request).getRequestState(), equalTo(APPLIED));
+  }
+
+  @Test
+  public void whenScaleRequestFails_statusReportsItFailed() {
+    consoleControl.ignoreMessage(SCALE_REQUEST_FAILED);
+    authorize(NAME2, Operation.update);
+    testSupport.failOnResource(DOMAIN, NAME2, NS, HTTP_CONFLICT);
+    DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
+
+    long request = restBackend.scaleCluster(NAME2, "cluster1", 3);
+    scaleExecutor.runScheduled();
+
+    assertThat(restBackend.getScaleStatus(NAME2, "cluster1", request).getRequestState(), equalTo(FAILED));
+  }
+
+  @Test
+  public void whenSeveralScaleRequestsAccepted_applyOnlyTheLast() {
+    authorize(NAME1, Operation.update);
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+    scaleExecutor.runScheduled();
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+  }
+
+  @Test
+  public void getDomainUids_returnsCachedDomainsInTargetNamespaces() {
+    authorize(null, Operation.list);
+    cachedDomains.add(createDomain("other", "domain3"));
+
+    assertThat(restBackend.getDomainUids(), contains(NAME1, NAME2));
+  }
+
+  @Test
+  public void whenDomainCachedOnlyInOtherNamespace_isNotDomainUid() {
+    authorize(null, Operation.list);
+    cachedDomains.add(createDomain("other", "domain3"));
+
+    assertThat(restBackend.isDomainUid("domain3"), is(false));
+  }
+
+  @Test
+  public void whenDomainCached_isDomainUid() {
+    authorize(null, Operation.list);
+    assertThat(restBackend.isDomainUid(NAME2), is(true));
+  }
+
+  @Test(expected = WebApplicationException.class)
+  public void whenDomainNotCached_scaleClusterThrowsException() {
+    cachedDomains.remove(domain);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+  }
+
+  @Test
+  public void whenTokenNotAuthenticated_authorizationStepFailsWithUnauthorized() {
+    authenticated = false;
+
+    testSupport.runSteps(getAuthorizationStep(null, Operation.list));
+
+    testSupport.verifyCompletionThrowable(WebApplicationException.class);
+  }
+
+  private Step getAuthorizationStep(String domainUid, Operation operation) {
+    return ((RestBackendImpl) restBackend).createAuthorizationStep(domainUid, operation, null);
+  }
+
+  @Test
+  public void afterAuthorizationStep_scaleClusterMakesNoMoreAccessReviews() {
+    configureCluster("cluster1").withReplicas(1);
+    authorize(NAME1, Operation.update);
+    int numReviewsBeforeScaling = numAccessReviews;
+
+    restBackend.isCluster(NAME1, "cluster1");
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(numAccessReviews, equalTo(numReviewsBeforeScaling));
+  }
+
+  @Test
+  public void whenAccessDeniedByAuthorizationStep_operationIsForbidden() {
+    deniedVerbs.add("list");
+    testSupport.runSteps(getAuthorizationStep(null, Operation.list));
+
+    try {
+      restBackend.getDomainUids();
+      fail("getDomainUids did not fail");
+    } catch (WebApplicationException e) {
+      assertThat(e.getResponse().getStatus(), equalTo(HTTP_FORBIDDEN));
+    }
+  }
+
+  @Test
+  public void runAuthorized_runsActionAfterAuthorization() {
+    List<String> results = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+
+    restBackend.runAuthorized(null, Operation.list, () -> results.addAll(restBackend.getDomainUids()), failures::add);
+    runRestServerTasks();
+
+    assertThat(failures, empty());
+    assertThat(results, contains(NAME1, NAME2));
+  }
+
+  // runs the tasks which the backend handed off to the REST server's executor
+  private void runRestServerTasks() {
+    new ArrayList<>(restServerTasks).forEach(Runnable::run);
+    restServerTasks.clear();
+  }
+
+  @Test
+  public void runAuthorized_doesNotRunActionOnEngineThread() {
+    List<String> results = new ArrayList<>();
+
+    restBackend.runAuthorized(null, Operation.list, () -> results.addAll(restBackend.getDomainUids()), t -> { });
+
+    assertThat(results, empty());
+    assertThat(restServerTasks, hasSize(1));
+  }
+
+  @Test
+  public void whenActionFails_runAuthorizedReportsFailure() {
+    List<Throwable> failures = new ArrayList<>();
+
+    restBackend.runAuthorized(
+        NAME1, Operation.update, () -> restBackend.scaleCluster(NAME1, "cluster1", -1), failures::add);
+    runRestServerTasks();
+
+    assertThat(failures.get(0), instanceOf(WebApplicationException.class));
+  }
+
+  @Test
+  public void whenTokenNotAuthenticated_runAuthorizedReportsFailure() {
+    List<Throwable> failures = new ArrayList<>();
+    authenticated = false;
+
+    restBackend.runAuthorized(null, Operation.list, () -> fail("action was run"), failures::add);
+    assertThat(failures, empty());
+    runRestServerTasks();
+
+    assertThat(failures.get(0), instanceOf(WebApplicationException.class));
+  }
+
+  @Test
+  public void whenAccessNotReviewed_operationIsForbiddenWithoutFurtherReviews() {
+    authorize(null, Operation.list);
+    int numReviewsBeforeScaling = numAccessReviews;
+
+    try {
+      restBackend.scaleCluster(NAME1, "cluster1", 3);
+      fail("scaleCluster did not fail");
+    } catch (WebApplicationException e) {
+      assertThat(e.getResponse().getStatus(), equalTo(HTTP_FORBIDDEN));
+    }
+    assertThat(numAccessReviews, equalTo(numReviewsBeforeScaling));
   }
 
   @Test
@@ -193,6 +475,23 @@ public class RestBackendImplTest {
     config = configSupport.createDomainConfig();
   }
 
+  private class DomainRetrieverStub implements DomainRetriever {
+    @Override
+    public List<Domain> getDomains(Collection<String> namespaces) {
+      return cachedDomains.stream()
+          .filter(d -> namespaces.contains(d.getMetadata().getNamespace()))
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public Domain getDomain(String domainUid, Collection<String> namespaces) {
+      return getDomains(namespaces).stream()
+          .filter(d -> domainUid.equals(d.getDomainUid()))
+          .findFirst()
+          .orElse(null);
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
@@ -11,11 +11,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -23,11 +25,14 @@ import javax.ws.rs.core.Response;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
-import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.TestProperties;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
 import org.glassfish.jersey.test.spi.TestContainerException;
 import org.glassfish.jersey.test.spi.TestContainerFactory;
 import org.hamcrest.Description;
@@ -38,10 +43,12 @@ import org.junit.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -83,6 +90,7 @@ public class RestTest extends JerseyTest {
 
   @Override
   protected Application configure() {
+    forceSet(TestProperties.CONTAINER_PORT, "0");
     return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend));
   }
 
@@ -93,9 +101,10 @@ public class RestTest extends JerseyTest {
     return restBackend;
   }
 
+  // The resources suspend their responses, which requires a real container
   @Override
   protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
-    return new InMemoryTestContainerFactory();
+    return new GrizzlyTestContainerFactory();
   }
 
   @Test
@@ -134,7 +143,11 @@ public class RestTest extends JerseyTest {
   }
 
   private Invocation.Builder createRequest(String href) {
-    Invocation.Builder request = target(href).request();
+    return createRequest(target(href));
+  }
+
+  private Invocation.Builder createRequest(WebTarget target) {
+    Invocation.Builder request = target.request();
     if (authorizationHeader != null) {
       request.header(HttpHeaders.AUTHORIZATION, authorizationHeader);
     }
@@ -276,6 +289,43 @@ public class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  public void scaleRequest_isAcceptedWithLocationOfScaleResource() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    Response response = sendScaleRequest("cluster1", 3);
+
+    assertThat(response.getStatus(), equalTo(HTTP_ACCEPTED));
+    assertThat(response.getLocation().toString(), endsWith(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale?request=1"));
+  }
+
+  @Test
+  public void scaleRequestLocation_returnsStateOfRequest() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    Response response = sendScaleRequest("cluster1", 3);
+
+    Map result = new Gson().fromJson(
+        createRequest(client().target(response.getLocation())).get(String.class), Map.class);
+
+    assertThat(result, hasJsonPath("$.request", equalTo(1.0)));
+    assertThat(result, hasJsonPath("$.requestState", equalTo("Applied")));
+  }
+
+  @Test
+  public void scaleEndPoint_returnsScaleStatusAndLinks() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    sendScaleRequest("cluster1", 3);
+
+    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale");
+
+    assertThat(result, hasJsonPath("$.cluster", equalTo("cluster1")));
+    assertThat(result, hasJsonPath("$.pendingManagedServerCount", equalTo(3.0)));
+    assertThat(
+        result,
+        hasJsonPath(
+            "$.links[?(@.rel=='self')].href", withValues(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale")));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
@@ -386,6 +436,7 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private long numScaleRequests;
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -399,6 +450,16 @@ public class RestTest extends JerseyTest {
           .orElse(0);
     }
 
+    @Override
+    public void runAuthorized(
+        String domainUid, Operation operation, Runnable action, Consumer<Throwable> onFailure) {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        onFailure.accept(e);
+      }
+    }
+
     @Override
     public Set<String> getDomainUids() {
       return domainClusters.keySet();
@@ -422,8 +483,20 @@ public class RestTest extends JerseyTest {
     }
 
     @Override
-    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+    public long scaleCluster(String domainUid, String cluster, int managedServerCount) {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
+      return ++numScaleRequests;
+    }
+
+    @Override
+    public ScaleClusterStatusModel getScaleStatus(String domainUid, String cluster, Long request) {
+      ScaleClusterStatusModel status = new ScaleClusterStatusModel(cluster);
+      getClusterStateStream(domainUid, cluster).forEach(cs -> status.setPendingManagedServerCount(cs.getScale()));
+      if (request != null && request <= numScaleRequests) {
+        status.setRequest(request);
+        status.setRequestState(ScaleClusterStatusModel.APPLIED);
+      }
+      return status;
     }
 
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
@@ -0,0 +1,254 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.SCALE_REQUEST_APPLIED;
+import static oracle.kubernetes.operator.logging.MessageKeys.SCALE_REQUEST_FAILED;
+import static oracle.kubernetes.operator.rest.ScaleRequestPipeline.RESULT_TTL_SECONDS;
+import static oracle.kubernetes.operator.rest.ScaleRequestPipeline.WINDOW_PARAM;
+import static oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel.APPLIED;
+import static oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel.FAILED;
+import static oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel.PENDING;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ScaleRequestPipelineTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final ScheduledExecutorStub executor = ScheduledExecutorStub.create();
+  private final List<String> applied = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+  private RuntimeException failure;
+  private Runnable onApply;
+  private final ScaleRequestPipeline pipeline = new ScaleRequestPipeline(executor, this::apply);
+
+  private void apply(String namespace, String domainUid, String cluster, int replicas) {
+    if (onApply != null) {
+      Runnable action = onApply;
+      onApply = null;
+      action.run();
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    applied.add(cluster + "=" + replicas);
+  }
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, SCALE_REQUEST_FAILED));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whenRequestSubmitted_scheduleItAfterDefaultWindow() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+
+    assertThat(executor.getDelaysInSeconds(), contains(2L));
+    assertThat(applied, empty());
+  }
+
+  @Test
+  public void whenWindowConfigured_scheduleRequestAfterIt() {
+    TuningParameters.getInstance().put(WINDOW_PARAM, "5");
+
+    pipeline.submit(NS, UID, "cluster1", 3);
+
+    assertThat(executor.getDelaysInSeconds(), contains(5L));
+  }
+
+  @Test
+  public void whenScheduledRequestRuns_applyIt() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+
+    executor.runScheduled();
+
+    assertThat(applied, contains("cluster1=3"));
+  }
+
+  @Test
+  public void whenRequestsForSameClusterSubmittedWithinWindow_applyOnlyTheLast() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    pipeline.submit(NS, UID, "cluster1", 5);
+    pipeline.submit(NS, UID, "cluster1", 4);
+
+    executor.runScheduled();
+
+    assertThat(executor.getNumScheduled(), equalTo(0));
+    assertThat(applied, contains("cluster1=4"));
+  }
+
+  @Test
+  public void whenRequestsForDifferentClustersSubmitted_applyEach() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    pipeline.submit(NS, UID, "cluster2", 5);
+
+    executor.runScheduled();
+
+    assertThat(applied, contains("cluster1=3", "cluster2=5"));
+  }
+
+  @Test
+  public void whenRequestSubmittedAfterApply_scheduleItAgain() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    executor.runScheduled();
+
+    pipeline.submit(NS, UID, "cluster1", 5);
+    executor.runScheduled();
+
+    assertThat(applied, contains("cluster1=3", "cluster1=5"));
+  }
+
+  @Test
+  public void whileRequestPending_statusReportsIt() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    pipeline.submit(NS, UID, "cluster1", 5);
+
+    ScaleClusterStatusModel status = pipeline.getStatus(NS, UID, "cluster1", null);
+
+    assertThat(status.getPendingManagedServerCount(), equalTo(5));
+    assertThat(status.getAccepted(), equalTo(2L));
+    assertThat(status.getCoalesced(), equalTo(1L));
+  }
+
+  @Test
+  public void afterRequestApplied_forgetCluster() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    pipeline.submit(NS, UID, "cluster1", 5);
+    executor.runScheduled();
+
+    ScaleClusterStatusModel status = pipeline.getStatus(NS, UID, "cluster1", null);
+
+    assertThat(status.getPendingManagedServerCount(), nullValue());
+    assertThat(status.getAccepted(), equalTo(0L));
+  }
+
+  @Test
+  public void whenApplyFails_logFailureAndForgetCluster() {
+    failure = new IllegalStateException("no domain");
+    pipeline.submit(NS, UID, "cluster1", 3);
+
+    executor.runScheduled();
+
+    assertThat(logRecords, containsWarning(SCALE_REQUEST_FAILED));
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", null).getAccepted(), equalTo(0L));
+  }
+
+  @Test
+  public void whenRequestSubmittedWhileApplying_keepClusterAndScheduleRequest() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    onApply = () -> pipeline.submit(NS, UID, "cluster1", 5);
+
+    executor.runScheduled();
+
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", null).getPendingManagedServerCount(), equalTo(5));
+    assertThat(executor.getNumScheduled(), equalTo(1));
+  }
+
+  @Test
+  public void whileRequestPending_statusReportsItPending() {
+    long request = pipeline.submit(NS, UID, "cluster1", 3);
+
+    ScaleClusterStatusModel status = pipeline.getStatus(NS, UID, "cluster1", request);
+
+    assertThat(status.getRequest(), equalTo(request));
+    assertThat(status.getRequestState(), equalTo(PENDING));
+  }
+
+  @Test
+  public void afterRequestApplied_statusReportsItApplied() {
+    long request = pipeline.submit(NS, UID, "cluster1", 3);
+    executor.runScheduled();
+
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", request).getRequestState(), equalTo(APPLIED));
+  }
+
+  @Test
+  public void afterRequestsCoalesced_statusReportsEachApplied() {
+    long first = pipeline.submit(NS, UID, "cluster1", 3);
+    long last = pipeline.submit(NS, UID, "cluster1", 5);
+    executor.runScheduled();
+
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", first).getRequestState(), equalTo(APPLIED));
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", last).getRequestState(), equalTo(APPLIED));
+  }
+
+  @Test
+  public void whenApplyFails_statusReportsRequestFailedWithReason() {
+    consoleControl.ignoreMessage(SCALE_REQUEST_FAILED);
+    failure = new IllegalStateException("no domain");
+    long request = pipeline.submit(NS, UID, "cluster1", 3);
+    executor.runScheduled();
+
+    ScaleClusterStatusModel status = pipeline.getStatus(NS, UID, "cluster1", request);
+
+    assertThat(status.getRequestState(), equalTo(FAILED));
+    assertThat(status.getFailure(), equalTo("no domain"));
+  }
+
+  @Test
+  public void afterResultExpires_statusDoesNotReportRequestState() {
+    long request = pipeline.submit(NS, UID, "cluster1", 3);
+    executor.runScheduled();
+
+    for (int i = 0; i < RESULT_TTL_SECONDS; i++) {
+      SystemClockTestSupport.increment();
+    }
+
+    assertThat(pipeline.getStatus(NS, UID, "cluster1", request).getRequestState(), nullValue());
+  }
+
+  @Test
+  public void whenRequestApplied_logItWithCounters() {
+    consoleControl.collectLogMessages(logRecords, SCALE_REQUEST_APPLIED);
+    pipeline.submit(NS, UID, "cluster1", 3);
+
+    executor.runScheduled();
+
+    assertThat(logRecords, containsInfo(SCALE_REQUEST_APPLIED));
+  }
+
+  @Test
+  public void metrics_countRequestsForAllClusters() {
+    pipeline.submit(NS, UID, "cluster1", 3);
+    pipeline.submit(NS, UID, "cluster1", 4);
+    pipeline.submit(NS, UID, "cluster2", 5);
+    executor.runScheduled();
+
+    assertThat(pipeline.getMetrics(), equalTo("accepted=3, coalesced=1, applied=2"));
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+
+/** An executor which holds scheduled tasks until a test runs them. */
+abstract class ScheduledExecutorStub implements ScheduledExecutorService {
+  private final List<Runnable> scheduled = new ArrayList<>();
+  private final List<Long> delaysInSeconds = new ArrayList<>();
+
+  static ScheduledExecutorStub create() {
+    return createStrictStub(ScheduledExecutorStub.class);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    scheduled.add(command);
+    delaysInSeconds.add(unit.toSeconds(delay));
+    return createStub(ScheduledFuture.class);
+  }
+
+  List<Long> getDelaysInSeconds() {
+    return delaysInSeconds;
+  }
+
+  int getNumScheduled() {
+    return scheduled.size();
+  }
+
+  void runScheduled() {
+    List<Runnable> toRun = new ArrayList<>(scheduled);
+    scheduled.clear();
+    toRun.forEach(Runnable::run);
+  }
+}
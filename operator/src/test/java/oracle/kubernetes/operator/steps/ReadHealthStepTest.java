@@ -39,6 +39,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.WLS_HEALTH_READ_FAI
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class ReadHealthStepTest {
   static final String OK_RESPONSE =
@@ -216,7 +217,55 @@ public class ReadHealthStepTest {
     assertThat(serverStateMap.get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void withHttpClientStep_whenResponseUnchanged_reuseParsedHealth() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+    httpClientStub.withResponse(OK_RESPONSE);
+    ServerHealth firstHealth = readServerHealth(info);
+
+    ServerHealth secondHealth = readServerHealth(info);
+
+    assertThat(secondHealth, sameInstance(firstHealth));
+  }
+
+  @Test
+  public void withHttpClientStep_whenResponseChanged_parseNewHealth() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+    httpClientStub.withResponse(OK_RESPONSE);
+    readServerHealth(info);
+
+    httpClientStub.withResponse(OK_RESPONSE.replace("\"ok\"", "\"warn\""));
+    ServerHealth health = readServerHealth(info);
+
+    assertThat(health.getOverallHealth(), is("warn"));
+  }
+
+  @Test
+  public void withHttpClientStep_whenResponseUnchanged_reportParsedState() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+    httpClientStub.withResponse(OK_RESPONSE);
+    readServerHealth(info);
+
+    Packet packet = createPacketForTest(info);
+    withHttpClientStep.apply(packet);
+
+    Map<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP);
+    assertThat(serverStateMap.get(MANAGED_SERVER1), is("RUNNING"));
+  }
+
+  private ServerHealth readServerHealth(DomainPresenceInfo info) {
+    Packet packet = createPacketForTest(info);
+    withHttpClientStep.apply(packet);
+
+    Map<String, ServerHealth> serverHealthMap = packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    return serverHealthMap.get(MANAGED_SERVER1);
+  }
+
   Packet createPacketForTest() {
+    return createPacketForTest(new DomainPresenceInfo(NAMESPACE, DOMAIN_UID));
+  }
+
+  Packet createPacketForTest(DomainPresenceInfo info) {
     Packet packet =
         Stub.createStub(PacketStub.class)
             .withServerName(MANAGED_SERVER1)
@@ -229,8 +278,7 @@ public class ReadHealthStepTest {
         .getComponents()
         .put(
             ProcessingConstants.DOMAIN_COMPONENT_NAME,
-            Component.createFor(
-                new DomainPresenceInfo(NAMESPACE, DOMAIN_UID), KubernetesVersion.TEST_VERSION));
+            Component.createFor(info, KubernetesVersion.TEST_VERSION));
 
     return packet;
   }
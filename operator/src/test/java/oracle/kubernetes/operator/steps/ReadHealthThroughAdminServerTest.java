@@ -0,0 +1,246 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.http.WebLogicRestServerStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.work.Deadline;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD;
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME;
+import static oracle.kubernetes.operator.logging.MessageKeys.WLS_BULK_HEALTH_READ_FAILED;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class ReadHealthThroughAdminServerTest {
+  private static final String ADMIN_NAME = "admin-server";
+  private static final String[] MANAGED_SERVER_NAMES = {"ms1", "ms2"};
+  private static final int TIMEOUT_SECONDS = 1;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final WebLogicRestServerStub restServer = new WebLogicRestServerStub();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(createTestDomain());
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, WLS_BULK_HEALTH_READ_FAILED));
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParameters.getInstance().put(ReadHealthStep.BULK_READ_PARAM, "true");
+    testSupport.defineResources(createSecret());
+
+    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("domain").withAdminServerName(ADMIN_NAME);
+    configSupport.addWlsServer(ADMIN_NAME, restServer.getPort());
+    defineServer(ADMIN_NAME);
+    for (String serverName : MANAGED_SERVER_NAMES) {
+      configSupport.addWlsServer(serverName, restServer.getPort());
+      defineServer(serverName);
+    }
+
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+    testSupport.addToPacket(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
+    testSupport.addToPacket(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
+    testSupport.addToPacket(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(3));
+  }
+
+  private V1Secret createSecret() {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().name(SECRET_NAME).namespace(NS))
+        .putDataItem(ADMIN_SERVER_CREDENTIALS_USERNAME, "user".getBytes())
+        .putDataItem(ADMIN_SERVER_CREDENTIALS_PASSWORD, "password".getBytes());
+  }
+
+  private void defineServer(String serverName) throws Exception {
+    ServiceHelper.addToPresence(info, new V1Service()
+        .metadata(new V1ObjectMeta().name(serverName).namespace(NS)
+            .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true").putLabelsItem(SERVERNAME_LABEL, serverName))
+        .spec(new V1ServiceSpec().clusterIP("127.0.0.1")
+            .addPortsItem(new V1ServicePort().name("default").port(restServer.getPort()))));
+    info.setServerPod(serverName, new V1Pod()
+        .metadata(new V1ObjectMeta().name(serverName).namespace(NS))
+        .status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+  }
+
+  /**
+   * Tear down test.
+   * @throws Exception on failure
+   */
+  @After
+  public void tearDown() throws Exception {
+    restServer.shutDown();
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenParameterSet_bulkReadIsEnabled() {
+    assertThat(ReadHealthStep.isBulkReadEnabled(), is(true));
+  }
+
+  @Test
+  public void whenParameterFalse_bulkReadIsNotEnabled() {
+    TuningParameters.getInstance().put(ReadHealthStep.BULK_READ_PARAM, "false");
+
+    assertThat(ReadHealthStep.isBulkReadEnabled(), is(false));
+  }
+
+  @Test
+  public void whenAdminServerReportsAllServers_readHealthOnlyFromAdminServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING")
+        .withServerHealth("ms2", "ADMIN");
+
+    Packet packet = readAllServerHealth();
+
+    assertThat(restServer.getNumDomainSearches(), equalTo(1));
+    assertThat(restServer.getNumServerSearches(), equalTo(0));
+    assertThat(getServerState(packet, "ms2"), equalTo("ADMIN"));
+    assertThat(getServerHealth(packet, "ms1").getOverallHealth(), equalTo("ok"));
+  }
+
+  @Test
+  public void whenServerMissingFromAdminServerResponse_readItsHealthFromServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING");
+
+    Packet packet = readAllServerHealth();
+
+    assertThat(restServer.getNumServerSearches(), equalTo(1));
+    assertThat(getServerState(packet, "ms2"), equalTo("RUNNING"));
+  }
+
+  @Test
+  public void whenAdminServerSearchFails_readHealthFromEachServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withDomainSearchStatus(500);
+
+    Packet packet = readAllServerHealth();
+
+    assertThat(restServer.getNumServerSearches(), equalTo(3));
+    assertThat(getServerState(packet, ADMIN_NAME), equalTo("RUNNING"));
+    assertThat(logRecords, containsInfo(WLS_BULK_HEALTH_READ_FAILED));
+  }
+
+  @Test
+  public void whenAdminServerSearchTimesOut_readHealthFromEachServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING")
+        .withDomainSearchDelay(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS + 2));
+
+    Packet packet = readAllServerHealth();
+
+    assertThat(restServer.getNumServerSearches(), equalTo(3));
+    assertThat(getServerState(packet, "ms1"), equalTo("RUNNING"));
+    assertThat(logRecords, containsInfo(WLS_BULK_HEALTH_READ_FAILED));
+  }
+
+  @Test
+  public void whenNoTimeRemainsBeforeDeadline_readHealthFromEachServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING");
+    testSupport.addToPacket(Deadline.PACKET_KEY, createExpiredDeadline());
+
+    readAllServerHealth();
+
+    assertThat(restServer.getNumDomainSearches(), equalTo(0));
+    assertThat(restServer.getNumServerSearches(), equalTo(3));
+  }
+
+  private Deadline createExpiredDeadline() {
+    Packet packet = new Packet();
+    Deadline.set(packet, "test", 1);
+    SystemClockTestSupport.increment();
+    return Deadline.get(packet);
+  }
+
+  @Test
+  public void whenAdminPodNotReady_readHealthFromEachServer() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING");
+    info.getServerPod(ADMIN_NAME).getStatus().setConditions(null);
+
+    readAllServerHealth();
+
+    assertThat(restServer.getNumDomainSearches(), equalTo(0));
+    assertThat(restServer.getNumServerSearches(), equalTo(3));
+  }
+
+  @Test
+  public void whenAllHealthRead_noServersRemainToRead() {
+    restServer.withServerHealth(ADMIN_NAME, "RUNNING").withServerHealth("ms1", "RUNNING");
+
+    Packet packet = readAllServerHealth();
+
+    assertThat(((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(), is(0));
+  }
+
+  // Runs the bulk read, then the read for each server, as the domain status reader does
+  private Packet readAllServerHealth() {
+    Packet packet = testSupport.runSteps(ReadHealthStep.createBulkReadHealthStep(TIMEOUT_SECONDS, null));
+    readServerHealth(ADMIN_NAME);
+    for (String serverName : MANAGED_SERVER_NAMES) {
+      readServerHealth(serverName);
+    }
+    return packet;
+  }
+
+  private void readServerHealth(String serverName) {
+    testSupport.addToPacket(ProcessingConstants.SERVER_NAME, serverName);
+    testSupport.runSteps(ReadHealthStep.createReadHealthStep(null));
+  }
+
+  private String getServerState(Packet packet, String serverName) {
+    Map<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP);
+    return serverStateMap.get(serverName);
+  }
+
+  private ServerHealth getServerHealth(Packet packet, String serverName) {
+    Map<String, ServerHealth> serverHealthMap = packet.getValue(SERVER_HEALTH_MAP);
+    return serverHealthMap.get(serverName);
+  }
+}
@@ -0,0 +1,234 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.json.Json;
+import javax.json.JsonPatchBuilder;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.helpers.ConfigMapHelper.DomainTopology;
+
+/**
+ * Compares the serialization done while making a domain right, using serializers created for each
+ * call, as the operator did, and using the shared serializers of {@link Codecs}. Each round does
+ * the work of one make-right: it hashes the pod and service of each server, reads the health of
+ * each server, formats a JSON log line for each server, converts a status patch with an operation
+ * for each server, and reads the domain topology.
+ *
+ * <p>This is not a unit test. Run it with the test classpath:
+ * <pre>java -cp ... oracle.kubernetes.operator.utils.CodecBenchmark [servers] [rounds]</pre>
+ */
+public class CodecBenchmark {
+  private static final String HEALTH_JSON =
+      "{\"overallHealthState\":{\"state\":\"ok\",\"subsystemName\":null,\"symptoms\":[]},"
+          + "\"activationTime\":1556630391015,\"state\":\"RUNNING\"}";
+  private static final String TOPOLOGY_YAML =
+      "domainValid: true\n"
+          + "domain:\n"
+          + "  name: \"base_domain\"\n"
+          + "  adminServerName: \"admin-server\"\n"
+          + "  configuredClusters:\n"
+          + "  - name: \"cluster-1\"\n"
+          + "    servers:\n"
+          + "      - name: \"managed-server1\"\n"
+          + "        listenPort: 8001\n"
+          + "        listenAddress: \"domain1-managed-server1\"\n"
+          + "  servers:\n"
+          + "    - name: \"admin-server\"\n"
+          + "      listenPort: 7001\n"
+          + "      listenAddress: \"domain1-admin-server\"\n";
+
+  private final int servers;
+  private final int rounds;
+  private final List<V1Pod> pods;
+  private final List<V1Service> services;
+
+  private CodecBenchmark(int servers, int rounds) {
+    this.servers = servers;
+    this.rounds = rounds;
+    pods = IntStream.range(0, servers).mapToObj(this::createPod).collect(Collectors.toList());
+    services = IntStream.range(0, servers).mapToObj(this::createService).collect(Collectors.toList());
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of servers per domain and the number of rounds to time
+   * @throws IOException if the test data cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    int servers = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    CodecBenchmark benchmark = new CodecBenchmark(servers, rounds);
+
+    for (int i = 0; i < 3; i++) {
+      benchmark.measure("per-call", new PerCallCodec());
+      benchmark.measure("shared", new SharedCodec());
+    }
+  }
+
+  private void measure(String name, BenchmarkCodec codec) throws IOException {
+    long startBytes = getAllocatedBytes();
+    long startNanos = System.nanoTime();
+    long checksum = 0;
+    for (int i = 0; i < rounds; i++) {
+      checksum += runRound(codec);
+    }
+    long nanos = System.nanoTime() - startNanos;
+    long bytes = getAllocatedBytes() - startBytes;
+
+    System.out.printf("%-10s %10.1f us/make-right %12d bytes/make-right (checksum %d)%n",
+        name, (double) nanos / rounds / 1000, bytes / rounds, checksum);
+  }
+
+  private long runRound(BenchmarkCodec codec) throws IOException {
+    long checksum = 0;
+    JsonPatchBuilder patch = Json.createPatchBuilder();
+    for (int i = 0; i < servers; i++) {
+      checksum += codec.toYaml(pods.get(i)).length();
+      checksum += codec.toYaml(services.get(i)).length();
+      checksum += codec.readTree(HEALTH_JSON).path("state").asText().length();
+      checksum += codec.writeLogLine(createLogRecord(i)).length();
+      patch.replace("/status/servers/" + i + "/state", "RUNNING");
+    }
+    checksum += codec.toKubernetesPatch(patch.build().toJsonArray()).size();
+    checksum += codec.readTopology(TOPOLOGY_YAML).getDomain().getServers().size();
+    return checksum;
+  }
+
+  private Map<String, Object> createLogRecord(int i) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("timestamp", "01-01-2020T00:00:00.000+0000");
+    map.put("thread", 12);
+    map.put("domainUID", "domain1");
+    map.put("level", "INFO");
+    map.put("message", "Server managed-server" + i + " is running");
+    return map;
+  }
+
+  private V1Pod createPod(int i) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("domain1-managed-server" + i).namespace("ns1")
+            .putLabelsItem("weblogic.domainUID", "domain1")
+            .putLabelsItem("weblogic.serverName", "managed-server" + i)
+            .putAnnotationsItem("prometheus.io/port", "8001"))
+        .spec(new V1PodSpec().addContainersItem(
+            new V1Container().name("weblogic-server").image("container-registry.oracle.com/weblogic:12.2.1.4")
+                .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+                .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))));
+  }
+
+  private V1Service createService(int i) {
+    return new V1Service()
+        .metadata(new V1ObjectMeta().name("domain1-managed-server" + i).namespace("ns1")
+            .putLabelsItem("weblogic.domainUID", "domain1"))
+        .spec(new V1ServiceSpec().clusterIP("None").putSelectorItem("weblogic.serverName", "managed-server" + i)
+            .addPortsItem(new V1ServicePort().name("default").port(8001).protocol("TCP")));
+  }
+
+  private static long getAllocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  interface BenchmarkCodec {
+    String toYaml(Object object);
+
+    JsonNode readTree(String json) throws IOException;
+
+    String writeLogLine(Map<String, Object> record) throws IOException;
+
+    List<JsonObject> toKubernetesPatch(JsonValue patch);
+
+    DomainTopology readTopology(String yaml) throws IOException;
+  }
+
+  // Creates a serializer for each call, and converts patches by writing and parsing their text
+  static class PerCallCodec implements BenchmarkCodec {
+    @Override
+    public String toYaml(Object object) {
+      return Yaml.dump(object);
+    }
+
+    @Override
+    public JsonNode readTree(String json) throws IOException {
+      return new ObjectMapper().readTree(json);
+    }
+
+    @Override
+    public String writeLogLine(Map<String, Object> record) throws IOException {
+      return new ObjectMapper().writeValueAsString(record);
+    }
+
+    @Override
+    public List<JsonObject> toKubernetesPatch(JsonValue patch) {
+      return patch.asJsonArray().stream()
+          .map(value -> new Gson().fromJson(value.toString(), JsonElement.class).getAsJsonObject())
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public DomainTopology readTopology(String yaml) throws IOException {
+      return new ObjectMapper(new YAMLFactory()).readValue(yaml, DomainTopology.class);
+    }
+  }
+
+  static class SharedCodec implements BenchmarkCodec {
+    private final ObjectReader topologyReader = Codecs.yamlReaderFor(DomainTopology.class);
+
+    @Override
+    public String toYaml(Object object) {
+      return Codecs.toKubernetesYaml(object);
+    }
+
+    @Override
+    public JsonNode readTree(String json) throws IOException {
+      return Codecs.getJsonTreeReader().readTree(json);
+    }
+
+    @Override
+    public String writeLogLine(Map<String, Object> record) throws IOException {
+      return Codecs.getJsonMapper().writeValueAsString(record);
+    }
+
+    @Override
+    public List<JsonObject> toKubernetesPatch(JsonValue patch) {
+      return patch.asJsonArray().stream()
+          .map(Codecs::toGson)
+          .map(JsonElement::getAsJsonObject)
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public DomainTopology readTopology(String yaml) throws IOException {
+      return topologyReader.readValue(yaml);
+    }
+  }
+}
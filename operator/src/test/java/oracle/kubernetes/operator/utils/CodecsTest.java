@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class CodecsTest {
+
+  @Test
+  public void convertJsonPatchValue_toEquivalentGsonTree() {
+    JsonValue value =
+        Json.createObjectBuilder()
+            .add("name", "server1")
+            .add("count", 27)
+            .add("ratio", 0.5)
+            .add("ready", true)
+            .add("failed", false)
+            .addNull("reason")
+            .add("ports", Json.createArrayBuilder().add(7001).add(Json.createObjectBuilder().add("tls", true)))
+            .build();
+
+    assertThat(Codecs.toGson(value), equalTo(parse(value.toString())));
+  }
+
+  @Test
+  public void convertJsonPatchValue_writesSameJsonAsParsedText() {
+    JsonValue value = Json.createPatchBuilder().replace("/status/replicas", 3).build().toJsonArray();
+
+    assertThat(Codecs.getGson().toJson(Codecs.toGson(value)), equalTo(value.toString()));
+  }
+
+  @Test
+  public void kubernetesYaml_isSameAsKubernetesClientYaml() {
+    V1Pod pod = createPod();
+
+    assertThat(Codecs.toKubernetesYaml(pod), equalTo(Yaml.dump(pod)));
+  }
+
+  @Test
+  public void writtenKubernetesYaml_isSameAsKubernetesClientYaml() {
+    V1Pod pod = createPod();
+    StringWriter writer = new StringWriter();
+
+    Codecs.writeKubernetesYaml(pod, writer);
+
+    assertThat(writer.toString(), equalTo(Yaml.dump(pod)));
+  }
+
+  @Test
+  public void jsonMapReader_readsObjectAsMap() throws Exception {
+    Map<String, Object> map = Codecs.getJsonMapReader().readValue("{\"name\":\"domain1\",\"servers\":{}}");
+
+    assertThat(map.get("name"), equalTo("domain1"));
+    assertThat(map.get("servers"), equalTo(Collections.emptyMap()));
+  }
+
+  @Test
+  public void yamlReader_readsType() throws Exception {
+    Item item = Codecs.yamlReaderFor(Item.class).readValue("name: item1\ncount: 2\n");
+
+    assertThat(item.name, equalTo("item1"));
+    assertThat(item.count, equalTo(2));
+  }
+
+  @Test
+  public void sharedInstances_areReused() {
+    assertThat(Codecs.getGson(), sameInstance(Codecs.getGson()));
+    assertThat(Codecs.getJsonMapper(), sameInstance(Codecs.getJsonMapper()));
+  }
+
+  private JsonElement parse(String json) {
+    return new JsonParser().parse(json);
+  }
+
+  private V1Pod createPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("server1").namespace("ns1").putLabelsItem("weblogic.domainUID", "uid1"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image("image:1")));
+  }
+
+  public static class Item {
+    public String name;
+    public int count;
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DeadlineTest {
+  private final Packet packet = new Packet();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    Deadline.resetMissCounts();
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+    Deadline.resetMissCounts();
+  }
+
+  @Test
+  public void whenNoTimeAllowed_setNoDeadline() {
+    Deadline.set(packet, "plan", 0);
+
+    assertThat(Deadline.get(packet), nullValue());
+  }
+
+  @Test
+  public void clonedPacket_sharesDeadline() {
+    Deadline.set(packet, "plan", 5);
+
+    assertThat(Deadline.get(packet.clone()), sameInstance(Deadline.get(packet)));
+  }
+
+  @Test
+  public void beforeDeadline_limitTimeoutToRemainingTime() {
+    Deadline.set(packet, "plan", 5);
+    SystemClockTestSupport.increment();
+
+    assertThat(Deadline.get(packet).limitSeconds(10), equalTo(4L));
+    assertThat(Deadline.get(packet).limitSeconds(2), equalTo(2L));
+  }
+
+  @Test
+  public void atDeadline_isExpired() {
+    Deadline.set(packet, "plan", 1);
+    SystemClockTestSupport.increment();
+
+    assertThat(Deadline.get(packet).isExpired(), is(true));
+  }
+
+  @Test
+  public void whenPlanMissesDeadlineRepeatedly_countOneMiss() {
+    Deadline.set(packet, "plan", 1);
+    SystemClockTestSupport.increment();
+
+    Deadline.get(packet).miss("first call");
+    Deadline.get(packet.clone()).miss("second call");
+
+    assertThat(Deadline.getMissCounts(), hasEntry("plan", 1L));
+  }
+
+  @Test
+  public void countMissesByPlanType() {
+    Packet other = new Packet();
+    Deadline.set(packet, "plan", 1);
+    Deadline.set(other, "other", 1);
+    SystemClockTestSupport.increment();
+
+    Deadline.get(packet).miss("call");
+    Deadline.get(other).miss("call");
+
+    assertThat(Deadline.getMissCounts(), equalTo(Map.of("other", 1L, "plan", 1L)));
+  }
+}
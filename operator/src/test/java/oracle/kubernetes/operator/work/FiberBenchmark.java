@@ -0,0 +1,136 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the fiber runtime on an engine with the operator's default thread pool.
+ * Each fiber runs a chain of steps in which every fourth step suspends the fiber and resumes it from
+ * the onExit callback, as an asynchronous call does when its response has already arrived. The time
+ * and the bytes allocated on all threads are reported per step.
+ *
+ * <p>This is not a unit test. Run it with the test classpath:
+ * <pre>java -cp ... oracle.kubernetes.operator.work.FiberBenchmark [fibers] [steps] [rounds]</pre>
+ */
+public class FiberBenchmark {
+  private static final int SUSPEND_INTERVAL = 4;
+
+  private final int fibers;
+  private final int steps;
+  private final int rounds;
+  private final Step chain;
+
+  private FiberBenchmark(int fibers, int steps, int rounds) {
+    this.fibers = fibers;
+    this.steps = steps;
+    this.rounds = rounds;
+    this.chain = createChain(steps);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of concurrent fibers, of steps per fiber and of rounds to time
+   * @throws InterruptedException if interrupted while waiting for the fibers
+   */
+  public static void main(String[] args) throws InterruptedException {
+    int fibers = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    int steps = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+    FiberBenchmark benchmark = new FiberBenchmark(fibers, steps, rounds);
+
+    ScheduledExecutorService executor = Engine.wrappedExecutorService("benchmark", null);
+    try {
+      Engine engine = new Engine(executor);
+      for (int i = 0; i < 3; i++) {
+        benchmark.measure(engine);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Step createChain(int steps) {
+    Step step = null;
+    for (int i = steps; i > 0; i--) {
+      step = i % SUSPEND_INTERVAL == 0 ? new SuspendingStep(step) : new PassStep(step);
+    }
+    return step;
+  }
+
+  private void measure(Engine engine) throws InterruptedException {
+    long startBytes = getAllocatedBytes();
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      runRound(engine);
+    }
+    long nanos = System.nanoTime() - startNanos;
+    long bytes = getAllocatedBytes() - startBytes;
+
+    long totalSteps = (long) fibers * steps * rounds;
+    System.out.printf("%8.0f steps/ms %8.1f ns/step %6d bytes/step%n",
+        totalSteps / (nanos / 1_000_000.0), (double) nanos / totalSteps, bytes / totalSteps);
+  }
+
+  private void runRound(Engine engine) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(fibers);
+    Fiber.CompletionCallback callback = new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        done.countDown();
+      }
+    };
+
+    for (int i = 0; i < fibers; i++) {
+      engine.createFiber().start(chain, new Packet(), callback);
+    }
+    if (!done.await(5, TimeUnit.MINUTES)) {
+      throw new IllegalStateException("fibers did not complete");
+    }
+  }
+
+  // Sums the bytes allocated by all live threads
+  private static long getAllocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      return 0;
+    }
+    long total = 0;
+    for (long bytes : ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(bean.getAllThreadIds())) {
+      total += Math.max(bytes, 0);
+    }
+    return total;
+  }
+
+  static class PassStep extends Step {
+    PassStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    SuspendingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> fiber.resume(packet));
+    }
+  }
+}
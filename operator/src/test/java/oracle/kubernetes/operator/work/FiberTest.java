@@ -0,0 +1,137 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberTest {
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<String> stepsRun = new ArrayList<>();
+  private final List<Packet> packetsSeen = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+    Fiber.setBreadCrumbsEnabled(false);
+  }
+
+  @Test
+  public void whenStepsReuseActions_runAllStepsInOrder() {
+    testSupport.runSteps(
+          new RecordingStep("a", new SuspendingStep(new RecordingStep("b", new RecordingStep("c", null)))));
+
+    assertThat(stepsRun, contains("a", "b", "c"));
+  }
+
+  @Test
+  public void whenStepPassesDifferentPacketToNext_nextStepReceivesFiberPacket() {
+    Packet packet = testSupport.runSteps(new ClonePacketStep(new RecordingStep("a", null)));
+
+    assertThat(packetsSeen.get(0), sameInstance(packet));
+  }
+
+  @Test
+  public void whenStepThrowsAfterCreatingAction_terminateFiber() {
+    testSupport.runSteps(new ThrowingStep(new RecordingStep("a", null)));
+
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+    assertThat(stepsRun, not(contains("a")));
+  }
+
+  @Test
+  public void whenStepAppliedOutsideFiber_returnNewAction() {
+    RecordingStep step = new RecordingStep("a", null);
+
+    assertThat(step.apply(new Packet()), not(nullValue()));
+    assertThat(step.apply(new Packet()), not(sameInstance(step.apply(new Packet()))));
+  }
+
+  @Test
+  public void whenBreadCrumbsEnabled_describeStepsRun() {
+    Fiber.setBreadCrumbsEnabled(true);
+    Fiber fiber = startSuspendedFiber();
+
+    assertThat(fiber.describe(), containsString("Recording"));
+  }
+
+  @Test
+  public void whenBreadCrumbsDisabled_describeOnlyCurrentStep() {
+    Fiber fiber = startSuspendedFiber();
+
+    assertThat(fiber.describe(), not(containsString("Recording")));
+  }
+
+  private Fiber startSuspendedFiber() {
+    Fiber fiber = testSupport.getEngine().createFiber();
+    fiber.start(new RecordingStep("a", new NeverResumedStep()), new Packet(), null);
+    return fiber;
+  }
+
+  class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name, Step next) {
+      super(next);
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      packetsSeen.add(packet);
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    SuspendingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> fiber.resume(packet));
+    }
+  }
+
+  static class NeverResumedStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  static class ClonePacketStep extends Step {
+    ClonePacketStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet.clone());
+    }
+  }
+
+  static class ThrowingStep extends Step {
+    ThrowingStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      doNext(packet);
+      throw new IllegalStateException();
+    }
+  }
+}
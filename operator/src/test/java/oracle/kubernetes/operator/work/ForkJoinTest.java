@@ -0,0 +1,264 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.work.ForkJoinPolicy.FailurePolicy;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.EXCEPTION;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ForkJoinTest {
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<String> stepsRun = new ArrayList<>();
+  private final List<Fiber> heldFibers = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, EXCEPTION)
+          .ignoringLoggedExceptions(IllegalStateException.class, TimeoutException.class));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void withDefaultPolicy_startAllChildrenAtOnce() {
+    testSupport.runSteps(new ForkJoinStep(ForkJoinPolicy.create(), "a", "b", "c"));
+
+    assertThat(heldFibers, hasSize(3));
+  }
+
+  @Test
+  public void withMaxParallelism_startOnlyThatManyChildren() {
+    testSupport.runSteps(new ForkJoinStep(ForkJoinPolicy.create().withMaxParallelism(2), "a", "b", "c"));
+
+    assertThat(heldFibers, hasSize(2));
+  }
+
+  @Test
+  public void withMaxParallelism_whenChildCompletes_startNextChild() {
+    testSupport.runSteps(new ForkJoinStep(ForkJoinPolicy.create().withMaxParallelism(2), "a", "b", "c"));
+
+    heldFibers.get(0).resume(new Packet());
+
+    assertThat(heldFibers, hasSize(3));
+  }
+
+  @Test
+  public void whenAllChildrenComplete_resumeParent() {
+    testSupport.runSteps(new ForkJoinStep(ForkJoinPolicy.create().withMaxParallelism(1), "a", "b"));
+
+    releaseAll();
+    releaseAll();
+
+    assertThat(stepsRun, contains("a", "b", "joined"));
+  }
+
+  @Test
+  public void whenNoChildren_resumeParent() {
+    testSupport.runSteps(new ForkJoinStep(ForkJoinPolicy.create()));
+
+    assertThat(stepsRun, contains("joined"));
+  }
+
+  @Test
+  public void whenChildrenFailWithCollectAll_runRemainingChildrenAndTerminateParent() {
+    testSupport.runSteps(
+          new ForkJoinStep(ForkJoinPolicy.create().withMaxParallelism(1), "fail", "fail", "a"));
+
+    releaseAll();
+
+    assertThat(stepsRun, contains("fail", "fail", "a"));
+    testSupport.verifyCompletionThrowable(Step.MultiThrowable.class);
+  }
+
+  @Test
+  public void whenChildFailsWithFailFast_startNoMoreChildrenAndTerminateParent() {
+    testSupport.runSteps(new ForkJoinStep(failFast().withMaxParallelism(1), "fail", "a"));
+
+    assertThat(stepsRun, contains("fail"));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenChildFailsWithFailFast_cancelRunningChildren() {
+    testSupport.runSteps(new ForkJoinStep(failFast(), "a", "fail"));
+
+    assertThat(heldFibers.get(0).isCancelled(), is(true));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenChildFailsWithContinue_logFailureAndResumeParent() {
+    testSupport.runSteps(
+          new ForkJoinStep(ForkJoinPolicy.create().withFailurePolicy(FailurePolicy.CONTINUE), "fail", "a"));
+
+    releaseAll();
+
+    assertThat(stepsRun, containsInAnyOrder("fail", "a", "joined"));
+    assertThat(logRecords, containsWarning(EXCEPTION));
+  }
+
+  @Test
+  public void whenChildPassesDeadline_cancelItAndTerminateParentWithTimeout() {
+    testSupport.runSteps(
+          new ForkJoinStep(ForkJoinPolicy.create().withChildTimeout(10, TimeUnit.SECONDS), "a"));
+
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(heldFibers.get(0).isCancelled(), is(true));
+    testSupport.verifyCompletionThrowable(TimeoutException.class);
+  }
+
+  @Test
+  public void whenChildCompletesBeforeDeadline_ignoreDeadline() {
+    testSupport.runSteps(
+          new ForkJoinStep(ForkJoinPolicy.create().withChildTimeout(10, TimeUnit.SECONDS), "a"));
+
+    releaseAll();
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(stepsRun, contains("a", "joined"));
+    assertThat(heldFibers.get(0).isCancelled(), is(false));
+  }
+
+  @Test
+  public void whenChildPassesDeadlineWithContinue_startNextChild() {
+    testSupport.runSteps(
+          new ForkJoinStep(
+                continuing().withMaxParallelism(1).withChildTimeout(10, TimeUnit.SECONDS), "a", "b"));
+
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(heldFibers, hasSize(2));
+    assertThat(logRecords, containsWarning(EXCEPTION));
+  }
+
+  @Test
+  public void whenChildFails_notifyFailureListener() {
+    List<Throwable> failures = new ArrayList<>();
+    testSupport.runSteps(
+          new ForkJoinStep(continuing().withChildFailureListener(failures::add), "fail", "a"));
+
+    releaseAll();
+
+    assertThat(failures, contains(instanceOf(IllegalStateException.class)));
+    assertThat(logRecords, containsWarning(EXCEPTION));
+  }
+
+  @Test
+  public void whenChildPassesDeadline_notifyFailureListener() {
+    List<Throwable> failures = new ArrayList<>();
+    testSupport.runSteps(
+          new ForkJoinStep(
+                continuing().withChildTimeout(10, TimeUnit.SECONDS).withChildFailureListener(failures::add), "a"));
+
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(failures, contains(instanceOf(TimeoutException.class)));
+    assertThat(logRecords, containsWarning(EXCEPTION));
+  }
+
+  private ForkJoinPolicy failFast() {
+    return ForkJoinPolicy.create().withFailurePolicy(FailurePolicy.FAIL_FAST);
+  }
+
+  private ForkJoinPolicy continuing() {
+    return ForkJoinPolicy.create().withFailurePolicy(FailurePolicy.CONTINUE);
+  }
+
+  private void releaseAll() {
+    for (Fiber fiber : new ArrayList<>(heldFibers)) {
+      if (!fiber.isCancelled() && !fiber.isDone()) {
+        fiber.resume(new Packet());
+      }
+    }
+  }
+
+  class ForkJoinStep extends Step {
+    private final ForkJoinPolicy policy;
+    private final List<String> children;
+
+    ForkJoinStep(ForkJoinPolicy policy, String... children) {
+      super(new RecordingStep("joined"));
+      this.policy = policy;
+      this.children = Arrays.asList(children);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = children.stream()
+          .map(name -> new StepAndPacket(createChild(name), packet.clone()))
+          .collect(Collectors.toList());
+      return doForkJoin(getNext(), packet, startDetails, policy);
+    }
+
+    private Step createChild(String name) {
+      return name.equals("fail") ? new FailingStep() : new HeldStep(name);
+    }
+  }
+
+  class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      return doNext(packet);
+    }
+  }
+
+  // Records its name and suspends its fiber until the test resumes it
+  class HeldStep extends Step {
+    private final String name;
+
+    HeldStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      return doSuspend(heldFibers::add);
+    }
+  }
+
+  class FailingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add("fail");
+      throw new IllegalStateException();
+    }
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Compares the cost of the fork-join pattern used to process each server of a domain, for the current
+ * packet and for a packet which copies its maps on clone, as the packet did before it shared them.
+ * Each round creates a packet like that of a domain's make-right fiber, then clones it once per server,
+ * sets the server name in each clone and looks up the SPIs which a server's steps use.
+ *
+ * <p>This is not a unit test. Run it with the test classpath:
+ * <pre>java -cp ... oracle.kubernetes.operator.work.PacketBenchmark [servers] [rounds]</pre>
+ */
+public class PacketBenchmark {
+  private static final int VALUES = 40;
+  private static final int COMPONENTS = 6;
+  private static final int SPI_LOOKUPS = 4;
+
+  private final int servers;
+  private final int rounds;
+
+  private PacketBenchmark(int servers, int rounds) {
+    this.servers = servers;
+    this.rounds = rounds;
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of servers per domain and the number of rounds to time
+   */
+  public static void main(String[] args) {
+    int servers = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+    PacketBenchmark benchmark = new PacketBenchmark(servers, rounds);
+
+    for (int i = 0; i < 3; i++) {
+      benchmark.measure("copying packet", CopyingPacket::new);
+      benchmark.measure("shared packet", SharedPacket::new);
+    }
+  }
+
+  private void measure(String name, Supplier<BenchmarkPacket> factory) {
+    long startBytes = getAllocatedBytes();
+    long startNanos = System.nanoTime();
+    long checksum = 0;
+    for (int i = 0; i < rounds; i++) {
+      checksum += runRound(factory.get());
+    }
+    long nanos = System.nanoTime() - startNanos;
+    long bytes = getAllocatedBytes() - startBytes;
+
+    long clones = (long) servers * rounds;
+    System.out.printf("%-15s %8.1f ns/clone %8d bytes/clone (checksum %d)%n",
+        name, (double) nanos / clones, bytes / clones, checksum);
+  }
+
+  private long runRound(BenchmarkPacket packet) {
+    for (int i = 0; i < VALUES; i++) {
+      packet.put("value" + i, i);
+    }
+    for (int i = 0; i < COMPONENTS; i++) {
+      packet.getComponents().put("component" + i, Component.createFor(Integer.valueOf(i), "spi" + i));
+    }
+
+    long checksum = 0;
+    for (int i = 0; i < servers; i++) {
+      BenchmarkPacket serverPacket = packet.copy();
+      serverPacket.put("serverName", "managed-server" + i);
+      for (int j = 0; j < SPI_LOOKUPS; j++) {
+        checksum += serverPacket.getSpi(Integer.class) != null ? 1 : 0;
+      }
+    }
+    return checksum;
+  }
+
+  private static long getAllocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  interface BenchmarkPacket {
+    BenchmarkPacket copy();
+
+    void put(String key, Object value);
+
+    Map<String, Component> getComponents();
+
+    <S> S getSpi(Class<S> spiType);
+  }
+
+  static class SharedPacket implements BenchmarkPacket {
+    private final Packet packet;
+
+    SharedPacket() {
+      this(new Packet());
+    }
+
+    private SharedPacket(Packet packet) {
+      this.packet = packet;
+    }
+
+    @Override
+    public BenchmarkPacket copy() {
+      return new SharedPacket(packet.clone());
+    }
+
+    @Override
+    public void put(String key, Object value) {
+      packet.put(key, value);
+    }
+
+    @Override
+    public Map<String, Component> getComponents() {
+      return packet.getComponents();
+    }
+
+    @Override
+    public <S> S getSpi(Class<S> spiType) {
+      return packet.getSpi(spiType);
+    }
+  }
+
+  // The packet implementation which copied both maps on every clone
+  static class CopyingPacket implements BenchmarkPacket {
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    private final Map<String, Object> delegate = new ConcurrentHashMap<>();
+
+    CopyingPacket() {
+    }
+
+    private CopyingPacket(CopyingPacket that) {
+      components.putAll(that.components);
+      delegate.putAll(that.delegate);
+    }
+
+    @Override
+    public BenchmarkPacket copy() {
+      return new CopyingPacket(this);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+      delegate.put(key, value);
+    }
+
+    @Override
+    public Map<String, Component> getComponents() {
+      return components;
+    }
+
+    @Override
+    public <S> S getSpi(Class<S> spiType) {
+      for (Component c : components.values()) {
+        S s = c.getSpi(spiType);
+        if (s != null) {
+          return s;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PacketTest {
+  private final Packet packet = new Packet();
+
+  @Test
+  public void clonedPacket_hasOriginalValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    assertThat(packet.clone(), allOf(hasEntry("a", "1"), hasEntry("b", "2"), aMapWithSize(2)));
+  }
+
+  @Test
+  public void afterClone_changesToCloneAreNotSeenByOriginal() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", "2");
+    clone.put("b", "3");
+
+    assertThat(packet, allOf(hasEntry("a", "1"), not(hasKey("b"))));
+  }
+
+  @Test
+  public void afterClone_changesToOriginalAreNotSeenByClone() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    packet.put("a", "2");
+    packet.put("b", "3");
+
+    assertThat(clone, allOf(hasEntry("a", "1"), not(hasKey("b"))));
+  }
+
+  @Test
+  public void whenValueRemovedFromClone_originalRetainsIt() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+
+    assertThat(clone, not(hasKey("a")));
+    assertThat(packet, hasEntry("a", "1"));
+  }
+
+  @Test
+  public void whenNullValuePut_removeEntry() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", null);
+
+    assertThat(clone.get("a"), nullValue());
+    assertThat(clone, aMapWithSize(0));
+  }
+
+  @Test
+  public void whenRemovedValueReplaced_cloneHasNewValue() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+    clone.put("a", "2");
+
+    assertThat(clone, allOf(hasEntry("a", "2"), aMapWithSize(1)));
+  }
+
+  @Test
+  public void afterManyGenerationsOfClones_latestCloneHasAllValues() {
+    Packet current = packet;
+    for (int i = 0; i < 20; i++) {
+      current.put("key" + i, i);
+      current.remove("key" + (i - 1));
+      current = current.clone();
+    }
+
+    assertThat(current, allOf(hasEntry("key19", 19), aMapWithSize(1)));
+  }
+
+  @Test
+  public void whenEntryRemovedByIterator_removeFromPacket() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone();
+
+    for (Iterator<Map.Entry<String, Object>> it = clone.entrySet().iterator(); it.hasNext(); ) {
+      if (it.next().getKey().equals("a")) {
+        it.remove();
+      }
+    }
+
+    assertThat(clone, allOf(hasEntry("b", "2"), aMapWithSize(1)));
+  }
+
+  @Test
+  public void whenEntryValueSetByIterator_updatePacket() {
+    packet.put("a", "1");
+
+    packet.entrySet().iterator().next().setValue("2");
+
+    assertThat(packet, hasEntry("a", "2"));
+  }
+
+  @Test
+  public void clonedPacket_findsOriginalSpi() {
+    Object spi = new Object();
+    packet.getComponents().put("c", Component.createFor(spi));
+
+    assertThat(packet.clone().getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  public void afterComponentAdded_findNewSpi() {
+    assertThat(packet.getSpi(String.class), nullValue());
+
+    packet.getComponents().put("c", Component.createFor("spi"));
+
+    assertThat(packet.getSpi(String.class), sameInstance("spi"));
+  }
+
+  @Test
+  public void afterComponentRemoved_doNotFindItsSpi() {
+    packet.getComponents().put("c", Component.createFor("spi"));
+    packet.getSpi(String.class);
+    Packet clone = packet.clone();
+
+    clone.getComponents().remove("c");
+
+    assertThat(clone.getSpi(String.class), nullValue());
+    assertThat(packet.getSpi(String.class), sameInstance("spi"));
+  }
+}